@@ -0,0 +1,29 @@
+plugins {
+    id("com.mattbertolini.buildlogic.java-library")
+    id("com.mattbertolini.buildlogic.maven-central-publish")
+}
+
+dependencies {
+    api(project(":spring-annotated-data-binder-core"))
+    api(libs.springBootStarter)
+    compileOnly(libs.springBootActuatorAutoconfigure) // Optional actuator endpoint and health indicator
+    annotationProcessor(libs.springBootConfigurationProcessor) // Metadata for spring.web.annotated-binder.* properties
+
+    testImplementation(libs.junitJupiterApi)
+    testImplementation(libs.assertJCore)
+    testImplementation(libs.springBootTest)
+    testImplementation(libs.springBootActuatorAutoconfigure)
+}
+
+tasks.named<Jar>("jar").configure {
+    manifest {
+        attributes(
+            "Automatic-Module-Name" to "com.mattbertolini.spring.web.bind.autoconfigure"
+        )
+    }
+}
+
+mavenCentralPublish {
+    name.set("Annotated Data Binder Spring Boot Auto-configuration Support")
+    description.set("Auto-configuration support shared by the Spring MVC and Spring WebFlux Annotated Data Binder Spring Boot starters")
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.autoconfigure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the annotated data binder, bound from {@code spring.web.annotated-binder.*} by both the Spring MVC and
+ * the Spring WebFlux starter. Applied to the auto-configured {@code BinderConfiguration}; a custom
+ * {@code BinderConfiguration} bean is left as is.
+ */
+@ConfigurationProperties(prefix = "spring.web.annotated-binder")
+public class AnnotatedBinderProperties {
+    /**
+     * Whether to introspect the request beans in the auto-configuration packages at startup. When disabled, each
+     * request bean is introspected on its first request instead.
+     */
+    private boolean eagerIntrospection = true;
+
+    /**
+     * Number of threads introspecting the request beans found at startup.
+     */
+    private int scanThreads = 1;
+
+    /**
+     * Maximum number of request bean types held in the introspection cache. The least recently used type is evicted
+     * once the cache is full. The properties kept for each handler method parameter are not limited by this. A
+     * negative value means no maximum.
+     */
+    private int cacheMaximumSize = -1;
+
+    /**
+     * Maximum number of levels of nested @BeanParameter properties in a request bean. Request beans nesting deeper
+     * fail introspection. A negative value means no maximum.
+     */
+    private int introspectionMaxDepth = -1;
+
+    /**
+     * Maximum number of properties in a request bean, counting the properties of nested beans. Request beans with
+     * more fail introspection. A negative value means no maximum.
+     */
+    private int introspectionMaxProperties = -1;
+
+    /**
+     * Maximum number of request parameters, form parameters or headers bound to a map property. Requests with more
+     * are rejected with a 400 Bad Request. A negative value means no maximum.
+     */
+    private int mapResolverMaxEntries = -1;
+
+    /**
+     * Whether to parse primitives, wrapper types, UUIDs and enums directly instead of through the conversion service.
+     * Only enable this when no custom converters or formatters are registered for these types, as they are bypassed.
+     */
+    private boolean simpleTypeConversion = false;
+
+    /**
+     * Whether to match enum constants ignoring case. Only applies when simple type conversion is enabled.
+     */
+    private boolean caseInsensitiveEnums = false;
+
+    /**
+     * Whether to parse java.time properties with a formatter built once per property at startup.
+     */
+    private boolean dateTimeConversion = true;
+
+    /**
+     * Whether to parse ZonedDateTime and OffsetDateTime properties bound from headers as RFC 1123. Bypasses converters
+     * registered for these types. Only applies when date and time conversion is enabled.
+     */
+    private boolean rfc1123HeaderDates = false;
+
+    /**
+     * Whether to bind the request beans of all controller method arguments without creating a data binder where
+     * possible, rather than only those annotated with @BeanParameter(direct = true).
+     */
+    private boolean directBinding = false;
+
+    private final Metrics metrics = new Metrics();
+
+    private final WarmUp warmUp = new WarmUp();
+
+    public boolean isEagerIntrospection() {
+        return eagerIntrospection;
+    }
+
+    public void setEagerIntrospection(boolean eagerIntrospection) {
+        this.eagerIntrospection = eagerIntrospection;
+    }
+
+    public int getScanThreads() {
+        return scanThreads;
+    }
+
+    public void setScanThreads(int scanThreads) {
+        this.scanThreads = scanThreads;
+    }
+
+    public int getCacheMaximumSize() {
+        return cacheMaximumSize;
+    }
+
+    public void setCacheMaximumSize(int cacheMaximumSize) {
+        this.cacheMaximumSize = cacheMaximumSize;
+    }
+
+    public int getIntrospectionMaxDepth() {
+        return introspectionMaxDepth;
+    }
+
+    public void setIntrospectionMaxDepth(int introspectionMaxDepth) {
+        this.introspectionMaxDepth = introspectionMaxDepth;
+    }
+
+    public int getIntrospectionMaxProperties() {
+        return introspectionMaxProperties;
+    }
+
+    public void setIntrospectionMaxProperties(int introspectionMaxProperties) {
+        this.introspectionMaxProperties = introspectionMaxProperties;
+    }
+
+    public int getMapResolverMaxEntries() {
+        return mapResolverMaxEntries;
+    }
+
+    public void setMapResolverMaxEntries(int mapResolverMaxEntries) {
+        this.mapResolverMaxEntries = mapResolverMaxEntries;
+    }
+
+    public boolean isSimpleTypeConversion() {
+        return simpleTypeConversion;
+    }
+
+    public void setSimpleTypeConversion(boolean simpleTypeConversion) {
+        this.simpleTypeConversion = simpleTypeConversion;
+    }
+
+    public boolean isCaseInsensitiveEnums() {
+        return caseInsensitiveEnums;
+    }
+
+    public void setCaseInsensitiveEnums(boolean caseInsensitiveEnums) {
+        this.caseInsensitiveEnums = caseInsensitiveEnums;
+    }
+
+    public boolean isDateTimeConversion() {
+        return dateTimeConversion;
+    }
+
+    public void setDateTimeConversion(boolean dateTimeConversion) {
+        this.dateTimeConversion = dateTimeConversion;
+    }
+
+    public boolean isRfc1123HeaderDates() {
+        return rfc1123HeaderDates;
+    }
+
+    public void setRfc1123HeaderDates(boolean rfc1123HeaderDates) {
+        this.rfc1123HeaderDates = rfc1123HeaderDates;
+    }
+
+    public boolean isDirectBinding() {
+        return directBinding;
+    }
+
+    public void setDirectBinding(boolean directBinding) {
+        this.directBinding = directBinding;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public WarmUp getWarmUp() {
+        return warmUp;
+    }
+
+    public static class Metrics {
+        /**
+         * Whether to record binding metrics, to Micrometer when a MeterRegistry is present and for the requestbeans
+         * endpoint.
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class WarmUp {
+        /**
+         * Whether to bind a synthetic request for every request bean parameter of the application's handler methods
+         * in the background once the application is ready.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of times each request bean is bound during the warm-up.
+         */
+        private int iterations = 100;
+
+        /**
+         * Whether to also warm up request beans with properties resolved by custom resolvers, which are then called
+         * with made up values.
+         */
+        private boolean customResolvers = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+
+        public boolean isCustomResolvers() {
+            return customResolvers;
+        }
+
+        public void setCustomResolvers(boolean customResolvers) {
+            this.customResolvers = customResolvers;
+        }
+    }
+}
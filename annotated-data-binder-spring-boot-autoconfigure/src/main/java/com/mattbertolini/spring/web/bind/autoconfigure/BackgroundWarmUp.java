@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.autoconfigure;
+
+import com.mattbertolini.spring.web.bind.metrics.BindingMetrics;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request bean warm-up once on a background thread when the application is ready. The application serves
+ * requests while the warm-up runs. To hold back traffic until it is done, add the warm-up health indicator to the
+ * readiness health group.
+ *
+ * <p>The result is recorded to the given {@link BindingMetrics}. A failed warm-up is logged and otherwise ignored, as
+ * the application works the same without it. Errors are rethrown to the thread once the warm-up is marked as
+ * done.</p>
+ */
+public class BackgroundWarmUp implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+    private static final Log LOGGER = LogFactory.getLog(BackgroundWarmUp.class);
+
+    private final Supplier<WarmUpResult> warmUp;
+    @Nullable
+    private final BindingMetrics bindingMetrics;
+    private final AtomicBoolean started = new AtomicBoolean();
+    @Nullable
+    private volatile Thread thread;
+    @Nullable
+    private volatile WarmUpResult result;
+    private volatile boolean failed;
+
+    /**
+     * @param warmUp Runs the warm-up. Called once, on the background thread.
+     * @param bindingMetrics Receives the warm-up result. Nothing is recorded when null.
+     */
+    public BackgroundWarmUp(Supplier<WarmUpResult> warmUp, @Nullable BindingMetrics bindingMetrics) {
+        this.warmUp = warmUp;
+        this.bindingMetrics = bindingMetrics;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        // A ready event is published for each context in a hierarchy. Warm up once.
+        if (started.compareAndSet(false, true)) {
+            Thread warmUpThread = new Thread(this::warmUp, "request-bean-warm-up");
+            warmUpThread.setDaemon(true);
+            thread = warmUpThread;
+            warmUpThread.start();
+        }
+    }
+
+    /**
+     * @return true once the warm-up has finished, whether it succeeded or failed.
+     */
+    public boolean isDone() {
+        return result != null || failed;
+    }
+
+    /**
+     * @return the result of the warm-up or null if it has not finished or failed.
+     */
+    @Nullable
+    public WarmUpResult getResult() {
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        Thread warmUpThread = thread;
+        if (warmUpThread != null) {
+            warmUpThread.interrupt();
+        }
+    }
+
+    private void warmUp() {
+        try {
+            WarmUpResult warmUpResult = warmUp.get();
+            if (bindingMetrics != null) {
+                bindingMetrics.recordWarmUp(warmUpResult);
+            }
+            result = warmUpResult;
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Warmed up binding of " + warmUpResult.requestBeans() + " request beans with "
+                    + warmUpResult.bindings() + " synthetic requests in " + warmUpResult.duration().toMillis() + "ms"
+                    + (warmUpResult.failures() > 0 ? ", " + warmUpResult.failures() + " request beans could not be bound from a synthetic request" : ""));
+            }
+        } catch (Throwable e) {
+            // Marked as done on errors too, so the health indicator does not hold back traffic for ever
+            failed = true;
+            LOGGER.warn("Request bean warm-up failed", e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+        } finally {
+            thread = null;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.autoconfigure;
+
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} until the request bean warm-up has finished and {@code UP} afterwards, also when the
+ * warm-up failed. Include it in the readiness health group to hold back traffic until binding is warmed up, e.g.
+ * {@code management.endpoint.health.group.readiness.include=readinessState,requestBeanWarmUp}.
+ */
+public class RequestBeanWarmUpHealthIndicator extends AbstractHealthIndicator {
+    private final BackgroundWarmUp warmUp;
+
+    public RequestBeanWarmUpHealthIndicator(BackgroundWarmUp warmUp) {
+        super("Request bean warm-up health check failed");
+        this.warmUp = warmUp;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        if (!warmUp.isDone()) {
+            builder.outOfService();
+            return;
+        }
+        builder.up();
+        WarmUpResult result = warmUp.getResult();
+        if (result != null) {
+            builder.withDetail("requestBeans", result.requestBeans())
+                .withDetail("bindings", result.bindings())
+                .withDetail("failures", result.failures())
+                .withDetail("durationMs", result.duration().toMillis());
+        }
+    }
+}
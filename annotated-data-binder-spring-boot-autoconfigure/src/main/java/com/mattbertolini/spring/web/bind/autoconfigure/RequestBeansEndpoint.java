@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.autoconfigure;
+
+import com.mattbertolini.spring.web.bind.annotation.RequestBean;
+import com.mattbertolini.spring.web.bind.introspect.CachedAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.metrics.BindingPhase;
+import com.mattbertolini.spring.web.bind.metrics.BindingStatistics;
+import com.mattbertolini.spring.web.bind.metrics.LatencySnapshot;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator endpoint exposing the request beans known to the binder. Lists every introspected request bean with its
+ * property paths and resolvers, the time taken to scan each base package, the size of the introspection cache, a rough
+ * estimate of the memory it retains and recent binding latency percentiles. A write operation introspects a request
+ * bean ahead of its first request.
+ */
+@Endpoint(id = "requestbeans")
+public class RequestBeansEndpoint {
+    // Shallow size estimates for a 64-bit JVM with compressed oops. Good enough to spot a cache that has grown out of
+    // proportion, not a substitute for a heap dump.
+    static final long ESTIMATED_BYTES_PER_BEAN = 128;
+    static final long ESTIMATED_BYTES_PER_PROPERTY = 256;
+    static final long ESTIMATED_BYTES_PER_PROPERTY_NAME_CHAR = 1;
+    static final String ESTIMATE_BASIS = "Rough estimate from fixed sizes per request bean, property and property " +
+        "name character, not measured from the heap. Use a heap dump for actual sizes.";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final BindingStatistics bindingStatistics;
+
+    public RequestBeansEndpoint(BindingStatistics bindingStatistics) {
+        this.bindingStatistics = bindingStatistics;
+    }
+
+    @ReadOperation
+    public RequestBeansDescriptor requestBeans() {
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = bindingStatistics.getIntrospector();
+        if (introspector == null) {
+            return new RequestBeansDescriptor(0, RetainedMemoryEstimate.of(0), Collections.emptyMap(), Collections.emptyMap());
+        }
+        CachedAnnotatedRequestBeanIntrospector cache = introspector.getIntrospectorCache();
+        Map<String, Double> scanDurations = new LinkedHashMap<>();
+        introspector.getScanDurations().forEach((basePackage, duration) ->
+            scanDurations.put(basePackage, toMillis(duration.toNanos())));
+        Map<String, RequestBeanDescriptor> beans = new TreeMap<>();
+        long estimatedRetainedBytes = 0;
+        for (Map.Entry<Class<?>, Map<String, ResolvedPropertyData>> entry : cache.getCachedEntries().entrySet()) {
+            beans.put(entry.getKey().getName(), describe(entry.getKey(), entry.getValue()));
+            estimatedRetainedBytes += estimateRetainedBytes(entry.getValue());
+        }
+        return new RequestBeansDescriptor(cache.size(), RetainedMemoryEstimate.of(estimatedRetainedBytes), scanDurations, beans);
+    }
+
+    @ReadOperation
+    @Nullable
+    public RequestBeanDescriptor requestBean(@Selector String className) {
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = bindingStatistics.getIntrospector();
+        if (introspector == null) {
+            return null;
+        }
+        for (Map.Entry<Class<?>, Map<String, ResolvedPropertyData>> entry : introspector.getIntrospectorCache().getCachedEntries().entrySet()) {
+            if (entry.getKey().getName().equals(className)) {
+                return describe(entry.getKey(), entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Introspect the given request bean so the first request using it does not pay for it.
+     *
+     * @param className The fully qualified name of a class annotated with {@link RequestBean}.
+     * @return the introspected request bean or null if binding has not been configured yet.
+     */
+    @WriteOperation
+    @Nullable
+    public RequestBeanDescriptor warm(String className) {
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = bindingStatistics.getIntrospector();
+        if (introspector == null) {
+            return null;
+        }
+        Class<?> beanType = loadRequestBean(className);
+        return describe(beanType, introspector.getResolverMapFor(beanType));
+    }
+
+    private static Class<?> loadRequestBean(String className) {
+        Class<?> beanType;
+        try {
+            // Does not initialize the class so no static initializers run on behalf of the caller
+            beanType = ClassUtils.forName(className, RequestBeansEndpoint.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new InvalidEndpointRequestException("Class [" + className + "] could not be loaded", "Unknown class");
+        }
+        if (!AnnotatedElementUtils.hasAnnotation(beanType, RequestBean.class)) {
+            throw new InvalidEndpointRequestException("Class [" + className + "] is not annotated with @RequestBean",
+                "Not a request bean");
+        }
+        return beanType;
+    }
+
+    private RequestBeanDescriptor describe(Class<?> beanType, Map<String, ResolvedPropertyData> propertyData) {
+        List<BindingPropertyDescriptor> properties = new ArrayList<>(propertyData.size());
+        propertyData.values().stream()
+            .sorted(Comparator.comparing(ResolvedPropertyData::propertyName))
+            .forEach(data -> properties.add(new BindingPropertyDescriptor(
+                data.propertyName(),
+                data.bindingProperty().getType().getName(),
+                ClassUtils.getShortName(data.resolver().getClass()))));
+        Map<String, LatencyDescriptor> latencies = new LinkedHashMap<>();
+        for (Map.Entry<BindingPhase, LatencySnapshot> entry : bindingStatistics.getLatencies(beanType).entrySet()) {
+            latencies.put(entry.getKey().getValue(), LatencyDescriptor.of(entry.getValue()));
+        }
+        return new RequestBeanDescriptor(properties, latencies);
+    }
+
+    static long estimateRetainedBytes(Map<String, ResolvedPropertyData> propertyData) {
+        long bytes = ESTIMATED_BYTES_PER_BEAN;
+        for (String propertyName : propertyData.keySet()) {
+            bytes += ESTIMATED_BYTES_PER_PROPERTY + propertyName.length() * ESTIMATED_BYTES_PER_PROPERTY_NAME_CHAR;
+        }
+        return bytes;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Description of every request bean known to the binder.
+     *
+     * @param cacheSize The number of request beans in the introspection cache.
+     * @param retainedMemory A rough estimate of the memory retained by the introspection cache.
+     * @param scanDurations The time in milliseconds taken to scan each base package.
+     * @param beans The introspected request beans keyed by class name.
+     */
+    public record RequestBeansDescriptor(
+        int cacheSize,
+        RetainedMemoryEstimate retainedMemory,
+        Map<String, Double> scanDurations,
+        Map<String, RequestBeanDescriptor> beans) implements OperationResponseBody {}
+
+    /**
+     * A rough estimate of the memory retained by the introspection cache, labelled as such in the response so that it
+     * is not mistaken for a measurement.
+     *
+     * @param roughEstimateBytes The estimated number of bytes.
+     * @param basis How the estimate is made.
+     */
+    public record RetainedMemoryEstimate(long roughEstimateBytes, String basis) {
+        static RetainedMemoryEstimate of(long roughEstimateBytes) {
+            return new RetainedMemoryEstimate(roughEstimateBytes, ESTIMATE_BASIS);
+        }
+    }
+
+    /**
+     * Description of a single request bean.
+     *
+     * @param properties The bound properties ordered by property path.
+     * @param latencies Recent binding latencies keyed by binding phase.
+     */
+    public record RequestBeanDescriptor(
+        List<BindingPropertyDescriptor> properties,
+        Map<String, LatencyDescriptor> latencies) implements OperationResponseBody {}
+
+    /**
+     * @param path The property path bound on the request bean.
+     * @param type The property type.
+     * @param resolver The simple name of the resolver supplying the value.
+     */
+    public record BindingPropertyDescriptor(String path, String type, String resolver) {}
+
+    /**
+     * Recent latency percentiles in milliseconds.
+     */
+    public record LatencyDescriptor(long count, double p50, double p90, double p99, double max) {
+        static LatencyDescriptor of(LatencySnapshot snapshot) {
+            return new LatencyDescriptor(snapshot.count(), toMillis(snapshot.p50()), toMillis(snapshot.p90()),
+                toMillis(snapshot.p99()), toMillis(snapshot.max()));
+        }
+    }
+}
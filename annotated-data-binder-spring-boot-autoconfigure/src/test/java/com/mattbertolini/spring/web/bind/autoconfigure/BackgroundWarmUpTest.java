@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.autoconfigure;
+
+import com.mattbertolini.spring.web.bind.metrics.BindingMetrics;
+import com.mattbertolini.spring.web.bind.metrics.BindingPhase;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BackgroundWarmUpTest {
+    private static final WarmUpResult RESULT = new WarmUpResult(3, 300, 0, Duration.ofMillis(20));
+
+    @Test
+    void warmsUpOnceInTheBackgroundAndRecordsResult() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingMetrics metrics = new RecordingMetrics();
+        BackgroundWarmUp warmUp = new BackgroundWarmUp(() -> {
+            runs.incrementAndGet();
+            awaitQuietly(release);
+            return RESULT;
+        }, metrics);
+        RequestBeanWarmUpHealthIndicator healthIndicator = new RequestBeanWarmUpHealthIndicator(warmUp);
+
+        warmUp.onApplicationEvent(readyEvent());
+        warmUp.onApplicationEvent(readyEvent());
+
+        assertThat(warmUp.isDone()).isFalse();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        release.countDown();
+        awaitDone(warmUp);
+        assertThat(runs).hasValue(1);
+        assertThat(warmUp.getResult()).isEqualTo(RESULT);
+        assertThat(metrics.results).containsExactly(RESULT);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(healthIndicator.health().getDetails()).containsEntry("requestBeans", 3);
+    }
+
+    @Test
+    void failedWarmUpIsDone() throws Exception {
+        BackgroundWarmUp warmUp = new BackgroundWarmUp(() -> {
+            throw new IllegalStateException("Failed");
+        }, null);
+
+        warmUp.onApplicationEvent(readyEvent());
+
+        awaitDone(warmUp);
+        assertThat(warmUp.getResult()).isNull();
+        assertThat(new RequestBeanWarmUpHealthIndicator(warmUp).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void warmUpFailingWithErrorIsDone() throws Exception {
+        BackgroundWarmUp warmUp = new BackgroundWarmUp(() -> {
+            throw new NoClassDefFoundError("Missing");
+        }, null);
+
+        warmUp.onApplicationEvent(readyEvent());
+
+        awaitDone(warmUp);
+        assertThat(warmUp.getResult()).isNull();
+        assertThat(new RequestBeanWarmUpHealthIndicator(warmUp).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private static ApplicationReadyEvent readyEvent() {
+        return new ApplicationReadyEvent(new SpringApplication(), new String[0], new GenericApplicationContext(), Duration.ZERO);
+    }
+
+    private static void awaitDone(BackgroundWarmUp warmUp) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!warmUp.isDone() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(warmUp.isDone()).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingMetrics implements BindingMetrics {
+        private final List<WarmUpResult> results = new ArrayList<>();
+
+        @Override
+        public void recordBinding(Class<?> beanType, BindingPhase phase, long durationNanos, @Nullable Throwable error) {
+        }
+
+        @Override
+        public void recordResolver(RequestPropertyResolverBase<?, ?> resolver, long durationNanos, @Nullable Throwable error) {
+        }
+
+        @Override
+        public void recordWarmUp(WarmUpResult result) {
+            results.add(result);
+        }
+    }
+}
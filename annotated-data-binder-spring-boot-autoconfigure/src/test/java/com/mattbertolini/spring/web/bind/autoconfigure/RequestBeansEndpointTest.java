@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.autoconfigure;
+
+import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.metrics.BindingPhase;
+import com.mattbertolini.spring.web.bind.metrics.BindingStatistics;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import com.mattbertolini.spring.web.bind.autoconfigure.RequestBeansEndpoint.BindingPropertyDescriptor;
+import com.mattbertolini.spring.web.bind.autoconfigure.RequestBeansEndpoint.RequestBeanDescriptor;
+import com.mattbertolini.spring.web.bind.autoconfigure.RequestBeansEndpoint.RequestBeansDescriptor;
+import com.mattbertolini.spring.web.bind.autoconfigure.scan.IgnoredBean;
+import com.mattbertolini.spring.web.bind.autoconfigure.scan.ScannedBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.lang.Nullable;
+
+import java.beans.PropertyDescriptor;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestBeansEndpointTest {
+    private BindingStatistics bindingStatistics;
+    private RequestBeansEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        bindingStatistics = new BindingStatistics();
+        endpoint = new RequestBeansEndpoint(bindingStatistics);
+    }
+
+    @Test
+    void describesScannedRequestBeans() {
+        monitorScannedIntrospector();
+        bindingStatistics.recordBinding(ScannedBean.class, BindingPhase.RESOLVE, 2_000_000, null);
+
+        RequestBeansDescriptor descriptor = endpoint.requestBeans();
+        assertThat(descriptor.cacheSize()).isEqualTo(1);
+        assertThat(descriptor.scanDurations()).containsOnlyKeys("com.mattbertolini.spring.web.bind.autoconfigure.scan");
+        assertThat(descriptor.retainedMemory().roughEstimateBytes()).isPositive();
+        assertThat(descriptor.retainedMemory().basis()).startsWith("Rough estimate");
+        RequestBeanDescriptor bean = descriptor.beans().get(ScannedBean.class.getName());
+        assertThat(bean).isNotNull();
+        assertThat(Objects.requireNonNull(bean).properties())
+            .containsExactly(new BindingPropertyDescriptor("property", "java.lang.String", "RequestBeansEndpointTest.StubResolver"));
+        assertThat(bean.latencies()).containsOnlyKeys("resolve");
+        assertThat(Objects.requireNonNull(bean.latencies().get("resolve")).p99()).isEqualTo(2.0);
+    }
+
+    @Test
+    void describesSingleRequestBean() {
+        monitorScannedIntrospector();
+        assertThat(endpoint.requestBean(ScannedBean.class.getName())).isNotNull();
+        assertThat(endpoint.requestBean("com.example.Unknown")).isNull();
+    }
+
+    @Test
+    void emptyBeforeBinderIsConfigured() {
+        RequestBeansDescriptor descriptor = endpoint.requestBeans();
+        assertThat(descriptor.cacheSize()).isZero();
+        assertThat(descriptor.beans()).isEmpty();
+        assertThat(endpoint.warm(ScannedBean.class.getName())).isNull();
+    }
+
+    @Test
+    void warmsRequestBean() {
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(new StubIntrospector(), null);
+        bindingStatistics.monitor(introspector);
+        assertThat(introspector.getIntrospectorCache().size()).isZero();
+
+        RequestBeanDescriptor descriptor = endpoint.warm(ScannedBean.class.getName());
+        assertThat(descriptor).isNotNull();
+        assertThat(introspector.getIntrospectorCache().getCachedEntries()).containsOnlyKeys(ScannedBean.class);
+    }
+
+    @Test
+    void rejectsUnknownClassWhenWarming() {
+        monitorScannedIntrospector();
+        assertThatThrownBy(() -> endpoint.warm("com.example.Unknown"))
+            .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+
+    @Test
+    void rejectsClassWithoutRequestBeanAnnotationWhenWarming() {
+        monitorScannedIntrospector();
+        assertThatThrownBy(() -> endpoint.warm(IgnoredBean.class.getName()))
+            .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+
+    private void monitorScannedIntrospector() {
+        Set<String> packages = Collections.singleton("com.mattbertolini.spring.web.bind.autoconfigure.scan");
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(new StubIntrospector(), packages);
+        introspector.afterPropertiesSet();
+        bindingStatistics.monitor(introspector);
+    }
+
+    private static class StubIntrospector implements AnnotatedRequestBeanIntrospector {
+        @Override
+        public Map<String, ResolvedPropertyData> getResolverMapFor(Class<?> targetType) {
+            PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(targetType, "property");
+            if (propertyDescriptor == null) {
+                return Collections.emptyMap();
+            }
+            BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(propertyDescriptor);
+            return Collections.singletonMap("property", new ResolvedPropertyData("property", bindingProperty, new StubResolver()));
+        }
+    }
+
+    private static class StubResolver implements RequestPropertyResolverBase<Object, Object> {
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return true;
+        }
+
+        @Override
+        @Nullable
+        public Object resolve(BindingProperty bindingProperty, Object request) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+import com.mattbertolini.buildlogic.GenerateRequestBeanShapes
+import net.ltgt.gradle.errorprone.errorprone
+
+plugins {
+    id("com.mattbertolini.buildlogic.java-conventions")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":spring-annotated-data-binder-core"))
+    jmh(project(":spring-webmvc-annotated-data-binder"))
+    jmh(project(":spring-webflux-annotated-data-binder"))
+    jmh(libs.jakartaServletApi)
+    jmh(libs.springTest) // Mock servlet requests and server exchanges
+    jmh(libs.micrometerCore)
+    jmhAnnotationProcessor(project(":spring-annotated-data-binder-indexer")) // Request bean index for ClassPathScanningBenchmark
+    compileOnly(libs.findbugsJsr305)
+    jmhCompileOnly(libs.findbugsJsr305)
+}
+
+// Request bean shapes used by the introspection benchmarks, e.g. -PscanBeanCount=1000 to scan more classes
+val generateRequestBeanShapes = tasks.register<GenerateRequestBeanShapes>("generateRequestBeanShapes") {
+    packageName.set("com.mattbertolini.spring.web.bind.benchmark.shapes")
+    providers.gradleProperty("scanBeanCount").orNull?.let { scanBeanCount.set(it.toInt()) }
+    outputDirectory.set(layout.buildDirectory.dir("generated/sources/requestBeanShapes/java"))
+}
+
+sourceSets.named("jmh").configure {
+    java.srcDir(generateRequestBeanShapes)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    includeTests.set(false)
+    // Machine readable results so introspection changes can be compared run to run
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // Allow running a subset of benchmarks from the command line, e.g. -PjmhIncludes=PropertyConversionBenchmark
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+    // Attach JMH profilers from the command line, e.g. -PjmhProfilers=gc for allocation rates
+    providers.gradleProperty("jmhProfilers").orNull?.let { profilers.addAll(it.split(',')) }
+    // Replay a captured traffic profile, e.g. -PtrafficProfile=/tmp/traffic-profile.txt
+    providers.gradleProperty("trafficProfile").orNull?.let {
+        jvmArgsAppend.add("-Dbenchmark.trafficProfile=${file(it).absolutePath}")
+    }
+}
+
+// JMH generates sources into our packages. Those are not annotated for NullAway so skip Error Prone for them.
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses").configure {
+    options.errorprone.enabled.set(false)
+}
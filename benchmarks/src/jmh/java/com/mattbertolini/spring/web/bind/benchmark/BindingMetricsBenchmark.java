@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.metrics.BindingMetrics;
+import com.mattbertolini.spring.web.bind.metrics.MicrometerBindingMetrics;
+import com.mattbertolini.spring.web.servlet.mvc.bind.config.BinderConfiguration;
+import com.uber.nullaway.annotations.Initializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.lang.Nullable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of recording binding metrics in the Spring MVC argument resolver. The {@code withoutMetrics}
+ * result is the baseline; the difference to {@code withMicrometerMetrics} is the cost of the timers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BindingMetricsBenchmark {
+    private HandlerMethodArgumentResolver plainResolver;
+    private HandlerMethodArgumentResolver meteredResolver;
+    private WebDataBinderFactory binderFactory;
+    private MethodParameter methodParameter;
+    private ServletWebRequest request;
+
+    @Initializer
+    @Setup
+    public void setUp() throws Exception {
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        binderFactory = new ServletRequestDataBinderFactory(null, initializer);
+        plainResolver = createResolver(initializer, null);
+        meteredResolver = createResolver(initializer, new MicrometerBindingMetrics(new SimpleMeterRegistry()));
+        methodParameter = new MethodParameter(Handler.class.getMethod("handle", TypedRequestBean.class), 0);
+
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/search");
+        servletRequest.addParameter("page", "3");
+        servletRequest.addParameter("size", "50");
+        servletRequest.addParameter("active", "true");
+        servletRequest.addParameter("id", "0f8fad5b-d9cb-469f-a165-70867728950e");
+        servletRequest.addParameter("status", "SUSPENDED");
+        servletRequest.addParameter("from", "2024-12-25");
+        servletRequest.addParameter("amount", "1,234.56");
+        servletRequest.addParameter("tags", "one", "two", "three");
+        servletRequest.addParameter("name", "benchmark");
+        request = new ServletWebRequest(servletRequest);
+    }
+
+    @Benchmark
+    @Nullable
+    public Object withoutMetrics() throws Exception {
+        return plainResolver.resolveArgument(methodParameter, new ModelAndViewContainer(), request, binderFactory);
+    }
+
+    @Benchmark
+    @Nullable
+    public Object withMicrometerMetrics() throws Exception {
+        return meteredResolver.resolveArgument(methodParameter, new ModelAndViewContainer(), request, binderFactory);
+    }
+
+    private static HandlerMethodArgumentResolver createResolver(ConfigurableWebBindingInitializer initializer, @Nullable BindingMetrics bindingMetrics) {
+        RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter();
+        adapter.setWebBindingInitializer(initializer);
+        BinderConfiguration binderConfiguration = new BinderConfiguration();
+        if (bindingMetrics != null) {
+            binderConfiguration.setBindingMetrics(bindingMetrics);
+        }
+        binderConfiguration.postProcessBeforeInitialization(adapter, "requestMappingHandlerAdapter");
+        List<HandlerMethodArgumentResolver> resolvers = Objects.requireNonNull(adapter.getCustomArgumentResolvers());
+        return resolvers.get(0);
+    }
+
+    @SuppressWarnings("unused")
+    public static class Handler {
+        public void handle(@BeanParameter TypedRequestBean bean) {
+            // Only the parameter is used
+        }
+    }
+}
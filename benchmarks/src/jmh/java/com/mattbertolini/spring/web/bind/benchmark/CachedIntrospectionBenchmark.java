@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.introspect.CachedAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
+import com.uber.nullaway.annotations.Initializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups in {@link CachedAnnotatedRequestBeanIntrospector} once every shape is cached, which is what every
+ * request pays. The single threaded result is the baseline; the contended results share one cache between threads
+ * the way request threads do. Each thread cycles through all shapes so lookups hit different cache entries.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CachedIntrospectionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedCache {
+        private CachedAnnotatedRequestBeanIntrospector introspector;
+
+        @Initializer
+        @Setup
+        public void setUp() {
+            introspector = new CachedAnnotatedRequestBeanIntrospector(
+                new DefaultAnnotatedRequestBeanIntrospector(new MapRequestParameterResolver.Registry()));
+            for (Class<?> beanType : RequestBeanShapes.all()) {
+                introspector.getResolverMapFor(beanType);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private final Class<?>[] beanTypes = RequestBeanShapes.all();
+        private int index;
+
+        Class<?> next() {
+            index = (index + 1) % beanTypes.length;
+            return beanTypes[index];
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Map<?, ?> singleThreaded(SharedCache cache, Cursor cursor) {
+        return cache.introspector.getResolverMapFor(cursor.next());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<?, ?> fourThreads(SharedCache cache, Cursor cursor) {
+        return cache.introspector.getResolverMapFor(cursor.next());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Map<?, ?> allProcessors(SharedCache cache, Cursor cursor) {
+        return cache.introspector.getResolverMapFor(cursor.next());
+    }
+}
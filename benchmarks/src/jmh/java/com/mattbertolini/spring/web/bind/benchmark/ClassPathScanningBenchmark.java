@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.RequestBeanIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.lang.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scanning the generated package of {@code @RequestBean} classes and introspecting every class found, which is
+ * what the binder configuration does at startup. Each invocation uses a new introspector so nothing is cached between
+ * invocations apart from what the JVM and Spring cache per class. Change the number of scanned classes with
+ * {@code -PscanBeanCount}.
+ *
+ * <p>The {@code index} benchmark finds the same classes from the {@link RequestBeanIndex} written by the indexer
+ * annotation processor when the benchmarks were compiled, and includes reading the index.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(3)
+public class ClassPathScanningBenchmark {
+
+    @Benchmark
+    public ClassPathScanningAnnotatedRequestBeanIntrospector scan() {
+        return introspect(null);
+    }
+
+    @Benchmark
+    public ClassPathScanningAnnotatedRequestBeanIntrospector index() {
+        RequestBeanIndex index = RequestBeanIndex.load(ClassPathScanningBenchmark.class.getClassLoader());
+        if (index == null) {
+            throw new IllegalStateException("No request bean index on the class path");
+        }
+        return introspect(index);
+    }
+
+    private static ClassPathScanningAnnotatedRequestBeanIntrospector introspect(@Nullable RequestBeanIndex index) {
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(
+            new DefaultAnnotatedRequestBeanIntrospector(new MapRequestParameterResolver.Registry()),
+            Set.of(RequestBeanShapes.SCAN_PACKAGE), index);
+        introspector.afterPropertiesSet();
+        return introspector;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverterFactory;
+import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
+import com.uber.nullaway.annotations.Initializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures uncached introspection of a single request bean with {@link DefaultAnnotatedRequestBeanIntrospector}, which
+ * is the cost every request bean pays once at startup or on first use. Spring caches the JavaBeans introspection
+ * results per class, so this mostly measures the resolver lookup and converter creation for each property. A new
+ * introspector is created for every call as an introspector keeps the result for every type it has seen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntrospectionBenchmark {
+    @Param({RequestBeanShapes.WIDE, RequestBeanShapes.DEEP, RequestBeanShapes.RECORD, RequestBeanShapes.INHERITANCE})
+    public String shape = RequestBeanShapes.WIDE;
+
+    private Class<?> beanType;
+    private MapRequestParameterResolver.Registry registry;
+    private PropertyValueConverterFactory converterFactory;
+
+    @Initializer
+    @Setup
+    public void setUp() {
+        beanType = RequestBeanShapes.forName(shape);
+        registry = new MapRequestParameterResolver.Registry();
+        converterFactory = new PropertyValueConverterFactory(new DefaultFormattingConversionService());
+    }
+
+    @Benchmark
+    public Map<?, ?> getResolverMapFor() {
+        return new DefaultAnnotatedRequestBeanIntrospector(registry).getResolverMapFor(beanType);
+    }
+
+    @Benchmark
+    public Map<?, ?> getResolverMapForWithConverters() {
+        return new DefaultAnnotatedRequestBeanIntrospector(registry, converterFactory).getResolverMapFor(beanType);
+    }
+}
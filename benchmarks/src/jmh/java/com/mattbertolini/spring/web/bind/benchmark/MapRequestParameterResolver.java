@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.AbstractPropertyResolverRegistry;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A minimal resolver used by the benchmarks. Resolves {@link RequestParameter} annotated properties from a map of
+ * parameter values, the same shape a servlet request parameter map has.
+ */
+public class MapRequestParameterResolver implements RequestPropertyResolverBase<Map<String, String[]>, Object> {
+    @Override
+    public boolean supports(BindingProperty bindingProperty) {
+        return bindingProperty.hasAnnotation(RequestParameter.class);
+    }
+
+    @Override
+    @Nullable
+    public Object resolve(BindingProperty bindingProperty, Map<String, String[]> request) {
+        RequestParameter annotation = bindingProperty.getAnnotation(RequestParameter.class);
+        Objects.requireNonNull(annotation, "No RequestParameter annotation found on type");
+        return request.get(annotation.value());
+    }
+
+    public static class Registry extends AbstractPropertyResolverRegistry<MapRequestParameterResolver> {
+        public Registry() {
+            addResolver(new MapRequestParameterResolver());
+        }
+    }
+}
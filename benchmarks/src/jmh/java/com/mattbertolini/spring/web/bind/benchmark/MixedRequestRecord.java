@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.annotation.CookieParameter;
+import com.mattbertolini.spring.web.bind.annotation.HeaderParameter;
+import com.mattbertolini.spring.web.bind.annotation.PathParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestBody;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.annotation.SessionParameter;
+import org.springframework.lang.Nullable;
+
+/**
+ * The record equivalent of {@link MixedRequestBean}.
+ */
+public record MixedRequestRecord(
+    @RequestParameter("query") @Nullable String query,
+    @RequestParameter("page") int page,
+    @HeaderParameter("X-Request-Id") @Nullable String requestId,
+    @CookieParameter("token") @Nullable String token,
+    @PathParameter("accountId") @Nullable String accountId,
+    @SessionParameter("tenant") @Nullable String tenant,
+    @RequestBody @Nullable String body
+) {}
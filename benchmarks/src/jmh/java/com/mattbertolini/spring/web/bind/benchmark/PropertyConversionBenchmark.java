@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverterFactory;
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverters;
+import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.uber.nullaway.annotations.Initializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.validation.DataBinder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting resolved values with the converter precompiled per property against leaving the conversion to
+ * the data binder. The conversion service variant disables the simple type and date time fast paths to show their share
+ * of the gain. The {@code report} shape is a time range reporting request made of date and time parameters.
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyConversionBenchmark {
+    @Param({"typed", "report"})
+    public String shape = "typed";
+
+    private DefaultFormattingConversionService conversionService;
+    private Class<?> beanType;
+    private Collection<ResolvedPropertyData> binderConvertedProperties;
+    private Collection<ResolvedPropertyData> conversionServiceProperties;
+    private Collection<ResolvedPropertyData> precompiledProperties;
+    private Map<String, String[]> request;
+
+    @Initializer
+    @Setup
+    public void setUp() {
+        conversionService = new DefaultFormattingConversionService();
+        beanType = "report".equals(shape) ? ReportRequestBean.class : TypedRequestBean.class;
+        MapRequestParameterResolver.Registry registry = new MapRequestParameterResolver.Registry();
+        binderConvertedProperties = new DefaultAnnotatedRequestBeanIntrospector(registry)
+            .getResolversFor(beanType);
+        PropertyValueConverterFactory conversionServiceOnly = new PropertyValueConverterFactory(conversionService);
+        conversionServiceOnly.setDateTimeConversion(false);
+        conversionServiceProperties = new DefaultAnnotatedRequestBeanIntrospector(registry, conversionServiceOnly)
+            .getResolversFor(beanType);
+        PropertyValueConverterFactory precompiled = new PropertyValueConverterFactory(conversionService);
+        precompiled.setSimpleTypeConversion(true);
+        precompiledProperties = new DefaultAnnotatedRequestBeanIntrospector(registry, precompiled)
+            .getResolversFor(beanType);
+
+        request = new HashMap<>();
+        if (beanType == ReportRequestBean.class) {
+            request.put("from", new String[] {"2024-01-01"});
+            request.put("to", new String[] {"2024-12-31"});
+            request.put("asOf", new String[] {"2024-12-31T23:59:59"});
+            request.put("since", new String[] {"2024-06-01T00:00:00Z"});
+            request.put("modifiedSince", new String[] {"Wed, 25 Dec 2024 10:15:30 GMT"});
+            return;
+        }
+        request.put("page", new String[] {"3"});
+        request.put("size", new String[] {"50"});
+        request.put("active", new String[] {"true"});
+        request.put("id", new String[] {"0f8fad5b-d9cb-469f-a165-70867728950e"});
+        request.put("status", new String[] {"SUSPENDED"});
+        request.put("from", new String[] {"2024-12-25"});
+        request.put("amount", new String[] {"1,234.56"});
+        request.put("tags", new String[] {"one", "two", "three"});
+        request.put("name", new String[] {"benchmark"});
+    }
+
+    @Benchmark
+    public Object binderConversion() {
+        return bind(binderConvertedProperties);
+    }
+
+    @Benchmark
+    public Object conversionServiceConversion() {
+        return bind(conversionServiceProperties);
+    }
+
+    @Benchmark
+    public Object precompiledConversion() {
+        return bind(precompiledProperties);
+    }
+
+    private Object bind(Collection<ResolvedPropertyData> propertyData) {
+        DataBinder binder = new DataBinder(BeanUtils.instantiateClass(beanType));
+        binder.setConversionService(conversionService);
+        Map<String, Object> values = new HashMap<>();
+        for (ResolvedPropertyData data : propertyData) {
+            Object value = ((MapRequestParameterResolver) data.resolver()).resolve(data.bindingProperty(), request);
+            if (value != null) {
+                values.put(data.propertyName(), PropertyValueConverters.convertForBinding(data, value, binder));
+            }
+        }
+        binder.bind(new MutablePropertyValues(values));
+        return binder.getBindingResult();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A request bean shaped like the parameters of a time range reporting endpoint.
+ */
+@SuppressWarnings("unused")
+public class ReportRequestBean {
+    @Nullable
+    @RequestParameter("from")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate from;
+
+    @Nullable
+    @RequestParameter("to")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate to;
+
+    @Nullable
+    @RequestParameter("asOf")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime asOf;
+
+    @Nullable
+    @RequestParameter("since")
+    private Instant since;
+
+    @Nullable
+    @RequestParameter("modifiedSince")
+    private Instant modifiedSince;
+
+    @Nullable
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    @Nullable
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    @Nullable
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    @Nullable
+    public Instant getSince() {
+        return since;
+    }
+
+    public void setSince(Instant since) {
+        this.since = since;
+    }
+
+    @Nullable
+    public Instant getModifiedSince() {
+        return modifiedSince;
+    }
+
+    public void setModifiedSince(Instant modifiedSince) {
+        this.modifiedSince = modifiedSince;
+    }
+}
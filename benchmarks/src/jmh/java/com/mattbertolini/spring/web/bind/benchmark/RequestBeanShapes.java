@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.benchmark.shapes.DeepRequestBean;
+import com.mattbertolini.spring.web.bind.benchmark.shapes.InheritanceRequestBean;
+import com.mattbertolini.spring.web.bind.benchmark.shapes.RecordRequestBean;
+import com.mattbertolini.spring.web.bind.benchmark.shapes.WideRequestBean;
+
+/**
+ * Lookup of the request bean shapes generated by the {@code generateRequestBeanShapes} task. Benchmarks take the shape
+ * name as a {@code @Param} so every shape shows up as its own row in the results.
+ */
+final class RequestBeanShapes {
+    static final String WIDE = "wide";
+    static final String DEEP = "deep";
+    static final String RECORD = "record";
+    static final String INHERITANCE = "inheritance";
+
+    static final String SCAN_PACKAGE = "com.mattbertolini.spring.web.bind.benchmark.shapes.scan";
+
+    private static final Class<?>[] ALL = {
+        WideRequestBean.class, DeepRequestBean.class, RecordRequestBean.class, InheritanceRequestBean.class
+    };
+
+    private RequestBeanShapes() {}
+
+    /**
+     * @param shape One of {@code wide} (200 properties), {@code deep} (10 nested bean parameter levels), {@code record}
+     *              or {@code inheritance} (10 superclasses).
+     * @return the request bean type of that shape.
+     */
+    static Class<?> forName(String shape) {
+        return switch (shape) {
+            case WIDE -> WideRequestBean.class;
+            case DEEP -> DeepRequestBean.class;
+            case RECORD -> RecordRequestBean.class;
+            case INHERITANCE -> InheritanceRequestBean.class;
+            default -> throw new IllegalArgumentException("Unknown request bean shape: " + shape);
+        };
+    }
+
+    static Class<?>[] all() {
+        return ALL.clone();
+    }
+}
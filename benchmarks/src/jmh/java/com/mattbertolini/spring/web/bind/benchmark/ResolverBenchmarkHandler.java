@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.SessionAttribute;
+
+import java.lang.reflect.Method;
+
+/**
+ * Handler methods shared by the Spring MVC and Spring WebFlux resolver benchmarks. Each {@code @BeanParameter} method
+ * has a counterpart using the stock Spring annotations that reads the same values.
+ */
+@SuppressWarnings("unused")
+public class ResolverBenchmarkHandler {
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    public void mixedBean(@BeanParameter MixedRequestBean bean) {
+        // Only the parameter is used
+    }
+
+    public void mixedRecord(@BeanParameter MixedRequestRecord bean) {
+        // Only the parameter is used
+    }
+
+    public void mixedSpringAnnotations(@RequestParam("query") String query,
+                                       @RequestParam("page") int page,
+                                       @RequestHeader("X-Request-Id") String requestId,
+                                       @CookieValue("token") String token,
+                                       @PathVariable("accountId") String accountId,
+                                       @SessionAttribute("tenant") String tenant,
+                                       @RequestBody String body) {
+        // Only the parameters are used
+    }
+
+    public void queryBean(@BeanParameter QueryRequestBean bean) {
+        // Only the parameter is used
+    }
+
+    public void queryRecord(@BeanParameter QueryRequestRecord bean) {
+        // Only the parameter is used
+    }
+
+    public void queryModelAttributeBean(@ModelAttribute QueryRequestBean bean) {
+        // Only the parameter is used
+    }
+
+    public void queryModelAttributeRecord(@ModelAttribute QueryRequestRecord bean) {
+        // Only the parameter is used
+    }
+
+    public void querySpringAnnotations(@RequestParam("query") String query,
+                                       @RequestParam("page") int page,
+                                       @RequestParam("size") int size,
+                                       @RequestParam("sort") String sort) {
+        // Only the parameters are used
+    }
+
+    /**
+     * Get the parameters of the named handler method, set up the way Spring sets up handler method parameters.
+     *
+     * @param methodName The name of a method on this class. Required.
+     * @return The method parameters in declaration order.
+     */
+    public static MethodParameter[] parameters(String methodName) {
+        for (Method method : ResolverBenchmarkHandler.class.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                MethodParameter[] parameters = new MethodParameter[method.getParameterCount()];
+                for (int i = 0; i < parameters.length; i++) {
+                    parameters[i] = new MethodParameter(method, i);
+                    parameters[i].initParameterNameDiscovery(PARAMETER_NAME_DISCOVERER);
+                }
+                return parameters;
+            }
+        }
+        throw new IllegalArgumentException("No handler method named " + methodName);
+    }
+}
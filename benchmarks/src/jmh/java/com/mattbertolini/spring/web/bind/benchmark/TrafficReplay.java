@@ -0,0 +1,274 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.annotation.CookieParameter;
+import com.mattbertolini.spring.web.bind.annotation.HeaderParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestBody;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.capture.BeanTrafficProfile;
+import com.mattbertolini.spring.web.bind.capture.LengthHistogram;
+import com.mattbertolini.spring.web.bind.capture.RequestPart;
+import com.mattbertolini.spring.web.bind.capture.TrafficProfile;
+import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.servlet.mvc.bind.PropertyResolverRegistry;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.CookieParameterRequestPropertyResolver;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.HeaderParameterRequestPropertyResolver;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.RequestBodyRequestPropertyResolver;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.RequestParameterRequestPropertyResolver;
+import jakarta.servlet.http.Cookie;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * Turns a captured {@link TrafficProfile} back into requests. Names are sent as often as they were captured, with
+ * values of the captured lengths. Values of request bean properties are generated to suit the property type; values
+ * of other names are random text.
+ *
+ * <p>Only request beans on the benchmark class path are replayed. Properties that need a particular format, such as
+ * dates, are left out, and a body is only sent to {@code String} request body properties.</p>
+ */
+final class TrafficReplay {
+    static final String PROFILE_PROPERTY = "benchmark.trafficProfile";
+    private static final String SAMPLE_PROFILE = "/traffic-profile.txt";
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+    private static final int MAX_VALUE_LENGTH = 4096;
+
+    private final AnnotatedRequestBeanIntrospector introspector;
+    private final RandomGenerator random;
+
+    TrafficReplay(RandomGenerator random) {
+        PropertyResolverRegistry registry = new PropertyResolverRegistry();
+        registry.addResolver(new RequestParameterRequestPropertyResolver());
+        registry.addResolver(new HeaderParameterRequestPropertyResolver());
+        registry.addResolver(new CookieParameterRequestPropertyResolver());
+        registry.addResolver(new RequestBodyRequestPropertyResolver(List.of(new StringHttpMessageConverter())));
+        this.introspector = new DefaultAnnotatedRequestBeanIntrospector(registry);
+        this.random = random;
+    }
+
+    /**
+     * Load the profile named by the {@value #PROFILE_PROPERTY} system property, or the sample profile when not set.
+     */
+    static TrafficProfile loadProfile() throws IOException {
+        String path = System.getProperty(PROFILE_PROPERTY);
+        if (StringUtils.hasText(path)) {
+            return TrafficProfile.readFrom(Path.of(path));
+        }
+        try (InputStream inputStream = Objects.requireNonNull(TrafficReplay.class.getResourceAsStream(SAMPLE_PROFILE))) {
+            return TrafficProfile.readFrom(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Generate requests spread over the request beans in proportion to their captured request counts.
+     */
+    List<ReplayRequest> generate(TrafficProfile profile, int count) {
+        Map<Class<?>, BeanTrafficProfile> beans = new LinkedHashMap<>();
+        long totalRequests = 0;
+        for (BeanTrafficProfile bean : profile.getBeans()) {
+            ClassLoader classLoader = TrafficReplay.class.getClassLoader();
+            if (bean.getRequestCount() > 0 && ClassUtils.isPresent(bean.getBeanType(), classLoader)) {
+                beans.put(ClassUtils.resolveClassName(bean.getBeanType(), classLoader), bean);
+                totalRequests += bean.getRequestCount();
+            }
+        }
+        if (beans.isEmpty()) {
+            throw new IllegalStateException("None of the request beans in the traffic profile are on the class path");
+        }
+
+        List<ReplayRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long target = random.nextLong(totalRequests);
+            for (Map.Entry<Class<?>, BeanTrafficProfile> entry : beans.entrySet()) {
+                target -= entry.getValue().getRequestCount();
+                if (target < 0) {
+                    requests.add(generate(entry.getKey(), entry.getValue()));
+                    break;
+                }
+            }
+        }
+        return requests;
+    }
+
+    private ReplayRequest generate(Class<?> beanType, BeanTrafficProfile bean) {
+        Map<RequestPart, Map<String, Class<?>>> valueTypes = new HashMap<>();
+        for (RequestPart part : RequestPart.values()) {
+            valueTypes.put(part, new HashMap<>());
+        }
+        boolean stringBody = false;
+        for (ResolvedPropertyData data : introspector.getResolversFor(beanType)) {
+            BindingProperty property = data.bindingProperty();
+            RequestParameter requestParameter = property.getAnnotation(RequestParameter.class);
+            HeaderParameter headerParameter = property.getAnnotation(HeaderParameter.class);
+            CookieParameter cookieParameter = property.getAnnotation(CookieParameter.class);
+            if (requestParameter != null) {
+                valueTypes(valueTypes, RequestPart.PARAMETER).put(nameOf(requestParameter.value(), data), valueType(property));
+            } else if (headerParameter != null) {
+                valueTypes(valueTypes, RequestPart.HEADER).put(nameOf(headerParameter.value(), data).toLowerCase(Locale.ROOT), valueType(property));
+            } else if (cookieParameter != null) {
+                valueTypes(valueTypes, RequestPart.COOKIE).put(cookieParameter.value(), valueType(property));
+            } else if (property.hasAnnotation(RequestBody.class) && property.getType() == String.class) {
+                stringBody = true;
+            }
+        }
+
+        Map<String, String> parameters = values(bean, RequestPart.PARAMETER, valueTypes(valueTypes, RequestPart.PARAMETER));
+        Map<String, String> headers = values(bean, RequestPart.HEADER, valueTypes(valueTypes, RequestPart.HEADER));
+        List<Cookie> cookies = new ArrayList<>();
+        values(bean, RequestPart.COOKIE, valueTypes(valueTypes, RequestPart.COOKIE)).forEach((name, value) -> {
+            try {
+                cookies.add(new Cookie(name, value));
+            } catch (IllegalArgumentException e) {
+                // Not a valid cookie name for the servlet API so it cannot be replayed
+            }
+        });
+        byte[] body = null;
+        if (stringBody && bean.getBodySizes().getCount() > 0) {
+            body = letters(bean.getBodySizes().sample(random)).getBytes(StandardCharsets.UTF_8);
+        }
+        return new ReplayRequest(beanType, parameters, headers, cookies, body);
+    }
+
+    private Map<String, String> values(BeanTrafficProfile bean, RequestPart part, Map<String, Class<?>> valueTypes) {
+        Map<String, String> values = new HashMap<>();
+        bean.getValueLengths(part).forEach((name, lengths) -> {
+            // Send the name as often as it was present in the captured requests
+            if (random.nextLong(bean.getRequestCount()) < lengths.getCount()) {
+                String value = value(valueTypes.getOrDefault(name, String.class), lengths);
+                if (value != null) {
+                    values.put(name, value);
+                }
+            }
+        });
+        return values;
+    }
+
+    @Nullable
+    private String value(Class<?> type, LengthHistogram lengths) {
+        Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(type);
+        if (valueType == String.class || valueType == Object.class) {
+            return letters(lengths.sample(random));
+        }
+        if (valueType == Boolean.class) {
+            return Boolean.toString(random.nextBoolean());
+        }
+        if (valueType.isEnum()) {
+            Object[] constants = valueType.getEnumConstants();
+            return ((Enum<?>) constants[random.nextInt(constants.length)]).name();
+        }
+        if (valueType == UUID.class) {
+            return new UUID(random.nextLong(), random.nextLong()).toString();
+        }
+        if (Number.class.isAssignableFrom(valueType)) {
+            return digits(lengths.sample(random), maxDigits(valueType));
+        }
+        return null;
+    }
+
+    private String letters(long length) {
+        int size = (int) Math.min(length, MAX_VALUE_LENGTH);
+        StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            builder.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return builder.toString();
+    }
+
+    private String digits(long length, int maxDigits) {
+        int size = (int) Math.max(1, Math.min(length, maxDigits));
+        StringBuilder builder = new StringBuilder(size);
+        builder.append((char) ('1' + random.nextInt(9)));
+        for (int i = 1; i < size; i++) {
+            builder.append((char) ('0' + random.nextInt(10)));
+        }
+        return builder.toString();
+    }
+
+    private static int maxDigits(Class<?> numberType) {
+        if (numberType == Byte.class) {
+            return 2;
+        }
+        if (numberType == Short.class) {
+            return 4;
+        }
+        if (numberType == Long.class) {
+            return 18;
+        }
+        return 9;
+    }
+
+    private static String nameOf(String annotationValue, ResolvedPropertyData data) {
+        return StringUtils.hasText(annotationValue) ? annotationValue : data.propertyName();
+    }
+
+    private static Class<?> valueType(BindingProperty property) {
+        TypeDescriptor typeDescriptor = property.getTypeDescriptor();
+        if (typeDescriptor.isCollection() || typeDescriptor.isArray()) {
+            TypeDescriptor elementType = typeDescriptor.getElementTypeDescriptor();
+            return elementType != null ? elementType.getType() : String.class;
+        }
+        return property.getType();
+    }
+
+    private static Map<String, Class<?>> valueTypes(Map<RequestPart, Map<String, Class<?>>> valueTypes, RequestPart part) {
+        return Objects.requireNonNull(valueTypes.get(part));
+    }
+
+    /**
+     * A request generated from the profile. A new servlet request is needed for each use as the body can only be read
+     * once.
+     */
+    record ReplayRequest(Class<?> beanType, Map<String, String> parameters, Map<String, String> headers,
+                         List<Cookie> cookies, @Nullable byte[] body) {
+
+        MockHttpServletRequest toServletRequest() {
+            MockHttpServletRequest request = new MockHttpServletRequest(body != null ? "POST" : "GET", "/replay");
+            parameters.forEach(request::addParameter);
+            headers.forEach(request::addHeader);
+            if (!cookies.isEmpty()) {
+                request.setCookies(cookies.toArray(new Cookie[0]));
+            }
+            if (body != null) {
+                request.setContentType("text/plain;charset=UTF-8");
+                request.setContent(body);
+            }
+            return request;
+        }
+    }
+}
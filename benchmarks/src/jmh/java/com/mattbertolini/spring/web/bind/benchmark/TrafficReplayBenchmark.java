@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.bind.benchmark.TrafficReplay.ReplayRequest;
+import com.mattbertolini.spring.web.bind.warmup.RequestBeanMethodParameter;
+import com.mattbertolini.spring.web.servlet.mvc.bind.config.BinderConfiguration;
+import com.uber.nullaway.annotations.Initializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolverComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves request beans from requests generated out of a captured traffic profile, so binding changes can be
+ * measured against the names, value lengths and bean mix an application actually sees. The profile is written by the
+ * request shape capture filters and passed with {@code -PtrafficProfile=<file>}. Without one a small sample profile of
+ * the benchmark request beans is used.
+ *
+ * <p>{@link #newRequest(Cursor)} measures building the requests on their own and should be subtracted from
+ * {@link #replay(Cursor)}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrafficReplayBenchmark {
+    @Param({"true", "false"})
+    public boolean simpleTypeConversion;
+
+    @Param({"1024"})
+    public int requestCount;
+
+    private HandlerMethodArgumentResolverComposite argumentResolvers;
+    private WebDataBinderFactory binderFactory;
+    private List<ReplayRequest> requests;
+    private Map<Class<?>, MethodParameter> parameters;
+
+    @Initializer
+    @Setup
+    public void setUp() throws Exception {
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter();
+        adapter.setWebBindingInitializer(initializer);
+        new BinderConfiguration()
+            .setSimpleTypeConversion(simpleTypeConversion)
+            .postProcessBeforeInitialization(adapter, "requestMappingHandlerAdapter");
+        adapter.afterPropertiesSet();
+
+        argumentResolvers = new HandlerMethodArgumentResolverComposite()
+            .addResolvers(Objects.requireNonNull(adapter.getArgumentResolvers()));
+        binderFactory = new ServletRequestDataBinderFactory(null, initializer);
+
+        // A fixed seed so each run replays the same requests
+        requests = new TrafficReplay(new Random(42)).generate(TrafficReplay.loadProfile(), requestCount);
+        parameters = new HashMap<>();
+        for (ReplayRequest request : requests) {
+            if (!parameters.containsKey(request.beanType())) {
+                parameters.put(request.beanType(), new RequestBeanMethodParameter(request.beanType()));
+            }
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletRequest newRequest(Cursor cursor) {
+        return cursor.next(requests).toServletRequest();
+    }
+
+    @Benchmark
+    public Object replay(Cursor cursor) throws Exception {
+        ReplayRequest request = cursor.next(requests);
+        MethodParameter parameter = Objects.requireNonNull(parameters.get(request.beanType()));
+        return argumentResolvers.resolveArgument(parameter, new ModelAndViewContainer(),
+            new ServletWebRequest(request.toServletRequest()), binderFactory);
+    }
+
+    /**
+     * Steps through the generated requests in order, separately for each benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        ReplayRequest next(List<ReplayRequest> requests) {
+            ReplayRequest request = requests.get(next);
+            next = (next + 1) % requests.size();
+            return request;
+        }
+    }
+}
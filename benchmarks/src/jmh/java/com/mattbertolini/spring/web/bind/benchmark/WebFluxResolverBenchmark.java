@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.reactive.bind.config.BinderConfiguration;
+import com.uber.nullaway.annotations.Initializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.mock.web.server.MockWebSession;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import org.springframework.web.reactive.result.method.annotation.CookieValueMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.ModelAttributeMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.PathVariableMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.RequestBodyMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.RequestHeaderMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.reactive.result.method.annotation.RequestParamMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.SessionAttributeMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Resolves handler method arguments end to end with Spring WebFlux argument resolvers, the same way a request is
+ * handled. Each {@code @BeanParameter} benchmark has a counterpart using the stock Spring annotations to read the same
+ * values.
+ *
+ * <p>The handler adapter only builds its resolvers when started in an application context, so the stock resolvers
+ * are created here directly and the {@code @BeanParameter} resolver is taken from the adapter after
+ * {@link BinderConfiguration} has post processed it.</p>
+ *
+ * <p>The request body can only be read once, so the {@code mixed} benchmarks build a new exchange per invocation.
+ * {@link #newMixedExchange()} measures that on its own and should be subtracted from them. The {@code query}
+ * benchmarks reuse one exchange.</p>
+ *
+ * <p>Run with {@code -PjmhProfilers=gc} to see the allocation rate of each.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebFluxResolverBenchmark {
+    private static final String BODY = "{\"name\":\"benchmark\",\"items\":[1,2,3]}";
+
+    private List<HandlerMethodArgumentResolver> argumentResolvers;
+    private ConfigurableWebBindingInitializer initializer;
+    private ServerWebExchange queryExchange;
+    private Resolution mixedBean;
+    private Resolution mixedRecord;
+    private Resolution mixedSpringAnnotations;
+    private Resolution queryBean;
+    private Resolution queryRecord;
+    private Resolution queryModelAttributeBean;
+    private Resolution queryModelAttributeRecord;
+    private Resolution querySpringAnnotations;
+
+    @Initializer
+    @Setup
+    public void setUp() {
+        initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        ReactiveAdapterRegistry adapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
+        List<HttpMessageReader<?>> messageReaders = ServerCodecConfigurer.create().getReaders();
+
+        argumentResolvers = new ArrayList<>();
+        argumentResolvers.add(createBeanParameterResolver(initializer, adapterRegistry, messageReaders));
+        argumentResolvers.add(new RequestParamMethodArgumentResolver(null, adapterRegistry, false));
+        argumentResolvers.add(new PathVariableMethodArgumentResolver(null, adapterRegistry));
+        argumentResolvers.add(new RequestHeaderMethodArgumentResolver(null, adapterRegistry));
+        argumentResolvers.add(new CookieValueMethodArgumentResolver(null, adapterRegistry));
+        argumentResolvers.add(new SessionAttributeMethodArgumentResolver(null, adapterRegistry));
+        argumentResolvers.add(new RequestBodyMethodArgumentResolver(messageReaders, adapterRegistry));
+        argumentResolvers.add(new ModelAttributeMethodArgumentResolver(adapterRegistry, false));
+
+        queryExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/search")
+            .queryParam("query", "benchmark")
+            .queryParam("page", "3")
+            .queryParam("size", "50")
+            .queryParam("sort", "name"));
+
+        mixedBean = resolution("mixedBean");
+        mixedRecord = resolution("mixedRecord");
+        mixedSpringAnnotations = resolution("mixedSpringAnnotations");
+        queryBean = resolution("queryBean");
+        queryRecord = resolution("queryRecord");
+        queryModelAttributeBean = resolution("queryModelAttributeBean");
+        queryModelAttributeRecord = resolution("queryModelAttributeRecord");
+        querySpringAnnotations = resolution("querySpringAnnotations");
+    }
+
+    @Benchmark
+    public ServerWebExchange newMixedExchange() {
+        return createMixedExchange();
+    }
+
+    @Benchmark
+    public Object[] mixedBeanParameter() {
+        return resolve(mixedBean, createMixedExchange());
+    }
+
+    @Benchmark
+    public Object[] mixedBeanParameterRecord() {
+        return resolve(mixedRecord, createMixedExchange());
+    }
+
+    @Benchmark
+    public Object[] mixedSpringAnnotations() {
+        return resolve(mixedSpringAnnotations, createMixedExchange());
+    }
+
+    @Benchmark
+    public Object[] queryBeanParameter() {
+        return resolve(queryBean, queryExchange);
+    }
+
+    @Benchmark
+    public Object[] queryBeanParameterRecord() {
+        return resolve(queryRecord, queryExchange);
+    }
+
+    @Benchmark
+    public Object[] queryModelAttribute() {
+        return resolve(queryModelAttributeBean, queryExchange);
+    }
+
+    @Benchmark
+    public Object[] queryModelAttributeRecord() {
+        return resolve(queryModelAttributeRecord, queryExchange);
+    }
+
+    @Benchmark
+    public Object[] querySpringAnnotations() {
+        return resolve(querySpringAnnotations, queryExchange);
+    }
+
+    private Object[] resolve(Resolution resolution, ServerWebExchange exchange) {
+        // Arguments are resolved together and zipped, as InvocableHandlerMethod does
+        BindingContext bindingContext = new BindingContext(initializer);
+        List<Mono<Object>> arguments = new ArrayList<>(resolution.parameters().size());
+        for (int i = 0; i < resolution.parameters().size(); i++) {
+            arguments.add(resolution.resolvers().get(i).resolveArgument(resolution.parameters().get(i), bindingContext, exchange));
+        }
+        return Objects.requireNonNull(Mono.zip(arguments, Function.identity()).block());
+    }
+
+    private Resolution resolution(String methodName) {
+        List<MethodParameter> parameters = List.of(ResolverBenchmarkHandler.parameters(methodName));
+        List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>(parameters.size());
+        for (MethodParameter parameter : parameters) {
+            resolvers.add(argumentResolvers.stream()
+                .filter(resolver -> resolver.supportsParameter(parameter))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No resolver for " + parameter)));
+        }
+        return new Resolution(parameters, resolvers);
+    }
+
+    private static HandlerMethodArgumentResolver createBeanParameterResolver(ConfigurableWebBindingInitializer initializer,
+                                                                             ReactiveAdapterRegistry adapterRegistry,
+                                                                             List<HttpMessageReader<?>> messageReaders) {
+        CapturingArgumentResolverConfigurer configurer = new CapturingArgumentResolverConfigurer();
+        RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter();
+        adapter.setArgumentResolverConfigurer(configurer);
+        adapter.setReactiveAdapterRegistry(adapterRegistry);
+        adapter.setMessageReaders(messageReaders);
+        adapter.setWebBindingInitializer(initializer);
+        new BinderConfiguration().postProcessBeforeInitialization(adapter, "requestMappingHandlerAdapter");
+        return configurer.resolvers.get(0);
+    }
+
+    private static ServerWebExchange createMixedExchange() {
+        MockServerHttpRequest request = MockServerHttpRequest.post("/accounts/acc-123/search")
+            .queryParam("query", "benchmark")
+            .queryParam("page", "3")
+            .header("X-Request-Id", "0f8fad5b-d9cb-469f-a165-70867728950e")
+            .cookie(new HttpCookie("token", "abc123"))
+            .contentType(MediaType.TEXT_PLAIN)
+            .body(BODY);
+        MockWebSession session = new MockWebSession();
+        session.getAttributes().put("tenant", "tenant-1");
+        MockServerWebExchange exchange = MockServerWebExchange.builder(request).session(session).build();
+        exchange.getAttributes().put(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("accountId", "acc-123"));
+        return exchange;
+    }
+
+    private record Resolution(List<MethodParameter> parameters, List<HandlerMethodArgumentResolver> resolvers) {}
+
+    private static class CapturingArgumentResolverConfigurer extends ArgumentResolverConfigurer {
+        private final List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>();
+
+        @Override
+        public void addCustomResolver(HandlerMethodArgumentResolver... resolvers) {
+            super.addCustomResolver(resolvers);
+            this.resolvers.addAll(List.of(resolvers));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.benchmark;
+
+import com.mattbertolini.spring.web.servlet.mvc.bind.config.BinderConfiguration;
+import com.uber.nullaway.annotations.Initializer;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolverComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves handler method arguments end to end through the argument resolvers of a Spring MVC handler adapter, the
+ * same way a request is handled. Each {@code @BeanParameter} benchmark has a counterpart using the stock Spring
+ * annotations to read the same values.
+ *
+ * <p>The request body can only be read once, so the {@code mixed} benchmarks build a new request per invocation.
+ * {@link #newMixedRequest()} measures that on its own and should be subtracted from them. The {@code query} benchmarks
+ * reuse one request.</p>
+ *
+ * <p>Run with {@code -PjmhProfilers=gc} to see the allocation rate of each.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebMvcResolverBenchmark {
+    private static final byte[] BODY = "{\"name\":\"benchmark\",\"items\":[1,2,3]}".getBytes(StandardCharsets.UTF_8);
+
+    private HandlerMethodArgumentResolverComposite argumentResolvers;
+    private WebDataBinderFactory binderFactory;
+    private NativeWebRequest queryRequest;
+    private MethodParameter[] mixedBean;
+    private MethodParameter[] mixedRecord;
+    private MethodParameter[] mixedSpringAnnotations;
+    private MethodParameter[] queryBean;
+    private MethodParameter[] queryRecord;
+    private MethodParameter[] queryModelAttributeBean;
+    private MethodParameter[] queryModelAttributeRecord;
+    private MethodParameter[] querySpringAnnotations;
+
+    @Initializer
+    @Setup
+    public void setUp() throws Exception {
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter();
+        adapter.setWebBindingInitializer(initializer);
+        new BinderConfiguration().postProcessBeforeInitialization(adapter, "requestMappingHandlerAdapter");
+        adapter.afterPropertiesSet();
+
+        argumentResolvers = new HandlerMethodArgumentResolverComposite()
+            .addResolvers(Objects.requireNonNull(adapter.getArgumentResolvers()));
+        binderFactory = new ServletRequestDataBinderFactory(null, initializer);
+
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/search");
+        servletRequest.addParameter("query", "benchmark");
+        servletRequest.addParameter("page", "3");
+        servletRequest.addParameter("size", "50");
+        servletRequest.addParameter("sort", "name");
+        queryRequest = new ServletWebRequest(servletRequest);
+
+        mixedBean = ResolverBenchmarkHandler.parameters("mixedBean");
+        mixedRecord = ResolverBenchmarkHandler.parameters("mixedRecord");
+        mixedSpringAnnotations = ResolverBenchmarkHandler.parameters("mixedSpringAnnotations");
+        queryBean = ResolverBenchmarkHandler.parameters("queryBean");
+        queryRecord = ResolverBenchmarkHandler.parameters("queryRecord");
+        queryModelAttributeBean = ResolverBenchmarkHandler.parameters("queryModelAttributeBean");
+        queryModelAttributeRecord = ResolverBenchmarkHandler.parameters("queryModelAttributeRecord");
+        querySpringAnnotations = ResolverBenchmarkHandler.parameters("querySpringAnnotations");
+    }
+
+    @Benchmark
+    public NativeWebRequest newMixedRequest() {
+        return createMixedRequest();
+    }
+
+    @Benchmark
+    public Object[] mixedBeanParameter() throws Exception {
+        return resolve(mixedBean, createMixedRequest());
+    }
+
+    @Benchmark
+    public Object[] mixedBeanParameterRecord() throws Exception {
+        return resolve(mixedRecord, createMixedRequest());
+    }
+
+    @Benchmark
+    public Object[] mixedSpringAnnotations() throws Exception {
+        return resolve(mixedSpringAnnotations, createMixedRequest());
+    }
+
+    @Benchmark
+    public Object[] queryBeanParameter() throws Exception {
+        return resolve(queryBean, queryRequest);
+    }
+
+    @Benchmark
+    public Object[] queryBeanParameterRecord() throws Exception {
+        return resolve(queryRecord, queryRequest);
+    }
+
+    @Benchmark
+    public Object[] queryModelAttribute() throws Exception {
+        return resolve(queryModelAttributeBean, queryRequest);
+    }
+
+    @Benchmark
+    public Object[] queryModelAttributeRecord() throws Exception {
+        return resolve(queryModelAttributeRecord, queryRequest);
+    }
+
+    @Benchmark
+    public Object[] querySpringAnnotations() throws Exception {
+        return resolve(querySpringAnnotations, queryRequest);
+    }
+
+    private Object[] resolve(MethodParameter[] parameters, NativeWebRequest request) throws Exception {
+        ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+        Object[] arguments = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            arguments[i] = argumentResolvers.resolveArgument(parameters[i], mavContainer, request, binderFactory);
+        }
+        return arguments;
+    }
+
+    private static NativeWebRequest createMixedRequest() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/accounts/acc-123/search");
+        servletRequest.addParameter("query", "benchmark");
+        servletRequest.addParameter("page", "3");
+        servletRequest.addHeader("X-Request-Id", "0f8fad5b-d9cb-469f-a165-70867728950e");
+        servletRequest.setCookies(new Cookie("token", "abc123"));
+        servletRequest.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("accountId", "acc-123"));
+        Objects.requireNonNull(servletRequest.getSession()).setAttribute("tenant", "tenant-1");
+        servletRequest.setContentType("text/plain;charset=UTF-8");
+        servletRequest.setContent(BODY);
+        return new ServletWebRequest(servletRequest);
+    }
+}
@@ -29,12 +29,14 @@ dependencies {
     jacocoAggregation(project(":spring-annotated-data-binder-core"))
     jacocoAggregation(project(":spring-webflux-annotated-data-binder"))
     jacocoAggregation(project(":spring-webmvc-annotated-data-binder"))
+    jacocoAggregation(project(":annotated-data-binder-spring-boot-autoconfigure"))
     jacocoAggregation(project(":webflux-annotated-data-binder-spring-boot-starter"))
     jacocoAggregation(project(":webmvc-annotated-data-binder-spring-boot-starter"))
 
     nmcpAggregation(project(":spring-annotated-data-binder-core"))
     nmcpAggregation(project(":spring-webflux-annotated-data-binder"))
     nmcpAggregation(project(":spring-webmvc-annotated-data-binder"))
+    nmcpAggregation(project(":annotated-data-binder-spring-boot-autoconfigure"))
     nmcpAggregation(project(":webflux-annotated-data-binder-spring-boot-starter"))
     nmcpAggregation(project(":webmvc-annotated-data-binder-spring-boot-starter"))
 }
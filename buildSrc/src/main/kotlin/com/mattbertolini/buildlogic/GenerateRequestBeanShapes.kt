@@ -0,0 +1,172 @@
+package com.mattbertolini.buildlogic
+
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.CacheableTask
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.TaskAction
+import java.io.File
+
+/**
+ * Generates request bean sources of known shapes for the benchmarks. Writing these by hand would mean hundreds of
+ * near identical properties and classes, and the counts need to be easy to change.
+ */
+@CacheableTask
+abstract class GenerateRequestBeanShapes : DefaultTask() {
+    @get:Input
+    abstract val packageName: Property<String>
+
+    @get:Input
+    abstract val wideProperties: Property<Int>
+
+    @get:Input
+    abstract val depth: Property<Int>
+
+    @get:Input
+    abstract val recordComponents: Property<Int>
+
+    @get:Input
+    abstract val inheritanceLevels: Property<Int>
+
+    @get:Input
+    abstract val scanBeanCount: Property<Int>
+
+    /**
+     * The number of scanned beans per package. Beans are split over `scan.group00`, `scan.group01` and so
+     * on so that a subset of them can be scanned.
+     */
+    @get:Input
+    abstract val scanPackageSize: Property<Int>
+
+    @get:OutputDirectory
+    abstract val outputDirectory: DirectoryProperty
+
+    init {
+        wideProperties.convention(200)
+        depth.convention(10)
+        recordComponents.convention(20)
+        inheritanceLevels.convention(10)
+        scanBeanCount.convention(100)
+        scanPackageSize.convention(1000)
+    }
+
+    @TaskAction
+    fun generate() {
+        val root = outputDirectory.get().asFile
+        root.deleteRecursively()
+        val basePackage = packageName.get()
+        val packageDir = File(root, basePackage.replace('.', '/'))
+        packageDir.mkdirs()
+
+        writePackageInfo(packageDir, basePackage)
+        write(packageDir, "WideRequestBean", beanClass(basePackage, "WideRequestBean", null, false,
+            (0 until wideProperties.get()).map { ShapeProperty("property%03d".format(it)) }))
+        generateDeep(packageDir, basePackage)
+        generateRecord(packageDir, basePackage)
+        generateInheritance(packageDir, basePackage)
+
+        for (i in 0 until scanBeanCount.get()) {
+            val scanPackage = "$basePackage.scan.group%02d".format(i / scanPackageSize.get())
+            val scanDir = File(root, scanPackage.replace('.', '/'))
+            if (scanDir.mkdirs()) {
+                writePackageInfo(scanDir, scanPackage)
+            }
+            val name = "ScannedRequestBean%05d".format(i)
+            write(scanDir, name, beanClass(scanPackage, name, null, true, (0 until 10).map { ShapeProperty("property$it") }))
+        }
+    }
+
+    private fun generateDeep(packageDir: File, basePackage: String) {
+        val levels = depth.get()
+        for (level in levels downTo 1) {
+            val name = "DeepLevel%02d".format(level)
+            val properties = mutableListOf(ShapeProperty("level${level}Value"), ShapeProperty("level${level}Other"))
+            if (level < levels) {
+                properties.add(ShapeProperty("next", "DeepLevel%02d".format(level + 1), nested = true))
+            }
+            write(packageDir, name, beanClass(basePackage, name, null, false, properties))
+        }
+        write(packageDir, "DeepRequestBean", beanClass(basePackage, "DeepRequestBean", null, false,
+            listOf(ShapeProperty("rootValue"), ShapeProperty("next", "DeepLevel01", nested = true))))
+    }
+
+    private fun generateRecord(packageDir: File, basePackage: String) {
+        val components = (0 until recordComponents.get()).joinToString(",\n") {
+            "    @RequestParameter(\"component%02d\") @Nullable String component%02d".format(it, it)
+        }
+        write(packageDir, "RecordRequestBean", """
+            |package $basePackage;
+            |
+            |import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+            |import org.springframework.lang.Nullable;
+            |
+            |public record RecordRequestBean(
+            |$components) {
+            |}
+            |""".trimMargin())
+    }
+
+    private fun generateInheritance(packageDir: File, basePackage: String) {
+        val levels = inheritanceLevels.get()
+        for (level in 0 until levels) {
+            val name = "InheritanceLevel%02d".format(level)
+            val parent = if (level == 0) null else "InheritanceLevel%02d".format(level - 1)
+            write(packageDir, name, beanClass(basePackage, name, parent, false,
+                (0 until 5).map { ShapeProperty("level${level}Property$it") }))
+        }
+        write(packageDir, "InheritanceRequestBean", beanClass(basePackage, "InheritanceRequestBean",
+            "InheritanceLevel%02d".format(levels - 1), false, listOf(ShapeProperty("leafProperty"))))
+    }
+
+    private fun beanClass(packageName: String, className: String, parent: String?, requestBean: Boolean,
+                          properties: List<ShapeProperty>): String {
+        val source = StringBuilder()
+        source.append("package ").append(packageName).append(";\n\n")
+        source.append("import com.mattbertolini.spring.web.bind.annotation.BeanParameter;\n")
+        source.append("import com.mattbertolini.spring.web.bind.annotation.RequestBean;\n")
+        source.append("import com.mattbertolini.spring.web.bind.annotation.RequestParameter;\n")
+        source.append("import org.springframework.lang.Nullable;\n\n")
+        source.append("@SuppressWarnings(\"unused\")\n")
+        if (requestBean) {
+            source.append("@RequestBean\n")
+        }
+        source.append("public class ").append(className)
+        if (parent != null) {
+            source.append(" extends ").append(parent)
+        }
+        source.append(" {\n")
+        for (property in properties) {
+            source.append(if (property.nested) "    @BeanParameter\n" else "    @RequestParameter(\"${property.name}\")\n")
+            source.append("    @Nullable\n")
+            source.append("    private ${property.type} ${property.name};\n\n")
+        }
+        for (property in properties) {
+            val capitalized = property.name.replaceFirstChar { it.uppercaseChar() }
+            source.append("    @Nullable\n")
+            source.append("    public ${property.type} get$capitalized() {\n        return ${property.name};\n    }\n\n")
+            source.append("    public void set$capitalized(${property.type} ${property.name}) {\n")
+            source.append("        this.${property.name} = ${property.name};\n    }\n\n")
+        }
+        source.append("}\n")
+        return source.toString()
+    }
+
+    private fun writePackageInfo(packageDir: File, packageName: String) {
+        write(packageDir, "package-info", """
+            |@NonNullApi
+            |@NonNullFields
+            |package $packageName;
+            |
+            |import org.springframework.lang.NonNullApi;
+            |import org.springframework.lang.NonNullFields;
+            |""".trimMargin())
+    }
+
+    private fun write(packageDir: File, className: String, source: String) {
+        File(packageDir, "$className.java").writeText(source)
+    }
+
+    private data class ShapeProperty(val name: String, val type: String = "String", val nested: Boolean = false)
+}
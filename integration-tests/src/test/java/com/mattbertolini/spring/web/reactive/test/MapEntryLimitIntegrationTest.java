@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.test;
+
+import com.mattbertolini.spring.test.web.bind.RequestParameterController;
+import com.mattbertolini.spring.web.reactive.bind.config.BinderConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.reactive.config.EnableWebFlux;
+
+@SpringJUnitWebConfig(classes = {MapEntryLimitIntegrationTest.Context.class})
+class MapEntryLimitIntegrationTest {
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp(WebApplicationContext webApplicationContext) {
+        webTestClient = WebTestClient.bindToApplicationContext(webApplicationContext).build();
+    }
+
+    @Test
+    void bindsUpToMaximumParameters() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder.path("/simpleMap")
+                .queryParam("simpleMap", "expectedValue")
+                .queryParam("other", "value")
+                .build())
+            .accept(MediaType.TEXT_PLAIN)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class).isEqualTo("expectedValue");
+    }
+
+    @Test
+    void rejectsMoreParametersThanMaximumAsBadRequest() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder.path("/simpleMap")
+                .queryParam("simpleMap", "expectedValue")
+                .queryParam("other", "value")
+                .queryParam("another", "value")
+                .build())
+            .accept(MediaType.TEXT_PLAIN)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @ContextConfiguration
+    @EnableWebFlux
+    static class Context {
+        @Bean
+        public BinderConfiguration binderConfiguration() {
+            return new BinderConfiguration().setMapResolverMaxEntries(2);
+        }
+
+        @Bean
+        public RequestParameterController controller() {
+            return new RequestParameterController();
+        }
+    }
+}
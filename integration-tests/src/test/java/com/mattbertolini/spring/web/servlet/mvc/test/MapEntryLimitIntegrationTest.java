@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.servlet.mvc.test;
+
+import com.mattbertolini.spring.test.web.bind.RequestParameterController;
+import com.mattbertolini.spring.web.servlet.mvc.bind.config.BinderConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringJUnitWebConfig(classes = {MapEntryLimitIntegrationTest.Context.class})
+class MapEntryLimitIntegrationTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp(WebApplicationContext webApplicationContext) {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void bindsUpToMaximumParameters() throws Exception {
+        mockMvc.perform(get("/simpleMap")
+            .accept(MediaType.TEXT_PLAIN)
+            .queryParam("simpleMap", "expectedValue")
+            .queryParam("other", "value"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("expectedValue"));
+    }
+
+    @Test
+    void rejectsMoreParametersThanMaximumAsBadRequest() throws Exception {
+        mockMvc.perform(get("/simpleMap")
+            .accept(MediaType.TEXT_PLAIN)
+            .queryParam("simpleMap", "expectedValue")
+            .queryParam("other", "value")
+            .queryParam("another", "value"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @ContextConfiguration
+    @EnableWebMvc
+    static class Context {
+        @Bean
+        public BinderConfiguration binderConfiguration() {
+            return new BinderConfiguration().setMapResolverMaxEntries(2);
+        }
+
+        @Bean
+        public RequestParameterController controller() {
+            return new RequestParameterController();
+        }
+    }
+}
@@ -7,9 +7,14 @@ dependencyResolutionManagement {
 }
 
 include(":spring-annotated-data-binder-core")
+include(":spring-annotated-data-binder-indexer")
 include(":spring-webmvc-annotated-data-binder")
 include(":spring-webflux-annotated-data-binder")
 include(":integration-tests")
+include(":benchmarks")
+include(":startup-tests")
+include(":stress-tests")
 include(":docs")
+include(":annotated-data-binder-spring-boot-autoconfigure")
 include(":webmvc-annotated-data-binder-spring-boot-starter")
 include(":webflux-annotated-data-binder-spring-boot-starter")
@@ -9,12 +9,14 @@ dependencies {
     api(libs.springWeb)
     compileOnly(libs.findbugsJsr305) // To Prevent warnings on missing enum constants
     compileOnly(libs.jakartaServletApi) // So Javadoc doesn't give warnings about missing links
+    compileOnly(libs.micrometerCore) // Optional metrics support
 
     testImplementation(libs.junitJupiterApi)
     testImplementation(libs.assertJCore)
     testImplementation(libs.mockitoCore)
     testImplementation(libs.springTest)
     testImplementation(libs.equalsVerifier)
+    testImplementation(libs.micrometerCore)
     testCompileOnly(libs.findbugsJsr305)
 }
 
@@ -17,32 +17,68 @@ package com.mattbertolini.spring.web.bind;
 
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
 import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Do not extend directly from this class. Extend from the two subclasses that are specific to Spring MVC or Spring
  * WebFlux.
+ *
+ * <p>Resolvers are held in an immutable snapshot that is replaced on each addition, so finding a resolver never takes
+ * a lock or sees a partly added set of resolvers, even while resolvers are still being added from another thread.</p>
+ *
+ * <p>Resolvers are asked in the order given by {@link Ordered} or {@link org.springframework.core.annotation.Order
+ * &#64;Order} and otherwise in the order they were added, so a resolver ordered ahead of the built-in resolvers
+ * replaces them for the properties it supports. The registry does not remember the resolver found for a property: the
+ * introspector keeps it in the plan of the request bean, and a property is only looked up again once that plan is
+ * evicted, so a table of its own would only keep evicted types reachable.</p>
+ *
+ * <p>Resolvers can also be {@linkplain #addLazyResolver(Class, Supplier) added lazily}, in which case they are only
+ * created once a property with their annotation is looked up, and are asked in the order given when adding them. A registry then only holds the resolvers the request
+ * beans introspected so far need.</p>
+ *
+ * <p>A registry is built by adding resolvers and then {@linkplain #freeze() frozen} once it is complete, before any
+ * request bean is introspected with it. Adding resolvers to a frozen registry fails, as the resolvers found for the
+ * request beans introspected so far are kept by the introspector and would not see them. A frozen registry also
+ * checks for conflicts. Whether two resolvers conflict depends on the properties they support, which are only known
+ * once a property is looked up, so conflicts are found when a property is looked up rather than when freezing;
+ * with eager introspection that is still at startup. When more than one resolver of the same order supports a
+ * property the first one added is used, as before, and the others are logged so that the ambiguity can be fixed.
+ * Resolvers added lazily are only checked once they have been created.</p>
  * @param <T> The resolver type
  */
 public abstract class AbstractPropertyResolverRegistry<T extends RequestPropertyResolverBase<?, ?>> {
-    private final Set<T> propertyResolvers;
+    private static final Log LOGGER = LogFactory.getLog(AbstractPropertyResolverRegistry.class);
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot<T> snapshot;
+    private volatile boolean frozen = false;
 
     protected AbstractPropertyResolverRegistry() {
-        propertyResolvers = new LinkedHashSet<>();
+        snapshot = new Snapshot<>(new Object[0], new int[0]);
     }
 
     @Nullable
     public T findResolverFor(BindingProperty bindingProperty) {
-        for (T resolver : propertyResolvers) {
-            if (resolver.supports(bindingProperty)) {
-                return resolver;
-            }
-        }
-        return null;
+        Snapshot<T> current = snapshot;
+        RequestPropertyResolverBase<?, ?> found = find(current, bindingProperty);
+        return found != null ? current.cast(found) : null;
     }
 
     /**
@@ -51,20 +87,25 @@ public abstract class AbstractPropertyResolverRegistry<T extends RequestProperty
      * @param resolver The resolver to add.
      */
     public void addResolver(T resolver) {
-        propertyResolvers.add(resolver);
+        addResolvers(Collections.singleton(resolver));
     }
 
     /**
      * Add all the resolvers in the given set to this registry.
      *
      * @param resolvers The set of resolvers to add.
+     * @throws IllegalStateException if this registry is frozen.
      */
     public void addResolvers(Set<T> resolvers) {
-        propertyResolvers.addAll(resolvers);
+        synchronized (writeLock) {
+            assertNotFrozen();
+            snapshot = snapshot.with(resolvers);
+        }
     }
 
     /**
-     * Add all the resolvers in the given registry to this registry.
+     * Add all the resolvers in the given registry to this registry. Resolvers added lazily to the given registry and
+     * not created yet are not added.
      * 
      * @param registry The registry to add resolvers from.
      */
@@ -73,9 +114,258 @@ public abstract class AbstractPropertyResolverRegistry<T extends RequestProperty
     }
 
     /**
-     * Returns an unmodifiable collection of the resolvers.
+     * Add a resolver that is only created when a property with the given annotation is first looked up. The resolver
+     * must not support properties without the annotation. It is asked in the order it was added, as if it had no
+     * order of its own.
+     *
+     * @param annotationType The annotation every property the resolver supports has. Required.
+     * @param factory Creates the resolver. Called at most once. Required.
+     * @throws IllegalStateException if this registry is frozen.
+     */
+    public void addLazyResolver(Class<? extends Annotation> annotationType, Supplier<? extends T> factory) {
+        addLazyResolver(annotationType, Ordered.LOWEST_PRECEDENCE, factory);
+    }
+
+    /**
+     * Add a resolver that is only created when a property with the given annotation is first looked up, asked in the
+     * given order. The order cannot be taken from the resolver as it is not created yet, so any order of its own is
+     * ignored and the given order is used instead.
+     *
+     * @param annotationType The annotation every property the resolver supports has. Required.
+     * @param order The order the resolver is asked in, as with {@link Ordered#getOrder()}.
+     * @param factory Creates the resolver. Called at most once. Required.
+     * @throws IllegalStateException if this registry is frozen.
+     */
+    public void addLazyResolver(Class<? extends Annotation> annotationType, int order, Supplier<? extends T> factory) {
+        synchronized (writeLock) {
+            assertNotFrozen();
+            snapshot = snapshot.with(new LazyResolver<T>(annotationType, factory), order);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the resolvers in the order they are asked. Resolvers added lazily are only
+     * included once they are created. Resolvers added or created later are not reflected in it.
      */
     public Set<T> getPropertyResolvers() {
-        return Collections.unmodifiableSet(propertyResolvers);
+        return snapshot.view;
+    }
+
+    /**
+     * Marks this registry as complete. Called once all resolvers are added and before request beans are introspected.
+     * No resolvers can be added afterwards. Resolvers of the same class added more than once are logged, as only the
+     * first of them can ever be used, and from now on every property is checked for more than one supporting resolver
+     * of the same order when it is looked up. Freezing a frozen registry has no effect.
+     */
+    public void freeze() {
+        synchronized (writeLock) {
+            if (frozen) {
+                return;
+            }
+            frozen = true;
+            Snapshot<T> current = snapshot;
+            if (LOGGER.isWarnEnabled()) {
+                Map<Class<?>, Integer> counts = new HashMap<>();
+                for (T resolver : current.view) {
+                    counts.merge(resolver.getClass(), 1, Integer::sum);
+                }
+                counts.forEach((type, count) -> {
+                    if (count > 1) {
+                        LOGGER.warn(count + " resolvers of type " + type.getName() + " are registered. Only the " +
+                            "first one added is used.");
+                    }
+                });
+            }
+        }
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void assertNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Resolvers cannot be added to a frozen registry. Add them before the " +
+                "registry is used to introspect request beans.");
+        }
+    }
+
+    @Nullable
+    private RequestPropertyResolverBase<?, ?> find(Snapshot<T> current, BindingProperty bindingProperty) {
+        Object[] entries = current.entries;
+        for (int i = 0; i < entries.length; i++) {
+            RequestPropertyResolverBase<?, ?> resolver = resolverAt(entries, i, bindingProperty);
+            if (resolver != null && resolver.supports(bindingProperty)) {
+                if (frozen) {
+                    checkForConflicts(current, bindingProperty, i, resolver);
+                }
+                return resolver;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the resolver at the given index, creating it if it was added lazily and the property has its annotation.
+     *
+     * @return The resolver or null if it was added lazily and cannot support the property.
+     */
+    @Nullable
+    private RequestPropertyResolverBase<?, ?> resolverAt(Object[] entries, int index, BindingProperty bindingProperty) {
+        Object entry = entries[index];
+        if (entry instanceof LazyResolver<?> lazyResolver) {
+            if (!bindingProperty.hasAnnotation(lazyResolver.annotationType)) {
+                return null;
+            }
+            return create(lazyResolver);
+        }
+        return (RequestPropertyResolverBase<?, ?>) entry;
+    }
+
+    private RequestPropertyResolverBase<?, ?> create(LazyResolver<?> lazyResolver) {
+        synchronized (writeLock) {
+            RequestPropertyResolverBase<?, ?> resolver = lazyResolver.created;
+            if (resolver == null) {
+                resolver = lazyResolver.factory.get();
+                lazyResolver.created = resolver;
+                snapshot = snapshot.replacing(lazyResolver, resolver);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Created resolver " + resolver.getClass().getName() + " for the first property " +
+                        "annotated with @" + lazyResolver.annotationType.getSimpleName());
+                }
+            }
+            return resolver;
+        }
+    }
+
+    private void checkForConflicts(Snapshot<T> current, BindingProperty bindingProperty, int found,
+                                   RequestPropertyResolverBase<?, ?> foundResolver) {
+        if (!LOGGER.isWarnEnabled()) {
+            return;
+        }
+        Object[] entries = current.entries;
+        int[] orders = current.orders;
+        List<String> conflicts = new ArrayList<>(0);
+        // Resolvers ordered after the one found are deliberately overridden by it. Resolvers added lazily and not
+        // created yet are skipped, as creating them only to log a conflict would defeat adding them lazily.
+        for (int i = found + 1; i < entries.length && orders[i] == orders[found]; i++) {
+            if (entries[i] instanceof RequestPropertyResolverBase<?, ?> resolver && resolver.supports(bindingProperty)) {
+                conflicts.add(resolver.getClass().getName());
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            Member accessor = bindingProperty.getMethodParameter().getMember();
+            LOGGER.warn("The property of " + accessor.getDeclaringClass().getName() + "." + accessor.getName() +
+                " is supported by more than one resolver. Using " + foundResolver.getClass().getName() +
+                " and ignoring " + conflicts + ".");
+        }
+    }
+
+    private static int orderOf(Object resolver) {
+        if (resolver instanceof Ordered ordered) {
+            return ordered.getOrder();
+        }
+        return OrderUtils.getOrder(resolver.getClass(), Ordered.LOWEST_PRECEDENCE);
+    }
+
+    /**
+     * A resolver that is created on first use, along with the annotation that decides when it is used.
+     */
+    private static final class LazyResolver<T extends RequestPropertyResolverBase<?, ?>> {
+        private final Class<? extends Annotation> annotationType;
+        private final Supplier<? extends T> factory;
+        // Only read and written while holding the registry's write lock
+        @Nullable
+        private RequestPropertyResolverBase<?, ?> created;
+
+        private LazyResolver(Class<? extends Annotation> annotationType, Supplier<? extends T> factory) {
+            this.annotationType = annotationType;
+            this.factory = factory;
+        }
+    }
+
+    /**
+     * The resolvers at one point in time, as a set for callers and as an array to find resolvers with. The array also
+     * holds the resolvers added lazily that are not created yet.
+     */
+    private static final class Snapshot<T extends RequestPropertyResolverBase<?, ?>> {
+        private final Set<T> view;
+        private final Object[] entries;
+        private final int[] orders;
+
+        /**
+         * @param entries The resolvers and lazy resolvers, sorted by their orders. Required.
+         * @param orders The order of each entry. Required.
+         */
+        private Snapshot(Object[] entries, int[] orders) {
+            this.entries = entries;
+            this.orders = orders;
+            Set<T> set = CollectionUtils.newLinkedHashSet(entries.length);
+            for (Object entry : entries) {
+                if (!(entry instanceof LazyResolver<?>)) {
+                    set.add(cast(entry));
+                }
+            }
+            this.view = Collections.unmodifiableSet(set);
+        }
+
+        /**
+         * Creates a snapshot with the given resolvers added. Each one is inserted after the resolvers with the same
+         * or a lower order, so resolvers without an order stay in the order they were added. The order of every
+         * resolver is only looked up once, when it is added.
+         */
+        private Snapshot<T> with(Set<T> additions) {
+            Set<T> added = new LinkedHashSet<>(additions);
+            added.removeAll(view);
+            if (added.isEmpty()) {
+                return this;
+            }
+            int size = entries.length;
+            Object[] newEntries = Arrays.copyOf(entries, size + added.size());
+            int[] newOrders = Arrays.copyOf(orders, size + added.size());
+            for (T resolver : added) {
+                insert(newEntries, newOrders, size++, resolver, orderOf(resolver));
+            }
+            return new Snapshot<>(newEntries, newOrders);
+        }
+
+        private Snapshot<T> with(LazyResolver<T> lazyResolver, int order) {
+            int size = entries.length;
+            Object[] newEntries = Arrays.copyOf(entries, size + 1);
+            int[] newOrders = Arrays.copyOf(orders, size + 1);
+            insert(newEntries, newOrders, size, lazyResolver, order);
+            return new Snapshot<>(newEntries, newOrders);
+        }
+
+        /**
+         * Creates a snapshot with the given lazy resolver replaced by the resolver it created.
+         */
+        private Snapshot<T> replacing(LazyResolver<?> lazyResolver, RequestPropertyResolverBase<?, ?> resolver) {
+            Object[] newEntries = entries.clone();
+            for (int i = 0; i < newEntries.length; i++) {
+                if (newEntries[i] == lazyResolver) {
+                    newEntries[i] = resolver;
+                    return new Snapshot<>(newEntries, orders);
+                }
+            }
+            return this;
+        }
+
+        private static void insert(Object[] entries, int[] orders, int size, Object entry, int order) {
+            int position = size;
+            while (position > 0 && orders[position - 1] > order) {
+                position--;
+            }
+            System.arraycopy(entries, position, entries, position + 1, size - position);
+            System.arraycopy(orders, position, orders, position + 1, size - position);
+            entries[position] = entry;
+            orders[position] = order;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T cast(Object resolver) {
+            // Only instances of T and lazy resolvers creating T are ever added to the entries
+            return (T) resolver;
+        }
     }
 }
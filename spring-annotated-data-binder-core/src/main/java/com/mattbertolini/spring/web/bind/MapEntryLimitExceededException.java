@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when a request has more parameters, headers or form fields than can be bound to a map property. Too many
+ * values is a fault of the client, so the request is answered with a 400 Bad Request. The argument resolvers pass it
+ * on as is rather than wrapping it in a {@link RequestPropertyBindingException}.
+ */
+public class MapEntryLimitExceededException extends ResponseStatusException {
+    public MapEntryLimitExceededException(String reason) {
+        super(HttpStatus.BAD_REQUEST, reason);
+    }
+}
@@ -19,6 +19,10 @@ package com.mattbertolini.spring.web.bind;
  * Exception thrown when a known exception is thrown during property resolution.
  */
 public class PropertyResolutionException extends RuntimeException {
+    public PropertyResolutionException(String message) {
+        super(message);
+    }
+
     public PropertyResolutionException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -56,4 +56,15 @@ import java.lang.annotation.Target;
 @Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
-public @interface BeanParameter {}
+public @interface BeanParameter {
+    /**
+     * Bind the request bean of a controller method argument without creating a data binder for it, when nothing a data
+     * binder does is needed: the argument is not validated, has no binding result argument and no
+     * {@code @InitBinder} methods apply to its controller. Arguments that need a data binder, and request beans that
+     * cannot be created and set directly, are bound as usual. Request beans bound directly are not added to the model.
+     * Direct binding can also be enabled for all arguments in the binder configuration. Ignored on nested properties.
+     *
+     * @return Whether to bind the argument directly when possible. Defaults to false.
+     */
+    boolean direct() default false;
+}
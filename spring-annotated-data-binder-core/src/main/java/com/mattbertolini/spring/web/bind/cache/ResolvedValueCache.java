@@ -0,0 +1,268 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.cache;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded cache of values resolved by property resolvers. Values are kept for a fixed time to live, and the least
+ * recently used values are evicted once the cache is full. Null values are cached like any other value, while failed
+ * lookups are not cached at all.
+ *
+ * <p>Cached lookups are a plain read of a concurrent map that records the time of the lookup on the entry without
+ * locking. Eviction only runs on a miss, which loads a value anyway. It removes expired values and then the least
+ * recently used tenth of the cache in one pass, so a full cache is not scanned on every miss. The bound is approximate
+ * as values loaded at the same time may all be added.</p>
+ *
+ * <p>Lookups of a key that is already being loaded wait for that load instead of loading the key again, so a burst of
+ * requests for an uncached key only loads it once.</p>
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public class ResolvedValueCache<K, V> {
+    private final String name;
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentMap<K, CachedValue<V>> values = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name The name of the cache, used to tell caches apart in metrics. Required.
+     * @param maximumSize The maximum number of cached values. Must be greater than zero.
+     * @param timeToLive How long a value is kept after it was loaded. Must be positive.
+     */
+    public ResolvedValueCache(String name, int maximumSize, Duration timeToLive) {
+        this(name, maximumSize, timeToLive, System::nanoTime);
+    }
+
+    ResolvedValueCache(String name, int maximumSize, Duration timeToLive, LongSupplier ticker) {
+        Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+        Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Get the cached value of a key, loading it when it is not cached. The loader is invoked on the calling thread.
+     * Exceptions and errors thrown by the loader are rethrown to every caller waiting for the value.
+     *
+     * @param key The key to look up. Required.
+     * @param loader Loads the value of the key. May return null.
+     * @return The value or null if the loader returned null.
+     */
+    @Nullable
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> value = getAsync(key, k -> {
+            try {
+                return CompletableFuture.completedFuture(loader.apply(k));
+            } catch (Throwable e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Get the cached value of a key, loading it when it is not cached. The value is cached once the stage returned by
+     * the loader completes. An error thrown by the loader fails the lookups waiting for the value and is then rethrown.
+     *
+     * @param key The key to look up. Required.
+     * @param loader Starts loading the value of the key. The stage may complete with null.
+     * @return A future completed with the value. Never null.
+     */
+    public CompletableFuture<V> getAsync(K key, Function<? super K, ? extends CompletionStage<? extends V>> loader) {
+        lookups.increment();
+        CachedValue<V> cached = values.get(key);
+        if (cached != null) {
+            long now = ticker.getAsLong();
+            if (!cached.isExpired(now)) {
+                cached.lastAccess = now;
+                return CompletableFuture.completedFuture(cached.value);
+            }
+            if (values.remove(key, cached)) {
+                evictions.increment();
+            }
+        }
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            return existing;
+        }
+        misses.increment();
+        try {
+            loader.apply(key).whenComplete((value, error) -> complete(key, load, value, error));
+        } catch (RuntimeException e) {
+            complete(key, load, null, e);
+        } catch (Error e) {
+            // Completed before rethrowing, otherwise every later lookup of the key would wait for it forever
+            complete(key, load, null, e);
+            throw e;
+        }
+        return load;
+    }
+
+    /**
+     * Remove all cached values. Loads in progress still complete the lookups waiting for them, but their values are
+     * not cached, and later lookups load the key again.
+     */
+    public void clear() {
+        inFlight.clear();
+        values.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the number of lookups that did not invoke the loader.
+     */
+    public long getHitCount() {
+        return lookups.sum() - misses.sum();
+    }
+
+    /**
+     * @return the number of lookups that invoked the loader.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of values removed because they expired or the cache was full.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of values currently held in the cache, including expired values not yet removed.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    private void complete(K key, CompletableFuture<V> load, @Nullable V value, @Nullable Throwable error) {
+        CachedValue<V> cached = error == null ? put(key, value) : null;
+        // Cached before the load is removed so that later lookups find the value. A load that is no longer in flight
+        // was dropped by clear(), so its value is removed again instead of outliving the clear.
+        if (!inFlight.remove(key, load) && cached != null) {
+            values.remove(key, cached);
+        }
+        if (error == null) {
+            load.complete(value);
+        } else {
+            load.completeExceptionally(error);
+        }
+    }
+
+    private CachedValue<V> put(K key, @Nullable V value) {
+        long now = ticker.getAsLong();
+        if (values.size() >= maximumSize) {
+            evict(now);
+        }
+        CachedValue<V> cached = new CachedValue<>(value, now, now + timeToLiveNanos);
+        values.put(key, cached);
+        return cached;
+    }
+
+    /**
+     * Removes the expired values and, if that does not make room, the least recently used values until at most nine
+     * tenths of the maximum size are left.
+     */
+    private void evict(long now) {
+        // Access times are copied, relative to now, so that lookups during the sort do not change the order
+        List<EvictionCandidate<K, V>> live = new ArrayList<>(values.size());
+        for (Map.Entry<K, CachedValue<V>> entry : values.entrySet()) {
+            CachedValue<V> cached = entry.getValue();
+            if (cached.isExpired(now)) {
+                remove(entry.getKey(), cached);
+            } else {
+                live.add(new EvictionCandidate<>(entry.getKey(), cached, cached.lastAccess - now));
+            }
+        }
+        int excess = live.size() - (maximumSize - Math.max(1, maximumSize / 10));
+        if (excess <= 0) {
+            return;
+        }
+        live.sort(Comparator.comparingLong(EvictionCandidate::lastAccess));
+        for (int i = 0; i < excess; i++) {
+            EvictionCandidate<K, V> candidate = live.get(i);
+            remove(candidate.key(), candidate.value());
+        }
+    }
+
+    private void remove(K key, CachedValue<V> cached) {
+        if (values.remove(key, cached)) {
+            evictions.increment();
+        }
+    }
+
+    private record EvictionCandidate<K, V>(K key, CachedValue<V> value, long lastAccess) {}
+
+    private static final class CachedValue<T> {
+        @Nullable
+        private final T value;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private CachedValue(@Nullable T value, long lastAccess, long expiresAt) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.capture;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The captured traffic of requests bound to one request bean type. Only the first {@value #MAX_NAMES} names seen in
+ * each part of the request are kept so that requests with arbitrary names cannot grow the profile without bound.
+ */
+public final class BeanTrafficProfile {
+    static final int MAX_NAMES = 256;
+
+    private final String beanType;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final Map<RequestPart, ConcurrentMap<String, LengthHistogram>> valueLengths = new EnumMap<>(RequestPart.class);
+    private final LengthHistogram bodySizes = new LengthHistogram();
+
+    BeanTrafficProfile(String beanType) {
+        this.beanType = beanType;
+        for (RequestPart part : RequestPart.values()) {
+            valueLengths.put(part, new ConcurrentHashMap<>());
+        }
+    }
+
+    void record(RequestShape shape) {
+        requestCount.incrementAndGet();
+        for (RequestPart part : RequestPart.values()) {
+            ConcurrentMap<String, LengthHistogram> histograms = histograms(part);
+            shape.valueLengths(part).forEach((name, length) -> {
+                LengthHistogram histogram = histograms.get(name);
+                if (histogram == null && histograms.size() < MAX_NAMES) {
+                    histogram = histograms.computeIfAbsent(name, key -> new LengthHistogram());
+                }
+                if (histogram != null) {
+                    histogram.record(length);
+                }
+            });
+        }
+        if (shape.bodySize() >= 0) {
+            bodySizes.record(shape.bodySize());
+        }
+    }
+
+    /**
+     * @return The fully qualified class name of the request bean.
+     */
+    public String getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * @return The number of requests captured.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * The value lengths of each name seen in a part of the request. The count of a histogram is the number of requests
+     * the name was present in.
+     *
+     * @param part The part of the request.
+     * @return The names sorted alphabetically, mapped to their value lengths.
+     */
+    public Map<String, LengthHistogram> getValueLengths(RequestPart part) {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms(part)));
+    }
+
+    /**
+     * @return The sizes of request bodies with a known length.
+     */
+    public LengthHistogram getBodySizes() {
+        return bodySizes;
+    }
+
+    void setRequestCount(long requestCount) {
+        this.requestCount.set(requestCount);
+    }
+
+    void putValueLengths(RequestPart part, String name, LengthHistogram histogram) {
+        histograms(part).put(name, histogram);
+    }
+
+    void putBodySizes(LengthHistogram histogram) {
+        bodySizes.add(histogram);
+    }
+
+    private ConcurrentMap<String, LengthHistogram> histograms(RequestPart part) {
+        return Objects.requireNonNull(valueLengths.get(part));
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.capture;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the request bean types bound while handling a captured request. A capture filter stores an instance as a
+ * request attribute named {@link #ATTRIBUTE_NAME} and the argument resolvers add each request bean type they bind.
+ */
+public final class CapturedBeanTypes {
+    public static final String ATTRIBUTE_NAME = CapturedBeanTypes.class.getName();
+
+    private final Set<Class<?>> beanTypes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param beanType A request bean type bound for the request. Required.
+     */
+    public void add(Class<?> beanType) {
+        beanTypes.add(beanType);
+    }
+
+    /**
+     * @return The request bean types bound so far.
+     */
+    public Set<Class<?>> getBeanTypes() {
+        return Collections.unmodifiableSet(beanTypes);
+    }
+}
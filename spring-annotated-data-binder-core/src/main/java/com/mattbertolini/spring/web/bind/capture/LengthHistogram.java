@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.capture;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.random.RandomGenerator;
+
+/**
+ * Counts lengths in power of two buckets: bucket 0 holds empty values and bucket {@code i} holds lengths from
+ * {@code 2^(i-1)} to {@code 2^i - 1}. Coarse enough to say nothing about individual values while keeping the overall
+ * distribution.
+ */
+public final class LengthHistogram {
+    static final int BUCKETS = 33;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * @param length The length to count. Negative lengths are counted as empty.
+     */
+    public void record(long length) {
+        counts.incrementAndGet(bucketOf(length));
+    }
+
+    /**
+     * @return The number of lengths recorded.
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * @return The count in each bucket, without trailing empty buckets.
+     */
+    public long[] getBucketCounts() {
+        int size = BUCKETS;
+        while (size > 0 && counts.get(size - 1) == 0) {
+            size--;
+        }
+        long[] bucketCounts = new long[size];
+        for (int i = 0; i < size; i++) {
+            bucketCounts[i] = counts.get(i);
+        }
+        return bucketCounts;
+    }
+
+    /**
+     * Pick a length following the recorded distribution. A bucket is chosen weighted by its count and then a length
+     * uniformly within it.
+     *
+     * @param random The source of randomness. Required.
+     * @return A length, or zero if nothing was recorded.
+     */
+    public long sample(RandomGenerator random) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long target = random.nextLong(total);
+        for (int i = 0; i < BUCKETS; i++) {
+            target -= counts.get(i);
+            if (target < 0) {
+                return i == 0 ? 0 : random.nextLong(lowerBound(i), upperBound(i) + 1);
+            }
+        }
+        return 0;
+    }
+
+    void add(LengthHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.addAndGet(i, other.counts.get(i));
+        }
+    }
+
+    static LengthHistogram of(long[] bucketCounts) {
+        if (bucketCounts.length > BUCKETS) {
+            throw new IllegalArgumentException("At most " + BUCKETS + " buckets are supported");
+        }
+        LengthHistogram histogram = new LengthHistogram();
+        for (int i = 0; i < bucketCounts.length; i++) {
+            histogram.counts.set(i, bucketCounts[i]);
+        }
+        return histogram;
+    }
+
+    static int bucketOf(long length) {
+        if (length <= 0) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(length));
+    }
+
+    static long lowerBound(int bucket) {
+        return bucket == 0 ? 0 : 1L << (bucket - 1);
+    }
+
+    static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.capture;
+
+import java.util.Map;
+
+/**
+ * The shape of a single request: the length of the first value of each parameter, header and cookie, and the size of
+ * the body. No values are kept.
+ *
+ * @param parameters Parameter names mapped to value lengths.
+ * @param headers Header names mapped to value lengths.
+ * @param cookies Cookie names mapped to value lengths.
+ * @param bodySize The body size in bytes or -1 if unknown.
+ */
+public record RequestShape(Map<String, Integer> parameters, Map<String, Integer> headers, Map<String, Integer> cookies,
+                           long bodySize) {
+
+    public RequestShape {
+        parameters = Map.copyOf(parameters);
+        headers = Map.copyOf(headers);
+        cookies = Map.copyOf(cookies);
+    }
+
+    /**
+     * @param part The part of the request.
+     * @return The names in that part mapped to value lengths.
+     */
+    public Map<String, Integer> valueLengths(RequestPart part) {
+        return switch (part) {
+            case PARAMETER -> parameters;
+            case HEADER -> headers;
+            case COOKIE -> cookies;
+        };
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.capture;
+
+import org.springframework.lang.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Request shapes captured per request bean type. The profile is written as a small line based text file:
+ * <pre>
+ * version 1
+ * bean com.example.SearchRequest 1200
+ * body 0,0,0,14,2
+ * parameter q 0,3,40,512,...
+ * header accept 0,0,0,0,0,1200
+ * cookie session 0,0,0,0,0,0,1190
+ * </pre>
+ * Each list is the bucket counts of a {@link LengthHistogram}. Names are URL encoded. No request values are written.
+ */
+public class TrafficProfile {
+    private static final String VERSION = "version 1";
+    private static final String BEAN = "bean";
+    private static final String BODY = "body";
+
+    private final ConcurrentMap<String, BeanTrafficProfile> beans = new ConcurrentHashMap<>();
+
+    /**
+     * Add a request bound to the given request bean type.
+     *
+     * @param beanType The request bean type. Required.
+     * @param shape The shape of the request. Required.
+     */
+    public void record(Class<?> beanType, RequestShape shape) {
+        beans.computeIfAbsent(beanType.getName(), BeanTrafficProfile::new).record(shape);
+    }
+
+    /**
+     * @return The captured traffic of each request bean type, sorted by type name.
+     */
+    public Collection<BeanTrafficProfile> getBeans() {
+        return beans.values().stream()
+            .sorted(Comparator.comparing(BeanTrafficProfile::getBeanType))
+            .toList();
+    }
+
+    /**
+     * @param beanType The fully qualified class name of a request bean.
+     * @return The captured traffic of the request bean type or null if none was captured.
+     */
+    @Nullable
+    public BeanTrafficProfile getBean(String beanType) {
+        return beans.get(beanType);
+    }
+
+    /**
+     * @param path The file to write the profile to, replacing it if it exists. Required.
+     * @throws IOException If the file could not be written.
+     */
+    public void writeTo(Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeTo(writer);
+        }
+    }
+
+    /**
+     * @param writer The writer to write the profile to. Not closed by this method. Required.
+     * @throws IOException If the profile could not be written.
+     */
+    public void writeTo(Writer writer) throws IOException {
+        writer.write("# Request shapes captured per request bean. Only names and value lengths are recorded.\n");
+        writer.write(VERSION + "\n");
+        for (BeanTrafficProfile bean : getBeans()) {
+            writer.write(BEAN + " " + bean.getBeanType() + " " + bean.getRequestCount() + "\n");
+            writer.write(BODY + " " + format(bean.getBodySizes()) + "\n");
+            for (RequestPart part : RequestPart.values()) {
+                for (Map.Entry<String, LengthHistogram> entry : bean.getValueLengths(part).entrySet()) {
+                    writer.write(keyword(part) + " " + URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + " "
+                        + format(entry.getValue()) + "\n");
+                }
+            }
+        }
+    }
+
+    /**
+     * @param path A file written by {@link #writeTo(Path)}. Required.
+     * @return The profile read from the file.
+     * @throws IOException If the file could not be read or is not a traffic profile.
+     */
+    public static TrafficProfile readFrom(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return readFrom(reader);
+        }
+    }
+
+    /**
+     * @param reader A reader of a profile written by {@link #writeTo(Writer)}. Not closed by this method. Required.
+     * @return The profile read.
+     * @throws IOException If the profile could not be read or is not a traffic profile.
+     */
+    public static TrafficProfile readFrom(Reader reader) throws IOException {
+        TrafficProfile profile = new TrafficProfile();
+        BufferedReader lines = new BufferedReader(reader);
+        BeanTrafficProfile bean = null;
+        boolean versionSeen = false;
+        int lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (!versionSeen) {
+                if (!line.equals(VERSION)) {
+                    throw new IOException("Unsupported traffic profile. Expected [" + VERSION + "] but found [" + line + "]");
+                }
+                versionSeen = true;
+                continue;
+            }
+            String[] fields = line.split(" ");
+            try {
+                if (fields[0].equals(BEAN) && fields.length == 3) {
+                    bean = new BeanTrafficProfile(fields[1]);
+                    bean.setRequestCount(Long.parseLong(fields[2]));
+                    profile.beans.put(bean.getBeanType(), bean);
+                } else if (bean == null) {
+                    throw new IOException("Line " + lineNumber + " is not inside a bean: " + line);
+                } else if (fields[0].equals(BODY) && fields.length == 2) {
+                    bean.putBodySizes(parse(fields[1]));
+                } else if (fields.length == 3) {
+                    String name = URLDecoder.decode(fields[1], StandardCharsets.UTF_8);
+                    bean.putValueLengths(part(fields[0]), name, parse(fields[2]));
+                } else {
+                    throw new IOException("Unable to read line " + lineNumber + ": " + line);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unable to read line " + lineNumber + ": " + line, e);
+            }
+        }
+        return profile;
+    }
+
+    private static String format(LengthHistogram histogram) {
+        long[] bucketCounts = histogram.getBucketCounts();
+        if (bucketCounts.length == 0) {
+            return "0";
+        }
+        return Arrays.stream(bucketCounts).mapToObj(Long::toString).collect(Collectors.joining(","));
+    }
+
+    private static LengthHistogram parse(String bucketCounts) {
+        return LengthHistogram.of(Arrays.stream(bucketCounts.split(",")).mapToLong(Long::parseLong).toArray());
+    }
+
+    private static String keyword(RequestPart part) {
+        return part.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static RequestPart part(String keyword) {
+        return RequestPart.valueOf(keyword.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link PropertyValueConverter} that delegates to a {@link ConversionService}. The target {@link TypeDescriptor},
+ * including any formatting annotations like {@code @DateTimeFormat} or {@code @NumberFormat}, is resolved once when the
+ * converter is created. The source type descriptor and whether the conversion is possible are remembered for the last
+ * seen source type, which is almost always the same type for a given property resolver.
+ */
+public final class ConversionServicePropertyValueConverter implements PropertyValueConverter {
+    private final ConversionService conversionService;
+    private final TypeDescriptor targetType;
+    @Nullable
+    private volatile SourceType lastSourceType;
+
+    public ConversionServicePropertyValueConverter(ConversionService conversionService, TypeDescriptor targetType) {
+        this.conversionService = conversionService;
+        this.targetType = targetType;
+    }
+
+    @Override
+    public ConversionService getConversionService() {
+        return conversionService;
+    }
+
+    @Override
+    @Nullable
+    public Object convert(Object source) {
+        SourceType sourceType = getSourceType(source.getClass());
+        if (!sourceType.convertible()) {
+            return null;
+        }
+        try {
+            return conversionService.convert(source, sourceType.descriptor(), targetType);
+        } catch (ConversionException e) {
+            // Let the data binder convert the value again so the failure ends up in the binding result
+            return null;
+        }
+    }
+
+    private SourceType getSourceType(Class<?> sourceClass) {
+        SourceType sourceType = lastSourceType;
+        if (sourceType == null || sourceType.type() != sourceClass) {
+            TypeDescriptor descriptor = TypeDescriptor.valueOf(sourceClass);
+            sourceType = new SourceType(sourceClass, descriptor, conversionService.canConvert(descriptor, targetType));
+            lastSourceType = sourceType;
+        }
+        return sourceType;
+    }
+
+    private record SourceType(Class<?> type, TypeDescriptor descriptor, boolean convertible) {}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import com.mattbertolini.spring.web.bind.annotation.HeaderParameter;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.datetime.standard.DateTimeContextHolder;
+import org.springframework.format.datetime.standard.DateTimeFormatterFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link PropertyValueConverter} for {@code java.time} properties. The {@link DateTimeFormatter} is built once per
+ * property when the converter is created instead of being looked up through the conversion service on each request.
+ * The following cases are handled directly:
+ * <ul>
+ *     <li>Properties annotated with a pattern or ISO based {@link DateTimeFormat}. The same formatter is built as Spring's
+ *     annotation formatter factory would build, and the current locale is applied the same way.</li>
+ *     <li>{@link Instant} properties without {@link DateTimeFormat}, parsed as ISO-8601 or RFC 1123, the same as Spring's
+ *     {@code InstantFormatter}. This is only done when the conversion service parses instants the same way, so a
+ *     custom formatter or converter registered for {@link Instant} is still used.</li>
+ *     <li>Only when enabled, {@link ZonedDateTime} and {@link OffsetDateTime} properties bound from a
+ *     {@link HeaderParameter} without {@link DateTimeFormat}, parsed as RFC 1123 like the {@code If-Modified-Since}
+ *     header. Spring's default formatters do not parse RFC 1123 into these types, so this binds values that would
+ *     otherwise fail to convert, and it bypasses any converter or formatter registered for them.</li>
+ * </ul>
+ * Values that do not parse are passed on to the fallback converter.
+ */
+public final class DateTimePropertyValueConverter implements PropertyValueConverter {
+    private static final Map<Class<?>, BiFunction<CharSequence, DateTimeFormatter, Object>> PARSERS = Map.of(
+        LocalDate.class, LocalDate::parse,
+        LocalTime.class, LocalTime::parse,
+        LocalDateTime.class, LocalDateTime::parse,
+        ZonedDateTime.class, ZonedDateTime::parse,
+        OffsetDateTime.class, OffsetDateTime::parse
+    );
+    private static final Parser INSTANT_PARSER = text -> isRfc1123(text) ?
+        DateTimeFormatter.RFC_1123_DATE_TIME.parse(text, Instant::from) :
+        Instant.parse(text);
+    private static final List<String> INSTANT_SAMPLES = List.of("2008-06-03T11:05:30.123Z", "Tue, 3 Jun 2008 11:05:30 GMT");
+
+    private final Parser parser;
+    private final PropertyValueConverter fallback;
+
+    private DateTimePropertyValueConverter(Parser parser, PropertyValueConverter fallback) {
+        this.parser = parser;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Create a converter for the given property if its type and annotations are supported.
+     *
+     * @param bindingProperty The property to create a converter for. Required.
+     * @param fallback The converter to use for values this converter does not handle. Required.
+     * @return A new converter or null if the property is not supported.
+     */
+    @Nullable
+    public static DateTimePropertyValueConverter forProperty(BindingProperty bindingProperty, PropertyValueConverter fallback) {
+        return forProperty(bindingProperty, fallback, false);
+    }
+
+    /**
+     * Create a converter for the given property if its type and annotations are supported.
+     *
+     * @param bindingProperty The property to create a converter for. Required.
+     * @param fallback The converter to use for values this converter does not handle. Required.
+     * @param rfc1123HeaderDates Whether to parse zoned and offset date times bound from headers as RFC 1123.
+     * @return A new converter or null if the property is not supported.
+     */
+    @Nullable
+    public static DateTimePropertyValueConverter forProperty(BindingProperty bindingProperty, PropertyValueConverter fallback,
+                                                             boolean rfc1123HeaderDates) {
+        Parser parser = parserFor(bindingProperty, fallback.getConversionService(), rfc1123HeaderDates);
+        if (parser == null) {
+            return null;
+        }
+        return new DateTimePropertyValueConverter(parser, fallback);
+    }
+
+    @Override
+    public ConversionService getConversionService() {
+        return fallback.getConversionService();
+    }
+
+    @Override
+    @Nullable
+    public Object convert(Object source) {
+        String text = PropertyValueConverters.singleValue(source);
+        if (StringUtils.hasText(text)) {
+            try {
+                Object value = parser.parse(text);
+                if (value != null) {
+                    return value;
+                }
+            } catch (DateTimeException e) {
+                // Fallback patterns and other formats are handled by the fallback converter
+            }
+        }
+        return fallback.convert(source);
+    }
+
+    @Nullable
+    private static Parser parserFor(BindingProperty bindingProperty, ConversionService conversionService, boolean rfc1123HeaderDates) {
+        Class<?> type = bindingProperty.getType();
+        BiFunction<CharSequence, DateTimeFormatter, Object> parseFunction = PARSERS.get(type);
+        DateTimeFormat annotation = bindingProperty.getAnnotation(DateTimeFormat.class);
+        if (annotation != null) {
+            DateTimeFormatter formatter = createFormatter(annotation);
+            if (parseFunction == null || formatter == null) {
+                return null;
+            }
+            return formatterParser(parseFunction, formatter);
+        }
+        if (Instant.class == type) {
+            return parsesInstantsByDefault(conversionService, bindingProperty.getTypeDescriptor()) ? INSTANT_PARSER : null;
+        }
+        if (rfc1123HeaderDates && parseFunction != null && bindingProperty.hasAnnotation(HeaderParameter.class) &&
+            (ZonedDateTime.class == type || OffsetDateTime.class == type)) {
+            return rfc1123Parser(parseFunction);
+        }
+        return null;
+    }
+
+    /**
+     * Check that the conversion service parses the sample values into the same instants as the direct parser. A
+     * formatter or converter registered for {@link Instant} takes precedence over Spring's {@code InstantFormatter}
+     * and parses at least one of the samples differently or not at all.
+     */
+    private static boolean parsesInstantsByDefault(ConversionService conversionService, TypeDescriptor targetType) {
+        TypeDescriptor sourceType = TypeDescriptor.valueOf(String.class);
+        for (String sample : INSTANT_SAMPLES) {
+            try {
+                if (!Objects.equals(INSTANT_PARSER.parse(sample), conversionService.convert(sample, sourceType, targetType))) {
+                    return false;
+                }
+            } catch (ConversionException | IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Parser formatterParser(BiFunction<CharSequence, DateTimeFormatter, Object> parseFunction, DateTimeFormatter formatter) {
+        return text -> parseFunction.apply(text, DateTimeContextHolder.getFormatter(formatter, LocaleContextHolder.getLocale()));
+    }
+
+    private static Parser rfc1123Parser(BiFunction<CharSequence, DateTimeFormatter, Object> parseFunction) {
+        return text -> isRfc1123(text) ? parseFunction.apply(text, DateTimeFormatter.RFC_1123_DATE_TIME) : null;
+    }
+
+    /**
+     * Build the formatter the same way Spring's {@code Jsr310DateTimeFormatAnnotationFormatterFactory} does. Style
+     * based formats and patterns with placeholders are left to the conversion service as they depend on the context.
+     */
+    @Nullable
+    private static DateTimeFormatter createFormatter(DateTimeFormat annotation) {
+        String pattern = annotation.pattern();
+        if (pattern.contains("${") || pattern.contains("#{")) {
+            return null;
+        }
+        if (!StringUtils.hasLength(pattern) && annotation.iso() == DateTimeFormat.ISO.NONE) {
+            return null;
+        }
+        DateTimeFormatterFactory factory = new DateTimeFormatterFactory();
+        factory.setIso(annotation.iso());
+        if (StringUtils.hasLength(pattern)) {
+            factory.setPattern(pattern);
+        }
+        return factory.createDateTimeFormatter();
+    }
+
+    /**
+     * RFC 1123 dates start with the day of the week, e.g. {@code Tue, 3 Jun 2008 11:05:30 GMT}.
+     */
+    private static boolean isRfc1123(String text) {
+        return Character.isAlphabetic(text.charAt(0));
+    }
+
+    @FunctionalInterface
+    private interface Parser {
+        @Nullable
+        Object parse(String text);
+    }
+}
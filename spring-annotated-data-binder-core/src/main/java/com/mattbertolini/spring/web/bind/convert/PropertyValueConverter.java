@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.lang.Nullable;
+
+/**
+ * Converts a value returned by a property resolver into the type of the bean property it is bound to. Converters are
+ * created once per property by the introspector so the conversion work done on each request is kept to a minimum.
+ */
+public interface PropertyValueConverter {
+    /**
+     * The conversion service this converter was created for. Converted values are only handed to a data binder that is
+     * configured with this same conversion service so the result is the same as if the binder had converted the value
+     * itself.
+     *
+     * @return The conversion service. Never null.
+     */
+    ConversionService getConversionService();
+
+    /**
+     * Convert the given resolved value into the property type.
+     *
+     * @param source The value returned from the property resolver. Required.
+     * @return The converted value or null if the value could not be converted. A null value means the original value
+     * should be passed to the data binder so it can convert it and record any errors in the binding result.
+     */
+    @Nullable
+    Object convert(Object source);
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.lang.Nullable;
+
+/**
+ * Creates the {@link PropertyValueConverter} for a bean property. The introspector calls this factory once per
+ * property so that the conversion decisions are made at startup rather than on every request.
+ */
+public class PropertyValueConverterFactory {
+    private final ConversionService conversionService;
+    private boolean simpleTypeConversion = false;
+    private boolean caseInsensitiveEnums = false;
+    private boolean dateTimeConversion = true;
+    private boolean rfc1123HeaderDates = false;
+
+    public PropertyValueConverterFactory(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    public ConversionService getConversionService() {
+        return conversionService;
+    }
+
+    /**
+     * Enable or disable the direct parsing of primitives, wrapper types, UUIDs and enums. Disabled by default. Only
+     * enable this if the conversion service has no custom converters or formatters registered for any of these types,
+     * as they are bypassed for plain values.
+     *
+     * @param simpleTypeConversion Whether to parse simple types directly.
+     * @see SimpleTypePropertyValueConverter
+     */
+    public void setSimpleTypeConversion(boolean simpleTypeConversion) {
+        this.simpleTypeConversion = simpleTypeConversion;
+    }
+
+    public boolean isSimpleTypeConversion() {
+        return simpleTypeConversion;
+    }
+
+    /**
+     * Match enum constants ignoring case. Disabled by default to match the conversion service behavior. Only applies
+     * when simple type conversion is enabled.
+     *
+     * @param caseInsensitiveEnums Whether to match enum constants ignoring case.
+     */
+    public void setCaseInsensitiveEnums(boolean caseInsensitiveEnums) {
+        this.caseInsensitiveEnums = caseInsensitiveEnums;
+    }
+
+    public boolean isCaseInsensitiveEnums() {
+        return caseInsensitiveEnums;
+    }
+
+    /**
+     * Enable or disable parsing {@code java.time} properties with a formatter built once per property. Enabled by
+     * default.
+     *
+     * @param dateTimeConversion Whether to parse date and time types directly.
+     * @see DateTimePropertyValueConverter
+     */
+    public void setDateTimeConversion(boolean dateTimeConversion) {
+        this.dateTimeConversion = dateTimeConversion;
+    }
+
+    public boolean isDateTimeConversion() {
+        return dateTimeConversion;
+    }
+
+    /**
+     * Parse {@code ZonedDateTime} and {@code OffsetDateTime} properties bound from headers as RFC 1123, like the
+     * {@code If-Modified-Since} header. Disabled by default, as Spring's default formatters reject these values. Only
+     * enable this if the conversion service has no custom converters or formatters registered for these types, as
+     * they are bypassed for RFC 1123 values. Only applies when date and time conversion is enabled.
+     *
+     * @param rfc1123HeaderDates Whether to parse RFC 1123 header dates directly.
+     */
+    public void setRfc1123HeaderDates(boolean rfc1123HeaderDates) {
+        this.rfc1123HeaderDates = rfc1123HeaderDates;
+    }
+
+    public boolean isRfc1123HeaderDates() {
+        return rfc1123HeaderDates;
+    }
+
+    /**
+     * Create a converter for the given binding property.
+     *
+     * @param bindingProperty The property to create a converter for. Required.
+     * @return A converter or null if the values for this property should be left for the data binder to convert.
+     */
+    @Nullable
+    public PropertyValueConverter getConverterFor(BindingProperty bindingProperty) {
+        PropertyValueConverter converter = new ConversionServicePropertyValueConverter(conversionService, bindingProperty.getTypeDescriptor());
+        if (simpleTypeConversion) {
+            PropertyValueConverter simpleTypeConverter = SimpleTypePropertyValueConverter.forProperty(bindingProperty, converter, caseInsensitiveEnums);
+            if (simpleTypeConverter != null) {
+                return simpleTypeConverter;
+            }
+        }
+        if (dateTimeConversion) {
+            PropertyValueConverter dateTimeConverter = DateTimePropertyValueConverter.forProperty(bindingProperty, converter, rfc1123HeaderDates);
+            if (dateTimeConverter != null) {
+                return dateTimeConverter;
+            }
+        }
+        return converter;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.DataBinder;
+
+import java.util.List;
+
+/**
+ * Helper methods for applying the precompiled {@link PropertyValueConverter} of a property before the values are handed
+ * to a {@link DataBinder}.
+ */
+public final class PropertyValueConverters {
+    private PropertyValueConverters() {}
+
+    /**
+     * Convert the given resolved value using the converter attached to the property data. The original value is
+     * returned when the property has no converter, when the binder uses a different conversion service, when the
+     * binder has a custom property editor registered for the property, or when the conversion is not possible. In
+     * those cases the data binder converts the value as usual and records any errors in the binding result.
+     *
+     * @param propertyData The resolved property data. Required.
+     * @param value The value returned from the property resolver. Required.
+     * @param binder The data binder the value will be bound with. Required.
+     * @return The converted value or the original value.
+     */
+    public static Object convertForBinding(ResolvedPropertyData propertyData, Object value, DataBinder binder) {
+        PropertyValueConverter converter = propertyData.valueConverter();
+        if (converter == null || converter.getConversionService() != binder.getConversionService()) {
+            return value;
+        }
+        if (binder.findCustomEditor(propertyData.bindingProperty().getType(), propertyData.propertyName()) != null) {
+            return value;
+        }
+        Object converted = converter.convert(value);
+        return converted != null ? converted : value;
+    }
+
+    /**
+     * Resolvers return single strings, string arrays or lists of strings. The conversion service binds the first
+     * element of an array or collection to a single valued property so the same is done here.
+     *
+     * @param source The resolved value. Required.
+     * @return The single string value or null if the value is not a string, or an array or list of strings.
+     */
+    @Nullable
+    static String singleValue(Object source) {
+        if (source instanceof String string) {
+            return string;
+        }
+        if (source instanceof String[] array) {
+            return array.length > 0 ? array[0] : null;
+        }
+        if (source instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof String string) {
+            return string;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.annotation.NumberFormat;
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * A {@link PropertyValueConverter} for the most commonly bound simple types: primitives, their wrapper types,
+ * {@link UUID} and enums. Values are parsed straight from the resolved {@link String} without going through the
+ * {@link ConversionService}, avoiding the type descriptor lookups and the intermediate objects a generic conversion
+ * creates. Custom converters and formatters registered with the conversion service for these types are bypassed, so
+ * this converter is only used when enabled on the {@link PropertyValueConverterFactory}.
+ *
+ * <p>Only the plain forms are parsed here, e.g. {@code "42"}, {@code "true"} or an exact enum constant name. Anything
+ * else, like hex numbers, surrounding whitespace or empty values, is passed on to the fallback converter so the result
+ * is the same as what the default conversion service would produce. The parsed value is still boxed, as property
+ * values are handed to the data binder as objects, but small integers and booleans come from the JDK caches. Values
+ * that cannot be parsed at all are eventually left for the data binder to convert, which records the error in the
+ * binding result.</p>
+ */
+public final class SimpleTypePropertyValueConverter implements PropertyValueConverter {
+    private final Parser parser;
+    private final PropertyValueConverter fallback;
+
+    private SimpleTypePropertyValueConverter(Parser parser, PropertyValueConverter fallback) {
+        this.parser = parser;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Create a converter for the given property if its type is supported.
+     *
+     * @param bindingProperty The property to create a converter for. Required.
+     * @param fallback The converter to use for values this converter does not handle. Required.
+     * @param caseInsensitiveEnums Whether enum constants are matched ignoring case.
+     * @return A new converter or null if the property type is not supported.
+     */
+    @Nullable
+    public static SimpleTypePropertyValueConverter forProperty(BindingProperty bindingProperty,
+                                                               PropertyValueConverter fallback,
+                                                               boolean caseInsensitiveEnums) {
+        Parser parser = parserFor(bindingProperty, caseInsensitiveEnums);
+        if (parser == null) {
+            return null;
+        }
+        return new SimpleTypePropertyValueConverter(parser, fallback);
+    }
+
+    @Override
+    public ConversionService getConversionService() {
+        return fallback.getConversionService();
+    }
+
+    @Override
+    @Nullable
+    public Object convert(Object source) {
+        String text = PropertyValueConverters.singleValue(source);
+        if (text != null && isPlain(text)) {
+            try {
+                Object value = parser.parse(text);
+                if (value != null) {
+                    return value;
+                }
+            } catch (IllegalArgumentException e) {
+                // Hex numbers, overflows and malformed values. Let the fallback decide what to do with them.
+            }
+        }
+        return fallback.convert(source);
+    }
+
+    /**
+     * Empty values and values with leading or trailing whitespace have special handling in the conversion service.
+     */
+    private static boolean isPlain(String text) {
+        return !text.isEmpty() &&
+            !Character.isWhitespace(text.charAt(0)) &&
+            !Character.isWhitespace(text.charAt(text.length() - 1));
+    }
+
+    @Nullable
+    private static Parser parserFor(BindingProperty bindingProperty, boolean caseInsensitiveEnums) {
+        Class<?> type = bindingProperty.getObjectType();
+        if (Number.class.isAssignableFrom(type) && bindingProperty.hasAnnotation(NumberFormat.class)) {
+            // Formatted numbers are handled by the formatters registered with the conversion service
+            return null;
+        }
+        if (Integer.class == type) {
+            return Integer::valueOf;
+        }
+        if (Long.class == type) {
+            return Long::valueOf;
+        }
+        if (Short.class == type) {
+            return Short::valueOf;
+        }
+        if (Byte.class == type) {
+            return Byte::valueOf;
+        }
+        if (Double.class == type) {
+            return Double::valueOf;
+        }
+        if (Float.class == type) {
+            return Float::valueOf;
+        }
+        if (Boolean.class == type) {
+            return SimpleTypePropertyValueConverter::parseBoolean;
+        }
+        if (UUID.class == type) {
+            return UUID::fromString;
+        }
+        if (type.isEnum()) {
+            return new EnumParser(type, caseInsensitiveEnums);
+        }
+        return null;
+    }
+
+    /**
+     * Mirrors the values accepted by Spring's {@code StringToBooleanConverter}.
+     */
+    @Nullable
+    private static Boolean parseBoolean(String text) {
+        if ("true".equalsIgnoreCase(text) || "on".equalsIgnoreCase(text) || "yes".equalsIgnoreCase(text) || "1".equals(text)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(text) || "off".equalsIgnoreCase(text) || "no".equalsIgnoreCase(text) || "0".equals(text)) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface Parser {
+        @Nullable
+        Object parse(String text);
+    }
+
+    /**
+     * A precomputed lookup table of enum constants by name.
+     */
+    private static final class EnumParser implements Parser {
+        private final Map<String, Object> constants;
+
+        private EnumParser(Class<?> enumType, boolean caseInsensitive) {
+            Map<String, Object> map = caseInsensitive ? new TreeMap<>(String.CASE_INSENSITIVE_ORDER) : new HashMap<>();
+            Object[] enumConstants = enumType.getEnumConstants();
+            if (enumConstants != null) {
+                for (Object constant : enumConstants) {
+                    map.put(((Enum<?>) constant).name(), constant);
+                }
+            }
+            constants = Collections.unmodifiableMap(map);
+        }
+
+        @Override
+        @Nullable
+        public Object parse(String text) {
+            return constants.get(text);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.direct;
+
+import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.Errors;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.SessionAttributes;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.bind.support.WebBindingInitializer;
+import org.springframework.web.method.ControllerAdviceBean;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Decides which handler method parameters are bound without a data binder and holds their {@link DirectBindingPlan}.
+ * A parameter is bound directly when direct binding is enabled for all parameters or the parameter is annotated with
+ * {@code @BeanParameter(direct = true)}, and nothing a data binder would do for it is needed:
+ * <ul>
+ *     <li>the parameter is not validated and is not followed by an {@link Errors} parameter,</li>
+ *     <li>neither the controller nor any controller advice applying to it has {@link InitBinder @InitBinder} methods
+ *     or {@link ModelAttribute @ModelAttribute} methods, which may already have put the request bean in the model,</li>
+ *     <li>the controller has no {@link SessionAttributes @SessionAttributes}, which may hold the request bean from an
+ *     earlier request,</li>
+ *     <li>the binders are initialized by a {@link ConfigurableWebBindingInitializer} with a conversion service, no
+ *     property editor registrars, setter access, declarative binding disabled and nested paths growing, which are the
+ *     defaults, and</li>
+ *     <li>the request bean can be {@linkplain DirectBindingPlan#create created and set directly}.</li>
+ * </ul>
+ * The decision is made once per parameter. Request beans bound directly are not added to the model. The plans of a
+ * request bean type are dropped when the type is {@linkplain #evict(Collection) evicted} from the introspector, and
+ * made again on the next request.
+ */
+public class DirectBinder {
+    private static final Log LOGGER = LogFactory.getLog(DirectBinder.class);
+    // The same methods the handler adapter calls before resolving arguments
+    private static final ReflectionUtils.MethodFilter INIT_BINDER_METHODS =
+        method -> AnnotatedElementUtils.hasAnnotation(method, InitBinder.class);
+    private static final ReflectionUtils.MethodFilter MODEL_ATTRIBUTE_METHODS =
+        method -> !AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class) &&
+            AnnotatedElementUtils.hasAnnotation(method, ModelAttribute.class);
+    private static final ReflectionUtils.MethodFilter BINDER_OR_MODEL_METHODS =
+        method -> INIT_BINDER_METHODS.matches(method) || MODEL_ATTRIBUTE_METHODS.matches(method);
+
+    private final AnnotatedRequestBeanIntrospector introspector;
+    @Nullable
+    private final ConversionService conversionService;
+    private final Supplier<? extends Collection<ControllerAdviceBean>> controllerAdvice;
+    private final boolean directByDefault;
+    private final ConcurrentMap<MethodParameter, Optional<DirectBindingPlan>> plans = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile List<ControllerAdviceBean> binderOrModelAdvice;
+
+    /**
+     * @param introspector The introspector used to look up the properties of a request bean. Required.
+     * @param initializer The initializer of the data binders the request beans would otherwise be bound with.
+     * @param controllerAdvice Finds the controller advice beans. Called once, the first time a parameter is checked,
+     *                         as the advice beans may not all exist yet when the binder is created. Required.
+     * @param directByDefault Whether to bind every eligible parameter directly, or only the ones annotated with
+     *                        {@code @BeanParameter(direct = true)}.
+     */
+    public DirectBinder(AnnotatedRequestBeanIntrospector introspector, @Nullable WebBindingInitializer initializer,
+                        Supplier<? extends Collection<ControllerAdviceBean>> controllerAdvice, boolean directByDefault) {
+        this.introspector = introspector;
+        this.conversionService = directConversionService(initializer);
+        this.controllerAdvice = controllerAdvice;
+        this.directByDefault = directByDefault;
+    }
+
+    /**
+     * Get the plan for binding the request bean of the given handler method parameter directly.
+     *
+     * @param parameter A handler method parameter annotated with {@link BeanParameter}. Required.
+     * @return The plan or null if the parameter is bound with a data binder.
+     */
+    @Nullable
+    public DirectBindingPlan getPlan(MethodParameter parameter) {
+        return plans.computeIfAbsent(parameter, key -> Optional.ofNullable(createPlan(key))).orElse(null);
+    }
+
+    /**
+     * Drop the plans of the given request bean types, so that they no longer hold on to property data the introspector
+     * has evicted.
+     *
+     * @param beanTypes The request bean types evicted from the introspector. Required.
+     */
+    public void evict(Collection<Class<?>> beanTypes) {
+        plans.values().removeIf(plan -> plan.isPresent() && beanTypes.contains(plan.get().getBeanType()));
+    }
+
+    @Nullable
+    private DirectBindingPlan createPlan(MethodParameter parameter) {
+        BeanParameter annotation = parameter.getParameterAnnotation(BeanParameter.class);
+        if (conversionService == null || !(directByDefault || (annotation != null && annotation.direct()))) {
+            return null;
+        }
+        if (parameter.getParameterType() == Optional.class || isValidated(parameter) || isFollowedByErrors(parameter) ||
+            hasSessionAttributes(parameter.getContainingClass()) || hasBinderOrModelMethods(parameter.getContainingClass())) {
+            LOGGER.debug("Parameter " + parameter + " is bound with a data binder as it is optional, validated, may " +
+                "already be in the model or is customized by @InitBinder methods");
+            return null;
+        }
+        Class<?> beanType = parameter.getParameterType();
+        return DirectBindingPlan.create(beanType, introspector.getResolversFor(beanType), conversionService);
+    }
+
+    private static boolean hasSessionAttributes(Class<?> handlerType) {
+        return AnnotatedElementUtils.hasAnnotation(handlerType, SessionAttributes.class);
+    }
+
+    private boolean hasBinderOrModelMethods(Class<?> handlerType) {
+        if (!MethodIntrospector.selectMethods(handlerType, BINDER_OR_MODEL_METHODS).isEmpty()) {
+            return true;
+        }
+        for (ControllerAdviceBean advice : binderOrModelAdvice()) {
+            if (advice.isApplicableToBeanType(handlerType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<ControllerAdviceBean> binderOrModelAdvice() {
+        List<ControllerAdviceBean> advice = binderOrModelAdvice;
+        if (advice == null) {
+            advice = controllerAdvice.get().stream()
+                .filter(bean -> {
+                    Class<?> beanType = bean.getBeanType();
+                    return beanType != null && !MethodIntrospector.selectMethods(beanType, BINDER_OR_MODEL_METHODS).isEmpty();
+                })
+                .toList();
+            binderOrModelAdvice = advice;
+        }
+        return advice;
+    }
+
+    private static boolean isValidated(MethodParameter parameter) {
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            if (ValidationAnnotationUtils.determineValidationHints(annotation) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFollowedByErrors(MethodParameter parameter) {
+        Class<?>[] parameterTypes = parameter.getExecutable().getParameterTypes();
+        int next = parameter.getParameterIndex() + 1;
+        return next < parameterTypes.length && Errors.class.isAssignableFrom(parameterTypes[next]);
+    }
+
+    @Nullable
+    private static ConversionService directConversionService(@Nullable WebBindingInitializer initializer) {
+        if (initializer instanceof ConfigurableWebBindingInitializer configurable &&
+            ObjectUtils.isEmpty(configurable.getPropertyEditorRegistrars()) &&
+            !configurable.isDirectFieldAccess() &&
+            !configurable.isDeclarativeBinding() &&
+            configurable.isAutoGrowNestedPaths()) {
+            return configurable.getConversionService();
+        }
+        return null;
+    }
+}
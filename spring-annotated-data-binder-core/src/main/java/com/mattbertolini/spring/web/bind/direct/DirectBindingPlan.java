@@ -0,0 +1,241 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.direct;
+
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverter;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates a request bean and sets its resolved property values without a data binder. The constructor, the setters
+ * of every property and the getters, setters and constructors of the nested beans on the way to it are looked up
+ * once, when the plan is created.
+ *
+ * <p>Only request beans with a no argument constructor and a setter for every property can be bound this way. A plan
+ * does not record errors: when a value cannot be converted, or a setter fails, {@link #bind(Map)} gives up and the
+ * request bean should be bound by a data binder instead, which records the errors in its binding result.</p>
+ */
+public final class DirectBindingPlan {
+    private static final Log LOGGER = LogFactory.getLog(DirectBindingPlan.class);
+
+    private final Class<?> beanType;
+    private final Collection<ResolvedPropertyData> propertyData;
+    private final Constructor<?> constructor;
+    private final PropertyWriter[] writers;
+    private final ConversionService conversionService;
+
+    private DirectBindingPlan(Class<?> beanType, Collection<ResolvedPropertyData> propertyData, Constructor<?> constructor,
+                              PropertyWriter[] writers, ConversionService conversionService) {
+        this.beanType = beanType;
+        this.propertyData = propertyData;
+        this.constructor = constructor;
+        this.writers = writers;
+        this.conversionService = conversionService;
+    }
+
+    /**
+     * Create a plan for binding the given request bean.
+     *
+     * @param beanType The request bean type. Required.
+     * @param propertyData The introspected properties of the request bean. Required.
+     * @param conversionService Converts the resolved values to the property types. Required.
+     * @return The plan or null if the request bean cannot be bound without a data binder.
+     */
+    @Nullable
+    public static DirectBindingPlan create(Class<?> beanType, Collection<ResolvedPropertyData> propertyData,
+                                           ConversionService conversionService) {
+        Constructor<?> constructor = defaultConstructor(beanType);
+        if (constructor == null) {
+            LOGGER.debug("Request bean " + beanType.getName() + " is bound with a data binder as it has no no " +
+                "argument constructor");
+            return null;
+        }
+        PropertyWriter[] writers = new PropertyWriter[propertyData.size()];
+        int index = 0;
+        for (ResolvedPropertyData data : propertyData) {
+            PropertyWriter writer = PropertyWriter.create(beanType, data);
+            if (writer == null) {
+                LOGGER.debug("Request bean " + beanType.getName() + " is bound with a data binder as property " +
+                    data.propertyName() + " cannot be set directly");
+                return null;
+            }
+            writers[index++] = writer;
+        }
+        return new DirectBindingPlan(beanType, propertyData, constructor, writers, conversionService);
+    }
+
+    public Class<?> getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * @return The introspected properties of the request bean the plan was created with. Never null.
+     */
+    public Collection<ResolvedPropertyData> getPropertyData() {
+        return propertyData;
+    }
+
+    /**
+     * Create the request bean and set the given values on it. Properties without a value are left as they are.
+     *
+     * @param values The resolved values by property name. Required.
+     * @return The request bean or null if a value could not be converted or set.
+     */
+    @Nullable
+    public Object bind(Map<String, Object> values) {
+        Object bean = BeanUtils.instantiateClass(constructor);
+        for (PropertyWriter writer : writers) {
+            Object value = values.get(writer.propertyName);
+            if (value == null) {
+                continue;
+            }
+            Object converted;
+            try {
+                converted = convert(writer, value);
+            } catch (ConversionException e) {
+                return null;
+            }
+            if (converted == null && writer.primitive) {
+                return null;
+            }
+            try {
+                writer.write(bean, converted);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Unable to set property " + writer.propertyName + " of " + beanType.getName(), e);
+                return null;
+            }
+        }
+        return bean;
+    }
+
+    @Nullable
+    private Object convert(PropertyWriter writer, Object value) {
+        PropertyValueConverter converter = writer.valueConverter;
+        if (converter != null && converter.getConversionService() == conversionService) {
+            Object converted = converter.convert(value);
+            if (converted != null) {
+                return converted;
+            }
+        }
+        return conversionService.convert(value, TypeDescriptor.forObject(value), writer.typeDescriptor);
+    }
+
+    @Nullable
+    private static Constructor<?> defaultConstructor(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isRecord()) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            ReflectionUtils.makeAccessible(constructor);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sets one property, creating the nested beans on its path when they are null, the same as a data binder growing
+     * nested paths.
+     */
+    private static final class PropertyWriter {
+        private final String propertyName;
+        private final Method[] nestedGetters;
+        private final Method[] nestedSetters;
+        private final Constructor<?>[] nestedConstructors;
+        private final Method setter;
+        private final TypeDescriptor typeDescriptor;
+        private final boolean primitive;
+        @Nullable
+        private final PropertyValueConverter valueConverter;
+
+        private PropertyWriter(String propertyName, Method[] nestedGetters, Method[] nestedSetters,
+                               Constructor<?>[] nestedConstructors, Method setter, ResolvedPropertyData data) {
+            this.propertyName = propertyName;
+            this.nestedGetters = nestedGetters;
+            this.nestedSetters = nestedSetters;
+            this.nestedConstructors = nestedConstructors;
+            this.setter = setter;
+            this.typeDescriptor = data.bindingProperty().getTypeDescriptor();
+            this.primitive = data.bindingProperty().getType().isPrimitive();
+            this.valueConverter = data.valueConverter();
+        }
+
+        @Nullable
+        private static PropertyWriter create(Class<?> beanType, ResolvedPropertyData data) {
+            String[] path = StringUtils.delimitedListToStringArray(data.propertyName(), ".");
+            List<Method> getters = new ArrayList<>(path.length - 1);
+            List<Method> setters = new ArrayList<>(path.length - 1);
+            List<Constructor<?>> constructors = new ArrayList<>(path.length - 1);
+            Class<?> type = beanType;
+            for (int i = 0; i < path.length - 1; i++) {
+                PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, path[i]);
+                if (descriptor == null || descriptor.getReadMethod() == null || descriptor.getWriteMethod() == null) {
+                    return null;
+                }
+                type = descriptor.getPropertyType();
+                Constructor<?> constructor = defaultConstructor(type);
+                if (constructor == null) {
+                    return null;
+                }
+                getters.add(accessible(descriptor.getReadMethod()));
+                setters.add(accessible(descriptor.getWriteMethod()));
+                constructors.add(constructor);
+            }
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, path[path.length - 1]);
+            if (descriptor == null || descriptor.getWriteMethod() == null) {
+                return null;
+            }
+            return new PropertyWriter(data.propertyName(), getters.toArray(new Method[0]), setters.toArray(new Method[0]),
+                constructors.toArray(new Constructor<?>[0]), accessible(descriptor.getWriteMethod()), data);
+        }
+
+        private static Method accessible(Method method) {
+            ReflectionUtils.makeAccessible(method);
+            return method;
+        }
+
+        private void write(Object bean, @Nullable Object value) {
+            Object target = bean;
+            for (int i = 0; i < nestedGetters.length; i++) {
+                Object nested = ReflectionUtils.invokeMethod(nestedGetters[i], target);
+                if (nested == null) {
+                    nested = BeanUtils.instantiateClass(nestedConstructors[i]);
+                    ReflectionUtils.invokeMethod(nestedSetters[i], target, nested);
+                }
+                target = nested;
+            }
+            ReflectionUtils.invokeMethod(setter, target, value);
+        }
+    }
+}
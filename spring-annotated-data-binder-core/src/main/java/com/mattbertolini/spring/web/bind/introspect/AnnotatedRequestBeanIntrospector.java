@@ -43,4 +43,14 @@ public interface AnnotatedRequestBeanIntrospector {
         Map<String, ResolvedPropertyData> propertyData = getResolverMapFor(targetType);
         return Collections.unmodifiableCollection(propertyData.values());
     }
+
+    /**
+     * Releases anything kept for the given request bean types. Called by caches when they no longer hold the types,
+     * so that an introspector keeping results of its own does not outgrow the cache. Types not introspected are
+     * ignored. Does nothing by default.
+     *
+     * @param targetTypes The request bean types to release. Required.
+     */
+    default void evict(Collection<Class<?>> targetTypes) {
+    }
 }
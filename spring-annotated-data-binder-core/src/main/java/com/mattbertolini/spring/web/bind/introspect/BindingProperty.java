@@ -16,13 +16,14 @@
 package com.mattbertolini.spring.web.bind.introspect;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.Property;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
-import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 /**
  * An abstraction around a Java bean property that contains reflection information used by the data binder. This class
@@ -32,10 +33,13 @@ import java.util.Objects;
 public final class BindingProperty {
     private final TypeDescriptor typeDescriptor;
     private final MethodParameter methodParameter;
+    // Binding properties are used as map keys by resolvers and converters on every request
+    private final int hashCode;
 
     private BindingProperty(TypeDescriptor typeDescriptor, MethodParameter methodParameter) {
         this.typeDescriptor = typeDescriptor;
         this.methodParameter = methodParameter;
+        this.hashCode = computeHashCode();
     }
 
     @Nullable
@@ -55,6 +59,10 @@ public final class BindingProperty {
         return typeDescriptor.getType();
     }
 
+    public TypeDescriptor getTypeDescriptor() {
+        return typeDescriptor;
+    }
+
     public boolean hasAnnotation(Class<? extends Annotation> annotationType) {
         return typeDescriptor.hasAnnotation(annotationType);
     }
@@ -67,15 +75,29 @@ public final class BindingProperty {
      * @return A new BindingProperty object.
      */
     public static BindingProperty forPropertyDescriptor(PropertyDescriptor propertyDescriptor) {
+        return forPropertyDescriptor(propertyDescriptor, UnaryOperator.identity());
+    }
+
+    /**
+     * Same as {@link #forPropertyDescriptor(PropertyDescriptor)} but the type descriptor is passed through the given
+     * function, so that equal type descriptors of different properties can share their annotations. The function must
+     * return a type descriptor with the same resolvable type, whose source is the method parameter of this property.
+     */
+    static BindingProperty forPropertyDescriptor(PropertyDescriptor propertyDescriptor,
+                                                 UnaryOperator<TypeDescriptor> typeDescriptors) {
         Property property = new Property(
             propertyDescriptor.getPropertyType(),
             propertyDescriptor.getReadMethod(),
             propertyDescriptor.getWriteMethod()
         );
-        TypeDescriptor typeDescriptor = new TypeDescriptor(property);
         MethodParameter methodParameter = resolveMethodParameter(property);
+        // A type descriptor created from the property holds a method parameter of its own. Creating it again from the
+        // method parameter kept here, with the annotations merged from the field and accessors, holds one less.
+        TypeDescriptor propertyTypeDescriptor = new TypeDescriptor(property);
+        TypeDescriptor typeDescriptor = new TypeDescriptor(ResolvableType.forMethodParameter(methodParameter),
+            propertyTypeDescriptor.getType(), propertyTypeDescriptor.getAnnotations());
 
-        return new BindingProperty(typeDescriptor, methodParameter);
+        return new BindingProperty(typeDescriptors.apply(typeDescriptor), methodParameter);
     }
 
     /**
@@ -122,12 +144,17 @@ public final class BindingProperty {
         if (this == o) return true;
         if (!(o instanceof BindingProperty)) return false;
         BindingProperty that = (BindingProperty) o;
-        return Objects.equals(typeDescriptor, that.typeDescriptor) &&
-            Objects.equals(methodParameter, that.methodParameter);
+        return hashCode == that.hashCode &&
+            typeDescriptor.equals(that.typeDescriptor) &&
+            methodParameter.equals(that.methodParameter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(typeDescriptor, methodParameter);
+        return hashCode;
+    }
+
+    private int computeHashCode() {
+        return 31 * typeDescriptor.hashCode() + methodParameter.hashCode();
     }
 }
@@ -15,21 +15,251 @@
  */
 package com.mattbertolini.spring.web.bind.introspect;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
+/**
+ * Caches the property data of each request bean type. Cached lookups are a plain read of a concurrent map. The first
+ * lookup of a type introspects it without holding a lock on the map, so introspecting one type never holds up lookups
+ * or introspection of other types. Threads that look up a type while it is being introspected wait for that result
+ * instead of introspecting it again.
+ *
+ * <p>The cache can be given a maximum size to bound its memory when request bean types are not known up front. Once
+ * the cache is full the least recently looked up tenth of the cache is evicted in one pass to make room for new types,
+ * so a full cache is not scanned for every new type. The bound is approximate as types introspected at the same time
+ * may all be added. Lookups only record their time when the cache has a maximum size. Evicted types are also
+ * {@linkplain AnnotatedRequestBeanIntrospector#evict(Collection) evicted} from the delegate, so that the nested types
+ * {@link DefaultAnnotatedRequestBeanIntrospector} shares across request beans are bounded along with the cache, and
+ * {@linkplain #addEvictionListener(Consumer) eviction listeners} are told about them so that anything else kept for
+ * them can be released too.</p>
+ */
 public class CachedAnnotatedRequestBeanIntrospector implements AnnotatedRequestBeanIntrospector {
+    private static final Log LOGGER = LogFactory.getLog(CachedAnnotatedRequestBeanIntrospector.class);
+
     private final AnnotatedRequestBeanIntrospector delegate;
-    private final ConcurrentMap<Class<?>, Map<String, ResolvedPropertyData>> cache;
+    private final ConcurrentMap<Class<?>, CachedEntry> cache;
+    private final ConcurrentMap<Class<?>, CompletableFuture<Map<String, ResolvedPropertyData>>> inFlight;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicBoolean fullLogged = new AtomicBoolean();
+    private final List<Consumer<Collection<Class<?>>>> evictionListeners = new CopyOnWriteArrayList<>();
+    private final LongSupplier ticker;
+    private volatile int maximumSize = -1;
 
     public CachedAnnotatedRequestBeanIntrospector(AnnotatedRequestBeanIntrospector delegate) {
+        this(delegate, System::nanoTime);
+    }
+
+    CachedAnnotatedRequestBeanIntrospector(AnnotatedRequestBeanIntrospector delegate, LongSupplier ticker) {
         this.delegate = delegate;
+        this.ticker = ticker;
         cache = new ConcurrentHashMap<>();
+        inFlight = new ConcurrentHashMap<>();
     }
 
     @Override
     public Map<String, ResolvedPropertyData> getResolverMapFor(Class<?> targetType) {
-        return cache.computeIfAbsent(targetType, delegate::getResolverMapFor);
+        lookups.increment();
+        CachedEntry cached = cache.get(targetType);
+        if (cached != null) {
+            // Recency only matters for choosing what to evict, so an unbounded cache does not track it
+            if (maximumSize > 0) {
+                cached.lastAccess = ticker.getAsLong();
+            }
+            return cached.propertyData;
+        }
+        return introspectOnce(targetType);
+    }
+
+    /**
+     * Removes the given types from the cache and lets the delegate introspector release anything it keeps for them.
+     * They are introspected again when next looked up.
+     */
+    @Override
+    public void evict(Collection<Class<?>> targetTypes) {
+        for (Class<?> targetType : targetTypes) {
+            cache.remove(targetType);
+        }
+        evicted(targetTypes);
+    }
+
+    /**
+     * Add a listener that is called with the types evicted from the cache, whether evicted explicitly or to make room
+     * for a new type. Called on the evicting thread, after the types are removed from the cache.
+     *
+     * @param listener Receives the evicted types. Required.
+     */
+    public void addEvictionListener(Consumer<Collection<Class<?>>> listener) {
+        evictionListeners.add(listener);
+    }
+
+    /**
+     * Set the maximum number of request bean types held in the cache. Unbounded by default.
+     *
+     * @param maximumSize The maximum number of cached types, or a negative number for no maximum.
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return the maximum number of cached types, negative when unbounded.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the number of lookups that were served from the cache.
+     */
+    public long getHitCount() {
+        return lookups.sum() - misses.sum();
+    }
+
+    /**
+     * @return the number of lookups that required the delegate introspector to be invoked.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return an unmodifiable snapshot of the cached property data keyed by request bean type.
+     */
+    public Map<Class<?>, Map<String, ResolvedPropertyData>> getCachedEntries() {
+        Map<Class<?>, Map<String, ResolvedPropertyData>> entries = CollectionUtils.newLinkedHashMap(cache.size());
+        for (Map.Entry<Class<?>, CachedEntry> entry : cache.entrySet()) {
+            entries.put(entry.getKey(), entry.getValue().propertyData);
+        }
+        return Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * @return the number of request bean types currently held in the cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private Map<String, ResolvedPropertyData> introspectOnce(Class<?> targetType) {
+        CompletableFuture<Map<String, ResolvedPropertyData>> pending = new CompletableFuture<>();
+        CompletableFuture<Map<String, ResolvedPropertyData>> existing = inFlight.putIfAbsent(targetType, pending);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            // Another thread may have cached the type between the cache check and claiming it
+            CachedEntry cached = cache.get(targetType);
+            Map<String, ResolvedPropertyData> propertyData;
+            if (cached != null) {
+                propertyData = cached.propertyData;
+            } else {
+                misses.increment();
+                propertyData = delegate.getResolverMapFor(targetType);
+                put(targetType, propertyData);
+            }
+            pending.complete(propertyData);
+            return propertyData;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(targetType, pending);
+        }
+    }
+
+    private void put(Class<?> targetType, Map<String, ResolvedPropertyData> propertyData) {
+        int max = maximumSize;
+        if (max == 0) {
+            return;
+        }
+        if (max > 0 && cache.size() >= max) {
+            if (fullLogged.compareAndSet(false, true)) {
+                LOGGER.warn("Request bean introspection cache is full with " + max + " types. The least recently " +
+                    "looked up types are evicted and introspected again when next looked up.");
+            }
+            evictLeastRecentlyUsed(max);
+        }
+        cache.put(targetType, new CachedEntry(propertyData, max > 0 ? ticker.getAsLong() : 0));
+    }
+
+    /**
+     * Evicts the types looked up longest ago until at most nine tenths of the maximum size are left, like
+     * {@code ResolvedValueCache}. Only runs on a miss, which introspects a type anyway.
+     */
+    private void evictLeastRecentlyUsed(int max) {
+        // Access times are copied, relative to now, so that lookups during the sort do not change the order
+        long now = ticker.getAsLong();
+        List<EvictionCandidate> candidates = new ArrayList<>(cache.size());
+        for (Map.Entry<Class<?>, CachedEntry> entry : cache.entrySet()) {
+            candidates.add(new EvictionCandidate(entry.getKey(), entry.getValue(), entry.getValue().lastAccess - now));
+        }
+        int excess = candidates.size() - (max - Math.max(1, max / 10));
+        if (excess <= 0) {
+            return;
+        }
+        candidates.sort(Comparator.comparingLong(EvictionCandidate::lastAccess));
+        List<Class<?>> evictedTypes = new ArrayList<>(excess);
+        for (int i = 0; i < excess; i++) {
+            EvictionCandidate candidate = candidates.get(i);
+            if (cache.remove(candidate.targetType(), candidate.entry())) {
+                evictedTypes.add(candidate.targetType());
+            }
+        }
+        if (!evictedTypes.isEmpty()) {
+            evicted(evictedTypes);
+        }
+    }
+
+    private void evicted(Collection<Class<?>> targetTypes) {
+        delegate.evict(targetTypes);
+        for (Consumer<Collection<Class<?>>> listener : evictionListeners) {
+            listener.accept(targetTypes);
+        }
+    }
+
+    private static Map<String, ResolvedPropertyData> await(CompletableFuture<Map<String, ResolvedPropertyData>> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            // Rethrow the failure of the introspecting thread as is, e.g. a CircularReferenceException
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record EvictionCandidate(Class<?> targetType, CachedEntry entry, long lastAccess) {}
+
+    private static final class CachedEntry {
+        private final Map<String, ResolvedPropertyData> propertyData;
+        // Written without synchronization on every hit, so recency is approximate under contention
+        private volatile long lastAccess;
+
+        private CachedEntry(Map<String, ResolvedPropertyData> propertyData, long lastAccess) {
+            this.propertyData = propertyData;
+            this.lastAccess = lastAccess;
+        }
     }
 }
@@ -16,6 +16,7 @@
 package com.mattbertolini.spring.web.bind.introspect;
 
 import com.mattbertolini.spring.web.bind.annotation.RequestBean;
+import com.mattbertolini.spring.web.bind.jfr.RequestBeanScanEvent;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -23,12 +24,24 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class ClassPathScanningAnnotatedRequestBeanIntrospector implements AnnotatedRequestBeanIntrospector, InitializingBean {
     private static final Log LOGGER = LogFactory.getLog(ClassPathScanningAnnotatedRequestBeanIntrospector.class);
@@ -36,8 +49,26 @@ public class ClassPathScanningAnnotatedRequestBeanIntrospector implements Annota
     private final ClassPathScanningCandidateComponentProvider scanner;
     private final CachedAnnotatedRequestBeanIntrospector introspectorCache;
     private final Set<String> basePackages;
+    @Nullable
+    private final RequestBeanIndex index;
+    private final Map<String, Duration> scanDurations = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, Duration> introspectionDurations = Collections.synchronizedMap(new LinkedHashMap<>());
+    private int scanThreads = 1;
     
+    /**
+     * Find request beans in the given packages from the {@link RequestBeanIndex} on the class path, or by scanning the
+     * class path when there is no index.
+     */
     public ClassPathScanningAnnotatedRequestBeanIntrospector(AnnotatedRequestBeanIntrospector delegate, @Nullable Set<String> basePackages) {
+        this(delegate, basePackages, RequestBeanIndex.load(ClassPathScanningAnnotatedRequestBeanIntrospector.class.getClassLoader()));
+    }
+
+    /**
+     * Find request beans in the given packages from the given index, or by scanning the class path when it is null.
+     */
+    public ClassPathScanningAnnotatedRequestBeanIntrospector(AnnotatedRequestBeanIntrospector delegate, @Nullable Set<String> basePackages,
+                                                             @Nullable RequestBeanIndex index) {
+        this.index = index;
         this.basePackages = new HashSet<>();
         if (basePackages != null) {
             this.basePackages.addAll(basePackages);
@@ -52,32 +83,158 @@ public class ClassPathScanningAnnotatedRequestBeanIntrospector implements Annota
         return introspectorCache.getResolverMapFor(targetType);
     }
 
+    @Override
+    public void evict(Collection<Class<?>> targetTypes) {
+        introspectorCache.evict(targetTypes);
+    }
+
+    /**
+     * Set the number of threads used to load and introspect the request beans found in each package. Searching the
+     * class path is always done on the calling thread. Defaults to 1, introspecting on the calling thread.
+     *
+     * @param scanThreads The number of introspection threads. Must be greater than zero.
+     */
+    public void setScanThreads(int scanThreads) {
+        Assert.isTrue(scanThreads > 0, "Scan threads must be greater than zero");
+        this.scanThreads = scanThreads;
+    }
+
+    /**
+     * @return true if request beans are read from an index instead of scanning the class path.
+     */
+    public boolean isIndexed() {
+        return index != null;
+    }
+
+    /**
+     * @return the cache backing this introspector, e.g. for exposing its statistics.
+     */
+    public CachedAnnotatedRequestBeanIntrospector getIntrospectorCache() {
+        return introspectorCache;
+    }
+
+    /**
+     * @return the time taken to scan and introspect each base package, in scan order. Empty until
+     * {@link #afterPropertiesSet()} has been called.
+     */
+    public Map<String, Duration> getScanDurations() {
+        synchronized (scanDurations) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(scanDurations));
+        }
+    }
+
+    /**
+     * @return the part of each base package's scan duration spent loading and introspecting the classes found, in scan
+     * order. The rest of the scan duration is spent searching the class path. Empty until {@link #afterPropertiesSet()}
+     * has been called.
+     */
+    public Map<String, Duration> getIntrospectionDurations() {
+        synchronized (introspectionDurations) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(introspectionDurations));
+        }
+    }
+
     @Override
     public void afterPropertiesSet() {
-        for (String basePackage : basePackages) {
-            scanAndLoadRequestBeans(basePackage);
+        if (scanThreads == 1) {
+            for (String basePackage : basePackages) {
+                scanAndLoadRequestBeans(basePackage, null);
+            }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(scanThreads, scanThreadFactory());
+        try {
+            for (String basePackage : basePackages) {
+                scanAndLoadRequestBeans(basePackage, executor);
+            }
+        } finally {
+            executor.shutdownNow();
         }
     }
 
-    private void scanAndLoadRequestBeans(String basePackage) {
+    private void scanAndLoadRequestBeans(String basePackage, @Nullable ExecutorService executor) {
+        RequestBeanScanEvent event = new RequestBeanScanEvent();
+        event.begin();
+        long start = System.nanoTime();
         ClassLoader classLoader = ClassPathScanningAnnotatedRequestBeanIntrospector.class.getClassLoader();
+        Collection<String> candidates = findCandidates(basePackage);
+        LOGGER.debug("Found " + candidates.size() + " annotated classes in package [" + basePackage + "]");
+        long introspectionStart = System.nanoTime();
+        List<Future<?>> introspections = new ArrayList<>(candidates.size());
+        for (String beanClassName : candidates) {
+            if (executor == null) {
+                loadRequestBean(beanClassName, classLoader);
+            } else {
+                introspections.add(executor.submit(() -> loadRequestBean(beanClassName, classLoader)));
+            }
+        }
+        awaitAll(introspections);
+        long end = System.nanoTime();
+        introspectionDurations.put(basePackage, Duration.ofNanos(end - introspectionStart));
+        scanDurations.put(basePackage, Duration.ofNanos(end - start));
+        event.end();
+        if (event.shouldCommit()) {
+            event.setBasePackage(basePackage);
+            event.setRequestBeanCount(candidates.size());
+            event.commit();
+        }
+    }
+
+    private Collection<String> findCandidates(String basePackage) {
+        // Package patterns such as com.example.**.web can only be resolved by scanning
+        if (index != null && !basePackage.contains("*")) {
+            LOGGER.debug("Reading @RequestBean annotated classes in package [" + basePackage + "] from the index");
+            Set<String> indexed = index.getRequestBeans(basePackage);
+            if (indexed.isEmpty()) {
+                // Any index on the class path turns scanning off, including for jars built without the indexer
+                LOGGER.warn("The request bean index lists no classes in package [" + basePackage + "], so none are " +
+                    "introspected at startup. If the package holds request beans compiled without the indexer, set " +
+                    "the " + RequestBeanIndex.IGNORE_INDEX_PROPERTY + " property to true to scan for them instead.");
+            }
+            return indexed;
+        }
         LOGGER.debug("Searching for @RequestBean annotated classes in package [" + basePackage + "]");
         Set<BeanDefinition> candidateComponents = scanner.findCandidateComponents(basePackage);
-        LOGGER.debug("Found " + candidateComponents.size() + " annotated classes in package [" + basePackage + "]");
+        List<String> beanClassNames = new ArrayList<>(candidateComponents.size());
         for (BeanDefinition candidateComponent : candidateComponents) {
             String beanClassName = candidateComponent.getBeanClassName();
-            if (!StringUtils.hasText(beanClassName)) {
-                continue;
+            if (StringUtils.hasText(beanClassName)) {
+                beanClassNames.add(beanClassName);
             }
+        }
+        return beanClassNames;
+    }
+
+    private void loadRequestBean(String beanClassName, ClassLoader classLoader) {
+        try {
+            LOGGER.debug("Introspecting request bean " + beanClassName);
+            Class<?> clazz = ClassUtils.forName(beanClassName, classLoader);
+            // Invoking cache getResolverMapFor will trigger the delegate introspector and save data into the cache.
+            introspectorCache.getResolverMapFor(clazz);
+        } catch (Exception e) {
+            throw new RequestBeanIntrospectionException("Unable to introspect request bean of type " + beanClassName + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> introspections) {
+        for (Future<?> introspection : introspections) {
             try {
-                LOGGER.debug("Introspecting request bean " + beanClassName);
-                Class<?> clazz = ClassUtils.forName(beanClassName, classLoader);
-                // Invoking cache getResolverMapFor will trigger the delegate introspector and save data into the cache.
-                introspectorCache.getResolverMapFor(clazz);
-            } catch (Exception e) {
-                throw new RequestBeanIntrospectionException("Unable to introspect request bean of type " + beanClassName + ": " + e.getMessage(), e);
+                introspection.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RequestBeanIntrospectionException("Interrupted while introspecting request beans", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new RequestBeanIntrospectionException("Unable to introspect request beans: " + e.getMessage(), e);
             }
-
         }
     }
+
+    private static CustomizableThreadFactory scanThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("request-bean-scan-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
 }
@@ -17,92 +17,386 @@ package com.mattbertolini.spring.web.bind.introspect;
 
 import com.mattbertolini.spring.web.bind.AbstractPropertyResolverRegistry;
 import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverter;
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverterFactory;
+import com.mattbertolini.spring.web.bind.jfr.RequestBeanIntrospectionEvent;
 import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
 
 import java.beans.PropertyDescriptor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The main request bean introspector. This contains the logic on determining which request resolvers are attached to
  * which bean properties.
+ * <p>
+ * Each type is introspected once and the result is reused by every request bean the type is nested in, so
+ * introspection grows with the number of distinct types rather than the number of request beans. The results are
+ * kept until the request beans using them are {@linkplain #evict(Collection) evicted}, which
+ * {@link CachedAnnotatedRequestBeanIntrospector} does for the types it no longer holds.
  */
 public class DefaultAnnotatedRequestBeanIntrospector implements AnnotatedRequestBeanIntrospector {
-    
+    /**
+     * Value for {@link #setMaximumDepth(int)} and {@link #setMaximumProperties(int)} to turn the limit off.
+     */
+    public static final int UNLIMITED = -1;
+
     private final AbstractPropertyResolverRegistry<?> registry;
+    @Nullable
+    private final PropertyValueConverterFactory converterFactory;
+    private final MetadataInterner interner = new MetadataInterner();
+    private final ConcurrentMap<Class<?>, Plan> plans = new ConcurrentHashMap<>();
+    // The types each request bean uses the plans of and how many request beans use each type. Only changed while
+    // holding the lock on requestBeans.
+    private final ConcurrentMap<Class<?>, Set<Class<?>>> requestBeans = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Integer> planUsers = new HashMap<>();
+    private volatile int maximumDepth = UNLIMITED;
+    private volatile int maximumProperties = UNLIMITED;
 
     public DefaultAnnotatedRequestBeanIntrospector(AbstractPropertyResolverRegistry<?> registry) {
+        this(registry, null);
+    }
+
+    /**
+     * Create an introspector that also resolves a {@link PropertyValueConverter} for every property it finds. The
+     * converters are used to convert resolved request values before they are handed to the data binder.
+     *
+     * @param registry The registry of property resolvers. Required.
+     * @param converterFactory The factory to create property value converters with. Optional.
+     */
+    public DefaultAnnotatedRequestBeanIntrospector(AbstractPropertyResolverRegistry<?> registry,
+                                                   @Nullable PropertyValueConverterFactory converterFactory) {
         this.registry = registry;
+        this.converterFactory = converterFactory;
     }
 
     /**
-     * Creates a map of resolved property data for the given target class. This method traverses the object graph for
-     * the given type recursively. Circular references are not allowed as they will cause stack overflow errors.
+     * Set how many levels of {@link BeanParameter} properties a request bean may nest. A request bean with only
+     * request properties has a depth of zero and each level of nested beans adds one. Unlimited by default.
+     *
+     * @param maximumDepth The maximum depth, or a negative number such as {@link #UNLIMITED} for no maximum.
+     */
+    public void setMaximumDepth(int maximumDepth) {
+        this.maximumDepth = maximumDepth;
+    }
+
+    public int getMaximumDepth() {
+        return maximumDepth;
+    }
+
+    /**
+     * Set how many resolved properties a request bean may have, counting the properties of all nested beans.
+     * Unlimited by default.
+     *
+     * @param maximumProperties The maximum number of properties, or a negative number such as {@link #UNLIMITED}
+     *                          for no maximum.
+     */
+    public void setMaximumProperties(int maximumProperties) {
+        this.maximumProperties = maximumProperties;
+    }
+
+    public int getMaximumProperties() {
+        return maximumProperties;
+    }
+
+    /**
+     * Creates a map of resolved property data for the given target class. This method walks the object graph for the
+     * given type, following {@link BeanParameter} properties into nested beans. Circular references are not allowed
+     * as the nested beans would never end.
      *
      * @param targetType The class or type to get property resolver data for. Required.
      * @return A map of resolved property data. This map is never null but may be empty.
      * @throws CircularReferenceException If a circular reference is found while traversing the object graph.
+     * @throws IntrospectionLimitException If the type nests too deep or has too many properties.
      */
     @Override
     public Map<String, ResolvedPropertyData> getResolverMapFor(Class<?> targetType) {
-        Set<Class<?>> cycleClasses = new LinkedHashSet<>();
-        Map<String, ResolvedPropertyData> propertyData = new HashMap<>();
-        recursiveGetResolverMapFor(targetType, null, propertyData, cycleClasses);
+        RequestBeanIntrospectionEvent event = new RequestBeanIntrospectionEvent();
+        event.begin();
+        List<ResolvedPropertyData> properties = getPlanFor(targetType).properties();
+        Map<String, ResolvedPropertyData> propertyData = CollectionUtils.newLinkedHashMap(properties.size());
+        for (ResolvedPropertyData data : properties) {
+            propertyData.put(data.propertyName(), data);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setBeanType(targetType);
+            event.setPropertyCount(propertyData.size());
+            event.commit();
+        }
         return Collections.unmodifiableMap(propertyData);
     }
 
-    private void recursiveGetResolverMapFor(final Class<?> targetType,
-                                            @Nullable final String prefix,
-                                            Map<String, ResolvedPropertyData> propertyData,
-                                            final Set<Class<?>> cycleClasses) {
-        PropertyDescriptor[] propertyDescriptors;
-        try {
-            propertyDescriptors = BeanUtils.getPropertyDescriptors(targetType);
-        } catch (BeansException e) {
-            throw new RequestBeanIntrospectionException("Unable to introspect request bean of type " +
-                targetType.getName() + ": " + e.getMessage(), e);
+    /**
+     * Releases the plans only used by the given request beans, along with the property paths and annotations no other
+     * plan shares. Plans of types still used by other request beans are kept.
+     *
+     * @param targetTypes The request bean types to evict. Required.
+     */
+    @Override
+    public void evict(Collection<Class<?>> targetTypes) {
+        synchronized (requestBeans) {
+            for (Class<?> targetType : targetTypes) {
+                Set<Class<?>> types = requestBeans.remove(targetType);
+                if (types == null) {
+                    continue;
+                }
+                for (Class<?> type : types) {
+                    if (planUsers.merge(type, -1, Integer::sum) <= 0) {
+                        planUsers.remove(type);
+                        Plan plan = plans.remove(type);
+                        if (plan != null) {
+                            interner.release(plan.properties());
+                        }
+                    }
+                }
+            }
         }
-        for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-            String propertyName = getPropertyName(prefix, propertyDescriptor);
-            BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(propertyDescriptor);
+    }
+
+    /**
+     * Gets the plan of the given type, building the plans of the type and any nested types not seen before. A plan is
+     * the list of resolved properties with names relative to its type. It is built once per type and reused wherever
+     * the type is found, as the root of a request bean or nested under any number of {@link BeanParameter}
+     * properties. Only the property names differ between those places, so a nested type is added to its parent by
+     * prefixing the names while the binding properties, resolvers and converters are shared.
+     * <p>
+     * The object graph is walked with a stack of the types being introspected rather than by recursion so that deep
+     * graphs cannot overflow the thread's stack. A nested type is pushed when it is found and, once all of its
+     * properties are resolved, its plan is built and added to the type below it. The plans built are only shared once
+     * the whole request bean is built, so a request bean that fails to introspect leaves nothing behind.
+     */
+    private Plan getPlanFor(Class<?> targetType) {
+        Plan plan = plans.get(targetType);
+        if (plan != null) {
+            int propertyCount = plan.properties().size();
+            if (exceeds(maximumDepth, plan.depth()) || exceeds(maximumProperties, propertyCount)) {
+                throw limitExceeded(targetType, plan.depth(), propertyCount, targetType.getName());
+            }
+            if (!requestBeans.containsKey(targetType)) {
+                register(targetType, plan, Map.of(targetType, plan));
+            }
+            return plan;
+        }
+        // Every plan the request bean is made of, whether built now or shared by an earlier request bean
+        Map<Class<?>, Plan> used = new HashMap<>();
+        Deque<PlanBuilder> stack = new ArrayDeque<>();
+        Set<Class<?>> inProgress = new HashSet<>();
+        inProgress.add(targetType);
+        stack.push(new PlanBuilder(targetType, ""));
+        while (true) {
+            PlanBuilder current = stack.element();
+            PropertyDescriptor propertyDescriptor = current.nextProperty();
+            if (propertyDescriptor == null) {
+                stack.pop();
+                inProgress.remove(current.type);
+                plan = current.build();
+                used.put(current.type, plan);
+                PlanBuilder parent = stack.peek();
+                if (parent == null) {
+                    register(targetType, plan, used);
+                    return plan;
+                }
+                addNested(stack, parent, current.prefix, plan);
+                continue;
+            }
+            BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(propertyDescriptor, interner::intern);
             Class<?> type = bindingProperty.getType();
             if (bindingProperty.hasAnnotation(BeanParameter.class) && !BeanUtils.isSimpleProperty(type)) {
-                if (!cycleClasses.add(type)) {
-                    throw new CircularReferenceException("Aborting finding resolvers. Circular reference found. Circular " +
-                        "references not supported as they can cause stack overflow errors. Cycle: " +
-                        cycleClasses.toString());
+                Plan nested = used.get(type);
+                if (nested == null) {
+                    nested = plans.get(type);
+                }
+                if (nested != null) {
+                    // A built plan never reaches back to a type still being introspected, otherwise building it
+                    // would have failed with a circular reference.
+                    used.put(type, nested);
+                    addNested(stack, current, propertyDescriptor.getName(), nested);
+                    continue;
                 }
-                recursiveGetResolverMapFor(type, propertyName, propertyData, cycleClasses);
-                cycleClasses.remove(type);
+                if (!inProgress.add(type)) {
+                    throw new CircularReferenceException("Aborting finding resolvers. Circular reference found. " +
+                        "Circular references not supported as the nested beans would never end. Cycle: " +
+                        cycleOf(stack, type));
+                }
+                PlanBuilder nestedBuilder = new PlanBuilder(type, propertyDescriptor.getName());
+                stack.push(nestedBuilder);
+                // The stack holds the root as well, so its size after the push is the depth of the nested bean
+                checkLimits(stack, stack.size() - 1, 0, null);
             } else {
                 RequestPropertyResolverBase<?, ?> resolver = registry.findResolverFor(bindingProperty);
                 if (resolver == null) {
                     continue;
                 }
-                propertyData.put(propertyName, new ResolvedPropertyData(propertyName, bindingProperty, resolver));
+                PropertyValueConverter converter = converterFactory != null ? converterFactory.getConverterFor(bindingProperty) : null;
+                current.properties.add(new ResolvedPropertyData(interner.intern(propertyDescriptor.getName()),
+                    bindingProperty, resolver, converter));
+                checkLimits(stack, 0, current.properties.size(), null);
             }
         }
     }
 
     /**
-     * Creates a JavaBeans property name based on the given prefix and property descriptor. If no prefix is given the
-     * property descriptor is returned. The prefix represents the parent bean the given property descriptor is found in.
-     * These property names are used later by the Spring data binder to find the property and set request data.
+     * Shares the plans a request bean is made of and records that the request bean uses them. A plan that was
+     * evicted while the request bean was being built is shared again, so the plan of every type in use is kept. The
+     * property paths and annotations of the plans shared now are shared with later request beans.
+     */
+    private void register(Class<?> targetType, Plan plan, Map<Class<?>, Plan> used) {
+        synchronized (requestBeans) {
+            used.forEach((type, usedPlan) -> {
+                if (plans.putIfAbsent(type, usedPlan) == null) {
+                    interner.retain(usedPlan.properties());
+                }
+            });
+            if (requestBeans.putIfAbsent(targetType, plan.types()) == null) {
+                for (Class<?> type : plan.types()) {
+                    planUsers.merge(type, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    private void addNested(Deque<PlanBuilder> stack, PlanBuilder parent, String prefix, Plan nested) {
+        // The parent is on top of the stack, one level below the root for every builder above the root, and the
+        // nested plan adds its own levels on top of that.
+        int depth = stack.size() + nested.depth();
+        checkLimits(stack, depth, parent.properties.size() + nested.properties().size(), prefix);
+        for (ResolvedPropertyData data : nested.properties()) {
+            parent.properties.add(new ResolvedPropertyData(getPropertyName(prefix, data.propertyName()),
+                data.bindingProperty(), data.resolver(), data.valueConverter()));
+        }
+        parent.depth = Math.max(parent.depth, nested.depth() + 1);
+        parent.types.addAll(nested.types());
+    }
+
+    /**
+     * Checks the limits for the type on top of the stack. The path is only described when a limit is exceeded.
      *
-     * @param prefix The prefix to return before the property descriptor name. Separated by a dot(.). Optional.
-     * @param propertyDescriptor The property descriptor to find a name for. Required.
+     * @param nestedProperty The property of the type on top of the stack being added, if any.
+     */
+    private void checkLimits(Deque<PlanBuilder> stack, int depth, int propertyCount, @Nullable String nestedProperty) {
+        if (exceeds(maximumDepth, depth) || exceeds(maximumProperties, propertyCount)) {
+            String path = nestedProperty != null ? pathOf(stack) + "." + nestedProperty : pathOf(stack);
+            throw limitExceeded(stack.getLast().type, depth, propertyCount, path);
+        }
+    }
+
+    private IntrospectionLimitException limitExceeded(Class<?> rootType, int depth, int propertyCount, String path) {
+        int maxDepth = maximumDepth;
+        if (exceeds(maxDepth, depth)) {
+            return new IntrospectionLimitException("Request bean of type " + rootType.getName() + " nests " +
+                "@BeanParameter properties deeper than the maximum depth of " + maxDepth + " at " + path);
+        }
+        return new IntrospectionLimitException("Request bean of type " + rootType.getName() + " has more than " +
+            "the maximum of " + maximumProperties + " properties at " + path);
+    }
+
+    private static boolean exceeds(int limit, int value) {
+        return limit >= 0 && value > limit;
+    }
+
+    private static PropertyDescriptor[] getPropertyDescriptors(Class<?> targetType) {
+        try {
+            return BeanUtils.getPropertyDescriptors(targetType);
+        } catch (BeansException e) {
+            throw new RequestBeanIntrospectionException("Unable to introspect request bean of type " +
+                targetType.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Describes the types being introspected from the root up to the one that was found again. Only built when a
+     * cycle is found.
+     */
+    private static String cycleOf(Deque<PlanBuilder> stack, Class<?> repeatedType) {
+        List<String> types = new ArrayList<>(stack.size() + 1);
+        Iterator<PlanBuilder> builders = stack.descendingIterator();
+        while (builders.hasNext()) {
+            types.add(builders.next().type.getName());
+        }
+        types.add(repeatedType.getName());
+        return String.join(" -> ", types);
+    }
+
+    /**
+     * Describes the property path from the root type to the type on top of the stack. Only built for error messages.
+     */
+    private static String pathOf(Deque<PlanBuilder> stack) {
+        Iterator<PlanBuilder> builders = stack.descendingIterator();
+        List<String> path = new ArrayList<>(stack.size());
+        path.add(builders.next().type.getName());
+        while (builders.hasNext()) {
+            path.add(builders.next().prefix);
+        }
+        return String.join(".", path);
+    }
+
+    /**
+     * Creates a JavaBeans property name from the given prefix and nested property name. The prefix is the name of the
+     * property the nested bean is found in. These property names are used later by the Spring data binder to find the
+     * property and set request data.
+     *
+     * @param prefix The name of the property holding the nested bean. Required.
+     * @param propertyName The property name relative to the nested bean. Required.
      * @return The full property name path
      */
-    private String getPropertyName(@Nullable String prefix, PropertyDescriptor propertyDescriptor) {
-        if (prefix == null) {
-            return propertyDescriptor.getName();
+    private String getPropertyName(String prefix, String propertyName) {
+        return interner.intern(prefix + "." + propertyName);
+    }
+
+    /**
+     * The resolved properties of a type, named relative to the type, how many levels of nested beans they span and
+     * the types they come from, including the type itself.
+     */
+    private record Plan(List<ResolvedPropertyData> properties, int depth, Set<Class<?>> types) {}
+
+    /**
+     * A type being introspected. Holds the type's property descriptors still to visit and the properties resolved so
+     * far.
+     */
+    private static final class PlanBuilder {
+        private final Class<?> type;
+        private final String prefix;
+        private final PropertyDescriptor[] propertyDescriptors;
+        private final List<ResolvedPropertyData> properties;
+        private final Set<Class<?>> types = new HashSet<>();
+        private int next = 0;
+        private int depth = 0;
+
+        /**
+         * @param type The type to introspect. Required.
+         * @param prefix The name of the property the type is nested in, or empty for the root type. Required.
+         */
+        private PlanBuilder(Class<?> type, String prefix) {
+            this.type = type;
+            this.prefix = prefix;
+            this.propertyDescriptors = getPropertyDescriptors(type);
+            this.properties = new ArrayList<>(propertyDescriptors.length);
+            this.types.add(type);
+        }
+
+        @Nullable
+        private PropertyDescriptor nextProperty() {
+            return next < propertyDescriptors.length ? propertyDescriptors[next++] : null;
+        }
+
+        private Plan build() {
+            return new Plan(List.copyOf(properties), depth, Set.copyOf(types));
         }
-        return prefix + "." + propertyDescriptor.getName();
     }
 }
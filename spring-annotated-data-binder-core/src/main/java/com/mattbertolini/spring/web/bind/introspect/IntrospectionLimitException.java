@@ -0,0 +1,28 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.introspect;
+
+/**
+ * Exception thrown when a request bean nests deeper or has more properties than the introspector allows.
+ *
+ * @see DefaultAnnotatedRequestBeanIntrospector#setMaximumDepth(int)
+ * @see DefaultAnnotatedRequestBeanIntrospector#setMaximumProperties(int)
+ */
+public class IntrospectionLimitException extends RequestBeanIntrospectionException {
+    public IntrospectionLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.introspect;
+
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hands out a single shared instance for equal property paths and shares the annotations of equal type descriptors.
+ * Request beans tend to repeat the same properties, e.g. a {@code page} request parameter of type {@code int}, so an
+ * introspector holding thousands of properties only needs a fraction of the strings and annotation arrays it would
+ * otherwise keep.
+ * <p>
+ * Every property keeps a type descriptor of its own, as the {@link org.springframework.core.ResolvableType} of a type
+ * descriptor has the property's method parameter as its source. Only the annotations are shared, keyed by
+ * {@link TypeDescriptorKey}.
+ * <p>
+ * Held by an introspector rather than statically so that the instances are released along with the introspector.
+ * Instances are shared once the plans using them are {@linkplain #retain(Collection) retained} and every instance
+ * counts the properties using it, so the instances of evicted plans are {@linkplain #release(Collection) released}
+ * without looking at the plans still held.
+ */
+final class MetadataInterner {
+    private final ConcurrentMap<String, Entry<String>> propertyPaths = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TypeDescriptorKey, Entry<Annotation[]>> annotations = new ConcurrentHashMap<>();
+
+    String intern(String propertyPath) {
+        Entry<String> entry = propertyPaths.get(propertyPath);
+        return entry != null ? entry.value : propertyPath;
+    }
+
+    /**
+     * @return A type descriptor with the resolvable type of the given one and the annotations of an equal type
+     * descriptor in use, or the given type descriptor if there is none.
+     */
+    TypeDescriptor intern(TypeDescriptor typeDescriptor) {
+        Entry<Annotation[]> entry = annotations.get(new TypeDescriptorKey(typeDescriptor));
+        if (entry == null) {
+            return typeDescriptor;
+        }
+        return new TypeDescriptor(typeDescriptor.getResolvableType(), typeDescriptor.getType(), entry.value);
+    }
+
+    /**
+     * Counts the given properties as users of their instances, sharing the instances not shared yet.
+     *
+     * @param properties The properties of a plan the introspector now holds. Required.
+     */
+    synchronized void retain(Collection<ResolvedPropertyData> properties) {
+        for (ResolvedPropertyData data : properties) {
+            propertyPaths.computeIfAbsent(data.propertyName(), Entry::new).users++;
+            TypeDescriptor typeDescriptor = data.bindingProperty().getTypeDescriptor();
+            annotations.computeIfAbsent(new TypeDescriptorKey(typeDescriptor),
+                key -> new Entry<>(typeDescriptor.getAnnotations())).users++;
+        }
+    }
+
+    /**
+     * Stops counting the given properties as users of their instances and releases the instances no longer used.
+     *
+     * @param properties The properties of a plan the introspector no longer holds. Required.
+     */
+    synchronized void release(Collection<ResolvedPropertyData> properties) {
+        for (ResolvedPropertyData data : properties) {
+            release(propertyPaths, data.propertyName());
+            release(annotations, new TypeDescriptorKey(data.bindingProperty().getTypeDescriptor()));
+        }
+    }
+
+    private static <K> void release(ConcurrentMap<K, ? extends Entry<?>> entries, K key) {
+        Entry<?> entry = entries.get(key);
+        if (entry != null && --entry.users <= 0) {
+            entries.remove(key);
+        }
+    }
+
+    int size() {
+        return propertyPaths.size() + annotations.size();
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        // Only changed while holding the lock on the interner
+        private int users;
+
+        private Entry(T value) {
+            this.value = value;
+        }
+    }
+}
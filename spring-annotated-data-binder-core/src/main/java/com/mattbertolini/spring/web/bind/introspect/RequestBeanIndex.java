@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.introspect;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The {@link com.mattbertolini.spring.web.bind.annotation.RequestBean} classes listed at build time by the
+ * {@code spring-annotated-data-binder-indexer} annotation processor. Every {@value #INDEX_LOCATION} file on the class
+ * path is read, one binary class name per line.
+ *
+ * <p>Reading the index can be turned off by setting the {@value #IGNORE_INDEX_PROPERTY} system property or Spring
+ * property to {@code true}, e.g. when not every jar holding request beans has an index.</p>
+ */
+public final class RequestBeanIndex {
+    public static final String INDEX_LOCATION = "META-INF/request-beans.index";
+    public static final String IGNORE_INDEX_PROPERTY = "spring.web.annotated-binder.index.ignore";
+
+    private final NavigableSet<String> requestBeans;
+
+    public RequestBeanIndex(Collection<String> requestBeans) {
+        this.requestBeans = Collections.unmodifiableNavigableSet(new TreeSet<>(requestBeans));
+    }
+
+    /**
+     * Read the index files visible to the given class loader.
+     *
+     * @param classLoader The class loader to find index files with.
+     * @return The index or null if there are no index files or the index is turned off.
+     */
+    @Nullable
+    public static RequestBeanIndex load(ClassLoader classLoader) {
+        if (SpringProperties.getFlag(IGNORE_INDEX_PROPERTY)) {
+            return null;
+        }
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            if (!urls.hasMoreElements()) {
+                return null;
+            }
+            Set<String> requestBeans = new TreeSet<>();
+            while (urls.hasMoreElements()) {
+                read(urls.nextElement(), requestBeans);
+            }
+            return new RequestBeanIndex(requestBeans);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load request bean index from location [" + INDEX_LOCATION + "]", e);
+        }
+    }
+
+    /**
+     * @return All indexed class names, sorted.
+     */
+    public Set<String> getRequestBeans() {
+        return requestBeans;
+    }
+
+    /**
+     * Get the indexed classes in a package, the same classes a scan of the package would find.
+     *
+     * @param basePackage The package name. Sub-packages are included.
+     * @return The indexed class names in the package, sorted.
+     */
+    public Set<String> getRequestBeans(String basePackage) {
+        String prefix = basePackage + ".";
+        Set<String> inPackage = new TreeSet<>();
+        for (String requestBean : requestBeans.tailSet(prefix)) {
+            if (!requestBean.startsWith(prefix)) {
+                break;
+            }
+            inPackage.add(requestBean);
+        }
+        return inPackage;
+    }
+
+    private static void read(URL url, Set<String> requestBeans) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    requestBeans.add(line);
+                }
+            }
+        }
+    }
+}
@@ -16,6 +16,10 @@
 package com.mattbertolini.spring.web.bind.introspect;
 
 public class RequestBeanIntrospectionException extends RuntimeException {
+    public RequestBeanIntrospectionException(String message) {
+        super(message);
+    }
+
     public RequestBeanIntrospectionException(String message, Throwable cause) {
         super(message, cause);
     }
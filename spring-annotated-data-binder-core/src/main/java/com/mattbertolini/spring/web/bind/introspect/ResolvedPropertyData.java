@@ -15,9 +15,17 @@
  */
 package com.mattbertolini.spring.web.bind.introspect;
 
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverter;
 import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import org.springframework.lang.Nullable;
 
 public record ResolvedPropertyData(
     String propertyName,
     BindingProperty bindingProperty,
-    RequestPropertyResolverBase<?, ?> resolver) {}
+    RequestPropertyResolverBase<?, ?> resolver,
+    @Nullable PropertyValueConverter valueConverter) {
+
+    public ResolvedPropertyData(String propertyName, BindingProperty bindingProperty, RequestPropertyResolverBase<?, ?> resolver) {
+        this(propertyName, bindingProperty, resolver, null);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.introspect;
+
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.Arrays;
+
+/**
+ * A map key for a {@link TypeDescriptor}. {@link TypeDescriptor#hashCode()} only hashes the type, which would put every
+ * {@code String} property in the same bucket of a hash map. The key also hashes the annotations, which tell the
+ * properties of a type apart. Keys are equal when their type descriptors are.
+ */
+public final class TypeDescriptorKey {
+    private final TypeDescriptor typeDescriptor;
+    private final int hashCode;
+
+    public TypeDescriptorKey(TypeDescriptor typeDescriptor) {
+        this.typeDescriptor = typeDescriptor;
+        this.hashCode = 31 * typeDescriptor.hashCode() + Arrays.hashCode(typeDescriptor.getAnnotations());
+    }
+
+    public TypeDescriptor getTypeDescriptor() {
+        return typeDescriptor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TypeDescriptorKey)) return false;
+        TypeDescriptorKey that = (TypeDescriptorKey) o;
+        return hashCode == that.hashCode && typeDescriptor.equals(that.typeDescriptor);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import org.springframework.lang.Nullable;
+
+/**
+ * Flight recorder event covering the resolution of all property values of a request bean for one request. As this
+ * event is emitted for every bound request it is sampled; the {@code sampleInterval} setting records one in every N
+ * events and defaults to 1. Warm-up requests are not recorded.
+ */
+@Name(RequestBeanBindingEvent.NAME)
+@Label("Request Bean Binding")
+@Category({"Spring", "Annotated Data Binder"})
+@Description("Resolving the property values of a request bean from a request")
+@StackTrace(false)
+public class RequestBeanBindingEvent extends Event {
+    public static final String NAME = "com.mattbertolini.spring.web.bind.RequestBeanBinding";
+
+    @Label("Bean Type")
+    @Nullable
+    private Class<?> beanType;
+
+    @Label("Property Count")
+    private int propertyCount;
+
+    @Label("Content Length")
+    @Description("Content-Length header of the request when a property is bound from the request body, -1 when unknown or unused")
+    @DataAmount
+    private long contentLength = -1;
+
+    @Label("Failed")
+    @Description("Whether resolving a property value failed")
+    private boolean failed;
+
+    public void setBeanType(Class<?> beanType) {
+        this.beanType = beanType;
+    }
+
+    public void setPropertyCount(int propertyCount) {
+        this.propertyCount = propertyCount;
+    }
+
+    public void setContentLength(long contentLength) {
+        this.contentLength = contentLength;
+    }
+
+    public void setFailed(boolean failed) {
+        this.failed = failed;
+    }
+
+    @Name("sampleInterval")
+    @Label("Sample Interval")
+    @Description("Record one in every N events")
+    @SettingDefinition
+    @SuppressWarnings("unused") // Invoked by the flight recorder
+    protected boolean sampleInterval(SampleIntervalSetting setting) {
+        return setting.sample();
+    }
+}
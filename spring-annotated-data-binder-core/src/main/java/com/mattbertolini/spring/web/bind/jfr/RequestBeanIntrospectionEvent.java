@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.lang.Nullable;
+
+/**
+ * Flight recorder event covering the introspection of a single request bean type, including any nested
+ * {@code @BeanParameter} types.
+ */
+@Name(RequestBeanIntrospectionEvent.NAME)
+@Label("Request Bean Introspection")
+@Category({"Spring", "Annotated Data Binder"})
+@Description("Finding the property resolvers of a request bean type")
+@StackTrace(false)
+public class RequestBeanIntrospectionEvent extends Event {
+    public static final String NAME = "com.mattbertolini.spring.web.bind.RequestBeanIntrospection";
+
+    @Label("Bean Type")
+    @Nullable
+    private Class<?> beanType;
+
+    @Label("Property Count")
+    private int propertyCount;
+
+    public void setBeanType(Class<?> beanType) {
+        this.beanType = beanType;
+    }
+
+    public void setPropertyCount(int propertyCount) {
+        this.propertyCount = propertyCount;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.lang.Nullable;
+
+/**
+ * Flight recorder event covering the class path scan of one base package for {@code @RequestBean} types, including
+ * the introspection of every type found.
+ */
+@Name(RequestBeanScanEvent.NAME)
+@Label("Request Bean Scan")
+@Category({"Spring", "Annotated Data Binder"})
+@Description("Scanning a base package for request beans and introspecting them")
+@StackTrace(false)
+public class RequestBeanScanEvent extends Event {
+    public static final String NAME = "com.mattbertolini.spring.web.bind.RequestBeanScan";
+
+    @Label("Base Package")
+    @Nullable
+    private String basePackage;
+
+    @Label("Request Bean Count")
+    private int requestBeanCount;
+
+    public void setBasePackage(String basePackage) {
+        this.basePackage = basePackage;
+    }
+
+    public void setRequestBeanCount(int requestBeanCount) {
+        this.requestBeanCount = requestBeanCount;
+    }
+}
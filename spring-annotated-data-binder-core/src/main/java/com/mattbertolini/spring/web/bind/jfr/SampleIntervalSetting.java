@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.jfr;
+
+import jdk.jfr.SettingControl;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flight recorder setting that lets one in every N events through. When several recordings are running the smallest
+ * interval wins.
+ */
+public final class SampleIntervalSetting extends SettingControl {
+    private static final long DEFAULT_INTERVAL = 1;
+
+    private final AtomicLong counter = new AtomicLong();
+    private volatile long interval = DEFAULT_INTERVAL;
+
+    @Override
+    public String combine(Set<String> settingValues) {
+        long combined = Long.MAX_VALUE;
+        for (String value : settingValues) {
+            combined = Math.min(combined, parse(value));
+        }
+        return combined == Long.MAX_VALUE ? String.valueOf(DEFAULT_INTERVAL) : String.valueOf(combined);
+    }
+
+    @Override
+    public void setValue(String settingValue) {
+        interval = parse(settingValue);
+    }
+
+    @Override
+    public String getValue() {
+        return String.valueOf(interval);
+    }
+
+    boolean sample() {
+        long currentInterval = interval;
+        return currentInterval <= 1 || counter.getAndIncrement() % currentInterval == 0;
+    }
+
+    private static long parse(String value) {
+        try {
+            return Math.max(1, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_INTERVAL;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.metrics;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
+import org.springframework.lang.Nullable;
+
+/**
+ * Receives timings from the request bean method argument resolvers. Argument resolvers that are not given an instance
+ * of this interface skip taking any timings at all.
+ *
+ * @see MicrometerBindingMetrics
+ */
+public interface BindingMetrics {
+
+    /**
+     * Record the time taken by one phase of resolving a request bean.
+     *
+     * @param beanType The request bean type being resolved.
+     * @param phase The phase that was timed.
+     * @param durationNanos The elapsed time in nanoseconds.
+     * @param error The error thrown by the phase or null if it completed successfully.
+     */
+    void recordBinding(Class<?> beanType, BindingPhase phase, long durationNanos, @Nullable Throwable error);
+
+    /**
+     * Record the time taken by a single property resolver.
+     *
+     * @param resolver The resolver that was invoked.
+     * @param durationNanos The elapsed time in nanoseconds.
+     * @param error The error thrown by the resolver or null if it completed successfully.
+     */
+    void recordResolver(RequestPropertyResolverBase<?, ?> resolver, long durationNanos, @Nullable Throwable error);
+
+    /**
+     * Start monitoring the given introspector and its cache. Called once the introspector has finished scanning. The
+     * default implementation does nothing.
+     *
+     * @param introspector The introspector holding the introspected request beans.
+     */
+    default void monitor(ClassPathScanningAnnotatedRequestBeanIntrospector introspector) {
+    }
+
+    /**
+     * Start monitoring a cache of resolved values. Called once for every caching property resolver registered with the
+     * binder. The default implementation does nothing.
+     *
+     * @param cache The cache to monitor.
+     */
+    default void monitor(ResolvedValueCache<?, ?> cache) {
+    }
+
+    /**
+     * Record the outcome of warming up request bean binding. Called once the warm-up has finished. The default
+     * implementation does nothing.
+     *
+     * @param result The warm-up result.
+     */
+    default void recordWarmUp(WarmUpResult result) {
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.metrics;
+
+/**
+ * The steps a request bean goes through while being resolved by a method argument resolver.
+ */
+public enum BindingPhase {
+    /**
+     * Resolving the values of every annotated property from the request.
+     */
+    RESOLVE("resolve"),
+    /**
+     * Constructor binding of the resolved values.
+     */
+    CONSTRUCT("construct"),
+    /**
+     * Property binding of the resolved values.
+     */
+    BIND("bind"),
+    /**
+     * Setting the resolved values on a request bean bound without a data binder. A request bean the direct attempt
+     * cannot bind is then bound by a data binder, recorded as {@link #BIND}.
+     */
+    DIRECT("direct");
+
+    private final String value;
+
+    BindingPhase(String value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the lower case name of this phase, suitable for use as a tag value.
+     */
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.metrics;
+
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link BindingMetrics} implementation that keeps a rolling window of the most recent binding latencies per request
+ * bean type and phase in memory, and holds on to the monitored introspector. Used to answer operational questions
+ * about a running application without an external metrics system.
+ */
+public class BindingStatistics implements BindingMetrics {
+    public static final int DEFAULT_WINDOW_SIZE = 1024;
+
+    private static final BindingPhase[] PHASES = BindingPhase.values();
+
+    private final int windowSize;
+    private final ConcurrentMap<Class<?>, LatencyWindow[]> latencies = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile ClassPathScanningAnnotatedRequestBeanIntrospector introspector;
+
+    public BindingStatistics() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param windowSize The number of recent latencies to keep per request bean type and phase. Must be positive.
+     */
+    public BindingStatistics(int windowSize) {
+        Assert.isTrue(windowSize > 0, "Window size must be positive");
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public void recordBinding(Class<?> beanType, BindingPhase phase, long durationNanos, @Nullable Throwable error) {
+        latencies.computeIfAbsent(beanType, this::createWindows)[phase.ordinal()].record(durationNanos);
+    }
+
+    @Override
+    public void recordResolver(RequestPropertyResolverBase<?, ?> resolver, long durationNanos, @Nullable Throwable error) {
+        // Only request bean level latencies are kept
+    }
+
+    @Override
+    public void monitor(ClassPathScanningAnnotatedRequestBeanIntrospector introspector) {
+        this.introspector = introspector;
+    }
+
+    /**
+     * @return the introspector being monitored or null if binding has not been configured yet.
+     */
+    @Nullable
+    public ClassPathScanningAnnotatedRequestBeanIntrospector getIntrospector() {
+        return introspector;
+    }
+
+    /**
+     * @return a snapshot of the latency percentiles for every request bean type that has been bound, keyed by phase.
+     * Phases that have not been recorded are omitted.
+     */
+    public Map<Class<?>, Map<BindingPhase, LatencySnapshot>> getLatencies() {
+        Map<Class<?>, Map<BindingPhase, LatencySnapshot>> snapshots = new HashMap<>();
+        latencies.forEach((beanType, windows) -> snapshots.put(beanType, snapshot(windows)));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * @param beanType The request bean type to get latencies for.
+     * @return a snapshot of the latency percentiles keyed by phase. Empty if the type has not been bound.
+     */
+    public Map<BindingPhase, LatencySnapshot> getLatencies(Class<?> beanType) {
+        LatencyWindow[] windows = latencies.get(beanType);
+        if (windows == null) {
+            return Collections.emptyMap();
+        }
+        return snapshot(windows);
+    }
+
+    private LatencyWindow[] createWindows(Class<?> beanType) {
+        LatencyWindow[] windows = new LatencyWindow[PHASES.length];
+        for (int i = 0; i < windows.length; i++) {
+            windows[i] = new LatencyWindow(windowSize);
+        }
+        return windows;
+    }
+
+    private static Map<BindingPhase, LatencySnapshot> snapshot(LatencyWindow[] windows) {
+        Map<BindingPhase, LatencySnapshot> snapshot = new EnumMap<>(BindingPhase.class);
+        for (BindingPhase phase : PHASES) {
+            LatencySnapshot phaseSnapshot = windows[phase.ordinal()].snapshot();
+            if (phaseSnapshot.count() > 0) {
+                snapshot.put(phase, phaseSnapshot);
+            }
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.metrics;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Forwards every recording to a fixed list of {@link BindingMetrics}.
+ */
+public class CompositeBindingMetrics implements BindingMetrics {
+    private final BindingMetrics[] delegates;
+
+    public CompositeBindingMetrics(List<? extends BindingMetrics> delegates) {
+        this.delegates = delegates.toArray(new BindingMetrics[0]);
+    }
+
+    @Override
+    public void recordBinding(Class<?> beanType, BindingPhase phase, long durationNanos, @Nullable Throwable error) {
+        for (BindingMetrics delegate : delegates) {
+            delegate.recordBinding(beanType, phase, durationNanos, error);
+        }
+    }
+
+    @Override
+    public void recordResolver(RequestPropertyResolverBase<?, ?> resolver, long durationNanos, @Nullable Throwable error) {
+        for (BindingMetrics delegate : delegates) {
+            delegate.recordResolver(resolver, durationNanos, error);
+        }
+    }
+
+    @Override
+    public void monitor(ClassPathScanningAnnotatedRequestBeanIntrospector introspector) {
+        for (BindingMetrics delegate : delegates) {
+            delegate.monitor(introspector);
+        }
+    }
+
+    @Override
+    public void monitor(ResolvedValueCache<?, ?> cache) {
+        for (BindingMetrics delegate : delegates) {
+            delegate.monitor(cache);
+        }
+    }
+
+    @Override
+    public void recordWarmUp(WarmUpResult result) {
+        for (BindingMetrics delegate : delegates) {
+            delegate.recordWarmUp(result);
+        }
+    }
+}
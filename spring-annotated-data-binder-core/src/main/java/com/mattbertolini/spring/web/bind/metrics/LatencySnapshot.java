@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.metrics;
+
+/**
+ * Percentiles of the most recent latencies recorded for one request bean type and binding phase. All durations are in
+ * nanoseconds.
+ *
+ * @param count The total number of recordings, including those no longer in the window.
+ * @param p50 The median of the recordings in the window.
+ * @param p90 The 90th percentile of the recordings in the window.
+ * @param p99 The 99th percentile of the recordings in the window.
+ * @param max The largest recording in the window.
+ */
+public record LatencySnapshot(long count, long p50, long p90, long p99, long max) {
+}
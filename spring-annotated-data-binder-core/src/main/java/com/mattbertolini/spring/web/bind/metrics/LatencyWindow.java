@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed size ring buffer of the most recent latencies. Writes are not synchronized with snapshots so a snapshot taken
+ * under load may mix samples from adjacent writes; that is acceptable for operational statistics.
+ */
+final class LatencyWindow {
+    private final long[] samples;
+    private final AtomicLong count = new AtomicLong();
+
+    LatencyWindow(int size) {
+        samples = new long[size];
+    }
+
+    void record(long durationNanos) {
+        long index = count.getAndIncrement();
+        samples[(int) (index % samples.length)] = durationNanos;
+    }
+
+    LatencySnapshot snapshot() {
+        long total = count.get();
+        int size = (int) Math.min(total, samples.length);
+        if (size == 0) {
+            return new LatencySnapshot(0, 0, 0, 0, 0);
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new LatencySnapshot(total, percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), sorted[size - 1]);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
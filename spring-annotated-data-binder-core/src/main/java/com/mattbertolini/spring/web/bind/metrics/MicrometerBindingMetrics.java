@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.metrics;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.CachedAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link BindingMetrics} implementation that publishes to a Micrometer {@link MeterRegistry}. Meters are looked up
+ * once per request bean type, resolver class and exception type and reused afterwards.
+ * <p>
+ * The following meters are published:
+ * <ul>
+ *     <li>{@value #BINDING_METRIC_NAME} timer tagged with {@code bean}, {@code phase} and {@code outcome}</li>
+ *     <li>{@value #RESOLVER_METRIC_NAME} timer tagged with {@code resolver} and {@code outcome}</li>
+ *     <li>{@value #RESOLVER_ERRORS_METRIC_NAME} counter tagged with {@code resolver} and {@code exception}</li>
+ *     <li>{@value #CACHE_GETS_METRIC_NAME} function counter tagged with {@code result} of {@code hit} or {@code miss}</li>
+ *     <li>{@value #CACHE_SIZE_METRIC_NAME} gauge</li>
+ *     <li>{@value #RESOLVER_CACHE_GETS_METRIC_NAME} function counter tagged with {@code cache} and {@code result} of
+ *     {@code hit} or {@code miss}</li>
+ *     <li>{@value #RESOLVER_CACHE_EVICTIONS_METRIC_NAME} function counter tagged with {@code cache}</li>
+ *     <li>{@value #RESOLVER_CACHE_SIZE_METRIC_NAME} gauge tagged with {@code cache}</li>
+ *     <li>{@value #WARM_UP_METRIC_NAME} timer tagged with {@code outcome} of {@code success}, or {@code partial} when
+ *     some request beans could not be bound from a synthetic request</li>
+ * </ul>
+ */
+public class MicrometerBindingMetrics implements BindingMetrics {
+    public static final String BINDING_METRIC_NAME = "annotated.binder.binding";
+    public static final String RESOLVER_METRIC_NAME = "annotated.binder.resolver";
+    public static final String RESOLVER_ERRORS_METRIC_NAME = "annotated.binder.resolver.errors";
+    public static final String CACHE_GETS_METRIC_NAME = "annotated.binder.introspection.cache.gets";
+    public static final String CACHE_SIZE_METRIC_NAME = "annotated.binder.introspection.cache.size";
+    public static final String RESOLVER_CACHE_GETS_METRIC_NAME = "annotated.binder.resolver.cache.gets";
+    public static final String RESOLVER_CACHE_EVICTIONS_METRIC_NAME = "annotated.binder.resolver.cache.evictions";
+    public static final String RESOLVER_CACHE_SIZE_METRIC_NAME = "annotated.binder.resolver.cache.size";
+    public static final String WARM_UP_METRIC_NAME = "annotated.binder.warmup";
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+    private static final int PHASE_COUNT = BindingPhase.values().length;
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final ConcurrentMap<Class<?>, AtomicReferenceArray<Timer>> bindingTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, AtomicReferenceArray<Timer>> resolverTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ErrorKey, Counter> resolverErrors = new ConcurrentHashMap<>();
+    private Function<Class<?>, String> beanTagFunction = ClassUtils::getShortName;
+
+    public MicrometerBindingMetrics(MeterRegistry meterRegistry) {
+        this(() -> meterRegistry);
+    }
+
+    /**
+     * Create an instance that looks up the meter registry the first time a meter is needed. Useful when this class is
+     * created before the meter registry has been fully configured.
+     *
+     * @param meterRegistry Supplier of the meter registry. Invoked at most once.
+     */
+    public MicrometerBindingMetrics(Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistry = SingletonSupplier.of(meterRegistry);
+    }
+
+    /**
+     * Set how the {@code bean} tag is derived from the request bean type. Defaults to the class name without the
+     * package, which keeps the tag short. Use {@link Class#getName()} when request beans of the same name exist in
+     * different packages. Must be set before any binding is recorded.
+     *
+     * @param beanTagFunction Gives the tag value of a request bean type. Required.
+     */
+    public void setBeanTagFunction(Function<Class<?>, String> beanTagFunction) {
+        this.beanTagFunction = beanTagFunction;
+    }
+
+    @Override
+    public void recordBinding(Class<?> beanType, BindingPhase phase, long durationNanos, @Nullable Throwable error) {
+        AtomicReferenceArray<Timer> timers = bindingTimers.computeIfAbsent(beanType, key -> new AtomicReferenceArray<>(PHASE_COUNT * 2));
+        int index = phase.ordinal() * 2 + (error == null ? 0 : 1);
+        Timer timer = timers.get(index);
+        if (timer == null) {
+            // Racing threads register the same meter so the last write wins harmlessly
+            timer = Timer.builder(BINDING_METRIC_NAME)
+                .description("Time taken to resolve and bind request beans")
+                .tag("bean", beanTagFunction.apply(beanType))
+                .tag("phase", phase.getValue())
+                .tag("outcome", error == null ? SUCCESS : ERROR)
+                .register(meterRegistry.get());
+            timers.set(index, timer);
+        }
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordResolver(RequestPropertyResolverBase<?, ?> resolver, long durationNanos, @Nullable Throwable error) {
+        Class<?> resolverType = resolver.getClass();
+        AtomicReferenceArray<Timer> timers = resolverTimers.computeIfAbsent(resolverType, key -> new AtomicReferenceArray<>(2));
+        int index = error == null ? 0 : 1;
+        Timer timer = timers.get(index);
+        if (timer == null) {
+            timer = Timer.builder(RESOLVER_METRIC_NAME)
+                .description("Time taken by request property resolvers")
+                .tag("resolver", ClassUtils.getShortName(resolverType))
+                .tag("outcome", error == null ? SUCCESS : ERROR)
+                .register(meterRegistry.get());
+            timers.set(index, timer);
+        }
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+        if (error != null) {
+            resolverErrors.computeIfAbsent(new ErrorKey(resolverType, error.getClass()), key ->
+                Counter.builder(RESOLVER_ERRORS_METRIC_NAME)
+                    .description("Errors thrown by request property resolvers")
+                    .tag("resolver", ClassUtils.getShortName(key.resolverType()))
+                    .tag("exception", key.errorType().getSimpleName())
+                    .register(meterRegistry.get()))
+                .increment();
+        }
+    }
+
+    @Override
+    public void monitor(ClassPathScanningAnnotatedRequestBeanIntrospector introspector) {
+        CachedAnnotatedRequestBeanIntrospector introspectorCache = introspector.getIntrospectorCache();
+        MeterRegistry registry = meterRegistry.get();
+        FunctionCounter.builder(CACHE_GETS_METRIC_NAME, introspectorCache, CachedAnnotatedRequestBeanIntrospector::getHitCount)
+            .description("Request bean introspection cache lookups")
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder(CACHE_GETS_METRIC_NAME, introspectorCache, CachedAnnotatedRequestBeanIntrospector::getMissCount)
+            .description("Request bean introspection cache lookups")
+            .tag("result", "miss")
+            .register(registry);
+        Gauge.builder(CACHE_SIZE_METRIC_NAME, introspectorCache, CachedAnnotatedRequestBeanIntrospector::size)
+            .description("Number of introspected request bean types")
+            .register(registry);
+    }
+
+    @Override
+    public void monitor(ResolvedValueCache<?, ?> cache) {
+        MeterRegistry registry = meterRegistry.get();
+        FunctionCounter.builder(RESOLVER_CACHE_GETS_METRIC_NAME, cache, ResolvedValueCache::getHitCount)
+            .description("Resolved value cache lookups")
+            .tag("cache", cache.getName())
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder(RESOLVER_CACHE_GETS_METRIC_NAME, cache, ResolvedValueCache::getMissCount)
+            .description("Resolved value cache lookups")
+            .tag("cache", cache.getName())
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder(RESOLVER_CACHE_EVICTIONS_METRIC_NAME, cache, ResolvedValueCache::getEvictionCount)
+            .description("Resolved values evicted because they expired or the cache was full")
+            .tag("cache", cache.getName())
+            .register(registry);
+        Gauge.builder(RESOLVER_CACHE_SIZE_METRIC_NAME, cache, ResolvedValueCache::size)
+            .description("Number of cached resolved values")
+            .tag("cache", cache.getName())
+            .register(registry);
+    }
+
+    @Override
+    public void recordWarmUp(WarmUpResult result) {
+        Timer.builder(WARM_UP_METRIC_NAME)
+            .description("Time taken to warm up request bean binding at startup")
+            .tag("outcome", result.failures() == 0 ? SUCCESS : "partial")
+            .register(meterRegistry.get())
+            .record(result.duration());
+    }
+
+    private record ErrorKey(Class<?> resolverType, Class<?> errorType) {}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.observation;
+
+import com.mattbertolini.spring.web.bind.metrics.BindingPhase;
+import io.micrometer.observation.Observation;
+
+/**
+ * Context of an observation covering one phase of binding a request bean.
+ */
+public class BeanBindingObservationContext extends Observation.Context {
+    private final Class<?> beanType;
+    private final BindingPhase phase;
+
+    public BeanBindingObservationContext(Class<?> beanType, BindingPhase phase) {
+        this.beanType = beanType;
+        this.phase = phase;
+    }
+
+    public Class<?> getBeanType() {
+        return beanType;
+    }
+
+    public BindingPhase getPhase() {
+        return phase;
+    }
+}
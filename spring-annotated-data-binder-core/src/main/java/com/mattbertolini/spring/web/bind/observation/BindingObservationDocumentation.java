@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented observations opened while binding request beans.
+ */
+public enum BindingObservationDocumentation implements ObservationDocumentation {
+
+    /**
+     * One phase (resolve, construct, bind or direct) of binding a request bean.
+     */
+    BEAN_BINDING {
+        @Override
+        public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+            return DefaultBeanBindingObservationConvention.class;
+        }
+
+        @Override
+        public KeyName[] getLowCardinalityKeyNames() {
+            return BeanBindingLowCardinalityKeyNames.values();
+        }
+    },
+
+    /**
+     * Resolution of a single request bean property by an expensive resolver, such as reading the request body, or of
+     * all the properties a bulk resolver resolves in one call.
+     */
+    PROPERTY_RESOLUTION {
+        @Override
+        public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+            return DefaultPropertyResolutionObservationConvention.class;
+        }
+
+        @Override
+        public KeyName[] getLowCardinalityKeyNames() {
+            return PropertyResolutionLowCardinalityKeyNames.values();
+        }
+
+        @Override
+        public KeyName[] getHighCardinalityKeyNames() {
+            return PropertyResolutionHighCardinalityKeyNames.values();
+        }
+    };
+
+    public enum BeanBindingLowCardinalityKeyNames implements KeyName {
+        /**
+         * Fully qualified name of the request bean type.
+         */
+        BEAN("bean"),
+
+        /**
+         * Binding phase being observed.
+         */
+        PHASE("phase");
+
+        private final String key;
+
+        BeanBindingLowCardinalityKeyNames(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String asString() {
+            return key;
+        }
+    }
+
+    public enum PropertyResolutionLowCardinalityKeyNames implements KeyName {
+        /**
+         * Fully qualified name of the request bean type.
+         */
+        BEAN("bean"),
+
+        /**
+         * Short class name of the property resolver.
+         */
+        RESOLVER("resolver");
+
+        private final String key;
+
+        PropertyResolutionLowCardinalityKeyNames(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String asString() {
+            return key;
+        }
+    }
+
+    public enum PropertyResolutionHighCardinalityKeyNames implements KeyName {
+        /**
+         * Name of the request bean property being resolved, or the names of the properties resolved by a bulk
+         * resolver separated by commas.
+         */
+        PROPERTY("property");
+
+        private final String key;
+
+        PropertyResolutionHighCardinalityKeyNames(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String asString() {
+            return key;
+        }
+    }
+}
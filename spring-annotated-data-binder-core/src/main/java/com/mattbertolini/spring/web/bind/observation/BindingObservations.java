@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.observation;
+
+import com.mattbertolini.spring.web.bind.annotation.RequestBody;
+import com.mattbertolini.spring.web.bind.annotation.SessionParameter;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Collection;
+import java.util.StringJoiner;
+
+/**
+ * Helper methods shared by the servlet and reactive argument resolvers when opening binding observations.
+ */
+public final class BindingObservations {
+    // Loaded by name as neither the Servlet API nor the reactive multipart support is guaranteed to be present
+    @Nullable
+    private static final Class<?> SERVLET_PART = loadClass("jakarta.servlet.http.Part");
+    @Nullable
+    private static final Class<?> REACTIVE_PART = loadClass("org.springframework.http.codec.multipart.Part");
+
+    private BindingObservations() {}
+
+    /**
+     * Only properties read by resolvers that can take a noticeable amount of time get their own child observation:
+     * the request body, the session and multipart files. Observing every cheap parameter or header lookup would cost
+     * more than the lookups themselves and clutter traces.
+     *
+     * @param bindingProperty The property about to be resolved. Required.
+     * @return true if resolving the property should be observed on its own.
+     */
+    public static boolean isObservedProperty(BindingProperty bindingProperty) {
+        if (bindingProperty.hasAnnotation(RequestBody.class) || bindingProperty.hasAnnotation(SessionParameter.class)) {
+            return true;
+        }
+        TypeDescriptor typeDescriptor = bindingProperty.getTypeDescriptor();
+        TypeDescriptor elementTypeDescriptor = typeDescriptor.isCollection() || typeDescriptor.isArray()
+            ? typeDescriptor.getElementTypeDescriptor() : null;
+        Class<?> type = elementTypeDescriptor != null ? elementTypeDescriptor.getType() : typeDescriptor.getType();
+        return MultipartFile.class.isAssignableFrom(type) ||
+            (SERVLET_PART != null && SERVLET_PART.isAssignableFrom(type)) ||
+            (REACTIVE_PART != null && REACTIVE_PART.isAssignableFrom(type));
+    }
+
+    /**
+     * Names the properties a bulk resolver resolves in one call, for the property name of its observation.
+     *
+     * @param propertyData The properties passed to the resolver. Required.
+     * @return The property names separated by commas.
+     */
+    public static String propertyNames(Collection<ResolvedPropertyData> propertyData) {
+        StringJoiner names = new StringJoiner(",");
+        for (ResolvedPropertyData data : propertyData) {
+            names.add(data.propertyName());
+        }
+        return names.toString();
+    }
+
+    @Nullable
+    private static Class<?> loadClass(String className) {
+        ClassLoader classLoader = BindingObservations.class.getClassLoader();
+        return ClassUtils.isPresent(className, classLoader) ? ClassUtils.resolveClassName(className, classLoader) : null;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.observation;
+
+import com.mattbertolini.spring.web.bind.observation.BindingObservationDocumentation.BeanBindingLowCardinalityKeyNames;
+import io.micrometer.common.KeyValues;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Names the observation {@value #OBSERVATION_NAME} and tags it with the request bean type and binding phase.
+ */
+public class DefaultBeanBindingObservationConvention implements BeanBindingObservationConvention {
+    public static final String OBSERVATION_NAME = "annotated.binder.bean.binding";
+
+    @Override
+    public String getName() {
+        return OBSERVATION_NAME;
+    }
+
+    @Override
+    public String getContextualName(BeanBindingObservationContext context) {
+        return context.getPhase().getValue() + " " + ClassUtils.getShortName(context.getBeanType());
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(BeanBindingObservationContext context) {
+        return KeyValues.of(
+            BeanBindingLowCardinalityKeyNames.BEAN.withValue(context.getBeanType().getName()),
+            BeanBindingLowCardinalityKeyNames.PHASE.withValue(context.getPhase().getValue()));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.observation;
+
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import io.micrometer.observation.Observation;
+
+/**
+ * Context of an observation covering the resolution of a single request bean property, or of the properties a bulk
+ * resolver resolves in one call. The property name of a bulk resolution holds the names of all its properties
+ * separated by commas.
+ */
+public class PropertyResolutionObservationContext extends Observation.Context {
+    private final Class<?> beanType;
+    private final String propertyName;
+    private final RequestPropertyResolverBase<?, ?> resolver;
+
+    public PropertyResolutionObservationContext(Class<?> beanType, String propertyName, RequestPropertyResolverBase<?, ?> resolver) {
+        this.beanType = beanType;
+        this.propertyName = propertyName;
+        this.resolver = resolver;
+    }
+
+    public Class<?> getBeanType() {
+        return beanType;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    public RequestPropertyResolverBase<?, ?> getResolver() {
+        return resolver;
+    }
+}
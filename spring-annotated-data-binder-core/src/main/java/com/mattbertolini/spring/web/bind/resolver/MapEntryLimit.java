@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.resolver;
+
+import com.mattbertolini.spring.web.bind.MapEntryLimitExceededException;
+
+/**
+ * Limits the number of request values a map property resolver binds, so a request with a very large number of
+ * parameters or headers fails with a 400 Bad Request instead of being bound.
+ */
+public final class MapEntryLimit {
+    /**
+     * No limit on the number of entries. The default for all map property resolvers.
+     */
+    public static final int UNLIMITED = -1;
+
+    private MapEntryLimit() {}
+
+    /**
+     * Check the number of request values about to be bound to a map property.
+     *
+     * @param entries The number of request values, e.g. distinct parameter names.
+     * @param maxEntries The maximum number of values or {@link #UNLIMITED}.
+     * @param source What the values are, e.g. "request parameters", for the exception message.
+     * @throws MapEntryLimitExceededException if there are more values than the maximum.
+     */
+    public static void check(int entries, int maxEntries, String source) {
+        if (maxEntries >= 0 && entries > maxEntries) {
+            throw new MapEntryLimitExceededException("Request has " + entries + " " + source
+                + ", more than the maximum of " + maxEntries + " that can be bound to a map property");
+        }
+    }
+}
@@ -26,6 +26,14 @@ import org.springframework.lang.Nullable;
  * @param <R> The response type to use.
  */
 public interface RequestPropertyResolverBase<T, R> {
+    /**
+     * Whether this resolver resolves values for the given property. The registry remembers the answer for the property,
+     * so it must not change over time. Implement {@link org.springframework.core.Ordered} or annotate the resolver with
+     * {@link org.springframework.core.annotation.Order @Order} to be asked before other resolvers.
+     *
+     * @param bindingProperty The property to check. Required.
+     * @return Whether this resolver supports the property.
+     */
     boolean supports(BindingProperty bindingProperty);
     
     @Nullable
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.warmup;
+
+import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+/**
+ * A {@link BeanParameter} method parameter of a given request bean type, for resolving a request bean through an
+ * argument resolver without a handler method that declares it.
+ */
+public final class RequestBeanMethodParameter extends MethodParameter {
+    private static final Method WARM_UP_METHOD;
+
+    static {
+        try {
+            WARM_UP_METHOD = RequestBeanMethodParameter.class.getDeclaredMethod("warmUp", Object.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final Class<?> beanType;
+
+    public RequestBeanMethodParameter(Class<?> beanType) {
+        super(WARM_UP_METHOD, 0);
+        this.beanType = beanType;
+    }
+
+    private RequestBeanMethodParameter(RequestBeanMethodParameter original) {
+        super(original);
+        this.beanType = original.beanType;
+    }
+
+    @Override
+    public Class<?> getParameterType() {
+        return beanType;
+    }
+
+    @Override
+    public Type getGenericParameterType() {
+        return beanType;
+    }
+
+    @Override
+    public Class<?> getNestedParameterType() {
+        return beanType;
+    }
+
+    @Override
+    public Type getNestedGenericParameterType() {
+        return beanType;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        // Every instance shares the same method so the bean type must be compared as well
+        return super.equals(other) && other instanceof RequestBeanMethodParameter otherParameter
+            && beanType == otherParameter.beanType;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + beanType.hashCode();
+    }
+
+    @Override
+    public RequestBeanMethodParameter clone() {
+        return new RequestBeanMethodParameter(this);
+    }
+
+    @SuppressWarnings("unused")
+    private static void warmUp(@BeanParameter Object bean) {
+        // Only the parameter declaration is used
+    }
+}
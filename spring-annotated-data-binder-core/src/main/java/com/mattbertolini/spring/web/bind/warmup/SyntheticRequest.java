@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.warmup;
+
+import com.mattbertolini.spring.web.bind.annotation.CookieParameter;
+import com.mattbertolini.spring.web.bind.annotation.FormParameter;
+import com.mattbertolini.spring.web.bind.annotation.HeaderParameter;
+import com.mattbertolini.spring.web.bind.annotation.PathParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestBody;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A made up request for a request bean. Every named request parameter, form parameter, header, cookie and path
+ * variable property gets a value its type can be converted from. Properties of types that need a particular format,
+ * such as dates, are left out, as are map properties and session attributes. A request body property gets a body of
+ * plain text, bytes or an empty JSON object depending on its type.
+ */
+public final class SyntheticRequest {
+    static final String TEXT_VALUE = "warmup";
+    static final String NUMBER_VALUE = "1";
+    static final String UUID_VALUE = "00000000-0000-0000-0000-000000000001";
+
+    private final Map<String, String> parameters = new LinkedHashMap<>();
+    private final Map<String, String> formParameters = new LinkedHashMap<>();
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private final Map<String, String> pathVariables = new LinkedHashMap<>();
+    @Nullable
+    private MediaType contentType;
+    @Nullable
+    private byte[] body;
+
+    private SyntheticRequest() {}
+
+    /**
+     * Make up a request for a request bean with the given properties.
+     *
+     * @param propertyData The introspected properties of the request bean. Required.
+     * @return The synthetic request. Never null.
+     */
+    public static SyntheticRequest forProperties(Collection<ResolvedPropertyData> propertyData) {
+        SyntheticRequest request = new SyntheticRequest();
+        for (ResolvedPropertyData data : propertyData) {
+            request.add(data.bindingProperty());
+        }
+        return request;
+    }
+
+    public Map<String, String> getParameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    public Map<String, String> getFormParameters() {
+        return Collections.unmodifiableMap(formParameters);
+    }
+
+    public Map<String, String> getHeaders() {
+        return Collections.unmodifiableMap(headers);
+    }
+
+    public Map<String, String> getCookies() {
+        return Collections.unmodifiableMap(cookies);
+    }
+
+    public Map<String, String> getPathVariables() {
+        return Collections.unmodifiableMap(pathVariables);
+    }
+
+    @Nullable
+    public MediaType getContentType() {
+        return contentType;
+    }
+
+    @Nullable
+    public byte[] getBody() {
+        return body;
+    }
+
+    private void add(BindingProperty property) {
+        if (property.hasAnnotation(RequestBody.class)) {
+            addBody(property.getType());
+            return;
+        }
+        String value = valueFor(property);
+        if (value == null) {
+            return;
+        }
+        RequestParameter requestParameter = property.getAnnotation(RequestParameter.class);
+        FormParameter formParameter = property.getAnnotation(FormParameter.class);
+        HeaderParameter headerParameter = property.getAnnotation(HeaderParameter.class);
+        CookieParameter cookieParameter = property.getAnnotation(CookieParameter.class);
+        PathParameter pathParameter = property.getAnnotation(PathParameter.class);
+        if (requestParameter != null) {
+            putNamed(parameters, requestParameter.value(), value);
+        } else if (formParameter != null) {
+            putNamed(formParameters, formParameter.value(), value);
+        } else if (headerParameter != null) {
+            putNamed(headers, headerParameter.value(), value);
+        } else if (cookieParameter != null) {
+            putNamed(cookies, cookieParameter.value(), value);
+        } else if (pathParameter != null) {
+            putNamed(pathVariables, pathParameter.value(), value);
+        }
+    }
+
+    private void addBody(Class<?> bodyType) {
+        if (bodyType == String.class) {
+            contentType = MediaType.TEXT_PLAIN;
+            body = TEXT_VALUE.getBytes(StandardCharsets.UTF_8);
+        } else if (bodyType == byte[].class) {
+            contentType = MediaType.APPLICATION_OCTET_STREAM;
+            body = TEXT_VALUE.getBytes(StandardCharsets.UTF_8);
+        } else {
+            contentType = MediaType.APPLICATION_JSON;
+            body = "{}".getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void putNamed(Map<String, String> values, String name, String value) {
+        // Properties without a name bind the whole map of values and are filled by the other properties
+        if (StringUtils.hasText(name)) {
+            values.put(name, value);
+        }
+    }
+
+    @Nullable
+    private static String valueFor(BindingProperty property) {
+        TypeDescriptor typeDescriptor = property.getTypeDescriptor();
+        Class<?> type = property.getType();
+        if (typeDescriptor.isCollection() || typeDescriptor.isArray()) {
+            TypeDescriptor elementType = typeDescriptor.getElementTypeDescriptor();
+            type = elementType != null ? elementType.getType() : String.class;
+        }
+        return valueFor(ClassUtils.resolvePrimitiveIfNecessary(type));
+    }
+
+    @Nullable
+    private static String valueFor(Class<?> type) {
+        if (type == String.class || type == Object.class || type == CharSequence.class) {
+            return TEXT_VALUE;
+        }
+        if (Number.class.isAssignableFrom(type)) {
+            return NUMBER_VALUE;
+        }
+        if (type == Boolean.class) {
+            return Boolean.TRUE.toString();
+        }
+        if (type == Character.class) {
+            return TEXT_VALUE.substring(0, 1);
+        }
+        if (type == UUID.class) {
+            return UUID_VALUE;
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants.length > 0 ? ((Enum<?>) constants[0]).name() : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.warmup;
+
+import java.time.Duration;
+
+/**
+ * The outcome of warming up request bean binding.
+ *
+ * @param requestBeans The number of request bean types that were bound.
+ * @param bindings The number of synthetic requests bound successfully.
+ * @param failures The number of request bean types that could not be bound from a synthetic request and were left
+ *                 out of the rest of the warm-up.
+ * @param duration The time taken by the whole warm-up.
+ */
+public record WarmUpResult(int requestBeans, long bindings, int failures, Duration duration) {
+}
@@ -15,19 +15,26 @@
  */
 package com.mattbertolini.spring.web.bind;
 
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
 import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.lang.Nullable;
 
 import java.beans.PropertyDescriptor;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AbstractPropertyResolverRegistryTest {
@@ -95,14 +102,196 @@ class AbstractPropertyResolverRegistryTest {
             .contains(resolver);
     }
 
+    @Test
+    void propertyResolversAreASnapshot() {
+        TestingResolver resolverOne = mock(TestingResolver.class);
+        TestingResolver resolverTwo = mock(TestingResolver.class);
+        registry.addResolver(resolverOne);
+
+        Set<TestingResolver> snapshot = registry.getPropertyResolvers();
+        registry.addResolver(resolverTwo);
+
+        assertThat(snapshot).containsExactly(resolverOne);
+        assertThat(registry.getPropertyResolvers()).containsExactly(resolverOne, resolverTwo);
+    }
+
+    @Test
+    void notFrozenByDefault() {
+        assertThat(registry.isFrozen()).isFalse();
+        registry.freeze();
+        assertThat(registry.isFrozen()).isTrue();
+    }
+
+    @Test
+    void frozenRegistryUsesFirstOfConflictingResolvers() throws Exception {
+        TestingResolver resolverOne = mock(TestingResolver.class);
+        TestingResolver resolverTwo = mock(TestingResolver.class);
+        when(resolverOne.supports(any(BindingProperty.class))).thenReturn(true);
+        when(resolverTwo.supports(any(BindingProperty.class))).thenReturn(true);
+        registry.addResolver(resolverOne);
+        registry.addResolver(resolverTwo);
+        registry.freeze();
+
+        BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("property", TestingClass.class));
+        assertThat(registry.findResolverFor(bindingProperty)).isSameAs(resolverOne);
+        verify(resolverTwo).supports(bindingProperty);
+    }
+
+    @Test
+    void rejectsResolversAddedToFrozenRegistry() {
+        TestingResolver resolver = mock(TestingResolver.class);
+        registry.freeze();
+
+        assertThatThrownBy(() -> registry.addResolver(resolver)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> registry.addLazyResolver(RequestParameter.class, SupportingResolver::new))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(registry.getPropertyResolvers()).isEmpty();
+    }
+
+    @Test
+    void asksOrderedResolversFirst() throws Exception {
+        TestingResolver unordered = mock(TestingResolver.class);
+        when(unordered.supports(any(BindingProperty.class))).thenReturn(true);
+        SupportingResolver annotated = new AnnotatedOrderResolver();
+        SupportingResolver ordered = new OrderedResolver();
+        registry.addResolver(unordered);
+        registry.addResolver(annotated);
+        registry.addResolver(ordered);
+
+        assertThat(registry.getPropertyResolvers()).containsExactly(ordered, annotated, unordered);
+        assertThat(registry.findResolverFor(BindingProperty.forPropertyDescriptor(new PropertyDescriptor("property", TestingClass.class))))
+            .isSameAs(ordered);
+    }
+
+    @Test
+    void asksAgainForOtherPropertyOfSameType() throws Exception {
+        TestingResolver resolver = mock(TestingResolver.class);
+        BindingProperty property = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("property", TestingClass.class));
+        BindingProperty otherProperty = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("other", TestingClass.class));
+        when(resolver.supports(property)).thenReturn(true);
+        registry.addResolver(resolver);
+        registry.freeze();
+
+        assertThat(registry.findResolverFor(property)).isSameAs(resolver);
+        assertThat(registry.findResolverFor(otherProperty)).isNull();
+    }
+
+    @Test
+    void asksResolversAgainOnEveryLookup() throws Exception {
+        TestingResolver resolver = mock(TestingResolver.class);
+        registry.addResolver(resolver);
+
+        BindingProperty property = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("property", TestingClass.class));
+        assertThat(registry.findResolverFor(property)).isNull();
+        assertThat(registry.findResolverFor(property)).isNull();
+        verify(resolver, times(2)).supports(property);
+    }
+
+    @Test
+    void createsLazyResolverForPropertyWithAnnotation() throws Exception {
+        TestingResolver resolver = new SupportingResolver();
+        AtomicInteger created = new AtomicInteger();
+        registry.addLazyResolver(RequestParameter.class, () -> {
+            created.incrementAndGet();
+            return resolver;
+        });
+        registry.freeze();
+        assertThat(registry.getPropertyResolvers()).isEmpty();
+
+        BindingProperty property = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("property", TestingClass.class));
+        assertThat(registry.findResolverFor(property)).isNull();
+        assertThat(created).hasValue(0);
+
+        BindingProperty annotated = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("annotated", TestingClass.class));
+        assertThat(registry.findResolverFor(annotated)).isSameAs(resolver);
+        assertThat(registry.findResolverFor(annotated)).isSameAs(resolver);
+        assertThat(created).hasValue(1);
+        assertThat(registry.getPropertyResolvers()).containsExactly(resolver);
+    }
+
+    @Test
+    void conflictCheckDoesNotCreateLazyResolvers() throws Exception {
+        TestingResolver resolver = new SupportingResolver();
+        AtomicInteger created = new AtomicInteger();
+        registry.addResolver(resolver);
+        registry.addLazyResolver(RequestParameter.class, () -> {
+            created.incrementAndGet();
+            return new SupportingResolver();
+        });
+        registry.freeze();
+
+        BindingProperty annotated = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("annotated", TestingClass.class));
+        assertThat(registry.findResolverFor(annotated)).isSameAs(resolver);
+        assertThat(created).hasValue(0);
+        assertThat(registry.getPropertyResolvers()).containsExactly(resolver);
+    }
+
+    @Test
+    void asksLazyResolverInGivenOrder() throws Exception {
+        TestingResolver unordered = mock(TestingResolver.class);
+        when(unordered.supports(any(BindingProperty.class))).thenReturn(true);
+        TestingResolver lazy = new SupportingResolver();
+        registry.addResolver(unordered);
+        registry.addLazyResolver(RequestParameter.class, Ordered.HIGHEST_PRECEDENCE, () -> lazy);
+
+        BindingProperty annotated = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("annotated", TestingClass.class));
+        assertThat(registry.findResolverFor(annotated)).isSameAs(lazy);
+        assertThat(registry.getPropertyResolvers()).containsExactly(lazy, unordered);
+    }
+
+    @Test
+    void keepsOrderOfLazyResolvers() throws Exception {
+        TestingResolver first = mock(TestingResolver.class);
+        TestingResolver lazy = new SupportingResolver();
+        TestingResolver last = mock(TestingResolver.class);
+        when(last.supports(any(BindingProperty.class))).thenReturn(true);
+        registry.addResolver(first);
+        registry.addLazyResolver(RequestParameter.class, () -> lazy);
+        registry.addResolver(last);
+
+        BindingProperty annotated = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("annotated", TestingClass.class));
+        assertThat(registry.findResolverFor(annotated)).isSameAs(lazy);
+        assertThat(registry.getPropertyResolvers()).containsExactly(first, lazy, last);
+    }
+
     private interface TestingResolver extends RequestPropertyResolverBase<Object, Object> {}
     private static class TestingRegistry extends AbstractPropertyResolverRegistry<TestingResolver> {}
 
+    private static class SupportingResolver implements TestingResolver {
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return true;
+        }
+
+        @Override
+        @Nullable
+        public Object resolve(BindingProperty bindingProperty, Object request) {
+            return null;
+        }
+    }
+
+    @Order(10)
+    private static class AnnotatedOrderResolver extends SupportingResolver {}
+
+    private static class OrderedResolver extends SupportingResolver implements Ordered {
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
     @SuppressWarnings("unused")
     private static class TestingClass {
         @Nullable
         private String property;
 
+        @Nullable
+        private String other;
+
+        @RequestParameter("annotated")
+        @Nullable
+        private String annotated;
+
         @Nullable
         public String getProperty() {
             return property;
@@ -111,5 +300,23 @@ class AbstractPropertyResolverRegistryTest {
         public void setProperty(String property) {
             this.property = property;
         }
+
+        @Nullable
+        public String getOther() {
+            return other;
+        }
+
+        public void setOther(String other) {
+            this.other = other;
+        }
+
+        @Nullable
+        public String getAnnotated() {
+            return annotated;
+        }
+
+        public void setAnnotated(String annotated) {
+            this.annotated = annotated;
+        }
     }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResolvedValueCacheTest {
+    private AtomicLong ticker;
+    private ResolvedValueCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new AtomicLong();
+        cache = new ResolvedValueCache<>("test", 2, Duration.ofSeconds(10), ticker::get);
+    }
+
+    @Test
+    void loadsValueOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("key", key -> "value" + loads.incrementAndGet())).isEqualTo("value1");
+        assertThat(cache.get("key", key -> "value" + loads.incrementAndGet())).isEqualTo("value1");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cachesNullValues() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("key", key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        assertThat(cache.get("key", key -> "value")).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void reloadsValueAfterTimeToLive() {
+        cache.get("key", key -> "first");
+        ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(cache.get("key", key -> "second")).isEqualTo("second");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedValue() {
+        cache.get("one", key -> "first");
+        ticker.incrementAndGet();
+        cache.get("two", key -> "second");
+        ticker.incrementAndGet();
+        cache.get("one", key -> "unused");
+        ticker.incrementAndGet();
+        cache.get("three", key -> "third");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("one", key -> "reloaded")).isEqualTo("first");
+        assertThat(cache.get("two", key -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedTenthAtOnce() {
+        ResolvedValueCache<Integer, String> large = new ResolvedValueCache<>("test", 20, Duration.ofSeconds(10), ticker::get);
+        for (int i = 0; i < 20; i++) {
+            large.get(i, String::valueOf);
+            ticker.incrementAndGet();
+        }
+        large.get(20, String::valueOf);
+
+        assertThat(large.size()).isEqualTo(19);
+        assertThat(large.getEvictionCount()).isEqualTo(2);
+        assertThat(large.get(0, key -> "reloaded")).isEqualTo("reloaded");
+        assertThat(large.get(2, key -> "reloaded")).isEqualTo("2");
+    }
+
+    @Test
+    void evictsExpiredValuesBeforeLeastRecentlyUsed() {
+        cache.get("one", key -> "first");
+        ticker.addAndGet(Duration.ofSeconds(5).toNanos());
+        cache.get("two", key -> "second");
+        ticker.addAndGet(Duration.ofSeconds(5).toNanos());
+        cache.get("three", key -> "third");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("two", key -> "reloaded")).isEqualTo("second");
+    }
+
+    @Test
+    void sharesLoadOfConcurrentLookups() {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> load = new CompletableFuture<>();
+
+        CompletableFuture<String> first = cache.getAsync("key", key -> {
+            loads.incrementAndGet();
+            return load;
+        });
+        CompletableFuture<String> second = cache.getAsync("key", key -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        load.complete("value");
+
+        assertThat(first).isCompletedWithValue("value");
+        assertThat(second).isCompletedWithValue("value");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void doesNotCacheLoadsInProgressWhenCleared() {
+        CompletableFuture<String> load = new CompletableFuture<>();
+        CompletableFuture<String> first = cache.getAsync("key", key -> load);
+
+        cache.clear();
+        load.complete("stale");
+
+        assertThat(first).isCompletedWithValue("stale");
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("key", key -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void doesNotCacheFailedLoads() {
+        assertThatIllegalStateException().isThrownBy(() -> cache.get("key", key -> {
+            throw new IllegalStateException("Failed");
+        }));
+
+        assertThat(cache.get("key", key -> "value")).isEqualTo("value");
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotWaitForLoadFailedWithError() {
+        assertThatThrownBy(() -> cache.get("key", key -> {
+            throw new AssertionError("Failed");
+        })).isInstanceOf(AssertionError.class);
+
+        assertThat(cache.get("key", key -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    void completesAsyncLookupWhenLoaderThrowsError() {
+        assertThatThrownBy(() -> cache.getAsync("key", key -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        assertThat(cache.getAsync("key", key -> CompletableFuture.completedFuture("value"))).isCompletedWithValue("value");
+    }
+
+    @Test
+    void requiresPositiveMaximumSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ResolvedValueCache<>("test", 0, Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.capture;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrafficProfileTest {
+
+    @Test
+    void recordsValueLengthsPerBeanType() {
+        TrafficProfile profile = new TrafficProfile();
+        profile.record(SearchRequest.class, new RequestShape(Map.of("q", 5, "page", 1), Map.of("accept", 16), Map.of(), 0));
+        profile.record(SearchRequest.class, new RequestShape(Map.of("q", 12), Map.of(), Map.of("session", 32), -1));
+
+        BeanTrafficProfile bean = Objects.requireNonNull(profile.getBean(SearchRequest.class.getName()));
+        assertThat(bean.getRequestCount()).isEqualTo(2);
+        assertThat(bean.getValueLengths(RequestPart.PARAMETER)).containsOnlyKeys("page", "q");
+        assertThat(Objects.requireNonNull(bean.getValueLengths(RequestPart.PARAMETER).get("q")).getBucketCounts()).containsExactly(0, 0, 0, 1, 1);
+        assertThat(bean.getValueLengths(RequestPart.HEADER)).containsOnlyKeys("accept");
+        assertThat(bean.getValueLengths(RequestPart.COOKIE)).containsOnlyKeys("session");
+        assertThat(bean.getBodySizes().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void limitsNumberOfNames() {
+        TrafficProfile profile = new TrafficProfile();
+        Map<String, Integer> parameters = new HashMap<>();
+        for (int i = 0; i < BeanTrafficProfile.MAX_NAMES + 10; i++) {
+            parameters.put("name" + i, 1);
+        }
+        profile.record(SearchRequest.class, new RequestShape(parameters, Map.of(), Map.of(), -1));
+        BeanTrafficProfile bean = Objects.requireNonNull(profile.getBean(SearchRequest.class.getName()));
+        assertThat(bean.getValueLengths(RequestPart.PARAMETER)).hasSize(BeanTrafficProfile.MAX_NAMES);
+    }
+
+    @Test
+    void writesAndReadsProfile() throws IOException {
+        TrafficProfile profile = new TrafficProfile();
+        profile.record(SearchRequest.class, new RequestShape(Map.of("q", 5, "filter[name]", 300), Map.of("x-request-id", 36), Map.of("session", 32), 1024));
+
+        StringWriter writer = new StringWriter();
+        profile.writeTo(writer);
+        assertThat(writer.toString()).contains("filter%5Bname%5D").doesNotContain("filter[name]");
+
+        TrafficProfile read = TrafficProfile.readFrom(new StringReader(writer.toString()));
+        BeanTrafficProfile bean = Objects.requireNonNull(read.getBean(SearchRequest.class.getName()));
+        assertThat(bean.getRequestCount()).isEqualTo(1);
+        assertThat(bean.getValueLengths(RequestPart.PARAMETER)).containsOnlyKeys("q", "filter[name]");
+        assertThat(Objects.requireNonNull(bean.getValueLengths(RequestPart.PARAMETER).get("filter[name]")).getBucketCounts())
+            .containsExactly(0, 0, 0, 0, 0, 0, 0, 0, 0, 1);
+        assertThat(bean.getValueLengths(RequestPart.HEADER)).containsOnlyKeys("x-request-id");
+        assertThat(bean.getValueLengths(RequestPart.COOKIE)).containsOnlyKeys("session");
+        assertThat(bean.getBodySizes().getBucketCounts()).containsExactly(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1);
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        assertThatThrownBy(() -> TrafficProfile.readFrom(new StringReader("version 2\n")))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void rejectsMalformedLine() {
+        assertThatThrownBy(() -> TrafficProfile.readFrom(new StringReader("version 1\nbean a.B 1\nparameter q x,y\n")))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void samplesLengthsWithinRecordedBuckets() {
+        LengthHistogram histogram = new LengthHistogram();
+        histogram.record(0);
+        histogram.record(20);
+        Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            assertThat(histogram.sample(random)).satisfiesAnyOf(
+                length -> assertThat(length).isZero(),
+                length -> assertThat(length).isBetween(16L, 31L));
+        }
+    }
+
+    @Test
+    void samplesZeroFromEmptyHistogram() {
+        assertThat(new LengthHistogram().sample(new Random(42))).isZero();
+    }
+
+    private static class SearchRequest {
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.lang.Nullable;
+
+import java.beans.PropertyDescriptor;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConversionServicePropertyValueConverterTest {
+    private DefaultFormattingConversionService conversionService;
+
+    @BeforeEach
+    void setUp() {
+        conversionService = new DefaultFormattingConversionService();
+    }
+
+    @Test
+    void convertsStringArrayToTargetType() throws Exception {
+        PropertyValueConverter converter = converterFor("number");
+        assertThat(converter.convert(new String[] {"42"})).isEqualTo(42);
+    }
+
+    @Test
+    void convertsListToTargetType() throws Exception {
+        PropertyValueConverter converter = converterFor("number");
+        assertThat(converter.convert(List.of("42"))).isEqualTo(42);
+    }
+
+    @Test
+    void honorsFormattingAnnotations() throws Exception {
+        PropertyValueConverter converter = converterFor("date");
+        assertThat(converter.convert(new String[] {"12/25/2024"})).isEqualTo(LocalDate.of(2024, 12, 25));
+    }
+
+    @Test
+    void returnsNullWhenConversionFails() throws Exception {
+        PropertyValueConverter converter = converterFor("number");
+        assertThat(converter.convert(new String[] {"not a number"})).isNull();
+    }
+
+    @Test
+    void returnsNullWhenConversionIsNotPossible() throws Exception {
+        PropertyValueConverter converter = converterFor("number");
+        assertThat(converter.convert(Collections.emptyMap())).isNull();
+    }
+
+    @Test
+    void returnsConversionService() throws Exception {
+        assertThat(converterFor("number").getConversionService()).isSameAs(conversionService);
+    }
+
+    private PropertyValueConverter converterFor(String propertyName) throws Exception {
+        BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(new PropertyDescriptor(propertyName, TestingBean.class));
+        return new ConversionServicePropertyValueConverter(conversionService, bindingProperty.getTypeDescriptor());
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestingBean {
+        private int number;
+
+        @Nullable
+        @DateTimeFormat(pattern = "MM/dd/yyyy")
+        private LocalDate date;
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+
+        @Nullable
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+    }
+}
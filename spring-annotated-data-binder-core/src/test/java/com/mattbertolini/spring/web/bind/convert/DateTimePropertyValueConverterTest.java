@@ -0,0 +1,256 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import com.mattbertolini.spring.web.bind.annotation.HeaderParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.Formatter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.lang.Nullable;
+
+import java.beans.PropertyDescriptor;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DateTimePropertyValueConverterTest {
+    private DefaultFormattingConversionService conversionService;
+
+    @BeforeEach
+    void setUp() {
+        conversionService = new DefaultFormattingConversionService();
+    }
+
+    @Test
+    void parsesWithPattern() throws Exception {
+        assertThat(converterFor("patternDate").convert(new String[] {"12/25/2024"})).isEqualTo(LocalDate.of(2024, 12, 25));
+    }
+
+    @Test
+    void parsesWithIsoFormat() throws Exception {
+        assertThat(converterFor("isoDateTime").convert(List.of("2024-12-25T10:15:30")))
+            .isEqualTo(LocalDateTime.of(2024, 12, 25, 10, 15, 30));
+    }
+
+    @Test
+    void parsesIsoInstant() throws Exception {
+        assertThat(converterFor("instant").convert("2024-12-25T10:15:30Z"))
+            .isEqualTo(Instant.parse("2024-12-25T10:15:30Z"));
+    }
+
+    @Test
+    void parsesRfc1123Instant() throws Exception {
+        assertThat(converterFor("instant").convert(new String[] {"Wed, 25 Dec 2024 10:15:30 GMT"}))
+            .isEqualTo(Instant.parse("2024-12-25T10:15:30Z"));
+    }
+
+    @Test
+    void leavesInstantsToCustomFormatter() throws Exception {
+        conversionService.addFormatterForFieldType(Instant.class, new Formatter<Instant>() {
+            @Override
+            public Instant parse(String text, Locale locale) {
+                return Instant.ofEpochSecond(Long.parseLong(text));
+            }
+
+            @Override
+            public String print(Instant object, Locale locale) {
+                return String.valueOf(object.getEpochSecond());
+            }
+        });
+        assertThat(DateTimePropertyValueConverter.forProperty(bindingProperty("instant"), fallbackFor("instant"))).isNull();
+        PropertyValueConverter converter = Objects.requireNonNull(
+            new PropertyValueConverterFactory(conversionService).getConverterFor(bindingProperty("instant")));
+        assertThat(converter.convert(new String[] {"1735121730"})).isEqualTo(Instant.parse("2024-12-25T10:15:30Z"));
+    }
+
+    @Test
+    void parsesRfc1123HeaderIntoZonedDateTimeWhenEnabled() throws Exception {
+        PropertyValueConverter converter = Objects.requireNonNull(DateTimePropertyValueConverter.forProperty(
+            bindingProperty("ifModifiedSince"), fallbackFor("ifModifiedSince"), true));
+        assertThat(converter.convert(List.of("Wed, 25 Dec 2024 10:15:30 GMT")))
+            .isEqualTo(ZonedDateTime.of(2024, 12, 25, 10, 15, 30, 0, ZoneOffset.UTC));
+    }
+
+    @Test
+    void notCreatedForRfc1123HeadersByDefault() throws Exception {
+        assertThat(DateTimePropertyValueConverter.forProperty(bindingProperty("ifModifiedSince"), fallbackFor("ifModifiedSince"))).isNull();
+    }
+
+    @Test
+    void leavesZonedDateTimeHeadersToCustomConverter() throws Exception {
+        conversionService.addConverter(String.class, ZonedDateTime.class,
+            text -> Instant.ofEpochSecond(Long.parseLong(text)).atZone(ZoneOffset.UTC));
+        PropertyValueConverter converter = Objects.requireNonNull(
+            new PropertyValueConverterFactory(conversionService).getConverterFor(bindingProperty("ifModifiedSince")));
+        assertThat(converter).isNotInstanceOf(DateTimePropertyValueConverter.class);
+        assertThat(converter.convert(new String[] {"1735121730"}))
+            .isEqualTo(ZonedDateTime.of(2024, 12, 25, 10, 15, 30, 0, ZoneOffset.UTC));
+    }
+
+    @Test
+    void returnsNullForInvalidValues() throws Exception {
+        assertThat(converterFor("patternDate").convert(new String[] {"2024-12-25"})).isNull();
+        assertThat(converterFor("instant").convert(new String[] {"yesterday"})).isNull();
+    }
+
+    @Test
+    void fallsBackToConversionServiceForFallbackPatterns() throws Exception {
+        assertThat(converterFor("fallbackPatternDate").convert(new String[] {"2024-12-25"})).isEqualTo(LocalDate.of(2024, 12, 25));
+    }
+
+    @Test
+    void notCreatedForStyleBasedFormats() throws Exception {
+        assertThat(DateTimePropertyValueConverter.forProperty(bindingProperty("styleDate"), fallbackFor("styleDate"))).isNull();
+    }
+
+    @Test
+    void notCreatedForUnannotatedLocalTypes() throws Exception {
+        assertThat(DateTimePropertyValueConverter.forProperty(bindingProperty("plainDate"), fallbackFor("plainDate"))).isNull();
+    }
+
+    @Test
+    void notCreatedForZonedDateTimeOutsideHeaders() throws Exception {
+        assertThat(DateTimePropertyValueConverter.forProperty(bindingProperty("zonedParam"), fallbackFor("zonedParam"), true)).isNull();
+    }
+
+    private PropertyValueConverter converterFor(String propertyName) throws Exception {
+        return Objects.requireNonNull(DateTimePropertyValueConverter.forProperty(bindingProperty(propertyName), fallbackFor(propertyName)));
+    }
+
+    private PropertyValueConverter fallbackFor(String propertyName) throws Exception {
+        return new ConversionServicePropertyValueConverter(conversionService, bindingProperty(propertyName).getTypeDescriptor());
+    }
+
+    private BindingProperty bindingProperty(String propertyName) throws Exception {
+        return BindingProperty.forPropertyDescriptor(new PropertyDescriptor(propertyName, TestingBean.class));
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestingBean {
+        @Nullable
+        @DateTimeFormat(pattern = "MM/dd/yyyy")
+        private LocalDate patternDate;
+
+        @Nullable
+        @DateTimeFormat(pattern = "MM/dd/yyyy", fallbackPatterns = "yyyy-MM-dd")
+        private LocalDate fallbackPatternDate;
+
+        @Nullable
+        @DateTimeFormat(style = "M-")
+        private LocalDate styleDate;
+
+        @Nullable
+        private LocalDate plainDate;
+
+        @Nullable
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime isoDateTime;
+
+        @Nullable
+        private Instant instant;
+
+        @Nullable
+        @HeaderParameter("If-Modified-Since")
+        private ZonedDateTime ifModifiedSince;
+
+        @Nullable
+        @RequestParameter("zoned")
+        private ZonedDateTime zonedParam;
+
+        @Nullable
+        public LocalDate getPatternDate() {
+            return patternDate;
+        }
+
+        public void setPatternDate(LocalDate patternDate) {
+            this.patternDate = patternDate;
+        }
+
+        @Nullable
+        public LocalDate getFallbackPatternDate() {
+            return fallbackPatternDate;
+        }
+
+        public void setFallbackPatternDate(LocalDate fallbackPatternDate) {
+            this.fallbackPatternDate = fallbackPatternDate;
+        }
+
+        @Nullable
+        public LocalDate getStyleDate() {
+            return styleDate;
+        }
+
+        public void setStyleDate(LocalDate styleDate) {
+            this.styleDate = styleDate;
+        }
+
+        @Nullable
+        public LocalDate getPlainDate() {
+            return plainDate;
+        }
+
+        public void setPlainDate(LocalDate plainDate) {
+            this.plainDate = plainDate;
+        }
+
+        @Nullable
+        public LocalDateTime getIsoDateTime() {
+            return isoDateTime;
+        }
+
+        public void setIsoDateTime(LocalDateTime isoDateTime) {
+            this.isoDateTime = isoDateTime;
+        }
+
+        @Nullable
+        public Instant getInstant() {
+            return instant;
+        }
+
+        public void setInstant(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Nullable
+        public ZonedDateTime getIfModifiedSince() {
+            return ifModifiedSince;
+        }
+
+        public void setIfModifiedSince(ZonedDateTime ifModifiedSince) {
+            this.ifModifiedSince = ifModifiedSince;
+        }
+
+        @Nullable
+        public ZonedDateTime getZonedParam() {
+            return zonedParam;
+        }
+
+        public void setZonedParam(ZonedDateTime zonedParam) {
+            this.zonedParam = zonedParam;
+        }
+    }
+}
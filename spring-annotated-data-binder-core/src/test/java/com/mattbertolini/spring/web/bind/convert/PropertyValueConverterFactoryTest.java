@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.lang.Nullable;
+
+import java.beans.PropertyDescriptor;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyValueConverterFactoryTest {
+    private DefaultFormattingConversionService conversionService;
+    private PropertyValueConverterFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        conversionService = new DefaultFormattingConversionService();
+        // Counts in dozens, to tell it apart from parsing the value directly
+        conversionService.addConverter(String.class, Integer.class, source -> Integer.parseInt(source) * 12);
+        factory = new PropertyValueConverterFactory(conversionService);
+    }
+
+    @Test
+    void usesCustomConverterForSimpleTypesByDefault() throws Exception {
+        assertThat(factory.isSimpleTypeConversion()).isFalse();
+        assertThat(converterFor("quantity").convert(new String[] {"2"})).isEqualTo(24);
+    }
+
+    @Test
+    void parsesSimpleTypesDirectlyWhenEnabled() throws Exception {
+        factory.setSimpleTypeConversion(true);
+        assertThat(converterFor("quantity")).isInstanceOf(SimpleTypePropertyValueConverter.class);
+        assertThat(converterFor("quantity").convert(new String[] {"2"})).isEqualTo(2);
+    }
+
+    private PropertyValueConverter converterFor(String propertyName) throws Exception {
+        BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(new PropertyDescriptor(propertyName, TestingBean.class));
+        return Objects.requireNonNull(factory.getConverterFor(bindingProperty));
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestingBean {
+        @Nullable
+        private Integer quantity;
+
+        @Nullable
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+    }
+}
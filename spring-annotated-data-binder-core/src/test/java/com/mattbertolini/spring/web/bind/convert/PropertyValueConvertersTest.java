@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.propertyeditors.CustomNumberEditor;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.DataBinder;
+
+import java.beans.PropertyDescriptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyValueConvertersTest {
+    private DefaultFormattingConversionService conversionService;
+    private ResolvedPropertyData propertyData;
+    private DataBinder binder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        conversionService = new DefaultFormattingConversionService();
+        BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("number", TestingBean.class));
+        PropertyValueConverter converter = new PropertyValueConverterFactory(conversionService).getConverterFor(bindingProperty);
+        propertyData = new ResolvedPropertyData("number", bindingProperty, new StubResolver(), converter);
+        binder = new DataBinder(new TestingBean());
+        binder.setConversionService(conversionService);
+    }
+
+    @Test
+    void convertsValue() {
+        assertThat(PropertyValueConverters.convertForBinding(propertyData, new String[] {"42"}, binder)).isEqualTo(42);
+    }
+
+    @Test
+    void returnsOriginalValueWhenNoConverterPresent() {
+        ResolvedPropertyData noConverter = new ResolvedPropertyData("number", propertyData.bindingProperty(), new StubResolver());
+        String[] value = {"42"};
+        assertThat(PropertyValueConverters.convertForBinding(noConverter, value, binder)).isSameAs(value);
+    }
+
+    @Test
+    void returnsOriginalValueWhenBinderUsesDifferentConversionService() {
+        DataBinder anotherBinder = new DataBinder(new TestingBean());
+        anotherBinder.setConversionService(new DefaultFormattingConversionService());
+        String[] value = {"42"};
+        assertThat(PropertyValueConverters.convertForBinding(propertyData, value, anotherBinder)).isSameAs(value);
+    }
+
+    @Test
+    void returnsOriginalValueWhenCustomEditorRegistered() {
+        binder.registerCustomEditor(int.class, new CustomNumberEditor(Integer.class, true));
+        String[] value = {"42"};
+        assertThat(PropertyValueConverters.convertForBinding(propertyData, value, binder)).isSameAs(value);
+    }
+
+    @Test
+    void returnsOriginalValueWhenConversionFails() {
+        String[] value = {"not a number"};
+        assertThat(PropertyValueConverters.convertForBinding(propertyData, value, binder)).isSameAs(value);
+    }
+
+    private static class StubResolver implements RequestPropertyResolverBase<Object, Object> {
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return true;
+        }
+
+        @Override
+        @Nullable
+        public Object resolve(BindingProperty bindingProperty, Object request) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestingBean {
+        private int number;
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.convert;
+
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.annotation.NumberFormat;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.lang.Nullable;
+
+import java.beans.PropertyDescriptor;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimpleTypePropertyValueConverterTest {
+    private DefaultFormattingConversionService conversionService;
+
+    @BeforeEach
+    void setUp() {
+        conversionService = new DefaultFormattingConversionService();
+    }
+
+    @Test
+    void parsesPrimitives() throws Exception {
+        assertThat(converterFor("primitiveInt").convert(new String[] {"42"})).isEqualTo(42);
+        assertThat(converterFor("primitiveLong").convert(new String[] {"-9000000000"})).isEqualTo(-9_000_000_000L);
+        assertThat(converterFor("primitiveBoolean").convert(new String[] {"on"})).isEqualTo(true);
+        assertThat(converterFor("primitiveDouble").convert(new String[] {"1.5"})).isEqualTo(1.5d);
+    }
+
+    @Test
+    void parsesWrapperTypes() throws Exception {
+        assertThat(converterFor("wrapperInteger").convert("7")).isEqualTo(7);
+        assertThat(converterFor("wrapperBoolean").convert(List.of("FALSE"))).isEqualTo(false);
+    }
+
+    @Test
+    void parsesUuid() throws Exception {
+        UUID expected = UUID.randomUUID();
+        assertThat(converterFor("uuid").convert(new String[] {expected.toString()})).isEqualTo(expected);
+    }
+
+    @Test
+    void parsesEnum() throws Exception {
+        assertThat(converterFor("color").convert(new String[] {"GREEN"})).isEqualTo(Color.GREEN);
+    }
+
+    @Test
+    void enumsAreCaseSensitiveByDefault() throws Exception {
+        assertThat(converterFor("color").convert(new String[] {"green"})).isNull();
+    }
+
+    @Test
+    void parsesEnumIgnoringCaseWhenEnabled() throws Exception {
+        PropertyValueConverter converter = Objects.requireNonNull(SimpleTypePropertyValueConverter.forProperty(
+            bindingProperty("color"), fallbackFor("color"), true));
+        assertThat(converter.convert(new String[] {"green"})).isEqualTo(Color.GREEN);
+    }
+
+    @Test
+    void fallsBackToConversionServiceForHexNumbers() throws Exception {
+        assertThat(converterFor("primitiveInt").convert(new String[] {"0x1F"})).isEqualTo(31);
+    }
+
+    @Test
+    void fallsBackToConversionServiceForWhitespace() throws Exception {
+        assertThat(converterFor("wrapperInteger").convert(new String[] {" 12 "})).isEqualTo(12);
+    }
+
+    @Test
+    void returnsNullForInvalidValues() throws Exception {
+        assertThat(converterFor("primitiveInt").convert(new String[] {"not a number"})).isNull();
+        assertThat(converterFor("wrapperBoolean").convert(new String[] {"maybe"})).isNull();
+        assertThat(converterFor("uuid").convert(new String[] {"not-a-uuid"})).isNull();
+        assertThat(converterFor("color").convert(new String[] {"PURPLE"})).isNull();
+    }
+
+    @Test
+    void returnsNullForOverflow() throws Exception {
+        assertThat(converterFor("primitiveInt").convert(new String[] {"99999999999"})).isNull();
+    }
+
+    @Test
+    void notCreatedForUnsupportedTypes() throws Exception {
+        assertThat(SimpleTypePropertyValueConverter.forProperty(bindingProperty("string"), fallbackFor("string"), false)).isNull();
+    }
+
+    @Test
+    void notCreatedForFormattedNumbers() throws Exception {
+        assertThat(SimpleTypePropertyValueConverter.forProperty(bindingProperty("formatted"), fallbackFor("formatted"), false)).isNull();
+    }
+
+    @Test
+    void usesFallbackConversionService() throws Exception {
+        assertThat(converterFor("primitiveInt").getConversionService()).isSameAs(conversionService);
+    }
+
+    private PropertyValueConverter converterFor(String propertyName) throws Exception {
+        return Objects.requireNonNull(SimpleTypePropertyValueConverter.forProperty(
+            bindingProperty(propertyName), fallbackFor(propertyName), false));
+    }
+
+    private PropertyValueConverter fallbackFor(String propertyName) throws Exception {
+        return new ConversionServicePropertyValueConverter(conversionService, bindingProperty(propertyName).getTypeDescriptor());
+    }
+
+    private BindingProperty bindingProperty(String propertyName) throws Exception {
+        return BindingProperty.forPropertyDescriptor(new PropertyDescriptor(propertyName, TestingBean.class));
+    }
+
+    enum Color {
+        RED, GREEN, BLUE
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestingBean {
+        private int primitiveInt;
+        private long primitiveLong;
+        private boolean primitiveBoolean;
+        private double primitiveDouble;
+        @Nullable
+        private Integer wrapperInteger;
+        @Nullable
+        private Boolean wrapperBoolean;
+        @Nullable
+        private UUID uuid;
+        @Nullable
+        private Color color;
+        @Nullable
+        private String string;
+        @Nullable
+        @NumberFormat(pattern = "#,##0")
+        private Integer formatted;
+
+        public int getPrimitiveInt() {
+            return primitiveInt;
+        }
+
+        public void setPrimitiveInt(int primitiveInt) {
+            this.primitiveInt = primitiveInt;
+        }
+
+        public long getPrimitiveLong() {
+            return primitiveLong;
+        }
+
+        public void setPrimitiveLong(long primitiveLong) {
+            this.primitiveLong = primitiveLong;
+        }
+
+        public boolean isPrimitiveBoolean() {
+            return primitiveBoolean;
+        }
+
+        public void setPrimitiveBoolean(boolean primitiveBoolean) {
+            this.primitiveBoolean = primitiveBoolean;
+        }
+
+        public double getPrimitiveDouble() {
+            return primitiveDouble;
+        }
+
+        public void setPrimitiveDouble(double primitiveDouble) {
+            this.primitiveDouble = primitiveDouble;
+        }
+
+        @Nullable
+        public Integer getWrapperInteger() {
+            return wrapperInteger;
+        }
+
+        public void setWrapperInteger(Integer wrapperInteger) {
+            this.wrapperInteger = wrapperInteger;
+        }
+
+        @Nullable
+        public Boolean getWrapperBoolean() {
+            return wrapperBoolean;
+        }
+
+        public void setWrapperBoolean(Boolean wrapperBoolean) {
+            this.wrapperBoolean = wrapperBoolean;
+        }
+
+        @Nullable
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        public void setUuid(UUID uuid) {
+            this.uuid = uuid;
+        }
+
+        @Nullable
+        public Color getColor() {
+            return color;
+        }
+
+        public void setColor(Color color) {
+            this.color = color;
+        }
+
+        @Nullable
+        public String getString() {
+            return string;
+        }
+
+        public void setString(String string) {
+            this.string = string;
+        }
+
+        @Nullable
+        public Integer getFormatted() {
+            return formatted;
+        }
+
+        public void setFormatted(Integer formatted) {
+            this.formatted = formatted;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.direct;
+
+import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.SessionAttributes;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.method.ControllerAdviceBean;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DirectBinderTest {
+    private AnnotatedRequestBeanIntrospector introspector;
+    private ConfigurableWebBindingInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        introspector = mock(AnnotatedRequestBeanIntrospector.class);
+        when(introspector.getResolversFor(DirectBindingPlanTest.SimpleBean.class)).thenReturn(Collections.emptyList());
+        initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+    }
+
+    @Test
+    void createsPlanForDirectParameter() throws Exception {
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, Collections::emptyList, false);
+        DirectBindingPlan plan = directBinder.getPlan(parameter(Controller.class, "direct"));
+        assertThat(plan).isNotNull()
+            .extracting(DirectBindingPlan::getBeanType).isEqualTo(DirectBindingPlanTest.SimpleBean.class);
+    }
+
+    @Test
+    void bindsParametersDirectlyOnlyWhenEnabled() throws Exception {
+        MethodParameter parameter = parameter(Controller.class, "notDirect");
+        assertThat(new DirectBinder(introspector, initializer, Collections::emptyList, false).getPlan(parameter)).isNull();
+        assertThat(new DirectBinder(introspector, initializer, Collections::emptyList, true).getPlan(parameter)).isNotNull();
+    }
+
+    @Test
+    void remembersPlanForParameter() throws Exception {
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, Collections::emptyList, false);
+        MethodParameter parameter = parameter(Controller.class, "direct");
+        assertThat(directBinder.getPlan(parameter)).isSameAs(directBinder.getPlan(parameter));
+        verify(introspector, times(1)).getResolversFor(DirectBindingPlanTest.SimpleBean.class);
+    }
+
+    @Test
+    void createsPlanAgainOnceEvicted() throws Exception {
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, Collections::emptyList, false);
+        MethodParameter parameter = parameter(Controller.class, "direct");
+        DirectBindingPlan plan = directBinder.getPlan(parameter);
+        directBinder.evict(List.of(DirectBindingPlanTest.SimpleBean.class));
+
+        assertThat(directBinder.getPlan(parameter)).isNotNull().isNotSameAs(plan);
+        verify(introspector, times(2)).getResolversFor(DirectBindingPlanTest.SimpleBean.class);
+    }
+
+    @Test
+    void noPlanForValidatedParameter() throws Exception {
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, Collections::emptyList, true);
+        assertThat(directBinder.getPlan(parameter(Controller.class, "validated"))).isNull();
+    }
+
+    @Test
+    void noPlanForParameterFollowedByBindingResult() throws Exception {
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, Collections::emptyList, true);
+        MethodParameter parameter = new MethodParameter(
+            Controller.class.getMethod("withBindingResult", DirectBindingPlanTest.SimpleBean.class, BindingResult.class), 0);
+        assertThat(directBinder.getPlan(parameter)).isNull();
+    }
+
+    @Test
+    void noPlanWhenControllerHasInitBinderMethods() throws Exception {
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, Collections::emptyList, true);
+        assertThat(directBinder.getPlan(parameter(InitBinderController.class, "direct"))).isNull();
+    }
+
+    @Test
+    void noPlanWhenControllerAdviceHasInitBinderMethods() throws Exception {
+        ControllerAdviceBean advice = mock(ControllerAdviceBean.class);
+        when(advice.getBeanType()).thenAnswer(invocation -> InitBinderController.class);
+        when(advice.isApplicableToBeanType(Controller.class)).thenReturn(true);
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, () -> List.of(advice), true);
+        assertThat(directBinder.getPlan(parameter(Controller.class, "direct"))).isNull();
+    }
+
+    @Test
+    void noPlanWhenControllerHasSessionAttributes() throws Exception {
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, Collections::emptyList, true);
+        assertThat(directBinder.getPlan(parameter(SessionAttributesController.class, "direct"))).isNull();
+    }
+
+    @Test
+    void noPlanWhenControllerHasModelAttributeMethods() throws Exception {
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, Collections::emptyList, true);
+        assertThat(directBinder.getPlan(parameter(ModelAttributeController.class, "direct"))).isNull();
+    }
+
+    @Test
+    void noPlanWhenControllerAdviceHasModelAttributeMethods() throws Exception {
+        ControllerAdviceBean advice = mock(ControllerAdviceBean.class);
+        when(advice.getBeanType()).thenAnswer(invocation -> ModelAttributeController.class);
+        when(advice.isApplicableToBeanType(Controller.class)).thenReturn(true);
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, () -> List.of(advice), true);
+        assertThat(directBinder.getPlan(parameter(Controller.class, "direct"))).isNull();
+    }
+
+    @Test
+    void noPlanWithoutConfigurableInitializer() throws Exception {
+        DirectBinder directBinder = new DirectBinder(introspector, null, Collections::emptyList, true);
+        assertThat(directBinder.getPlan(parameter(Controller.class, "direct"))).isNull();
+    }
+
+    @Test
+    void noPlanWhenInitializerUsesFieldAccess() throws Exception {
+        initializer.setDirectFieldAccess(true);
+        DirectBinder directBinder = new DirectBinder(introspector, initializer, Collections::emptyList, true);
+        assertThat(directBinder.getPlan(parameter(Controller.class, "direct"))).isNull();
+    }
+
+    private static MethodParameter parameter(Class<?> controllerType, String methodName) throws NoSuchMethodException {
+        return new MethodParameter(controllerType.getMethod(methodName, DirectBindingPlanTest.SimpleBean.class), 0);
+    }
+
+    @SuppressWarnings("unused")
+    public static class Controller {
+        public void direct(@BeanParameter(direct = true) DirectBindingPlanTest.SimpleBean bean) {}
+
+        public void notDirect(@BeanParameter DirectBindingPlanTest.SimpleBean bean) {}
+
+        public void validated(@BeanParameter(direct = true) @Validated DirectBindingPlanTest.SimpleBean bean) {}
+
+        public void withBindingResult(@BeanParameter(direct = true) DirectBindingPlanTest.SimpleBean bean, BindingResult bindingResult) {}
+    }
+
+    @SuppressWarnings("unused")
+    public static class InitBinderController {
+        @InitBinder
+        public void initBinder(WebDataBinder binder) {}
+
+        public void direct(@BeanParameter(direct = true) DirectBindingPlanTest.SimpleBean bean) {}
+    }
+
+    @SuppressWarnings("unused")
+    @SessionAttributes(types = DirectBindingPlanTest.SimpleBean.class)
+    public static class SessionAttributesController {
+        public void direct(@BeanParameter(direct = true) DirectBindingPlanTest.SimpleBean bean) {}
+    }
+
+    @SuppressWarnings("unused")
+    public static class ModelAttributeController {
+        @ModelAttribute("bean")
+        public DirectBindingPlanTest.SimpleBean bean() {
+            return new DirectBindingPlanTest.SimpleBean();
+        }
+
+        public void direct(@BeanParameter(direct = true) DirectBindingPlanTest.SimpleBean bean) {}
+    }
+}
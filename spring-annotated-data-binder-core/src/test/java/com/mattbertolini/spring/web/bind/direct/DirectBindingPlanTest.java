@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.direct;
+
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverter;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.lang.Nullable;
+
+import java.beans.PropertyDescriptor;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DirectBindingPlanTest {
+    private DefaultConversionService conversionService;
+    private RequestPropertyResolverBase<?, ?> resolver;
+
+    @BeforeEach
+    void setUp() {
+        conversionService = new DefaultConversionService();
+        resolver = mock(RequestPropertyResolverBase.class);
+    }
+
+    @Test
+    void bindsValues() throws Exception {
+        DirectBindingPlan plan = createPlan(SimpleBean.class, List.of(
+            propertyData("name", SimpleBean.class, "name"),
+            propertyData("count", SimpleBean.class, "count"),
+            propertyData("nested.value", NestedBean.class, "value")
+        ));
+
+        Object actual = plan.bind(Map.of("name", "expected", "count", new String[] {"42"}, "nested.value", "nested"));
+
+        assertThat(actual).isInstanceOfSatisfying(SimpleBean.class, bean -> {
+            assertThat(bean.getName()).isEqualTo("expected");
+            assertThat(bean.getCount()).isEqualTo(42);
+            assertThat(bean.getNested()).isNotNull().extracting(NestedBean::getValue).isEqualTo("nested");
+        });
+    }
+
+    @Test
+    void leavesPropertiesWithoutValues() throws Exception {
+        DirectBindingPlan plan = createPlan(SimpleBean.class, List.of(
+            propertyData("name", SimpleBean.class, "name"),
+            propertyData("nested.value", NestedBean.class, "value")
+        ));
+
+        Object actual = plan.bind(Collections.emptyMap());
+
+        assertThat(actual).isInstanceOfSatisfying(SimpleBean.class, bean -> {
+            assertThat(bean.getName()).isNull();
+            assertThat(bean.getNested()).isNull();
+        });
+    }
+
+    @Test
+    void returnsNullWhenValueCannotBeConverted() throws Exception {
+        DirectBindingPlan plan = createPlan(SimpleBean.class, List.of(propertyData("count", SimpleBean.class, "count")));
+        assertThat(plan.bind(Map.of("count", "not a number"))).isNull();
+    }
+
+    @Test
+    void usesValueConverterOfSameConversionService() throws Exception {
+        PropertyValueConverter converter = mock(PropertyValueConverter.class);
+        when(converter.getConversionService()).thenReturn(conversionService);
+        when(converter.convert("forty two")).thenReturn(42);
+        BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("count", SimpleBean.class));
+        DirectBindingPlan plan = createPlan(SimpleBean.class, List.of(new ResolvedPropertyData("count", bindingProperty, resolver, converter)));
+
+        Object actual = plan.bind(Map.of("count", "forty two"));
+
+        assertThat(actual).isInstanceOfSatisfying(SimpleBean.class, bean -> assertThat(bean.getCount()).isEqualTo(42));
+    }
+
+    @Test
+    void noPlanWithoutNoArgumentConstructor() throws Exception {
+        assertThat(DirectBindingPlan.create(ConstructorBean.class, List.of(propertyData("name", ConstructorBean.class, "name")), conversionService))
+            .isNull();
+        assertThat(DirectBindingPlan.create(RecordBean.class, Collections.emptyList(), conversionService)).isNull();
+    }
+
+    @Test
+    void noPlanWithoutSetter() throws Exception {
+        PropertyDescriptor descriptor = new PropertyDescriptor("name", ReadOnlyBean.class, "getName", null);
+        ResolvedPropertyData propertyData = new ResolvedPropertyData("name", BindingProperty.forPropertyDescriptor(descriptor), resolver);
+        assertThat(DirectBindingPlan.create(ReadOnlyBean.class, List.of(propertyData), conversionService)).isNull();
+    }
+
+    private DirectBindingPlan createPlan(Class<?> beanType, List<ResolvedPropertyData> propertyData) {
+        DirectBindingPlan plan = DirectBindingPlan.create(beanType, propertyData, conversionService);
+        assertThat(plan).isNotNull();
+        assertThat(plan.getBeanType()).isEqualTo(beanType);
+        assertThat(plan.getPropertyData()).isSameAs(propertyData);
+        return plan;
+    }
+
+    private ResolvedPropertyData propertyData(String propertyName, Class<?> declaringType, String property) throws Exception {
+        BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(new PropertyDescriptor(property, declaringType));
+        return new ResolvedPropertyData(propertyName, bindingProperty, resolver);
+    }
+
+    @SuppressWarnings("unused")
+    public static class SimpleBean {
+        @Nullable
+        private String name;
+        private int count;
+        @Nullable
+        private NestedBean nested;
+
+        @Nullable
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        @Nullable
+        public NestedBean getNested() {
+            return nested;
+        }
+
+        public void setNested(NestedBean nested) {
+            this.nested = nested;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class NestedBean {
+        @Nullable
+        private String value;
+
+        @Nullable
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class ConstructorBean {
+        private String name;
+
+        public ConstructorBean(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class ReadOnlyBean {
+        public String getName() {
+            return "read only";
+        }
+    }
+
+    public record RecordBean(String name) {}
+}
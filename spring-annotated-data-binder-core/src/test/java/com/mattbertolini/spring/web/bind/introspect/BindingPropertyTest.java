@@ -17,6 +17,7 @@ package com.mattbertolini.spring.web.bind.introspect;
 
 import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -141,6 +142,9 @@ class BindingPropertyTest {
             .withPrefabValues(MethodParameter.class,
                 new MethodParameter(BindingProperty.class.getMethod("getType"), -1),
                 new MethodParameter(BindingProperty.class.getMethod("getObjectType"), -1))
+            .withCachedHashCode("hashCode", "computeHashCode",
+                BindingProperty.forPropertyDescriptor(aPropertyDescriptor("stringProperty")))
+            .suppress(Warning.NULL_FIELDS)
             .verify();
     }
 
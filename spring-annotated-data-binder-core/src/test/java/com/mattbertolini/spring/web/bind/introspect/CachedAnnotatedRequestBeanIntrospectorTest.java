@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.introspect;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedAnnotatedRequestBeanIntrospectorTest {
+    private AtomicInteger introspections;
+    private List<Class<?>> evicted;
+    private CachedAnnotatedRequestBeanIntrospector cache;
+
+    @BeforeEach
+    void setUp() {
+        introspections = new AtomicInteger();
+        evicted = new ArrayList<>();
+        AtomicLong ticker = new AtomicLong();
+        AnnotatedRequestBeanIntrospector delegate = new AnnotatedRequestBeanIntrospector() {
+            @Override
+            public Map<String, ResolvedPropertyData> getResolverMapFor(Class<?> targetType) {
+                introspections.incrementAndGet();
+                return Collections.emptyMap();
+            }
+
+            @Override
+            public void evict(Collection<Class<?>> targetTypes) {
+                evicted.addAll(targetTypes);
+            }
+        };
+        cache = new CachedAnnotatedRequestBeanIntrospector(delegate, ticker::incrementAndGet);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedTypeWhenFull() {
+        cache.setMaximumSize(2);
+        cache.getResolverMapFor(String.class);
+        cache.getResolverMapFor(Integer.class);
+        cache.getResolverMapFor(String.class);
+        cache.getResolverMapFor(Long.class);
+
+        assertThat(cache.getCachedEntries()).containsOnlyKeys(String.class, Long.class);
+        assertThat(evicted).containsExactly(Integer.class);
+    }
+
+    @Test
+    void evictsTenthOfCacheAtOnceWhenFull() {
+        List<Class<?>> types = List.of(String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class,
+            Float.class, Character.class, Boolean.class, Object.class, Number.class, StringBuilder.class,
+            StringBuffer.class, Thread.class, Runnable.class, Iterable.class, Collection.class, List.class, Map.class,
+            ArrayList.class, AtomicLong.class);
+        List<List<Class<?>>> listened = new ArrayList<>();
+        cache.addEvictionListener(listened::add);
+        cache.setMaximumSize(20);
+        types.forEach(cache::getResolverMapFor);
+
+        assertThat(cache.size()).isEqualTo(19);
+        assertThat(listened).containsExactly(List.of(String.class, Integer.class));
+    }
+
+    @Test
+    void doesNotTrackLookupsWhenUnbounded() {
+        AtomicInteger ticks = new AtomicInteger();
+        CachedAnnotatedRequestBeanIntrospector unbounded = new CachedAnnotatedRequestBeanIntrospector(
+            targetType -> Collections.emptyMap(), ticks::incrementAndGet);
+        unbounded.getResolverMapFor(String.class);
+        unbounded.getResolverMapFor(String.class);
+
+        assertThat(ticks).hasValue(0);
+    }
+
+    @Test
+    void evictsTypesFromCacheAndDelegate() {
+        cache.getResolverMapFor(String.class);
+        cache.getResolverMapFor(Integer.class);
+        cache.evict(List.of(String.class));
+        cache.getResolverMapFor(String.class);
+
+        assertThat(evicted).containsExactly(String.class);
+        assertThat(introspections).hasValue(3);
+    }
+
+    @Test
+    void tellsEvictionListenersAboutEvictedTypes() {
+        List<Class<?>> listened = new ArrayList<>();
+        cache.addEvictionListener(listened::addAll);
+        cache.setMaximumSize(1);
+        cache.getResolverMapFor(String.class);
+        cache.getResolverMapFor(Integer.class);
+        cache.evict(List.of(Integer.class));
+
+        assertThat(listened).containsExactly(String.class, Integer.class);
+    }
+
+    @Test
+    void cachesNewTypeAfterEviction() {
+        cache.setMaximumSize(1);
+        cache.getResolverMapFor(String.class);
+        cache.getResolverMapFor(Integer.class);
+        cache.getResolverMapFor(Integer.class);
+
+        assertThat(introspections).hasValue(2);
+        assertThat(cache.getCachedEntries()).containsOnlyKeys(Integer.class);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cachesNothingWithMaximumSizeOfZero() {
+        cache.setMaximumSize(0);
+        cache.getResolverMapFor(String.class);
+        cache.getResolverMapFor(String.class);
+
+        assertThat(introspections).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -16,13 +16,21 @@
 package com.mattbertolini.spring.web.bind.introspect;
 
 import com.mattbertolini.spring.web.bind.introspect.scan.IgnoredBean;
+import com.mattbertolini.spring.web.bind.jfr.RequestBeanScanEvent;
 import com.mattbertolini.spring.web.bind.introspect.scan.ScannedBean;
 import com.mattbertolini.spring.web.bind.introspect.scan.subbackage.SubpackageBean;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +38,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -69,6 +78,76 @@ class ClassPathScanningAnnotatedRequestBeanIntrospectorTest {
         assertThatThrownBy(introspector::afterPropertiesSet).isInstanceOf(RequestBeanIntrospectionException.class);
     }
 
+    @Test
+    void readsRequestBeansFromIndex() {
+        Set<String> packages = Collections.singleton("com.mattbertolini.spring.web.bind.introspect.scan");
+        RequestBeanIndex index = new RequestBeanIndex(List.of(ScannedBean.class.getName(), "com.mattbertolini.spring.web.bind.other.OtherBean"));
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegateIntrospector, packages, index);
+        introspector.afterPropertiesSet();
+        assertThat(introspector.isIndexed()).isTrue();
+        verify(delegateIntrospector).getResolverMapFor(ScannedBean.class);
+        verify(delegateIntrospector, never()).getResolverMapFor(SubpackageBean.class);
+        assertThat(introspector.getIntrospectorCache().size()).isEqualTo(1);
+    }
+
+    @Test
+    void scansPackagePatternsEvenWithIndex() {
+        Set<String> packages = Collections.singleton("com.mattbertolini.spring.web.bind.introspect.**.subbackage");
+        RequestBeanIndex index = new RequestBeanIndex(List.of(ScannedBean.class.getName()));
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegateIntrospector, packages, index);
+        introspector.afterPropertiesSet();
+        verify(delegateIntrospector).getResolverMapFor(SubpackageBean.class);
+        verify(delegateIntrospector, never()).getResolverMapFor(ScannedBean.class);
+    }
+
+    @Test
+    void scansWithoutIndex() {
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegateIntrospector, null, null);
+        assertThat(introspector.isIndexed()).isFalse();
+    }
+
+    @Test
+    void introspectsOnScanThreads() {
+        Set<String> packages = Collections.singleton("com.mattbertolini.spring.web.bind.introspect.scan");
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegateIntrospector, packages);
+        introspector.setScanThreads(4);
+        introspector.afterPropertiesSet();
+        verify(delegateIntrospector).getResolverMapFor(ScannedBean.class);
+        verify(delegateIntrospector).getResolverMapFor(SubpackageBean.class);
+        assertThat(introspector.getIntrospectorCache().size()).isEqualTo(2);
+    }
+
+    @Test
+    void throwsExceptionWhenResolvingOnScanThreads() {
+        when(delegateIntrospector.getResolverMapFor(any())).thenThrow(RuntimeException.class);
+        Set<String> packages = Collections.singleton("com.mattbertolini.spring.web.bind.introspect.scan");
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegateIntrospector, packages);
+        introspector.setScanThreads(2);
+        assertThatThrownBy(introspector::afterPropertiesSet).isInstanceOf(RequestBeanIntrospectionException.class);
+    }
+
+    @Test
+    void scanThreadsMustBePositive() {
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegateIntrospector, null);
+        assertThatThrownBy(() -> introspector.setScanThreads(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cacheEvictsToStayAtMaximumSize() {
+        Set<String> packages = Collections.singleton("com.mattbertolini.spring.web.bind.introspect.scan");
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegateIntrospector, packages);
+        CachedAnnotatedRequestBeanIntrospector cache = introspector.getIntrospectorCache();
+        cache.setMaximumSize(1);
+        introspector.afterPropertiesSet();
+        assertThat(cache.size()).isEqualTo(1);
+        Class<?> uncached = cache.getCachedEntries().containsKey(ScannedBean.class) ? SubpackageBean.class : ScannedBean.class;
+        introspector.getResolverMapFor(uncached);
+        introspector.getResolverMapFor(uncached);
+        // Introspected once while scanning and once more after it was evicted, then served from the cache
+        verify(delegateIntrospector, times(2)).getResolverMapFor(uncached);
+        assertThat(cache.getCachedEntries()).containsOnlyKeys(uncached);
+    }
+
     @Test
     void delegateIsCalledForGetResolversForMethod() {
         Set<String> packages = Collections.singleton("com.mattbertolini.spring.web.bind.introspect.scan");
@@ -78,4 +157,50 @@ class ClassPathScanningAnnotatedRequestBeanIntrospectorTest {
         assertThat(resolversFor).isNotNull();
         verify(delegateIntrospector).getResolverMapFor(ScannedBean.class);
     }
+
+    @Test
+    void tracksCacheStatistics() {
+        Set<String> packages = Collections.singleton("com.mattbertolini.spring.web.bind.introspect.scan");
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegateIntrospector, packages);
+        introspector.afterPropertiesSet();
+        introspector.getResolversFor(ScannedBean.class);
+        CachedAnnotatedRequestBeanIntrospector cache = introspector.getIntrospectorCache();
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsScanAndIntrospectionDurations() {
+        String basePackage = "com.mattbertolini.spring.web.bind.introspect.scan";
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegateIntrospector, Set.of(basePackage));
+        assertThat(introspector.getScanDurations()).isEmpty();
+        assertThat(introspector.getIntrospectionDurations()).isEmpty();
+        introspector.afterPropertiesSet();
+        Duration scanDuration = introspector.getScanDurations().get(basePackage);
+        Duration introspectionDuration = introspector.getIntrospectionDurations().get(basePackage);
+        assertThat(scanDuration).isNotNull();
+        assertThat(introspectionDuration).isNotNull().isLessThanOrEqualTo(scanDuration);
+    }
+
+    @Test
+    void recordsFlightRecorderEvent(@TempDir Path tempDir) throws Exception {
+        Set<String> packages = Collections.singleton("com.mattbertolini.spring.web.bind.introspect.scan");
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegateIntrospector, packages);
+        Path recordingFile = tempDir.resolve("scan.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RequestBeanScanEvent.NAME);
+            recording.start();
+            introspector.afterPropertiesSet();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> event.getEventType().getName().equals(RequestBeanScanEvent.NAME))
+            .toList();
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("basePackage")).isEqualTo("com.mattbertolini.spring.web.bind.introspect.scan");
+        assertThat(event.getInt("requestBeanCount")).isEqualTo(2);
+    }
 }
@@ -18,13 +18,25 @@ package com.mattbertolini.spring.web.bind.introspect;
 import com.mattbertolini.spring.web.bind.AbstractPropertyResolverRegistry;
 import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
 import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverterFactory;
+import com.mattbertolini.spring.web.bind.jfr.RequestBeanIntrospectionEvent;
 import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
 import org.junit.jupiter.api.BeforeEach;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.lang.Nullable;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -65,6 +77,200 @@ class DefaultAnnotatedRequestBeanIntrospectorTest {
         assertThat(data.propertyName()).isEqualTo("innerBean.inner");
     }
 
+    @Test
+    void sharesNestedTypeMetadataWithinRequestBean() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        Map<String, ResolvedPropertyData> twoInner = introspector.getResolverMapFor(TwoInnerBeans.class);
+        assertThat(twoInner).containsOnlyKeys("first.inner", "second.inner");
+        ResolvedPropertyData first = Objects.requireNonNull(twoInner.get("first.inner"));
+        ResolvedPropertyData second = Objects.requireNonNull(twoInner.get("second.inner"));
+        assertThat(second.bindingProperty()).isSameAs(first.bindingProperty());
+        assertThat(second.resolver()).isSameAs(first.resolver());
+    }
+
+    @Test
+    void sharesNestedTypeMetadataAcrossParents() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        ResolvedPropertyData outer = introspector.getResolversFor(OuterBean.class).iterator().next();
+        Collection<ResolvedPropertyData> twoInner = introspector.getResolversFor(TwoInnerBeans.class);
+        assertThat(twoInner).allSatisfy(nested -> {
+            assertThat(nested.bindingProperty()).isSameAs(outer.bindingProperty());
+            assertThat(nested.resolver()).isSameAs(outer.resolver());
+        });
+    }
+
+    @Test
+    void introspectsEachNestedTypeOnce() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        introspector.getResolversFor(OuterBean.class);
+        introspector.getResolversFor(TwoInnerBeans.class);
+        ResolvedPropertyData inner = introspector.getResolversFor(InnerBean.class).iterator().next();
+        assertThat(inner.propertyName()).isEqualTo("inner");
+        assertThat(registry.lookups).isEqualTo(1);
+    }
+
+    @Test
+    void keepsNestedTypeWhileAnotherRequestBeanUsesIt() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        introspector.getResolversFor(OuterBean.class);
+        introspector.getResolversFor(TwoInnerBeans.class);
+        introspector.evict(List.of(OuterBean.class));
+        introspector.getResolversFor(OuterBean.class);
+        assertThat(registry.lookups).isEqualTo(1);
+    }
+
+    @Test
+    void introspectsNestedTypeAgainOnceEvicted() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        introspector.getResolversFor(OuterBean.class);
+        introspector.getResolversFor(TwoInnerBeans.class);
+        introspector.evict(List.of(OuterBean.class, TwoInnerBeans.class));
+        assertThat(introspector.getResolverMapFor(TwoInnerBeans.class)).containsOnlyKeys("first.inner", "second.inner");
+        assertThat(registry.lookups).isEqualTo(2);
+    }
+
+    @Test
+    void releasesMetadataOfEvictedType() throws Exception {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        registry.freeze();
+        WeakReference<BindingProperty> bindingProperty = new WeakReference<>(
+            introspector.getResolversFor(SimpleType.class).iterator().next().bindingProperty());
+        introspector.evict(List.of(SimpleType.class));
+        for (int i = 0; i < 10 && bindingProperty.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(bindingProperty.get()).isNull();
+    }
+
+    @Test
+    void throwsExceptionOnCircularReferenceThroughNestedType() {
+        assertThatThrownBy(() -> introspector.getResolversFor(IndirectCircularReference.class))
+            .isInstanceOf(CircularReferenceException.class);
+        // Nothing is kept for the types in the cycle so asking again fails the same way
+        assertThatThrownBy(() -> introspector.getResolversFor(CircularReference.class))
+            .isInstanceOf(CircularReferenceException.class);
+    }
+
+    @Test
+    void describesCycleInCircularReferenceMessage() {
+        assertThatThrownBy(() -> introspector.getResolversFor(IndirectCircularReference.class))
+            .hasMessageEndingWith(IndirectCircularReference.class.getName() + " -> " +
+                CircularReference.class.getName() + " -> " + CircularReference.class.getName());
+    }
+
+    @Test
+    void throwsExceptionWhenNestingDeeperThanMaximumDepth() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        introspector.setMaximumDepth(0);
+        assertThatThrownBy(() -> introspector.getResolversFor(OuterBean.class))
+            .isInstanceOf(IntrospectionLimitException.class)
+            .hasMessageContaining("maximum depth of 0")
+            .hasMessageEndingWith(OuterBean.class.getName() + ".innerBean");
+    }
+
+    @Test
+    void allowsNestingUpToMaximumDepth() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        introspector.setMaximumDepth(1);
+        assertThat(introspector.getResolverMapFor(OuterBean.class)).containsOnlyKeys("innerBean.inner");
+    }
+
+    @Test
+    void throwsExceptionWithMoreThanMaximumProperties() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        introspector.setMaximumProperties(1);
+        assertThatThrownBy(() -> introspector.getResolversFor(TwoInnerBeans.class))
+            .isInstanceOf(IntrospectionLimitException.class)
+            .hasMessageContaining("maximum of 1 properties")
+            .hasMessageEndingWith(TwoInnerBeans.class.getName() + ".second");
+    }
+
+    @Test
+    void appliesLimitsToPreviouslyIntrospectedTypes() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        introspector.getResolversFor(OuterBean.class);
+        introspector.getResolversFor(TwoInnerBeans.class);
+        introspector.setMaximumDepth(0);
+        assertThatThrownBy(() -> introspector.getResolversFor(OuterBean.class))
+            .isInstanceOf(IntrospectionLimitException.class);
+        introspector.setMaximumDepth(DefaultAnnotatedRequestBeanIntrospector.UNLIMITED);
+        introspector.setMaximumProperties(1);
+        assertThatThrownBy(() -> introspector.getResolversFor(TwoInnerBeans.class))
+            .isInstanceOf(IntrospectionLimitException.class);
+        assertThat(introspector.getResolversFor(InnerBean.class)).hasSize(1);
+    }
+
+    @Test
+    void sharesEqualMetadataAcrossTypes() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        ResolvedPropertyData simple = introspector.getResolversFor(SimpleType.class).iterator().next();
+        ResolvedPropertyData other = introspector.getResolversFor(OtherSimpleType.class).iterator().next();
+        assertThat(other.bindingProperty()).isNotEqualTo(simple.bindingProperty());
+        assertThat(other.bindingProperty().getTypeDescriptor()).isEqualTo(simple.bindingProperty().getTypeDescriptor());
+        assertThat(other.propertyName()).isSameAs(simple.propertyName());
+    }
+
+    @Test
+    void keepsTypeDescriptorOfEachProperty() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        ResolvedPropertyData simple = introspector.getResolversFor(SimpleType.class).iterator().next();
+        ResolvedPropertyData other = introspector.getResolversFor(OtherSimpleType.class).iterator().next();
+        assertThat(simple.bindingProperty().getTypeDescriptor().getResolvableType().getSource())
+            .isSameAs(simple.bindingProperty().getMethodParameter());
+        assertThat(other.bindingProperty().getTypeDescriptor().getResolvableType().getSource())
+            .isSameAs(other.bindingProperty().getMethodParameter());
+    }
+
+    @Test
+    void keepsSharedMetadataStillUsedAfterEviction() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        introspector.getResolversFor(SimpleType.class);
+        ResolvedPropertyData other = introspector.getResolversFor(OtherSimpleType.class).iterator().next();
+        introspector.evict(List.of(SimpleType.class));
+        ResolvedPropertyData simple = introspector.getResolversFor(SimpleType.class).iterator().next();
+        assertThat(simple.propertyName()).isSameAs(other.propertyName());
+    }
+
+    @Test
+    void noValueConverterWithoutConverterFactory() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        ResolvedPropertyData data = introspector.getResolversFor(SimpleType.class).iterator().next();
+        assertThat(data.valueConverter()).isNull();
+    }
+
+    @Test
+    void resolvesValueConverterWithConverterFactory() {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        DefaultAnnotatedRequestBeanIntrospector converting = new DefaultAnnotatedRequestBeanIntrospector(registry,
+            new PropertyValueConverterFactory(conversionService));
+        ResolvedPropertyData data = converting.getResolversFor(SimpleType.class).iterator().next();
+        assertThat(data.valueConverter())
+            .isNotNull()
+            .satisfies(converter -> assertThat(converter.getConversionService()).isSameAs(conversionService));
+    }
+
+    @Test
+    void recordsFlightRecorderEvent(@TempDir Path tempDir) throws Exception {
+        registry.addResolver(new FakeResolver(RequestParameter.class));
+        Path recordingFile = tempDir.resolve("introspection.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RequestBeanIntrospectionEvent.NAME);
+            recording.start();
+            introspector.getResolversFor(OuterBean.class);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> event.getEventType().getName().equals(RequestBeanIntrospectionEvent.NAME))
+            .toList();
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getClass("beanType").getName()).isEqualTo(OuterBean.class.getName());
+        assertThat(event.getInt("propertyCount")).isEqualTo(1);
+    }
+
     private static class FakeResolver implements RequestPropertyResolverBase<Void, Object> {
         private final Class<? extends Annotation> annotationType;
 
@@ -86,9 +292,21 @@ class DefaultAnnotatedRequestBeanIntrospectorTest {
     }
 
     private static class FakeRegistry extends AbstractPropertyResolverRegistry<FakeResolver> {
+        // Lookups of request parameter properties, the only ones the resolvers of these tests support
+        private int lookups = 0;
+
         public FakeRegistry() {
             super();
         }
+
+        @Override
+        @Nullable
+        public FakeResolver findResolverFor(BindingProperty bindingProperty) {
+            if (bindingProperty.hasAnnotation(RequestParameter.class)) {
+                lookups++;
+            }
+            return super.findResolverFor(bindingProperty);
+        }
     }
 
     @SuppressWarnings("unused")
@@ -107,6 +325,22 @@ class DefaultAnnotatedRequestBeanIntrospectorTest {
         }
     }
 
+    @SuppressWarnings("unused")
+    private static class OtherSimpleType {
+        @Nullable
+        @RequestParameter("data_param")
+        private String data;
+
+        @Nullable
+        public String getData() {
+            return data;
+        }
+
+        public void setData(String data) {
+            this.data = data;
+        }
+    }
+
     @SuppressWarnings("unused")
     private static class OuterBean {
         @Nullable
@@ -139,6 +373,51 @@ class DefaultAnnotatedRequestBeanIntrospectorTest {
         }
     }
 
+    @SuppressWarnings("unused")
+    private static class TwoInnerBeans {
+        @Nullable
+        @BeanParameter
+        private InnerBean first;
+
+        @Nullable
+        @BeanParameter
+        private InnerBean second;
+
+        @Nullable
+        public InnerBean getFirst() {
+            return first;
+        }
+
+        public void setFirst(InnerBean first) {
+            this.first = first;
+        }
+
+        @Nullable
+        public InnerBean getSecond() {
+            return second;
+        }
+
+        public void setSecond(InnerBean second) {
+            this.second = second;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class IndirectCircularReference {
+        @Nullable
+        @BeanParameter
+        private CircularReference circularReference;
+
+        @Nullable
+        public CircularReference getCircularReference() {
+            return circularReference;
+        }
+
+        public void setCircularReference(CircularReference circularReference) {
+            this.circularReference = circularReference;
+        }
+    }
+
     @SuppressWarnings("unused")
     private static class CircularReference {
         @Nullable
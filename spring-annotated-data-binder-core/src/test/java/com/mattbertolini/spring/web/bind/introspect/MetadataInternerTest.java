@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.introspect;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataInternerTest {
+    private MetadataInterner interner;
+
+    @BeforeEach
+    void setUp() {
+        interner = new MetadataInterner();
+    }
+
+    @Test
+    void sharesInstancesOfRetainedProperties() {
+        ResolvedPropertyData first = resolvedPropertyData("data", SimpleType.class);
+        interner.retain(List.of(first));
+
+        assertThat(interner.intern(new String("data"))).isSameAs(first.propertyName());
+        TypeDescriptor typeDescriptor = first.bindingProperty().getTypeDescriptor();
+        assertThat(interner.intern(typeDescriptor)).isEqualTo(typeDescriptor);
+        assertThat(interner.size()).isEqualTo(2);
+    }
+
+    @Test
+    void sharesNothingBeforePropertiesAreRetained() {
+        String path = new String("data");
+        assertThat(interner.intern(path)).isSameAs(path);
+        TypeDescriptor typeDescriptor = TypeDescriptor.valueOf(String.class);
+        assertThat(interner.intern(typeDescriptor)).isSameAs(typeDescriptor);
+        assertThat(interner.size()).isZero();
+    }
+
+    @Test
+    void keepsResolvableTypeOfEachProperty() {
+        ResolvedPropertyData first = resolvedPropertyData("data", SimpleType.class);
+        interner.retain(List.of(first));
+        ResolvedPropertyData second = resolvedPropertyData("data", OtherSimpleType.class);
+
+        assertThat(second.bindingProperty().getTypeDescriptor()).isEqualTo(first.bindingProperty().getTypeDescriptor());
+        assertThat(second.bindingProperty().getTypeDescriptor().getResolvableType().getSource())
+            .isSameAs(second.bindingProperty().getMethodParameter());
+    }
+
+    @Test
+    void releasesInstancesOnceNoPropertyUsesThem() {
+        ResolvedPropertyData first = resolvedPropertyData("data", SimpleType.class);
+        interner.retain(List.of(first));
+        ResolvedPropertyData second = resolvedPropertyData("data", OtherSimpleType.class);
+        interner.retain(List.of(second));
+
+        interner.release(List.of(first));
+        assertThat(interner.size()).isEqualTo(2);
+        assertThat(interner.intern(new String("data"))).isSameAs(first.propertyName());
+
+        interner.release(List.of(second));
+        assertThat(interner.size()).isZero();
+    }
+
+    private ResolvedPropertyData resolvedPropertyData(String propertyName, Class<?> beanType) {
+        BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(
+            BeanUtils.getPropertyDescriptor(beanType, propertyName), interner::intern);
+        return new ResolvedPropertyData(interner.intern(propertyName), bindingProperty, null);
+    }
+
+    @SuppressWarnings("unused")
+    private static class SimpleType {
+        private String data;
+
+        public String getData() {
+            return data;
+        }
+
+        public void setData(String data) {
+            this.data = data;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class OtherSimpleType {
+        private String data;
+
+        public String getData() {
+            return data;
+        }
+
+        public void setData(String data) {
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.introspect;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.SpringProperties;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestBeanIndexTest {
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        SpringProperties.setProperty(RequestBeanIndex.IGNORE_INDEX_PROPERTY, null);
+    }
+
+    @Test
+    void loadsEveryIndexOnTheClassPath() throws Exception {
+        Path first = writeIndex("first", "# Comment", "com.example.web.FirstBean", "", "com.example.web.sub.NestedBean$Inner");
+        Path second = writeIndex("second", "com.example.other.SecondBean");
+
+        try (URLClassLoader classLoader = classLoader(first, second)) {
+            RequestBeanIndex index = RequestBeanIndex.load(classLoader);
+            assertThat(index).isNotNull();
+            assertThat(index.getRequestBeans())
+                .containsExactly("com.example.other.SecondBean", "com.example.web.FirstBean", "com.example.web.sub.NestedBean$Inner");
+        }
+    }
+
+    @Test
+    void noIndexWhenNoneOnTheClassPath() throws Exception {
+        try (URLClassLoader classLoader = classLoader()) {
+            assertThat(RequestBeanIndex.load(classLoader)).isNull();
+        }
+    }
+
+    @Test
+    void noIndexWhenIgnored() throws Exception {
+        SpringProperties.setFlag(RequestBeanIndex.IGNORE_INDEX_PROPERTY);
+        Path first = writeIndex("first", "com.example.web.FirstBean");
+
+        try (URLClassLoader classLoader = classLoader(first)) {
+            assertThat(RequestBeanIndex.load(classLoader)).isNull();
+        }
+    }
+
+    @Test
+    void findsRequestBeansInPackageAndSubPackages() {
+        RequestBeanIndex index = new RequestBeanIndex(List.of(
+            "com.example.web.FirstBean",
+            "com.example.web.sub.SecondBean",
+            "com.example.webapp.ThirdBean",
+            "com.example.FourthBean"
+        ));
+
+        assertThat(index.getRequestBeans("com.example.web")).containsExactly("com.example.web.FirstBean", "com.example.web.sub.SecondBean");
+        assertThat(index.getRequestBeans("com.example")).hasSize(4);
+        assertThat(index.getRequestBeans("org.example")).isEmpty();
+    }
+
+    private Path writeIndex(String directory, String... lines) throws IOException {
+        Path root = tempDir.resolve(directory);
+        Path index = root.resolve(RequestBeanIndex.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, List.of(lines));
+        return root;
+    }
+
+    private static URLClassLoader classLoader(Path... roots) throws IOException {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+        // No parent so index files from the test class path are not found
+        return new URLClassLoader(urls, null);
+    }
+}
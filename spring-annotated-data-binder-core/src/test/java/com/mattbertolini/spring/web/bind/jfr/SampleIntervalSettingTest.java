@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.jfr;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SampleIntervalSettingTest {
+
+    @Test
+    void samplesEveryEventByDefault() {
+        SampleIntervalSetting setting = new SampleIntervalSetting();
+        assertThat(setting.getValue()).isEqualTo("1");
+        assertThat(setting.sample()).isTrue();
+        assertThat(setting.sample()).isTrue();
+    }
+
+    @Test
+    void samplesOneInEveryInterval() {
+        SampleIntervalSetting setting = new SampleIntervalSetting();
+        setting.setValue("3");
+        int sampled = 0;
+        for (int i = 0; i < 9; i++) {
+            if (setting.sample()) {
+                sampled++;
+            }
+        }
+        assertThat(sampled).isEqualTo(3);
+    }
+
+    @Test
+    void combinesToSmallestInterval() {
+        SampleIntervalSetting setting = new SampleIntervalSetting();
+        assertThat(setting.combine(Set.of("10", "5", "100"))).isEqualTo("5");
+        assertThat(setting.combine(Set.of())).isEqualTo("1");
+    }
+
+    @Test
+    void ignoresInvalidValues() {
+        SampleIntervalSetting setting = new SampleIntervalSetting();
+        setting.setValue("not a number");
+        assertThat(setting.getValue()).isEqualTo("1");
+        setting.setValue("-4");
+        assertThat(setting.getValue()).isEqualTo("1");
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.metrics;
+
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BindingStatisticsTest {
+
+    @Test
+    void calculatesPercentilesPerPhase() {
+        BindingStatistics statistics = new BindingStatistics();
+        for (long i = 1; i <= 100; i++) {
+            statistics.recordBinding(String.class, BindingPhase.RESOLVE, i, null);
+        }
+        statistics.recordBinding(String.class, BindingPhase.BIND, 5, null);
+
+        Map<BindingPhase, LatencySnapshot> latencies = statistics.getLatencies(String.class);
+        assertThat(latencies).containsOnlyKeys(BindingPhase.RESOLVE, BindingPhase.BIND);
+        assertThat(latencies.get(BindingPhase.RESOLVE)).isEqualTo(new LatencySnapshot(100, 50, 90, 99, 100));
+        assertThat(latencies.get(BindingPhase.BIND)).isEqualTo(new LatencySnapshot(1, 5, 5, 5, 5));
+    }
+
+    @Test
+    void keepsOnlyTheMostRecentSamples() {
+        BindingStatistics statistics = new BindingStatistics(4);
+        for (long i = 1; i <= 8; i++) {
+            statistics.recordBinding(String.class, BindingPhase.BIND, i * 10, null);
+        }
+
+        LatencySnapshot snapshot = statistics.getLatencies(String.class).get(BindingPhase.BIND);
+        assertThat(snapshot).isEqualTo(new LatencySnapshot(8, 60, 80, 80, 80));
+    }
+
+    @Test
+    void emptyForUnknownType() {
+        BindingStatistics statistics = new BindingStatistics();
+        assertThat(statistics.getLatencies(String.class)).isEmpty();
+        assertThat(statistics.getLatencies()).isEmpty();
+    }
+
+    @Test
+    void holdsMonitoredIntrospector() {
+        BindingStatistics statistics = new BindingStatistics();
+        assertThat(statistics.getIntrospector()).isNull();
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector =
+            new ClassPathScanningAnnotatedRequestBeanIntrospector(targetType -> Collections.emptyMap(), null);
+        statistics.monitor(introspector);
+        assertThat(statistics.getIntrospector()).isSameAs(introspector);
+    }
+
+    @Test
+    void rejectsNonPositiveWindowSize() {
+        assertThatThrownBy(() -> new BindingStatistics(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.metrics;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.CachedAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerBindingMetricsTest {
+    private SimpleMeterRegistry meterRegistry;
+    private MicrometerBindingMetrics bindingMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bindingMetrics = new MicrometerBindingMetrics(meterRegistry);
+    }
+
+    @Test
+    void recordsBindingTimerPerBeanAndPhase() {
+        bindingMetrics.recordBinding(String.class, BindingPhase.RESOLVE, 1_000, null);
+        bindingMetrics.recordBinding(String.class, BindingPhase.RESOLVE, 3_000, null);
+        bindingMetrics.recordBinding(String.class, BindingPhase.BIND, 2_000, null);
+
+        Timer resolve = meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", "String", "phase", "resolve", "outcome", "success")
+            .timer();
+        assertThat(resolve.count()).isEqualTo(2);
+        assertThat(resolve.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(4_000);
+        Timer bind = meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", "String", "phase", "bind", "outcome", "success")
+            .timer();
+        assertThat(bind.count()).isEqualTo(1);
+    }
+
+    @Test
+    void tagsBindingTimerWithConfiguredBeanName() {
+        bindingMetrics.setBeanTagFunction(Class::getName);
+        bindingMetrics.recordBinding(String.class, BindingPhase.RESOLVE, 1_000, null);
+
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", "java.lang.String")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsBindingErrorsWithErrorOutcome() {
+        bindingMetrics.recordBinding(String.class, BindingPhase.CONSTRUCT, 1_000, new IllegalStateException());
+
+        Timer timer = meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("phase", "construct", "outcome", "error")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsResolverTimerAndErrorCounter() {
+        StubResolver resolver = new StubResolver();
+        bindingMetrics.recordResolver(resolver, 1_000, null);
+        bindingMetrics.recordResolver(resolver, 1_000, new IllegalArgumentException());
+        bindingMetrics.recordResolver(resolver, 1_000, new IllegalArgumentException());
+
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.RESOLVER_METRIC_NAME)
+            .tags("resolver", "MicrometerBindingMetricsTest.StubResolver", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.RESOLVER_METRIC_NAME)
+            .tags("outcome", "error")
+            .timer()
+            .count()).isEqualTo(2);
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.RESOLVER_ERRORS_METRIC_NAME)
+            .tags("resolver", "MicrometerBindingMetricsTest.StubResolver", "exception", "IllegalArgumentException")
+            .counter()
+            .count()).isEqualTo(2);
+    }
+
+    @Test
+    void monitorsIntrospectorCache() {
+        AnnotatedRequestBeanIntrospector delegate = targetType -> Collections.emptyMap();
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(delegate, null);
+        bindingMetrics.monitor(introspector);
+
+        CachedAnnotatedRequestBeanIntrospector cache = introspector.getIntrospectorCache();
+        cache.getResolverMapFor(String.class);
+        cache.getResolverMapFor(String.class);
+        cache.getResolverMapFor(String.class);
+        cache.getResolverMapFor(Integer.class);
+
+        FunctionCounter hits = meterRegistry.get(MicrometerBindingMetrics.CACHE_GETS_METRIC_NAME).tags("result", "hit").functionCounter();
+        FunctionCounter misses = meterRegistry.get(MicrometerBindingMetrics.CACHE_GETS_METRIC_NAME).tags("result", "miss").functionCounter();
+        Gauge size = meterRegistry.get(MicrometerBindingMetrics.CACHE_SIZE_METRIC_NAME).gauge();
+        assertThat(hits.count()).isEqualTo(2);
+        assertThat(misses.count()).isEqualTo(2);
+        assertThat(size.value()).isEqualTo(2);
+    }
+
+    @Test
+    void monitorsResolvedValueCache() {
+        ResolvedValueCache<String, String> cache = new ResolvedValueCache<>("tenants", 1, Duration.ofMinutes(1));
+        bindingMetrics.monitor(cache);
+
+        cache.get("one", key -> "first");
+        cache.get("one", key -> "first");
+        cache.get("two", key -> "second");
+
+        FunctionCounter hits = meterRegistry.get(MicrometerBindingMetrics.RESOLVER_CACHE_GETS_METRIC_NAME).tags("cache", "tenants", "result", "hit").functionCounter();
+        FunctionCounter misses = meterRegistry.get(MicrometerBindingMetrics.RESOLVER_CACHE_GETS_METRIC_NAME).tags("cache", "tenants", "result", "miss").functionCounter();
+        FunctionCounter evictions = meterRegistry.get(MicrometerBindingMetrics.RESOLVER_CACHE_EVICTIONS_METRIC_NAME).tags("cache", "tenants").functionCounter();
+        Gauge size = meterRegistry.get(MicrometerBindingMetrics.RESOLVER_CACHE_SIZE_METRIC_NAME).tags("cache", "tenants").gauge();
+        assertThat(hits.count()).isEqualTo(1);
+        assertThat(misses.count()).isEqualTo(2);
+        assertThat(evictions.count()).isEqualTo(1);
+        assertThat(size.value()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsWarmUpDuration() {
+        bindingMetrics.recordWarmUp(new WarmUpResult(10, 1_000, 0, Duration.ofMillis(250)));
+        bindingMetrics.recordWarmUp(new WarmUpResult(10, 900, 1, Duration.ofMillis(300)));
+
+        Timer success = meterRegistry.get(MicrometerBindingMetrics.WARM_UP_METRIC_NAME).tags("outcome", "success").timer();
+        Timer partial = meterRegistry.get(MicrometerBindingMetrics.WARM_UP_METRIC_NAME).tags("outcome", "partial").timer();
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250);
+        assertThat(partial.count()).isEqualTo(1);
+    }
+
+    @Test
+    void looksUpMeterRegistryLazily() {
+        MicrometerBindingMetrics lazyMetrics = new MicrometerBindingMetrics(() -> meterRegistry);
+        assertThat(meterRegistry.getMeters()).isEmpty();
+        lazyMetrics.recordBinding(String.class, BindingPhase.BIND, 1_000, null);
+        assertThat(meterRegistry.getMeters()).hasSize(1);
+    }
+
+    private static class StubResolver implements RequestPropertyResolverBase<Object, Object> {
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return true;
+        }
+
+        @Override
+        @Nullable
+        public Object resolve(BindingProperty bindingProperty, Object request) {
+            return null;
+        }
+    }
+}
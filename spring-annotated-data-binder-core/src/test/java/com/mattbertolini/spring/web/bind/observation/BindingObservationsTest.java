@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.observation;
+
+import com.mattbertolini.spring.web.bind.annotation.RequestBody;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.annotation.SessionParameter;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BindingObservationsTest {
+
+    @Test
+    void observesRequestBody() throws Exception {
+        assertThat(BindingObservations.isObservedProperty(bindingProperty("body"))).isTrue();
+    }
+
+    @Test
+    void observesSessionParameters() throws Exception {
+        assertThat(BindingObservations.isObservedProperty(bindingProperty("sessionValue"))).isTrue();
+    }
+
+    @Test
+    void observesMultipartFiles() throws Exception {
+        assertThat(BindingObservations.isObservedProperty(bindingProperty("file"))).isTrue();
+        assertThat(BindingObservations.isObservedProperty(bindingProperty("files"))).isTrue();
+    }
+
+    @Test
+    void doesNotObserveCheapProperties() throws Exception {
+        assertThat(BindingObservations.isObservedProperty(bindingProperty("parameter"))).isFalse();
+    }
+
+    private static BindingProperty bindingProperty(String propertyName) throws IntrospectionException {
+        return BindingProperty.forPropertyDescriptor(new PropertyDescriptor(propertyName, ObservedBean.class));
+    }
+
+    @SuppressWarnings("unused")
+    private static class ObservedBean {
+        @RequestBody
+        @Nullable
+        private String body;
+
+        @SessionParameter("session_value")
+        @Nullable
+        private String sessionValue;
+
+        @RequestParameter("file")
+        @Nullable
+        private MultipartFile file;
+
+        @RequestParameter("files")
+        @Nullable
+        private List<MultipartFile> files;
+
+        @RequestParameter("parameter")
+        @Nullable
+        private String parameter;
+
+        @Nullable
+        public String getBody() {
+            return body;
+        }
+
+        public void setBody(String body) {
+            this.body = body;
+        }
+
+        @Nullable
+        public String getSessionValue() {
+            return sessionValue;
+        }
+
+        public void setSessionValue(String sessionValue) {
+            this.sessionValue = sessionValue;
+        }
+
+        @Nullable
+        public MultipartFile getFile() {
+            return file;
+        }
+
+        public void setFile(MultipartFile file) {
+            this.file = file;
+        }
+
+        @Nullable
+        public List<MultipartFile> getFiles() {
+            return files;
+        }
+
+        public void setFiles(List<MultipartFile> files) {
+            this.files = files;
+        }
+
+        @Nullable
+        public String getParameter() {
+            return parameter;
+        }
+
+        public void setParameter(String parameter) {
+            this.parameter = parameter;
+        }
+    }
+}
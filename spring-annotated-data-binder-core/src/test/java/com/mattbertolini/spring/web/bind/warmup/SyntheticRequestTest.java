@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.warmup;
+
+import com.mattbertolini.spring.web.bind.annotation.CookieParameter;
+import com.mattbertolini.spring.web.bind.annotation.FormParameter;
+import com.mattbertolini.spring.web.bind.annotation.HeaderParameter;
+import com.mattbertolini.spring.web.bind.annotation.PathParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestBody;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SyntheticRequestTest {
+
+    @Test
+    void makesUpValuesForEachPartOfTheRequest() throws Exception {
+        SyntheticRequest request = SyntheticRequest.forProperties(properties(WarmUpBean.class,
+            "page", "tags", "id", "mode", "account", "active", "from", "all"));
+
+        assertThat(request.getParameters())
+            .containsEntry("page", SyntheticRequest.NUMBER_VALUE)
+            .containsEntry("tags", SyntheticRequest.TEXT_VALUE)
+            .doesNotContainKey("from")
+            .hasSize(2);
+        assertThat(request.getHeaders()).containsOnly(Map.entry("X-Id", SyntheticRequest.UUID_VALUE));
+        assertThat(request.getCookies()).containsOnly(Map.entry("mode", "FIRST"));
+        assertThat(request.getPathVariables()).containsOnly(Map.entry("account", SyntheticRequest.TEXT_VALUE));
+        assertThat(request.getFormParameters()).containsOnly(Map.entry("active", "true"));
+        assertThat(request.getBody()).isNull();
+        assertThat(request.getContentType()).isNull();
+    }
+
+    @Test
+    void makesUpBodyForRequestBodyProperty() throws Exception {
+        SyntheticRequest textBody = SyntheticRequest.forProperties(properties(WarmUpBean.class, "body"));
+        SyntheticRequest jsonBody = SyntheticRequest.forProperties(properties(JsonBodyBean.class, "body"));
+
+        assertThat(textBody.getContentType()).isEqualTo(MediaType.TEXT_PLAIN);
+        assertThat(textBody.getBody()).isEqualTo(SyntheticRequest.TEXT_VALUE.getBytes(StandardCharsets.UTF_8));
+        assertThat(jsonBody.getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(jsonBody.getBody()).isEqualTo("{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<ResolvedPropertyData> properties(Class<?> beanType, String... propertyNames) throws IntrospectionException {
+        List<ResolvedPropertyData> properties = new ArrayList<>();
+        for (String propertyName : propertyNames) {
+            BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(new PropertyDescriptor(propertyName, beanType));
+            properties.add(new ResolvedPropertyData(propertyName, bindingProperty, mock(RequestPropertyResolverBase.class)));
+        }
+        return properties;
+    }
+
+    enum Mode {
+        FIRST, SECOND
+    }
+
+    @SuppressWarnings("unused")
+    static class WarmUpBean {
+        @RequestParameter("page")
+        private int page;
+
+        @Nullable
+        @RequestParameter("tags")
+        private List<String> tags;
+
+        @Nullable
+        @HeaderParameter("X-Id")
+        private UUID id;
+
+        @Nullable
+        @CookieParameter("mode")
+        private Mode mode;
+
+        @Nullable
+        @PathParameter("account")
+        private String account;
+
+        @Nullable
+        @FormParameter("active")
+        private Boolean active;
+
+        @Nullable
+        @RequestParameter("from")
+        private LocalDate from;
+
+        @Nullable
+        @RequestParameter
+        private Map<String, String> all;
+
+        @Nullable
+        @RequestBody
+        private String body;
+
+        public int getPage() {
+            return page;
+        }
+
+        public void setPage(int page) {
+            this.page = page;
+        }
+
+        @Nullable
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        @Nullable
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        @Nullable
+        public Mode getMode() {
+            return mode;
+        }
+
+        public void setMode(Mode mode) {
+            this.mode = mode;
+        }
+
+        @Nullable
+        public String getAccount() {
+            return account;
+        }
+
+        public void setAccount(String account) {
+            this.account = account;
+        }
+
+        @Nullable
+        public Boolean getActive() {
+            return active;
+        }
+
+        public void setActive(Boolean active) {
+            this.active = active;
+        }
+
+        @Nullable
+        public LocalDate getFrom() {
+            return from;
+        }
+
+        public void setFrom(LocalDate from) {
+            this.from = from;
+        }
+
+        @Nullable
+        public Map<String, String> getAll() {
+            return all;
+        }
+
+        public void setAll(Map<String, String> all) {
+            this.all = all;
+        }
+
+        @Nullable
+        public String getBody() {
+            return body;
+        }
+
+        public void setBody(String body) {
+            this.body = body;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class JsonBodyBean {
+        @Nullable
+        @RequestBody
+        private Map<String, Object> body;
+
+        @Nullable
+        public Map<String, Object> getBody() {
+            return body;
+        }
+
+        public void setBody(Map<String, Object> body) {
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+plugins {
+    id("com.mattbertolini.buildlogic.java-library")
+    id("com.mattbertolini.buildlogic.maven-central-publish")
+}
+
+dependencies {
+    testImplementation(project(":spring-annotated-data-binder-core")) // @RequestBean for the compiled test sources
+    testImplementation(libs.junitJupiterApi)
+    testImplementation(libs.assertJCore)
+}
+
+tasks.named<Jar>("jar").configure {
+    manifest {
+        attributes(
+            "Automatic-Module-Name" to "com.mattbertolini.spring.web.bind.index"
+        )
+    }
+}
+
+mavenCentralPublish {
+    name.set("Spring Annotated Data Binder Indexer")
+    description.set("Annotation processor writing an index of @RequestBean classes so they are not scanned for at startup")
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes the binary names of the {@code @RequestBean} classes being compiled to {@value #INDEX_LOCATION}, so
+ * {@code ClassPathScanningAnnotatedRequestBeanIntrospector} can read them at startup instead of scanning the class
+ * path. Classes annotated directly or through a meta-annotation are listed, following the same rules as the scan:
+ * concrete classes and records that are top level or static nested classes.
+ *
+ * <p>As with Spring's {@code spring.components} index, once an index is on the class path it is used in place of
+ * scanning, so every jar holding request beans needs to be compiled with this processor.</p>
+ *
+ * <p>An incremental build only compiles the changed classes, so the index written by an earlier build is merged with
+ * the request beans found now. Classes of the earlier index that were compiled again or no longer exist are taken
+ * from this compilation instead, so request beans that were deleted or lost their annotation drop out. Once an index
+ * was written it is always written again, even if it becomes empty, so a stale index is not left behind.</p>
+ */
+public class RequestBeanIndexProcessor extends AbstractProcessor {
+    /**
+     * Where the index is written. Must match {@code RequestBeanIndex.INDEX_LOCATION} in the core module, which this
+     * processor does not depend on.
+     */
+    static final String INDEX_LOCATION = "META-INF/request-beans.index";
+
+    private static final String REQUEST_BEAN_ANNOTATION = "com.mattbertolini.spring.web.bind.annotation.RequestBean";
+
+    private final Set<String> requestBeans = new TreeSet<>();
+    private final Set<String> compiledTypes = new HashSet<>();
+    // Null when no earlier compilation wrote an index
+    private Set<String> previousRequestBeans;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // Every type, as request beans may be annotated through a meta-annotation
+        return Set.of("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        // Read before the index is written again, as a resource cannot be read once created in the same compilation
+        previousRequestBeans = readPreviousIndex();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element);
+        }
+        if (roundEnv.processingOver()) {
+            mergePreviousIndex();
+            if (!requestBeans.isEmpty() || previousRequestBeans != null) {
+                writeIndex();
+            }
+        }
+        // Never claim the annotations so other processors see them too
+        return false;
+    }
+
+    private void collect(Element element) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        compiledTypes.add(binaryName);
+        if (isCandidate(type) && isRequestBean(type, new HashSet<>())) {
+            requestBeans.add(binaryName);
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            collect(enclosed);
+        }
+    }
+
+    private static boolean isCandidate(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            return false;
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        // Inner and local classes cannot be created on their own
+        return type.getNestingKind() == NestingKind.TOP_LEVEL || (type.getNestingKind() == NestingKind.MEMBER
+            && (type.getModifiers().contains(Modifier.STATIC) || type.getKind() == ElementKind.RECORD));
+    }
+
+    private static boolean isRequestBean(Element element, Set<String> visited) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            Element annotationType = annotation.getAnnotationType().asElement();
+            if (!(annotationType instanceof TypeElement annotationTypeElement)) {
+                continue;
+            }
+            String name = annotationTypeElement.getQualifiedName().toString();
+            if (REQUEST_BEAN_ANNOTATION.equals(name)) {
+                return true;
+            }
+            if (!name.startsWith("java.lang.annotation.") && visited.add(name) && isRequestBean(annotationTypeElement, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the request beans of the earlier index that were neither compiled now nor deleted since.
+     */
+    private void mergePreviousIndex() {
+        if (previousRequestBeans == null) {
+            return;
+        }
+        for (String requestBean : previousRequestBeans) {
+            if (!compiledTypes.contains(requestBean)
+                && processingEnv.getElementUtils().getTypeElement(requestBean.replace('$', '.')) != null) {
+                requestBeans.add(requestBean);
+            }
+        }
+    }
+
+    /**
+     * @return The request beans of the index written by an earlier compilation, or null if there is none.
+     */
+    private Set<String> readPreviousIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            Set<String> previous = new TreeSet<>();
+            try (Reader reader = index.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        previous.add(line);
+                    }
+                }
+            }
+            return previous;
+        } catch (IOException | IllegalArgumentException e) {
+            // No earlier index, or the output location cannot be read, e.g. when not compiling to a directory
+            return null;
+        }
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = index.openWriter()) {
+                writer.write("# @RequestBean classes, written by " + RequestBeanIndexProcessor.class.getName() + "\n");
+                for (String requestBean : requestBeans) {
+                    writer.write(requestBean);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.bind.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestBeanIndexProcessorTest {
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void indexesRequestBeans() throws Exception {
+        compile(Map.of(
+            "example.Annotated", """
+                package example;
+                @com.mattbertolini.spring.web.bind.annotation.RequestBean
+                public class Annotated {
+                    @com.mattbertolini.spring.web.bind.annotation.RequestBean
+                    public static class Nested {}
+                    @com.mattbertolini.spring.web.bind.annotation.RequestBean
+                    public class Inner {}
+                }
+                """,
+            "example.sub.Record", """
+                package example.sub;
+                @com.mattbertolini.spring.web.bind.annotation.RequestBean
+                public record Record(String value) {}
+                """,
+            "example.Abstract", """
+                package example;
+                @com.mattbertolini.spring.web.bind.annotation.RequestBean
+                public abstract class Abstract {}
+                """,
+            "example.NotAnnotated", """
+                package example;
+                public class NotAnnotated {}
+                """
+        ));
+
+        assertThat(readIndex()).containsExactly("example.Annotated", "example.Annotated$Nested", "example.sub.Record");
+    }
+
+    @Test
+    void indexesRequestBeansAnnotatedThroughMetaAnnotation() throws Exception {
+        compile(Map.of(
+            "example.Query", """
+                package example;
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                @com.mattbertolini.spring.web.bind.annotation.RequestBean
+                public @interface Query {}
+                """,
+            "example.MetaAnnotated", """
+                package example;
+                @Query
+                public class MetaAnnotated {}
+                """
+        ));
+
+        assertThat(readIndex()).containsExactly("example.MetaAnnotated");
+    }
+
+    @Test
+    void noIndexWithoutRequestBeans() throws Exception {
+        compile(Map.of("example.NotAnnotated", """
+            package example;
+            public class NotAnnotated {}
+            """));
+
+        assertThat(outputDirectory.resolve(RequestBeanIndexProcessor.INDEX_LOCATION)).doesNotExist();
+    }
+
+    @Test
+    void keepsRequestBeansOfEarlierCompilation() throws Exception {
+        compile(Map.of("example.First", requestBean("First"), "example.Second", requestBean("Second")));
+        compile(Map.of("example.First", requestBean("First")));
+
+        assertThat(readIndex()).containsExactly("example.First", "example.Second");
+    }
+
+    @Test
+    void dropsRequestBeansNoLongerAnnotated() throws Exception {
+        compile(Map.of("example.First", requestBean("First"), "example.Second", requestBean("Second")));
+        compile(Map.of("example.Second", """
+            package example;
+            public class Second {}
+            """));
+
+        assertThat(readIndex()).containsExactly("example.First");
+    }
+
+    @Test
+    void dropsDeletedRequestBeans() throws Exception {
+        compile(Map.of("example.First", requestBean("First"), "example.Second", requestBean("Second")));
+        Files.delete(outputDirectory.resolve("example/Second.class"));
+        compile(Map.of("example.First", requestBean("First")));
+
+        assertThat(readIndex()).containsExactly("example.First");
+    }
+
+    @Test
+    void writesEmptyIndexOnceLastRequestBeanIsGone() throws Exception {
+        compile(Map.of("example.First", requestBean("First")));
+        compile(Map.of("example.First", """
+            package example;
+            public class First {}
+            """));
+
+        assertThat(readIndex()).isEmpty();
+    }
+
+    private static String requestBean(String simpleName) {
+        return """
+            package example;
+            @com.mattbertolini.spring.web.bind.annotation.RequestBean
+            public class %s {}
+            """.formatted(simpleName);
+    }
+
+    private void compile(Map<String, String> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<JavaFileObject> compilationUnits = sources.entrySet().stream()
+                .map(source -> (JavaFileObject) new SourceFile(source.getKey(), source.getValue()))
+                .toList();
+            // Classes of earlier compilations are on the class path, as in an incremental build
+            List<String> options = List.of(
+                "-classpath", System.getProperty("java.class.path") + File.pathSeparator + outputDirectory,
+                "-d", outputDirectory.toString()
+            );
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+            task.setProcessors(List.of(new RequestBeanIndexProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+    }
+
+    private List<String> readIndex() throws IOException {
+        return Files.readAllLines(outputDirectory.resolve(RequestBeanIndexProcessor.INDEX_LOCATION)).stream()
+            .filter(line -> !line.startsWith("#"))
+            .toList();
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -13,6 +13,8 @@ dependencies {
     testImplementation(libs.mockitoCore)
     testImplementation(libs.springTest)
     testImplementation(libs.jakartaValidationApi) // Used to test validation annotations
+    testImplementation(libs.micrometerCore)
+    testImplementation(libs.micrometerObservationTest)
     testCompileOnly(libs.findbugsJsr305) // To Prevent warnings on missing enum constants
 }
 
@@ -17,39 +17,139 @@ package com.mattbertolini.spring.web.reactive.bind;
 
 import com.mattbertolini.spring.web.bind.RequestPropertyBindingException;
 import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestBody;
+import com.mattbertolini.spring.web.bind.capture.CapturedBeanTypes;
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverters;
+import com.mattbertolini.spring.web.bind.direct.DirectBindingPlan;
 import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
 import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.jfr.RequestBeanBindingEvent;
+import com.mattbertolini.spring.web.bind.metrics.BindingMetrics;
+import com.mattbertolini.spring.web.bind.metrics.BindingPhase;
+import com.mattbertolini.spring.web.bind.observation.BeanBindingObservationContext;
+import com.mattbertolini.spring.web.bind.observation.BeanBindingObservationConvention;
+import com.mattbertolini.spring.web.bind.observation.BindingObservationDocumentation;
+import com.mattbertolini.spring.web.bind.observation.BindingObservations;
+import com.mattbertolini.spring.web.bind.observation.DefaultBeanBindingObservationConvention;
+import com.mattbertolini.spring.web.bind.observation.DefaultPropertyResolutionObservationConvention;
+import com.mattbertolini.spring.web.bind.observation.PropertyResolutionObservationContext;
+import com.mattbertolini.spring.web.bind.observation.PropertyResolutionObservationConvention;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpRequest;
 import com.mattbertolini.spring.web.bind.support.MapValueResolver;
+import com.mattbertolini.spring.web.reactive.bind.resolver.BulkRequestPropertyResolver;
 import com.mattbertolini.spring.web.reactive.bind.resolver.RequestPropertyResolver;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.MutablePropertyValues;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.ResolvableType;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.support.WebExchangeDataBinder;
+import org.springframework.web.reactive.BindingContext;
 import org.springframework.web.reactive.result.method.annotation.ModelAttributeMethodArgumentResolver;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 public class BeanParameterMethodArgumentResolver extends ModelAttributeMethodArgumentResolver {
+    // Value of ObservationThreadLocalAccessor.KEY, which cannot be referenced without the optional context-propagation library
+    private static final String OBSERVATION_CONTEXT_KEY = "micrometer.observation";
+    private static final String BIND_VALUES_CONTEXT_KEY = BeanParameterMethodArgumentResolver.class.getName() + ".bindValues";
+    private static final BeanBindingObservationConvention DEFAULT_BEAN_BINDING_CONVENTION = new DefaultBeanBindingObservationConvention();
+    private static final PropertyResolutionObservationConvention DEFAULT_PROPERTY_RESOLUTION_CONVENTION = new DefaultPropertyResolutionObservationConvention();
     private final AnnotatedRequestBeanIntrospector introspector;
+    @Nullable
+    private final BindingMetrics bindingMetrics;
+    private final ConcurrentMap<MethodParameter, ParameterPlan> parameterPlans = new ConcurrentHashMap<>();
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+    @Nullable
+    private BeanBindingObservationConvention beanBindingObservationConvention;
+    @Nullable
+    private PropertyResolutionObservationConvention propertyResolutionObservationConvention;
 
     public BeanParameterMethodArgumentResolver(
         ReactiveAdapterRegistry adapterRegistry,
         AnnotatedRequestBeanIntrospector introspector) {
+        this(adapterRegistry, introspector, null);
+    }
+
+    /**
+     * @param adapterRegistry The registry used to adapt reactive types.
+     * @param introspector The introspector used to look up the property resolvers of a request bean.
+     * @param bindingMetrics Receives the time spent resolving and binding each request bean. No timings are taken
+     *                       when null, nor for warm-up requests.
+     */
+    public BeanParameterMethodArgumentResolver(
+        ReactiveAdapterRegistry adapterRegistry,
+        AnnotatedRequestBeanIntrospector introspector,
+        @Nullable BindingMetrics bindingMetrics) {
         super(adapterRegistry, false);
         this.introspector = introspector;
+        this.bindingMetrics = bindingMetrics;
+    }
+
+    /**
+     * Observe each phase of binding a request bean, and the resolution of request body, session and multipart
+     * properties, with the given registry. Observations are parented to the observation found in the Reactor
+     * context. Nothing is observed by default. Warm-up requests are never observed.
+     *
+     * @param observationRegistry The registry to create observations with. Required.
+     */
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * @param beanBindingObservationConvention A convention replacing {@link DefaultBeanBindingObservationConvention}.
+     */
+    public void setBeanBindingObservationConvention(BeanBindingObservationConvention beanBindingObservationConvention) {
+        this.beanBindingObservationConvention = beanBindingObservationConvention;
+    }
+
+    /**
+     * @param propertyResolutionObservationConvention A convention replacing
+     * {@link DefaultPropertyResolutionObservationConvention}.
+     */
+    public void setPropertyResolutionObservationConvention(PropertyResolutionObservationConvention propertyResolutionObservationConvention) {
+        this.propertyResolutionObservationConvention = propertyResolutionObservationConvention;
     }
 
+    /**
+     * Drop the introspected request beans remembered for handler method parameters of the given types, so that they
+     * no longer hold on to property data the introspector has evicted. They are looked up again when next bound.
+     *
+     * @param beanTypes The request bean types evicted from the introspector. Required.
+     */
+    public void evict(Collection<Class<?>> beanTypes) {
+        parameterPlans.values().removeIf(plan -> beanTypes.contains(plan.beanType()));
+    }
+
+    /**
+     * The answer is remembered for each handler method parameter by the argument resolvers of the handler adapter.
+     * The introspected request bean of each parameter is remembered here once it is first bound.
+     */
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(BeanParameter.class) && !BeanUtils.isSimpleProperty(parameter.getParameterType());
@@ -58,10 +158,12 @@ public class BeanParameterMethodArgumentResolver extends ModelAttributeMethodArg
     @Override
     protected Mono<Void> constructAttribute(WebExchangeDataBinder binder, ServerWebExchange exchange) {
         ResolvableType targetType = Objects.requireNonNull(binder.getTargetType(), "WebExchangeDataBinder must have a target type");
-        Collection<ResolvedPropertyData> propertyData = introspector.getResolversFor(Objects.requireNonNull(targetType.getRawClass()));
-        return getValuesToBind(propertyData, exchange)
+        Class<?> rawClass = Objects.requireNonNull(targetType.getRawClass());
+        ParameterPlan plan = getPlanFor(rawClass, binder);
+        return memoizedGetValuesToBind(rawClass, plan, binder, exchange)
             .map(MapValueResolver::new)
-            .doOnNext(binder::construct)
+            .flatMap(valueResolver -> observeBinding(rawClass, BindingPhase.CONSTRUCT, exchange,
+                Mono.fromRunnable(() -> construct(binder, valueResolver, rawClass, metricsFor(exchange)))))
             .then();
     }
 
@@ -69,20 +171,329 @@ public class BeanParameterMethodArgumentResolver extends ModelAttributeMethodArg
     @NonNull
     protected Mono<Void> bindRequestParameters(WebExchangeDataBinder binder, ServerWebExchange exchange) {
         Object target = Objects.requireNonNull(binder.getTarget(), "WebExchangeDataBinder must have a target object");
-        Collection<ResolvedPropertyData> propertyData = introspector.getResolversFor(target.getClass());
-        return getValuesToBind(propertyData, exchange)
+        ParameterPlan plan = getPlanFor(target.getClass(), binder);
+        return memoizedGetValuesToBind(target.getClass(), plan, binder, exchange)
             .map(MutablePropertyValues::new)
-            .doOnNext(binder::bind)
+            .flatMap(propertyValues -> observeBinding(target.getClass(), BindingPhase.BIND, exchange,
+                Mono.fromRunnable(() -> bind(binder, propertyValues, target.getClass(), metricsFor(exchange)))))
             .then();
     }
 
-    private Mono<Map<String, Object>> getValuesToBind(Collection<ResolvedPropertyData> propertyData, ServerWebExchange exchange) {
-        return Flux.fromIterable(propertyData).flatMap(data -> {
-            BindingProperty bindingProperty = data.bindingProperty();
-            RequestPropertyResolver resolver = (RequestPropertyResolver) data.resolver();
-            return resolver.resolve(bindingProperty, exchange).map(resolvedValue -> Tuples.of(data.propertyName(), resolvedValue));
-        }).collectMap(Tuple2::getT1, Tuple2::getT2)
-            .onErrorMap(e -> new RequestPropertyBindingException("Unable to resolve property. " + e.getMessage(), e))
+    /**
+     * Looks up the properties of the request bean by the handler method parameter the binder was created for, when
+     * known, rather than by the bean type.
+     */
+    private ParameterPlan getPlanFor(Class<?> beanType, WebExchangeDataBinder binder) {
+        ResolvableType targetType = binder.getTargetType();
+        if (targetType != null && targetType.getSource() instanceof MethodParameter parameter) {
+            ParameterPlan plan = parameterPlans.computeIfAbsent(parameter,
+                key -> ParameterPlan.of(beanType, introspector.getResolversFor(beanType)));
+            // A bean already in the model may be a subclass of the parameter type
+            if (plan.beanType() == beanType) {
+                return plan;
+            }
+        }
+        return new ParameterPlan(beanType, introspector.getResolversFor(beanType), null);
+    }
+
+    private static void construct(WebExchangeDataBinder binder, MapValueResolver valueResolver, Class<?> beanType,
+                                  @Nullable BindingMetrics bindingMetrics) {
+        if (bindingMetrics == null) {
+            binder.construct(valueResolver);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            binder.construct(valueResolver);
+        } catch (RuntimeException e) {
+            bindingMetrics.recordBinding(beanType, BindingPhase.CONSTRUCT, System.nanoTime() - start, e);
+            throw e;
+        }
+        bindingMetrics.recordBinding(beanType, BindingPhase.CONSTRUCT, System.nanoTime() - start, null);
+    }
+
+    private static void bind(WebExchangeDataBinder binder, MutablePropertyValues propertyValues, Class<?> beanType,
+                             @Nullable BindingMetrics bindingMetrics) {
+        if (bindingMetrics == null) {
+            binder.bind(propertyValues);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            binder.bind(propertyValues);
+        } catch (RuntimeException e) {
+            bindingMetrics.recordBinding(beanType, BindingPhase.BIND, System.nanoTime() - start, e);
+            throw e;
+        }
+        bindingMetrics.recordBinding(beanType, BindingPhase.BIND, System.nanoTime() - start, null);
+    }
+
+    @Nullable
+    private static Object bind(DirectBindingPlan plan, Map<String, Object> values, @Nullable BindingMetrics bindingMetrics) {
+        if (bindingMetrics == null) {
+            return plan.bind(values);
+        }
+        long start = System.nanoTime();
+        Object bean;
+        try {
+            bean = plan.bind(values);
+        } catch (RuntimeException e) {
+            bindingMetrics.recordBinding(plan.getBeanType(), BindingPhase.DIRECT, System.nanoTime() - start, e);
+            throw e;
+        }
+        bindingMetrics.recordBinding(plan.getBeanType(), BindingPhase.DIRECT, System.nanoTime() - start, null);
+        return bean;
+    }
+
+    /**
+     * Bind the request bean with the given plan, without a data binder. When that is not possible the request bean is
+     * bound with a data binder instead, with the values already resolved, so that they are not resolved again.
+     */
+    Mono<Object> bindDirectly(DirectBindingPlan plan, MethodParameter parameter, BindingContext bindingContext,
+                              ServerWebExchange exchange) {
+        Class<?> beanType = plan.getBeanType();
+        return getValuesToBind(beanType, new ParameterPlan(beanType, plan.getPropertyData(), null), null, exchange)
+            .flatMap(values -> observeBinding(beanType, BindingPhase.DIRECT, exchange,
+                    Mono.fromSupplier(() -> bind(plan, values, metricsFor(exchange))))
+                .switchIfEmpty(Mono.defer(() -> resolveArgument(parameter, bindingContext, exchange)
+                    .contextWrite(Context.of(BIND_VALUES_CONTEXT_KEY, values)))));
+    }
+
+    private Mono<Map<String, Object>> memoizedGetValuesToBind(Class<?> beanType, ParameterPlan plan,
+                                                              WebExchangeDataBinder binder, ServerWebExchange exchange) {
+        return Mono.deferContextual(contextView -> contextView.<Map<String, Object>>getOrEmpty(BIND_VALUES_CONTEXT_KEY)
+            .map(Mono::just)
+            .orElseGet(() -> getValuesToBind(beanType, plan, binder, exchange)));
+    }
+
+    private Mono<Map<String, Object>> getValuesToBind(Class<?> beanType, ParameterPlan plan,
+                                                      @Nullable WebExchangeDataBinder binder, ServerWebExchange exchange) {
+        Collection<ResolvedPropertyData> propertyData = plan.propertyData();
+        BindingMetrics metrics = metricsFor(exchange);
+        return observeBinding(beanType, BindingPhase.RESOLVE, exchange, Mono.defer(() -> {
+            if (exchange.getAttribute(CapturedBeanTypes.ATTRIBUTE_NAME) instanceof CapturedBeanTypes beanTypes) {
+                beanTypes.add(beanType);
+            }
+            RequestBeanBindingEvent event = new RequestBeanBindingEvent();
+            event.begin();
+            long start = metrics != null ? System.nanoTime() : 0L;
+            return resolveValuesToBind(beanType, plan, binder, exchange)
+                .doOnSuccess(values -> {
+                    if (metrics != null) {
+                        metrics.recordBinding(beanType, BindingPhase.RESOLVE, System.nanoTime() - start, null);
+                    }
+                    commitEvent(event, beanType, propertyData, exchange, false);
+                })
+                .doOnError(e -> {
+                    if (metrics != null) {
+                        metrics.recordBinding(beanType, BindingPhase.RESOLVE, System.nanoTime() - start, e);
+                    }
+                    commitEvent(event, beanType, propertyData, exchange, true);
+                });
+        }));
+    }
+
+    /**
+     * Warm-up requests are not real requests, so they are left out of binding metrics, observations and flight
+     * recorder events.
+     */
+    private static boolean isWarmUp(ServerWebExchange exchange) {
+        return exchange.getRequest() instanceof WarmUpRequest;
+    }
+
+    @Nullable
+    private BindingMetrics metricsFor(ServerWebExchange exchange) {
+        return isWarmUp(exchange) ? null : bindingMetrics;
+    }
+
+    private ObservationRegistry observationRegistryFor(ServerWebExchange exchange) {
+        return isWarmUp(exchange) ? ObservationRegistry.NOOP : observationRegistry;
+    }
+
+    private <T> Mono<T> observeBinding(Class<?> beanType, BindingPhase phase, ServerWebExchange exchange, Mono<T> source) {
+        ObservationRegistry registry = observationRegistryFor(exchange);
+        if (registry.isNoop()) {
+            return source;
+        }
+        return observe(() -> BindingObservationDocumentation.BEAN_BINDING
+            .observation(beanBindingObservationConvention, DEFAULT_BEAN_BINDING_CONVENTION,
+                () -> new BeanBindingObservationContext(beanType, phase), registry), source);
+    }
+
+    private Mono<Object> observeResolve(Class<?> beanType, ResolvedPropertyData data, RequestPropertyResolver resolver,
+                                        ParameterPlan plan, ServerWebExchange exchange) {
+        ObservationRegistry registry = observationRegistryFor(exchange);
+        if (registry.isNoop() || !plan.isObserved(data)) {
+            return resolve(resolver, data.bindingProperty(), exchange);
+        }
+        return observe(() -> BindingObservationDocumentation.PROPERTY_RESOLUTION
+            .observation(propertyResolutionObservationConvention, DEFAULT_PROPERTY_RESOLUTION_CONVENTION,
+                () -> new PropertyResolutionObservationContext(beanType, data.propertyName(), resolver), registry),
+            Mono.defer(() -> resolve(resolver, data.bindingProperty(), exchange)));
+    }
+
+    /**
+     * Bulk resolvers exist to replace several lookups with one expensive lookup, so their calls are always observed,
+     * as one resolution of all the properties passed to them.
+     */
+    private Mono<Map<BindingProperty, Object>> observeResolveAll(Class<?> beanType, BulkRequestPropertyResolver resolver,
+                                                                 List<ResolvedPropertyData> propertyData, ServerWebExchange exchange) {
+        ObservationRegistry registry = observationRegistryFor(exchange);
+        if (registry.isNoop()) {
+            return resolveAll(resolver, propertyData, exchange);
+        }
+        return observe(() -> BindingObservationDocumentation.PROPERTY_RESOLUTION
+            .observation(propertyResolutionObservationConvention, DEFAULT_PROPERTY_RESOLUTION_CONVENTION,
+                () -> new PropertyResolutionObservationContext(beanType, BindingObservations.propertyNames(propertyData), resolver), registry),
+            Mono.defer(() -> resolveAll(resolver, propertyData, exchange)));
+    }
+
+    /**
+     * Run the source within a new observation parented to the observation in the subscriber context, and make the new
+     * observation the parent of anything observed by the source.
+     */
+    private static <T> Mono<T> observe(Supplier<Observation> observationSupplier, Mono<T> source) {
+        return Mono.deferContextual(contextView -> {
+            Observation observation = observationSupplier.get();
+            observation.parentObservation(contextView.getOrDefault(OBSERVATION_CONTEXT_KEY, null));
+            observation.start();
+            return source
+                .doOnSuccess(value -> observation.stop())
+                .doOnError(e -> {
+                    observation.error(e);
+                    observation.stop();
+                })
+                .doOnCancel(observation::stop)
+                .contextWrite(context -> context.put(OBSERVATION_CONTEXT_KEY, observation));
+        });
+    }
+
+    private static void commitEvent(RequestBeanBindingEvent event, Class<?> beanType, Collection<ResolvedPropertyData> propertyData,
+                                    ServerWebExchange exchange, boolean failed) {
+        event.end();
+        if (!isWarmUp(exchange) && event.shouldCommit()) {
+            event.setBeanType(beanType);
+            event.setPropertyCount(propertyData.size());
+            event.setContentLength(contentLength(propertyData, exchange));
+            event.setFailed(failed);
+            event.commit();
+        }
+    }
+
+    private static long contentLength(Collection<ResolvedPropertyData> propertyData, ServerWebExchange exchange) {
+        for (ResolvedPropertyData data : propertyData) {
+            if (data.bindingProperty().hasAnnotation(RequestBody.class)) {
+                return exchange.getRequest().getHeaders().getContentLength();
+            }
+        }
+        return -1;
+    }
+
+    private Mono<Object> resolve(RequestPropertyResolver resolver, BindingProperty bindingProperty, ServerWebExchange exchange) {
+        BindingMetrics metrics = metricsFor(exchange);
+        if (metrics == null) {
+            return resolver.resolve(bindingProperty, exchange);
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return resolver.resolve(bindingProperty, exchange)
+                .doOnSuccess(value -> metrics.recordResolver(resolver, System.nanoTime() - start, null))
+                .doOnError(e -> metrics.recordResolver(resolver, System.nanoTime() - start, e));
+        });
+    }
+
+    private Mono<Map<String, Object>> resolveValuesToBind(Class<?> beanType, ParameterPlan plan,
+                                                          @Nullable WebExchangeDataBinder binder, ServerWebExchange exchange) {
+        Map<BulkRequestPropertyResolver, List<ResolvedPropertyData>> bulkPropertyData = groupByBulkResolver(plan.propertyData());
+        Flux<Tuple2<String, Object>> values = Flux.fromIterable(plan.propertyData())
+            .filter(data -> !(data.resolver() instanceof BulkRequestPropertyResolver))
+            .flatMap(data -> {
+                RequestPropertyResolver resolver = (RequestPropertyResolver) data.resolver();
+                return observeResolve(beanType, data, resolver, plan, exchange)
+                    .map(resolvedValue -> toPropertyValue(data, resolvedValue, binder));
+            });
+        if (!bulkPropertyData.isEmpty()) {
+            values = values.mergeWith(Flux.fromIterable(bulkPropertyData.entrySet())
+                .flatMap(entry -> observeResolveAll(beanType, entry.getKey(), entry.getValue(), exchange)
+                    .flatMapIterable(resolvedValues -> {
+                        List<Tuple2<String, Object>> propertyValues = new ArrayList<>(entry.getValue().size());
+                        for (ResolvedPropertyData data : entry.getValue()) {
+                            Object resolvedValue = resolvedValues.get(data.bindingProperty());
+                            if (resolvedValue != null) {
+                                propertyValues.add(toPropertyValue(data, resolvedValue, binder));
+                            }
+                        }
+                        return propertyValues;
+                    })));
+        }
+        return values.collectMap(Tuple2::getT1, Tuple2::getT2)
+            .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                e -> new RequestPropertyBindingException("Unable to resolve property. " + e.getMessage(), e))
             .doOnSuccess(valuesMap -> valuesMap.values().removeIf(Objects::isNull));
     }
+
+    private static Tuple2<String, Object> toPropertyValue(ResolvedPropertyData data, Object resolvedValue, @Nullable WebExchangeDataBinder binder) {
+        // Values bound directly are converted by the plan
+        return Tuples.of(data.propertyName(), binder != null ? PropertyValueConverters.convertForBinding(data, resolvedValue, binder) : resolvedValue);
+    }
+
+    private static Map<BulkRequestPropertyResolver, List<ResolvedPropertyData>> groupByBulkResolver(Collection<ResolvedPropertyData> propertyData) {
+        Map<BulkRequestPropertyResolver, List<ResolvedPropertyData>> bulkPropertyData = null;
+        for (ResolvedPropertyData data : propertyData) {
+            if (data.resolver() instanceof BulkRequestPropertyResolver bulkResolver) {
+                if (bulkPropertyData == null) {
+                    bulkPropertyData = new LinkedHashMap<>();
+                }
+                bulkPropertyData.computeIfAbsent(bulkResolver, key -> new ArrayList<>()).add(data);
+            }
+        }
+        return bulkPropertyData != null ? bulkPropertyData : Collections.emptyMap();
+    }
+
+    /**
+     * Resolves the properties of a bulk resolver in one call. The call is recorded as a single resolver call in the
+     * binding metrics. Nested request beans of the same type share their binding properties, so each property is only
+     * passed to the resolver once.
+     */
+    private Mono<Map<BindingProperty, Object>> resolveAll(BulkRequestPropertyResolver resolver, List<ResolvedPropertyData> propertyData,
+                                                          ServerWebExchange exchange) {
+        Set<BindingProperty> distinctProperties = CollectionUtils.newLinkedHashSet(propertyData.size());
+        for (ResolvedPropertyData data : propertyData) {
+            distinctProperties.add(data.bindingProperty());
+        }
+        List<BindingProperty> bindingProperties = new ArrayList<>(distinctProperties);
+        BindingMetrics metrics = metricsFor(exchange);
+        if (metrics == null) {
+            return resolver.resolveAll(bindingProperties, exchange);
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return resolver.resolveAll(bindingProperties, exchange)
+                .doOnSuccess(values -> metrics.recordResolver(resolver, System.nanoTime() - start, null))
+                .doOnError(e -> metrics.recordResolver(resolver, System.nanoTime() - start, e));
+        });
+    }
+
+    /**
+     * The properties of a request bean along with those whose resolution is observed on its own, which are worked out
+     * once for the plans remembered per handler method parameter rather than on every request.
+     *
+     * @param observed The observed properties, by identity, or null to check each property when it is resolved.
+     */
+    private record ParameterPlan(Class<?> beanType, Collection<ResolvedPropertyData> propertyData,
+                                 @Nullable Set<ResolvedPropertyData> observed) {
+        static ParameterPlan of(Class<?> beanType, Collection<ResolvedPropertyData> propertyData) {
+            Set<ResolvedPropertyData> observed = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (ResolvedPropertyData data : propertyData) {
+                if (BindingObservations.isObservedProperty(data.bindingProperty())) {
+                    observed.add(data);
+                }
+            }
+            return new ParameterPlan(beanType, propertyData, observed.isEmpty() ? Collections.emptySet() : observed);
+        }
+
+        boolean isObserved(ResolvedPropertyData data) {
+            return observed != null ? observed.contains(data) : BindingObservations.isObservedProperty(data.bindingProperty());
+        }
+    }
 }
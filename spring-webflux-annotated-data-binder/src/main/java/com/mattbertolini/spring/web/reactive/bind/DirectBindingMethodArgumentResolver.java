@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind;
+
+import com.mattbertolini.spring.web.bind.direct.DirectBinder;
+import com.mattbertolini.spring.web.bind.direct.DirectBindingPlan;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Binds the request beans of the parameters the {@link DirectBinder} allows without a data binder. Registered ahead
+ * of the given {@link BeanParameterMethodArgumentResolver}, which binds the request beans of all other parameters. The
+ * request bean is bound by that resolver too when a value cannot be converted, so that the error is recorded in a
+ * binding result as usual.
+ */
+public class DirectBindingMethodArgumentResolver implements HandlerMethodArgumentResolver {
+    private final BeanParameterMethodArgumentResolver resolver;
+    private final DirectBinder directBinder;
+
+    public DirectBindingMethodArgumentResolver(BeanParameterMethodArgumentResolver resolver, DirectBinder directBinder) {
+        this.resolver = resolver;
+        this.directBinder = directBinder;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return resolver.supportsParameter(parameter) && directBinder.getPlan(parameter) != null;
+    }
+
+    @Override
+    public Mono<Object> resolveArgument(MethodParameter parameter, BindingContext bindingContext, ServerWebExchange exchange) {
+        DirectBindingPlan plan = directBinder.getPlan(parameter);
+        if (plan == null) {
+            return resolver.resolveArgument(parameter, bindingContext, exchange);
+        }
+        return resolver.bindDirectly(plan, parameter, bindingContext, exchange);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind.capture;
+
+import com.mattbertolini.spring.web.bind.capture.CapturedBeanTypes;
+import com.mattbertolini.spring.web.bind.capture.RequestShape;
+import com.mattbertolini.spring.web.bind.capture.TrafficProfile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records the shape of requests bound to {@code @BeanParameter} request beans into a {@link TrafficProfile}: the names
+ * of query parameters, headers and cookies with the lengths of their values, and the body size. Values themselves are
+ * never recorded. Requests that do not bind a request bean are ignored.
+ *
+ * <p>Form data is not captured as parameters since reading it here would subscribe to the request body.</p>
+ */
+public class RequestShapeCaptureWebFilter implements WebFilter {
+    private final TrafficProfile trafficProfile;
+    private double sampleRate = 1.0;
+
+    /**
+     * @param trafficProfile The profile to record request shapes into. Required.
+     */
+    public RequestShapeCaptureWebFilter(TrafficProfile trafficProfile) {
+        this.trafficProfile = trafficProfile;
+    }
+
+    /**
+     * @param sampleRate The fraction of requests to capture, from 0 to 1. All requests are captured by default.
+     */
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public TrafficProfile getTrafficProfile() {
+        return trafficProfile;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return chain.filter(exchange);
+        }
+        CapturedBeanTypes beanTypes = new CapturedBeanTypes();
+        exchange.getAttributes().put(CapturedBeanTypes.ATTRIBUTE_NAME, beanTypes);
+        return chain.filter(exchange).doFinally(signal -> {
+            exchange.getAttributes().remove(CapturedBeanTypes.ATTRIBUTE_NAME);
+            if (!beanTypes.getBeanTypes().isEmpty()) {
+                RequestShape shape = shapeOf(exchange.getRequest());
+                beanTypes.getBeanTypes().forEach(beanType -> trafficProfile.record(beanType, shape));
+            }
+        });
+    }
+
+    private static RequestShape shapeOf(ServerHttpRequest request) {
+        Map<String, Integer> parameters = new HashMap<>();
+        request.getQueryParams().forEach((name, values) -> parameters.put(name, firstLength(values)));
+
+        Map<String, Integer> headers = new HashMap<>();
+        request.getHeaders().forEach((name, values) -> {
+            if (!HttpHeaders.COOKIE.equalsIgnoreCase(name)) {
+                headers.put(name.toLowerCase(Locale.ROOT), firstLength(values));
+            }
+        });
+
+        Map<String, Integer> cookies = new HashMap<>();
+        request.getCookies().forEach((name, values) ->
+            cookies.put(name, values.isEmpty() ? 0 : values.get(0).getValue().length()));
+        return new RequestShape(parameters, headers, cookies, request.getHeaders().getContentLength());
+    }
+
+    private static int firstLength(List<String> values) {
+        String value = values.isEmpty() ? null : values.get(0);
+        return value != null ? value.length() : 0;
+    }
+}
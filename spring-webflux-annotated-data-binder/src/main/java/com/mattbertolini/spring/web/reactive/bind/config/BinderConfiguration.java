@@ -15,11 +15,25 @@
  */
 package com.mattbertolini.spring.web.reactive.bind.config;
 
+import com.mattbertolini.spring.web.bind.annotation.CookieParameter;
+import com.mattbertolini.spring.web.bind.annotation.FormParameter;
+import com.mattbertolini.spring.web.bind.annotation.HeaderParameter;
+import com.mattbertolini.spring.web.bind.annotation.PathParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestBody;
+import com.mattbertolini.spring.web.bind.annotation.RequestContext;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.annotation.SessionParameter;
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverterFactory;
+import com.mattbertolini.spring.web.bind.direct.DirectBinder;
 import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
 import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
 import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.metrics.BindingMetrics;
+import com.mattbertolini.spring.web.bind.resolver.MapEntryLimit;
 import com.mattbertolini.spring.web.reactive.bind.BeanParameterMethodArgumentResolver;
+import com.mattbertolini.spring.web.reactive.bind.DirectBindingMethodArgumentResolver;
 import com.mattbertolini.spring.web.reactive.bind.PropertyResolverRegistry;
+import com.mattbertolini.spring.web.reactive.bind.resolver.CachingRequestPropertyResolver;
 import com.mattbertolini.spring.web.reactive.bind.resolver.CookieParameterRequestPropertyResolver;
 import com.mattbertolini.spring.web.reactive.bind.resolver.FormParameterMapRequestPropertyResolver;
 import com.mattbertolini.spring.web.reactive.bind.resolver.FormParameterRequestPropertyResolver;
@@ -33,24 +47,54 @@ import com.mattbertolini.spring.web.reactive.bind.resolver.RequestParameterMapRe
 import com.mattbertolini.spring.web.reactive.bind.resolver.RequestParameterRequestPropertyResolver;
 import com.mattbertolini.spring.web.reactive.bind.resolver.RequestPropertyResolver;
 import com.mattbertolini.spring.web.reactive.bind.resolver.SessionParameterRequestPropertyResolver;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
 import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
 import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Main configuration class for annotated data binder using Spring WebFlux.
  */
 @SuppressWarnings("UnusedReturnValue")
-public class BinderConfiguration implements BeanPostProcessor {
+public class BinderConfiguration implements BeanPostProcessor, ApplicationContextAware {
     private final Set<String> packagesToScan;
     private final PropertyResolverRegistry propertyResolverRegistry;
+    private boolean simpleTypeConversion = false;
+    private boolean caseInsensitiveEnums = false;
+    private boolean dateTimeConversion = true;
+    private boolean rfc1123HeaderDates = false;
+    private boolean eagerIntrospection = true;
+    private int scanThreads = 1;
+    private int cacheMaximumSize = -1;
+    private int introspectionMaxDepth = DefaultAnnotatedRequestBeanIntrospector.UNLIMITED;
+    private int introspectionMaxProperties = DefaultAnnotatedRequestBeanIntrospector.UNLIMITED;
+    private int mapResolverMaxEntries = MapEntryLimit.UNLIMITED;
+    private boolean directBinding = false;
+    @Nullable
+    private ApplicationContext applicationContext;
+    @Nullable
+    private BindingMetrics bindingMetrics;
+    @Nullable
+    private Supplier<ObservationRegistry> observationRegistry;
+    @Nullable
+    private ClassPathScanningAnnotatedRequestBeanIntrospector introspector;
+    private List<HandlerMethodArgumentResolver> argumentResolvers = Collections.emptyList();
 
     /**
      * Construct a configuration with the default settings.
@@ -125,6 +169,177 @@ public class BinderConfiguration implements BeanPostProcessor {
         return this;
     }
 
+    /**
+     * Enable or disable parsing primitives, wrapper types, UUIDs and enums directly instead of through the conversion
+     * service. Disabled by default, as custom converters and formatters registered for these types are bypassed.
+     *
+     * @param simpleTypeConversion Whether to parse simple types directly.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setSimpleTypeConversion(boolean simpleTypeConversion) {
+        this.simpleTypeConversion = simpleTypeConversion;
+        return this;
+    }
+
+    /**
+     * Match enum constants ignoring case when binding enum properties. Disabled by default. Only applies when simple
+     * type conversion is enabled.
+     *
+     * @param caseInsensitiveEnums Whether to match enum constants ignoring case.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setCaseInsensitiveEnums(boolean caseInsensitiveEnums) {
+        this.caseInsensitiveEnums = caseInsensitiveEnums;
+        return this;
+    }
+
+    /**
+     * Enable or disable parsing {@code java.time} properties with a formatter built once per property at startup.
+     * Enabled by default.
+     *
+     * @param dateTimeConversion Whether to parse date and time types directly.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setDateTimeConversion(boolean dateTimeConversion) {
+        this.dateTimeConversion = dateTimeConversion;
+        return this;
+    }
+
+    /**
+     * Parse {@code ZonedDateTime} and {@code OffsetDateTime} properties bound from headers as RFC 1123. Disabled by
+     * default. Only applies when date and time conversion is enabled.
+     *
+     * @param rfc1123HeaderDates Whether to parse RFC 1123 header dates directly.
+     * @return This instance of the configuration.
+     * @see PropertyValueConverterFactory#setRfc1123HeaderDates(boolean)
+     */
+    public BinderConfiguration setRfc1123HeaderDates(boolean rfc1123HeaderDates) {
+        this.rfc1123HeaderDates = rfc1123HeaderDates;
+        return this;
+    }
+
+    /**
+     * Enable or disable introspecting the request beans in the packages to scan at startup. When disabled, each
+     * request bean is introspected on its first request instead. Enabled by default.
+     *
+     * @param eagerIntrospection Whether to introspect request beans at startup.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setEagerIntrospection(boolean eagerIntrospection) {
+        this.eagerIntrospection = eagerIntrospection;
+        return this;
+    }
+
+    /**
+     * Set the number of threads introspecting the request beans found at startup. Defaults to 1.
+     *
+     * @param scanThreads The number of introspection threads. Must be greater than zero.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setScanThreads(int scanThreads) {
+        Assert.isTrue(scanThreads > 0, "Scan threads must be greater than zero");
+        this.scanThreads = scanThreads;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of request bean types held in the introspection cache. Once the cache is full the least
+     * recently used type is evicted. Unbounded by default. The properties the argument resolvers keep for each handler
+     * method parameter are dropped along with the evicted types.
+     *
+     * @param cacheMaximumSize The maximum number of cached types, or a negative number for no maximum.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setCacheMaximumSize(int cacheMaximumSize) {
+        this.cacheMaximumSize = cacheMaximumSize;
+        return this;
+    }
+
+    /**
+     * Set how many levels of nested {@code @BeanParameter} properties a request bean may have. Request beans nesting
+     * deeper fail introspection. Unlimited by default.
+     *
+     * @param introspectionMaxDepth The maximum depth, or {@link DefaultAnnotatedRequestBeanIntrospector#UNLIMITED}.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setIntrospectionMaxDepth(int introspectionMaxDepth) {
+        this.introspectionMaxDepth = introspectionMaxDepth;
+        return this;
+    }
+
+    /**
+     * Set how many properties a request bean may have, counting the properties of nested beans. Request beans with
+     * more fail introspection. Unlimited by default.
+     *
+     * @param introspectionMaxProperties The maximum number of properties, or
+     *                                   {@link DefaultAnnotatedRequestBeanIntrospector#UNLIMITED}.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setIntrospectionMaxProperties(int introspectionMaxProperties) {
+        this.introspectionMaxProperties = introspectionMaxProperties;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of request parameters, form parameters or headers the built-in resolvers bind to a
+     * map property. Requests with more are rejected with a 400 Bad Request. Unlimited by default.
+     *
+     * @param mapResolverMaxEntries The maximum number of entries, or {@link MapEntryLimit#UNLIMITED}.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setMapResolverMaxEntries(int mapResolverMaxEntries) {
+        this.mapResolverMaxEntries = mapResolverMaxEntries;
+        return this;
+    }
+
+    /**
+     * Bind the request beans of all controller method arguments without creating a data binder where possible, rather
+     * than only those annotated with {@code @BeanParameter(direct = true)}. Disabled by default.
+     *
+     * @param directBinding Whether to bind all request beans directly when possible.
+     * @return This instance of the configuration.
+     * @see com.mattbertolini.spring.web.bind.annotation.BeanParameter#direct()
+     */
+    public BinderConfiguration setDirectBinding(boolean directBinding) {
+        this.directBinding = directBinding;
+        return this;
+    }
+
+    /**
+     * Record binding and resolver timings, and introspection cache statistics, to the given metrics. No timings are
+     * taken unless this is set.
+     *
+     * @param bindingMetrics The metrics to record to. Required.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setBindingMetrics(BindingMetrics bindingMetrics) {
+        this.bindingMetrics = bindingMetrics;
+        return this;
+    }
+
+    /**
+     * Open observations around each phase of binding a request bean, and around resolving request body, session and
+     * multipart properties. Nothing is observed unless this is set.
+     *
+     * @param observationRegistry The registry to create observations with. Required.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setObservationRegistry(ObservationRegistry observationRegistry) {
+        return setObservationRegistry(() -> observationRegistry);
+    }
+
+    /**
+     * Same as {@link #setObservationRegistry(ObservationRegistry)} but the registry is only looked up when the
+     * handler adapter is post processed, so it is not created early along with this post processor.
+     *
+     * @param observationRegistry Supplies the registry to create observations with. Required.
+     * @return This instance of the configuration.
+     */
+    public BinderConfiguration setObservationRegistry(Supplier<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+        return this;
+    }
+
     /**
      * Get an unmodifiable set of the packages to be scanned by the introspector.
      *
@@ -134,6 +349,32 @@ public class BinderConfiguration implements BeanPostProcessor {
         return Collections.unmodifiableSet(packagesToScan);
     }
 
+    @Nullable
+    public BindingMetrics getBindingMetrics() {
+        return bindingMetrics;
+    }
+
+    /**
+     * Get the introspector created when the handler adapter was post processed, e.g. to warm up the request beans it
+     * holds.
+     *
+     * @return The introspector or null if no handler adapter has been post processed yet.
+     */
+    @Nullable
+    public ClassPathScanningAnnotatedRequestBeanIntrospector getIntrospector() {
+        return introspector;
+    }
+
+    /**
+     * Get the argument resolvers added to the handler adapter when it was post processed, in the order they were
+     * added, e.g. to warm up binding the way real requests are bound.
+     *
+     * @return The argument resolvers or an empty list if no handler adapter has been post processed yet.
+     */
+    public List<HandlerMethodArgumentResolver> getArgumentResolvers() {
+        return argumentResolvers;
+    }
+
     @Override
     @Nullable
     public Object postProcessBeforeInitialization(Object bean, String beanName) {
@@ -149,10 +390,19 @@ public class BinderConfiguration implements BeanPostProcessor {
             }
 
             PropertyResolverRegistry resolverRegistry = createPropertyResolverRegistry(adapter, reactiveAdapterRegistry);
-            AnnotatedRequestBeanIntrospector introspector = createIntrospector(resolverRegistry);
+            ClassPathScanningAnnotatedRequestBeanIntrospector introspector = createIntrospector(resolverRegistry, createConverterFactory(adapter));
             BeanParameterMethodArgumentResolver resolver = createResolver(introspector, reactiveAdapterRegistry);
+            DirectBinder directBinder = createDirectBinder(adapter, introspector);
+            // Release what is kept per handler method parameter along with the request beans evicted from the cache
+            introspector.getIntrospectorCache().addEvictionListener(beanTypes -> {
+                resolver.evict(beanTypes);
+                directBinder.evict(beanTypes);
+            });
 
+            DirectBindingMethodArgumentResolver directResolver = new DirectBindingMethodArgumentResolver(resolver, directBinder);
+            resolverConfigurer.addCustomResolver(directResolver);
             resolverConfigurer.addCustomResolver(resolver);
+            argumentResolvers = List.of(directResolver, resolver);
         }
         return adapter;
     }
@@ -160,36 +410,83 @@ public class BinderConfiguration implements BeanPostProcessor {
     private PropertyResolverRegistry createPropertyResolverRegistry(RequestMappingHandlerAdapter adapter, ReactiveAdapterRegistry reactiveAdapterRegistry) {
         PropertyResolverRegistry registry = new PropertyResolverRegistry();
 
-        registry.addResolver(new RequestParameterRequestPropertyResolver());
-        registry.addResolver(new RequestParameterMapRequestPropertyResolver());
-        registry.addResolver(new FormParameterRequestPropertyResolver());
-        registry.addResolver(new FormParameterMapRequestPropertyResolver());
-        registry.addResolver(new PathParameterRequestPropertyResolver());
-        registry.addResolver(new PathParameterMapRequestPropertyResolver());
-        registry.addResolver(new CookieParameterRequestPropertyResolver());
-        registry.addResolver(new HeaderParameterRequestPropertyResolver());
-        registry.addResolver(new HeaderParameterMapRequestPropertyResolver());
-        registry.addResolver(new SessionParameterRequestPropertyResolver());
-        registry.addResolver(new RequestContextRequestPropertyResolver());
-        registry.addResolver(new RequestBodyRequestPropertyResolver(adapter.getMessageReaders(), reactiveAdapterRegistry));
+        // The built-in resolvers are only created for the annotations the request beans use
+        int maxEntries = mapResolverMaxEntries;
+        registry.addLazyResolver(RequestParameter.class, RequestParameterRequestPropertyResolver::new);
+        registry.addLazyResolver(RequestParameter.class, () -> new RequestParameterMapRequestPropertyResolver(maxEntries));
+        registry.addLazyResolver(FormParameter.class, FormParameterRequestPropertyResolver::new);
+        registry.addLazyResolver(FormParameter.class, () -> new FormParameterMapRequestPropertyResolver(maxEntries));
+        registry.addLazyResolver(PathParameter.class, PathParameterRequestPropertyResolver::new);
+        registry.addLazyResolver(PathParameter.class, PathParameterMapRequestPropertyResolver::new);
+        registry.addLazyResolver(CookieParameter.class, CookieParameterRequestPropertyResolver::new);
+        registry.addLazyResolver(HeaderParameter.class, HeaderParameterRequestPropertyResolver::new);
+        registry.addLazyResolver(HeaderParameter.class, () -> new HeaderParameterMapRequestPropertyResolver(maxEntries));
+        registry.addLazyResolver(SessionParameter.class, SessionParameterRequestPropertyResolver::new);
+        registry.addLazyResolver(RequestContext.class, RequestContextRequestPropertyResolver::new);
+        registry.addLazyResolver(RequestBody.class, () -> new RequestBodyRequestPropertyResolver(adapter.getMessageReaders(), reactiveAdapterRegistry));
 
         registry.addResolvers(propertyResolverRegistry);
+        registry.freeze();
 
         return registry;
     }
 
-    private AnnotatedRequestBeanIntrospector createIntrospector(PropertyResolverRegistry registry) {
-        DefaultAnnotatedRequestBeanIntrospector defaultIntrospector = new DefaultAnnotatedRequestBeanIntrospector(registry);
-        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(defaultIntrospector, packagesToScan);
+    @Nullable
+    private PropertyValueConverterFactory createConverterFactory(RequestMappingHandlerAdapter adapter) {
+        if (adapter.getWebBindingInitializer() instanceof ConfigurableWebBindingInitializer initializer) {
+            ConversionService conversionService = initializer.getConversionService();
+            if (conversionService != null) {
+                PropertyValueConverterFactory converterFactory = new PropertyValueConverterFactory(conversionService);
+                converterFactory.setSimpleTypeConversion(simpleTypeConversion);
+                converterFactory.setCaseInsensitiveEnums(caseInsensitiveEnums);
+                converterFactory.setDateTimeConversion(dateTimeConversion);
+                converterFactory.setRfc1123HeaderDates(rfc1123HeaderDates);
+                return converterFactory;
+            }
+        }
+        return null;
+    }
+
+    private ClassPathScanningAnnotatedRequestBeanIntrospector createIntrospector(PropertyResolverRegistry registry, @Nullable PropertyValueConverterFactory converterFactory) {
+        DefaultAnnotatedRequestBeanIntrospector defaultIntrospector = new DefaultAnnotatedRequestBeanIntrospector(registry, converterFactory);
+        defaultIntrospector.setMaximumDepth(introspectionMaxDepth);
+        defaultIntrospector.setMaximumProperties(introspectionMaxProperties);
+        ClassPathScanningAnnotatedRequestBeanIntrospector introspector = new ClassPathScanningAnnotatedRequestBeanIntrospector(defaultIntrospector, eagerIntrospection ? packagesToScan : null);
+        introspector.setScanThreads(scanThreads);
+        introspector.getIntrospectorCache().setMaximumSize(cacheMaximumSize);
         try {
             introspector.afterPropertiesSet();
         } catch (Exception e) {
             throw new BeanInitializationException("Unable to create introspector", e);
         }
+        if (bindingMetrics != null) {
+            bindingMetrics.monitor(introspector);
+            for (RequestPropertyResolver resolver : registry.getPropertyResolvers()) {
+                if (resolver instanceof CachingRequestPropertyResolver cachingResolver) {
+                    bindingMetrics.monitor(cachingResolver.getCache());
+                }
+            }
+        }
+        this.introspector = introspector;
         return introspector;
     }
 
     private BeanParameterMethodArgumentResolver createResolver(AnnotatedRequestBeanIntrospector introspector, ReactiveAdapterRegistry reactiveAdapterRegistry) {
-        return new BeanParameterMethodArgumentResolver(reactiveAdapterRegistry, introspector);
+        BeanParameterMethodArgumentResolver resolver = new BeanParameterMethodArgumentResolver(reactiveAdapterRegistry, introspector, bindingMetrics);
+        if (observationRegistry != null) {
+            resolver.setObservationRegistry(observationRegistry.get());
+        }
+        return resolver;
+    }
+
+    private DirectBinder createDirectBinder(RequestMappingHandlerAdapter adapter, AnnotatedRequestBeanIntrospector introspector) {
+        ApplicationContext context = applicationContext;
+        return new DirectBinder(introspector, adapter.getWebBindingInitializer(),
+            () -> context != null ? ControllerAdviceBean.findAnnotatedBeans(context) : Collections.emptyList(), directBinding);
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
     }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind.resolver;
+
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A property resolver that resolves all the properties of a request bean it supports in one call, for example with a
+ * single lookup in a remote store instead of one lookup per property.
+ */
+public interface BulkRequestPropertyResolver extends RequestPropertyResolver {
+    /**
+     * Resolve the values of the given properties.
+     *
+     * @param bindingProperties The properties of the request bean this resolver supports. Never empty.
+     * @param exchange The current exchange. Required.
+     * @return The resolved values by property. Properties without a value are left out. Never null.
+     */
+    Mono<Map<BindingProperty, Object>> resolveAll(List<BindingProperty> bindingProperties, ServerWebExchange exchange);
+
+    @Override
+    default Mono<Object> resolve(BindingProperty bindingProperty, ServerWebExchange request) {
+        return resolveAll(List.of(bindingProperty), request).mapNotNull(values -> values.get(bindingProperty));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind.resolver;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Caches the values of a bulk property resolver like {@link CachingRequestPropertyResolver}, one value per property.
+ * The properties of a request bean that are not cached yet are resolved by the bulk resolver in one call, with the
+ * Reactor context of the request that loads them. Values are cached under the same keys as
+ * {@link CachingRequestPropertyResolver}, so both can share a cache.
+ */
+public class CachingBulkRequestPropertyResolver extends CachingRequestPropertyResolver implements BulkRequestPropertyResolver {
+    private final BulkRequestPropertyResolver delegate;
+    private final Function<? super ServerWebExchange, ?> keyFunction;
+
+    /**
+     * @param delegate The bulk resolver to cache the values of. Required.
+     * @param keyFunction Takes the part of the request the values depend on. May return null when the request does
+     * not have it.
+     * @param cache The cache to keep the values in. Required.
+     */
+    public CachingBulkRequestPropertyResolver(BulkRequestPropertyResolver delegate, Function<? super ServerWebExchange, ?> keyFunction,
+                                              ResolvedValueCache<Object, Object> cache) {
+        super(delegate, keyFunction, cache);
+        this.delegate = delegate;
+        this.keyFunction = keyFunction;
+    }
+
+    @Override
+    public Mono<Map<BindingProperty, Object>> resolveAll(List<BindingProperty> bindingProperties, ServerWebExchange exchange) {
+        return Mono.deferContextual(context -> {
+            Object requestKey = keyFunction.apply(exchange);
+            if (requestKey == null) {
+                return delegate.resolveAll(bindingProperties, exchange);
+            }
+            // The cache only invokes the loader for properties that are neither cached nor being loaded by another request
+            List<BindingProperty> missing = new ArrayList<>();
+            CompletableFuture<Map<BindingProperty, Object>> loaded = new CompletableFuture<>();
+            Map<BindingProperty, CompletableFuture<Object>> values = new LinkedHashMap<>();
+            for (BindingProperty bindingProperty : bindingProperties) {
+                values.put(bindingProperty, getCache().getAsync(new CacheKey(delegate, bindingProperty, requestKey), key -> {
+                    missing.add(bindingProperty);
+                    return loaded.thenApply(found -> found.get(bindingProperty));
+                }));
+            }
+            if (!missing.isEmpty()) {
+                delegate.resolveAll(missing, exchange)
+                    .defaultIfEmpty(Map.of())
+                    .contextWrite(context)
+                    .toFuture()
+                    .whenComplete((found, error) -> {
+                        if (error == null) {
+                            loaded.complete(found);
+                        } else {
+                            loaded.completeExceptionally(error);
+                        }
+                    });
+            }
+            CompletableFuture<Map<BindingProperty, Object>> resolved = CompletableFuture.allOf(values.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> {
+                    Map<BindingProperty, Object> found = new HashMap<>();
+                    values.forEach((bindingProperty, value) -> {
+                        Object resolvedValue = value.join();
+                        if (resolvedValue != null) {
+                            found.put(bindingProperty, resolvedValue);
+                        }
+                    });
+                    return found;
+                });
+            return Mono.fromFuture(resolved, true);
+        });
+    }
+}
@@ -17,6 +17,7 @@ package com.mattbertolini.spring.web.reactive.bind.resolver;
 
 import com.mattbertolini.spring.web.bind.annotation.FormParameter;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.resolver.MapEntryLimit;
 import org.springframework.lang.NonNull;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
@@ -27,6 +28,19 @@ import java.util.Map;
 import java.util.function.Function;
 
 public class FormParameterMapRequestPropertyResolver implements RequestPropertyResolver {
+    private final int maxEntries;
+
+    public FormParameterMapRequestPropertyResolver() {
+        this(MapEntryLimit.UNLIMITED);
+    }
+
+    /**
+     * @param maxEntries The maximum number of form parameters bound to a map property, or {@link MapEntryLimit#UNLIMITED}.
+     */
+    public FormParameterMapRequestPropertyResolver(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
     @Override
     public boolean supports(BindingProperty bindingProperty) {
         FormParameter annotation = bindingProperty.getAnnotation(FormParameter.class);
@@ -37,9 +51,11 @@ public class FormParameterMapRequestPropertyResolver implements RequestPropertyR
     @Override
     @NonNull
     public Mono<Object> resolve(BindingProperty bindingProperty, ServerWebExchange exchange) {
+        Mono<MultiValueMap<String, String>> formData = exchange.getFormData().doOnNext(form ->
+            MapEntryLimit.check(form.size(), maxEntries, "form parameters"));
         if (MultiValueMap.class.isAssignableFrom(bindingProperty.getType())) {
-            return exchange.getFormData().map(Function.identity());
+            return formData.map(Function.identity());
         }
-        return exchange.getFormData().map(MultiValueMap::toSingleValueMap);
+        return formData.map(MultiValueMap::toSingleValueMap);
     }
 }
@@ -17,6 +17,7 @@ package com.mattbertolini.spring.web.reactive.bind.resolver;
 
 import com.mattbertolini.spring.web.bind.annotation.HeaderParameter;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.resolver.MapEntryLimit;
 import org.springframework.lang.NonNull;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
@@ -26,6 +27,19 @@ import reactor.core.publisher.Mono;
 import java.util.Map;
 
 public class HeaderParameterMapRequestPropertyResolver implements RequestPropertyResolver {
+    private final int maxEntries;
+
+    public HeaderParameterMapRequestPropertyResolver() {
+        this(MapEntryLimit.UNLIMITED);
+    }
+
+    /**
+     * @param maxEntries The maximum number of headers bound to a map property, or {@link MapEntryLimit#UNLIMITED}.
+     */
+    public HeaderParameterMapRequestPropertyResolver(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
     @Override
     public boolean supports(BindingProperty bindingProperty) {
         HeaderParameter annotation = bindingProperty.getAnnotation(HeaderParameter.class);
@@ -36,6 +50,7 @@ public class HeaderParameterMapRequestPropertyResolver implements RequestPropert
     @Override
     @NonNull
     public Mono<Object> resolve(BindingProperty bindingProperty, ServerWebExchange exchange) {
+        MapEntryLimit.check(exchange.getRequest().getHeaders().size(), maxEntries, "headers");
         // HttpHeaders class extends from MultiValueMap
         if (MultiValueMap.class.isAssignableFrom(bindingProperty.getType())) {
             return Mono.just(exchange.getRequest().getHeaders());
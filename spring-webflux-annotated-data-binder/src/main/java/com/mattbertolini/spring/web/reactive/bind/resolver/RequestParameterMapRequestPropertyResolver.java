@@ -17,6 +17,7 @@ package com.mattbertolini.spring.web.reactive.bind.resolver;
 
 import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.resolver.MapEntryLimit;
 import org.springframework.lang.NonNull;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
@@ -26,6 +27,19 @@ import reactor.core.publisher.Mono;
 import java.util.Map;
 
 public class RequestParameterMapRequestPropertyResolver implements RequestPropertyResolver {
+    private final int maxEntries;
+
+    public RequestParameterMapRequestPropertyResolver() {
+        this(MapEntryLimit.UNLIMITED);
+    }
+
+    /**
+     * @param maxEntries The maximum number of query parameters bound to a map property, or {@link MapEntryLimit#UNLIMITED}.
+     */
+    public RequestParameterMapRequestPropertyResolver(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
     @Override
     public boolean supports(@NonNull BindingProperty bindingProperty) {
         RequestParameter annotation = bindingProperty.getAnnotation(RequestParameter.class);
@@ -37,6 +51,7 @@ public class RequestParameterMapRequestPropertyResolver implements RequestProper
     @NonNull
     public Mono<Object> resolve(@NonNull BindingProperty bindingProperty, @NonNull ServerWebExchange request) {
         MultiValueMap<String, String> queryParams = request.getRequest().getQueryParams();
+        MapEntryLimit.check(queryParams.size(), maxEntries, "query parameters");
         if (MultiValueMap.class.isAssignableFrom(bindingProperty.getType())) {
             return Mono.just(queryParams);
         }
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind.warmup;
+
+import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.warmup.SyntheticRequest;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
+import com.mattbertolini.spring.web.reactive.bind.resolver.CachingRequestPropertyResolver;
+import com.mattbertolini.spring.web.reactive.bind.resolver.RequestPropertyResolver;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.support.WebBindingInitializer;
+import org.springframework.web.bind.support.WebExchangeDataBinder;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.SyncInvocableHandlerMethod;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import org.springframework.web.server.session.WebSessionManager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Binds a synthetic exchange for every {@link BeanParameter} parameter of the handler methods of a handler mapping, a
+ * number of times over, so that the binding code is compiled and the binder caches of those parameters are filled
+ * before real requests arrive. Each binding is waited on, so run the warm-up on a thread that may block.
+ *
+ * <p>The request beans are bound by the argument resolvers registered with the handler adapter for the real handler
+ * method parameters, with data binders initialized by its binding initializer, the {@link InitBinder @InitBinder}
+ * methods of the controller and the controller advice applying to it, so warm-up bindings take the same path as real
+ * requests. Warm-up exchanges are left out of binding metrics and observations. Request beans with properties
+ * resolved by resolvers other than the built-in ones are left out unless {@linkplain #setCustomResolvers(boolean)
+ * enabled}, as custom resolvers may call other systems with the made up values. Request beans that cannot be bound
+ * from a synthetic exchange, e.g. because of validation, a request body that cannot be read from an empty JSON object
+ * or an {@code @InitBinder} method taking arguments other than the data binder, are left out after their first
+ * attempt.</p>
+ */
+public class RequestBeanWarmUp implements Supplier<WarmUpResult> {
+    private static final Log LOGGER = LogFactory.getLog(RequestBeanWarmUp.class);
+    private static final ReflectionUtils.MethodFilter INIT_BINDER_METHODS =
+        method -> AnnotatedElementUtils.hasAnnotation(method, InitBinder.class);
+
+    private final AnnotatedRequestBeanIntrospector introspector;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final List<HandlerMethodArgumentResolver> argumentResolvers;
+    @Nullable
+    private final WebBindingInitializer webBindingInitializer;
+    private ServerCodecConfigurer codecConfigurer = ServerCodecConfigurer.create();
+    private Collection<ControllerAdviceBean> controllerAdvice = Collections.emptyList();
+    private int iterations = 100;
+    private boolean customResolvers = false;
+
+    /**
+     * @param introspector The introspector used to look up the properties to make up exchanges for.
+     * @param handlerMapping The initialized handler mapping of the application, with the handler methods whose
+     *                       request beans are bound.
+     * @param argumentResolvers The argument resolvers binding the request beans, as registered with the handler
+     *                          adapter.
+     * @param webBindingInitializer The binding initializer of the handler adapter, so binders are configured the same
+     *                              way as for real requests.
+     */
+    public RequestBeanWarmUp(AnnotatedRequestBeanIntrospector introspector,
+                             RequestMappingHandlerMapping handlerMapping,
+                             List<HandlerMethodArgumentResolver> argumentResolvers,
+                             @Nullable WebBindingInitializer webBindingInitializer) {
+        this.introspector = introspector;
+        this.handlerMapping = handlerMapping;
+        this.argumentResolvers = argumentResolvers;
+        this.webBindingInitializer = webBindingInitializer;
+    }
+
+    /**
+     * Set the number of times each request bean is bound. Defaults to 100.
+     *
+     * @param iterations The number of bindings per request bean. Must be greater than zero.
+     * @return This instance.
+     */
+    public RequestBeanWarmUp setIterations(int iterations) {
+        Assert.isTrue(iterations > 0, "Iterations must be greater than zero");
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Also warm up request beans with properties resolved by custom resolvers. The resolvers are then called with
+     * made up values. Disabled by default.
+     *
+     * @param customResolvers Whether to warm up request beans using custom resolvers.
+     * @return This instance.
+     */
+    public RequestBeanWarmUp setCustomResolvers(boolean customResolvers) {
+        this.customResolvers = customResolvers;
+        return this;
+    }
+
+    /**
+     * Set the codecs used to read form data from synthetic exchanges. Defaults to the standard server codecs.
+     *
+     * @param codecConfigurer The codec configurer of the application. Required.
+     * @return This instance.
+     */
+    public RequestBeanWarmUp setCodecConfigurer(ServerCodecConfigurer codecConfigurer) {
+        this.codecConfigurer = codecConfigurer;
+        return this;
+    }
+
+    /**
+     * Set the controller advice of the application. Their {@link InitBinder @InitBinder} methods initialize the data
+     * binders of the controllers they apply to. Defaults to none.
+     *
+     * @param controllerAdvice The controller advice beans. Required.
+     * @return This instance.
+     */
+    public RequestBeanWarmUp setControllerAdvice(Collection<ControllerAdviceBean> controllerAdvice) {
+        this.controllerAdvice = controllerAdvice;
+        return this;
+    }
+
+    @Override
+    public WarmUpResult get() {
+        long start = System.nanoTime();
+        WebSessionManager sessionManager = new DefaultWebSessionManager();
+        LocaleContextResolver localeContextResolver = new AcceptHeaderLocaleContextResolver();
+        List<Target> targets = new ArrayList<>();
+        int failures = findTargets(targets);
+
+        int requestBeans = targets.size() + failures;
+        long bindings = 0;
+        for (int i = 0; i < iterations && !targets.isEmpty() && !Thread.currentThread().isInterrupted(); i++) {
+            Iterator<Target> iterator = targets.iterator();
+            while (iterator.hasNext()) {
+                Target target = iterator.next();
+                ServerWebExchange exchange = new DefaultServerWebExchange(WarmUpServerHttpRequest.of(target.request()),
+                    new WarmUpServerHttpResponse(), sessionManager, codecConfigurer, localeContextResolver);
+                exchange.getAttributes().put(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, target.request().getPathVariables());
+                try {
+                    BindingContext bindingContext = new WarmUpBindingContext(webBindingInitializer, target.binderMethods());
+                    target.resolver().resolveArgument(target.parameter(), bindingContext, exchange).block();
+                    bindings++;
+                } catch (RuntimeException e) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Leaving " + target.parameter() + " out of the warm-up", e);
+                    }
+                    failures++;
+                    iterator.remove();
+                }
+            }
+        }
+        return new WarmUpResult(requestBeans, bindings, failures, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Adds a target for every request bean parameter that can be warmed up.
+     *
+     * @return The number of request bean parameters no argument resolver binds.
+     */
+    private int findTargets(List<Target> targets) {
+        Map<Class<?>, List<SyncInvocableHandlerMethod>> binderMethods = new HashMap<>();
+        Set<Method> handled = new HashSet<>();
+        int failures = 0;
+        for (HandlerMethod handlerMethod : handlerMapping.getHandlerMethods().values()) {
+            if (!handled.add(handlerMethod.getMethod())) {
+                continue;
+            }
+            for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+                Class<?> beanType = parameter.nestedIfOptional().getNestedParameterType();
+                if (!parameter.hasParameterAnnotation(BeanParameter.class) || BeanUtils.isSimpleProperty(beanType)) {
+                    continue;
+                }
+                HandlerMethodArgumentResolver resolver = findResolverFor(parameter);
+                if (resolver == null) {
+                    LOGGER.debug("Leaving " + parameter + " out of the warm-up as no argument resolver binds it");
+                    failures++;
+                    continue;
+                }
+                Collection<ResolvedPropertyData> propertyData;
+                try {
+                    propertyData = introspector.getResolversFor(beanType);
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Leaving " + parameter + " out of the warm-up as it cannot be introspected", e);
+                    continue;
+                }
+                if (!customResolvers && usesCustomResolvers(propertyData)) {
+                    LOGGER.debug("Leaving " + parameter + " out of the warm-up as it uses custom resolvers");
+                    continue;
+                }
+                List<SyncInvocableHandlerMethod> methods = binderMethods.computeIfAbsent(handlerMethod.getBeanType(),
+                    key -> findInitBinderMethods(handlerMethod.createWithResolvedBean()));
+                targets.add(new Target(parameter, resolver, methods, SyntheticRequest.forProperties(propertyData)));
+            }
+        }
+        return failures;
+    }
+
+    @Nullable
+    private HandlerMethodArgumentResolver findResolverFor(MethodParameter parameter) {
+        for (HandlerMethodArgumentResolver resolver : argumentResolvers) {
+            if (resolver.supportsParameter(parameter)) {
+                return resolver;
+            }
+        }
+        return null;
+    }
+
+    private static boolean usesCustomResolvers(Collection<ResolvedPropertyData> propertyData) {
+        for (ResolvedPropertyData data : propertyData) {
+            Object resolver = data.resolver();
+            // The caching resolver shares the package of the built-in resolvers but wraps a custom one
+            if (!resolver.getClass().getPackageName().equals(RequestPropertyResolver.class.getPackageName()) ||
+                resolver instanceof CachingRequestPropertyResolver) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<SyncInvocableHandlerMethod> findInitBinderMethods(HandlerMethod handlerMethod) {
+        Class<?> handlerType = handlerMethod.getBeanType();
+        List<SyncInvocableHandlerMethod> binderMethods = new ArrayList<>();
+        for (ControllerAdviceBean advice : controllerAdvice) {
+            Class<?> beanType = advice.getBeanType();
+            if (beanType != null && advice.isApplicableToBeanType(handlerType)) {
+                Object bean = advice.resolveBean();
+                for (Method method : MethodIntrospector.selectMethods(beanType, INIT_BINDER_METHODS)) {
+                    binderMethods.add(new SyncInvocableHandlerMethod(bean, method));
+                }
+            }
+        }
+        for (Method method : MethodIntrospector.selectMethods(handlerType, INIT_BINDER_METHODS)) {
+            binderMethods.add(new SyncInvocableHandlerMethod(handlerMethod.getBean(), method));
+        }
+        return binderMethods;
+    }
+
+    private record Target(MethodParameter parameter, HandlerMethodArgumentResolver resolver,
+                          List<SyncInvocableHandlerMethod> binderMethods, SyntheticRequest request) {
+    }
+
+    /**
+     * The handler adapter does not expose the binding context it creates per handler method. This is the one it would
+     * create, except that the binder methods are only given the data binder.
+     */
+    private static class WarmUpBindingContext extends BindingContext {
+        private final List<SyncInvocableHandlerMethod> binderMethods;
+
+        WarmUpBindingContext(@Nullable WebBindingInitializer initializer, List<SyncInvocableHandlerMethod> binderMethods) {
+            super(initializer);
+            this.binderMethods = binderMethods;
+        }
+
+        @Override
+        protected WebExchangeDataBinder initDataBinder(WebExchangeDataBinder binder, ServerWebExchange exchange) {
+            for (SyncInvocableHandlerMethod binderMethod : binderMethods) {
+                binderMethod.invokeForHandlerResult(exchange, this, binder);
+            }
+            return binder;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind.warmup;
+
+import com.mattbertolini.spring.web.bind.warmup.SyntheticRequest;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpRequest;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.AbstractServerHttpRequest;
+import org.springframework.http.server.reactive.SslInfo;
+import org.springframework.lang.Nullable;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A server request built from a {@link SyntheticRequest}. Form parameters are sent as a form body unless the request
+ * has a request body of its own.
+ */
+final class WarmUpServerHttpRequest extends AbstractServerHttpRequest implements WarmUpRequest {
+    private final SyntheticRequest request;
+    private final byte[] body;
+
+    private WarmUpServerHttpRequest(SyntheticRequest request, HttpMethod method, URI uri, HttpHeaders headers, byte[] body) {
+        super(method, uri, null, headers);
+        this.request = request;
+        this.body = body;
+    }
+
+    static WarmUpServerHttpRequest of(SyntheticRequest request) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString("http://localhost/");
+        request.getParameters().forEach((name, value) -> uriBuilder.queryParam(name, value));
+        URI uri = uriBuilder.encode().build().toUri();
+
+        HttpHeaders headers = new HttpHeaders();
+        request.getHeaders().forEach(headers::add);
+        byte[] body = request.getBody();
+        MediaType contentType = request.getContentType();
+        if (body == null && !request.getFormParameters().isEmpty()) {
+            body = formBody(request.getFormParameters());
+            contentType = MediaType.APPLICATION_FORM_URLENCODED;
+        }
+        if (body == null || contentType == null) {
+            return new WarmUpServerHttpRequest(request, HttpMethod.GET, uri, headers, new byte[0]);
+        }
+        headers.setContentType(contentType);
+        headers.setContentLength(body.length);
+        return new WarmUpServerHttpRequest(request, HttpMethod.POST, uri, headers, body);
+    }
+
+    @Override
+    protected MultiValueMap<String, HttpCookie> initCookies() {
+        MultiValueMap<String, HttpCookie> cookies = new LinkedMultiValueMap<>();
+        request.getCookies().forEach((name, value) -> cookies.add(name, new HttpCookie(name, value)));
+        return cookies;
+    }
+
+    @Override
+    @Nullable
+    protected SslInfo initSslInfo() {
+        return null;
+    }
+
+    @Override
+    public Flux<DataBuffer> getBody() {
+        return Flux.defer(() -> Mono.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getNativeRequest() {
+        return (T) this;
+    }
+
+    private static byte[] formBody(Map<String, String> formParameters) {
+        return formParameters.entrySet().stream()
+            .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+            .collect(Collectors.joining("&"))
+            .getBytes(StandardCharsets.UTF_8);
+    }
+}
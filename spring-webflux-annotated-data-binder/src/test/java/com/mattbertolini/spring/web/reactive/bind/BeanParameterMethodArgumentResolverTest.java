@@ -17,13 +17,30 @@ package com.mattbertolini.spring.web.reactive.bind;
 
 import com.mattbertolini.spring.web.bind.RequestPropertyBindingException;
 import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.annotation.SessionParameter;
+import com.mattbertolini.spring.web.bind.capture.CapturedBeanTypes;
 import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
 import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.jfr.RequestBeanBindingEvent;
+import com.mattbertolini.spring.web.bind.metrics.MicrometerBindingMetrics;
+import com.mattbertolini.spring.web.bind.observation.DefaultBeanBindingObservationConvention;
+import com.mattbertolini.spring.web.bind.observation.DefaultPropertyResolutionObservationConvention;
+import com.mattbertolini.spring.web.reactive.bind.resolver.BulkRequestPropertyResolver;
 import com.mattbertolini.spring.web.reactive.bind.resolver.RequestPropertyResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import jakarta.validation.Valid;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.PropertyValue;
 import org.springframework.beans.PropertyValues;
 import org.springframework.core.MethodParameter;
@@ -32,21 +49,29 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.ClassUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import java.beans.PropertyDescriptor;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class BeanParameterMethodArgumentResolverTest {
@@ -87,6 +112,88 @@ class BeanParameterMethodArgumentResolverTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void addsBeanTypeToCapturedBeanTypes() throws Exception {
+        CapturedBeanTypes beanTypes = new CapturedBeanTypes();
+        exchange.getAttributes().put(CapturedBeanTypes.ATTRIBUTE_NAME, beanTypes);
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        resolver.resolveArgument(methodParameter, bindingContext, exchange).block();
+        assertThat(beanTypes.getBeanTypes()).containsExactly(ABeanClass.class);
+    }
+
+    @Test
+    void introspectsRequestBeanOncePerParameter() throws Exception {
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), MockRequestPropertyResolver.value("expected"))
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        resolver.resolveArgument(methodParameter, bindingContext, exchange).block();
+        MockBindingContext otherBindingContext = new MockBindingContext();
+        resolver.resolveArgument(methodParameter, otherBindingContext, exchange).block();
+
+        verify(introspector, times(1)).getResolversFor(ABeanClass.class);
+        assertThat(otherBindingContext.getDataBinder().getPropertyValues().contains("propertyOne")).isTrue();
+    }
+
+    @Test
+    void introspectsRequestBeanAgainOnceEvicted() throws Exception {
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(List.of());
+
+        resolver.resolveArgument(methodParameter, bindingContext, exchange).block();
+        resolver.evict(List.of(ABeanClass.class));
+        resolver.resolveArgument(methodParameter, new MockBindingContext(), exchange).block();
+
+        verify(introspector, times(2)).getResolversFor(ABeanClass.class);
+    }
+
+    @Test
+    void resolvesPropertiesOfBulkResolverInOneCall() throws Exception {
+        BindingProperty propertyOne = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class));
+        BindingProperty propertyTwo = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyTwo", ABeanClass.class));
+        BulkRequestPropertyResolver bulkResolver = mock(BulkRequestPropertyResolver.class);
+        when(bulkResolver.resolveAll(List.of(propertyOne, propertyTwo), exchange)).thenReturn(Mono.just(Map.of(propertyOne, "expected")));
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", propertyOne, bulkResolver),
+            new ResolvedPropertyData("propertyTwo", propertyTwo, bulkResolver)
+        );
+
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+        resolver.resolveArgument(methodParameter, bindingContext, exchange).block();
+
+        verify(bulkResolver).resolveAll(List.of(propertyOne, propertyTwo), exchange);
+        PropertyValues propertyValues = bindingContext.getDataBinder().getPropertyValues();
+        assertThat(propertyValues.getPropertyValue("propertyOne"))
+            .isNotNull()
+            .extracting(PropertyValue::getValue).isEqualTo("expected");
+        assertThat(propertyValues.contains("propertyTwo")).isFalse();
+    }
+
+    @Test
+    void resolvesPropertySharedByNestedBeansOnceWithBulkResolver() throws Exception {
+        RecordingBulkResolver bulkResolver = new RecordingBulkResolver("expected");
+        PropertyResolverRegistry registry = new PropertyResolverRegistry();
+        registry.addResolver(bulkResolver);
+        BeanParameterMethodArgumentResolver nestedResolver = new BeanParameterMethodArgumentResolver(new ReactiveAdapterRegistry(),
+            new DefaultAnnotatedRequestBeanIntrospector(registry));
+        MethodParameter methodParameter = createMethodParameter("nestedMethod", NestingBean.class);
+
+        nestedResolver.resolveArgument(methodParameter, bindingContext, exchange).block();
+
+        assertThat(bulkResolver.invocations).singleElement().satisfies(bindingProperties -> assertThat(bindingProperties).hasSize(1));
+        PropertyValues propertyValues = bindingContext.getDataBinder().getPropertyValues();
+        assertThat(propertyValues.getPropertyValue("nestedOne.value"))
+            .isNotNull()
+            .extracting(PropertyValue::getValue).isEqualTo("expected");
+        assertThat(propertyValues.getPropertyValue("nestedTwo.value"))
+            .isNotNull()
+            .extracting(PropertyValue::getValue).isEqualTo("expected");
+    }
+
     @Test
     void resolvesPropertyValues() throws Exception {
         List<ResolvedPropertyData> propertyData = Arrays.asList(
@@ -227,6 +334,161 @@ class BeanParameterMethodArgumentResolverTest {
         assertThat(bindingContext.getDataBinder().getBindingResult()).isEqualTo(bindingResult);
     }
 
+    @Test
+    void recordsBindingMetrics() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BeanParameterMethodArgumentResolver metricsResolver = new BeanParameterMethodArgumentResolver(new ReactiveAdapterRegistry(), introspector, new MicrometerBindingMetrics(meterRegistry));
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), MockRequestPropertyResolver.value("expected"))
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        metricsResolver.resolveArgument(methodParameter, bindingContext, exchange).block();
+
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", ClassUtils.getShortName(ABeanClass.class), "phase", "resolve", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", ClassUtils.getShortName(ABeanClass.class), "phase", "bind", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.RESOLVER_METRIC_NAME)
+            .tags("resolver", "BeanParameterMethodArgumentResolverTest.MockRequestPropertyResolver", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsResolverErrorMetrics() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BeanParameterMethodArgumentResolver metricsResolver = new BeanParameterMethodArgumentResolver(new ReactiveAdapterRegistry(), introspector, new MicrometerBindingMetrics(meterRegistry));
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), MockRequestPropertyResolver.throwsException())
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        Mono<Object> objectMono = metricsResolver.resolveArgument(methodParameter, bindingContext, exchange);
+        assertThatThrownBy(objectMono::block).isInstanceOf(RequestPropertyBindingException.class);
+
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.RESOLVER_ERRORS_METRIC_NAME)
+            .tags("exception", "RuntimeException")
+            .counter()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("phase", "resolve", "outcome", "error")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsFlightRecorderEvents(@TempDir Path tempDir) throws Exception {
+        List<ResolvedPropertyData> propertyData = Arrays.asList(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), MockRequestPropertyResolver.value("expected")),
+            new ResolvedPropertyData("propertyTwo", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyTwo", ABeanClass.class)), MockRequestPropertyResolver.value(42))
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        Path recordingFile = tempDir.resolve("binding.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RequestBeanBindingEvent.NAME);
+            recording.start();
+            resolver.resolveArgument(methodParameter, bindingContext, exchange).block();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> event.getEventType().getName().equals(RequestBeanBindingEvent.NAME))
+            .toList();
+        assertThat(events).isNotEmpty();
+        RecordedEvent event = events.get(0);
+        assertThat(event.getClass("beanType").getName()).isEqualTo(ABeanClass.class.getName());
+        assertThat(event.getInt("propertyCount")).isEqualTo(2);
+        assertThat(event.getLong("contentLength")).isEqualTo(-1);
+        assertThat(event.getBoolean("failed")).isFalse();
+    }
+
+    @Test
+    void observesBindingPhasesAndExpensiveResolvers() throws Exception {
+        TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+        resolver.setObservationRegistry(observationRegistry);
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), MockRequestPropertyResolver.value("expected")),
+            new ResolvedPropertyData("sessionValue", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("sessionValue", ABeanClass.class)), MockRequestPropertyResolver.value("fromSession"))
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        Observation parent = Observation.start("http.server.requests", observationRegistry);
+        resolver.resolveArgument(methodParameter, bindingContext, exchange)
+            .contextWrite(Context.of("micrometer.observation", parent))
+            .block();
+        parent.stop();
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasAnObservationWithAKeyValue("phase", "resolve")
+            .hasAnObservationWithAKeyValue("phase", "bind")
+            .hasObservationWithNameEqualTo(DefaultBeanBindingObservationConvention.OBSERVATION_NAME)
+            .that()
+            .hasLowCardinalityKeyValue("bean", ABeanClass.class.getName())
+            .hasParentObservationEqualTo(parent)
+            .hasBeenStopped();
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasObservationWithNameEqualTo(DefaultPropertyResolutionObservationConvention.OBSERVATION_NAME)
+            .that()
+            .hasLowCardinalityKeyValue("resolver", "BeanParameterMethodArgumentResolverTest.MockRequestPropertyResolver")
+            .hasHighCardinalityKeyValue("property", "sessionValue")
+            .hasParentObservation()
+            .hasBeenStopped();
+    }
+
+    @Test
+    void observesBulkResolverCallsAsOneResolution() throws Exception {
+        TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+        resolver.setObservationRegistry(observationRegistry);
+        RecordingBulkResolver bulkResolver = new RecordingBulkResolver("expected");
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), bulkResolver),
+            new ResolvedPropertyData("sessionValue", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("sessionValue", ABeanClass.class)), bulkResolver)
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        resolver.resolveArgument(methodParameter, bindingContext, exchange).block();
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasNumberOfObservationsWithNameEqualTo(DefaultPropertyResolutionObservationConvention.OBSERVATION_NAME, 1)
+            .hasObservationWithNameEqualTo(DefaultPropertyResolutionObservationConvention.OBSERVATION_NAME)
+            .that()
+            .hasLowCardinalityKeyValue("resolver", "BeanParameterMethodArgumentResolverTest.RecordingBulkResolver")
+            .hasHighCardinalityKeyValue("property", "propertyOne,sessionValue")
+            .hasBeenStopped();
+    }
+
+    @Test
+    void recordsErrorOnObservation() throws Exception {
+        TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+        resolver.setObservationRegistry(observationRegistry);
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("sessionValue", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("sessionValue", ABeanClass.class)), MockRequestPropertyResolver.throwsException())
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        assertThatThrownBy(() -> resolver.resolveArgument(methodParameter, bindingContext, exchange).block())
+            .isInstanceOf(RequestPropertyBindingException.class);
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasObservationWithNameEqualTo(DefaultPropertyResolutionObservationConvention.OBSERVATION_NAME)
+            .that()
+            .hasError()
+            .hasBeenStopped();
+    }
+
     private MethodParameter createMethodParameter(String anAnnotatedMethod, Class<?>... parameterTypes) throws NoSuchMethodException {
         return new MethodParameter(FakeHandlerMethod.class.getMethod(anAnnotatedMethod, parameterTypes), 0);
     }
@@ -270,6 +532,30 @@ class BeanParameterMethodArgumentResolverTest {
         }
     }
 
+    private static class RecordingBulkResolver implements BulkRequestPropertyResolver {
+        private final List<List<BindingProperty>> invocations = new ArrayList<>();
+        private final Object value;
+
+        private RecordingBulkResolver(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return bindingProperty.hasAnnotation(RequestParameter.class);
+        }
+
+        @Override
+        public Mono<Map<BindingProperty, Object>> resolveAll(List<BindingProperty> bindingProperties, ServerWebExchange exchange) {
+            invocations.add(bindingProperties);
+            Map<BindingProperty, Object> values = new HashMap<>();
+            for (BindingProperty bindingProperty : bindingProperties) {
+                values.put(bindingProperty, value);
+            }
+            return Mono.just(values);
+        }
+    }
+
     @SuppressWarnings("unused")
     private static class FakeHandlerMethod {
         public void anAnnotatedMethod(@BeanParameter ABeanClass aBeanClass) {
@@ -304,6 +590,50 @@ class BeanParameterMethodArgumentResolverTest {
         public void withBindingResult(@BeanParameter @Validated ABeanClass aBeanClass, BindingResult bindingResult) {
             // Do nothing
         }
+
+        public void nestedMethod(@BeanParameter NestingBean nestingBean) {
+            // Do nothing
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class NestingBean {
+        @BeanParameter
+        private NestedBean nestedOne = new NestedBean();
+        @BeanParameter
+        private NestedBean nestedTwo = new NestedBean();
+
+        public NestedBean getNestedOne() {
+            return nestedOne;
+        }
+
+        public void setNestedOne(NestedBean nestedOne) {
+            this.nestedOne = nestedOne;
+        }
+
+        public NestedBean getNestedTwo() {
+            return nestedTwo;
+        }
+
+        public void setNestedTwo(NestedBean nestedTwo) {
+            this.nestedTwo = nestedTwo;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class NestedBean {
+        @Nullable
+        @RequestParameter("value")
+        private String value;
+
+        @Nullable
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
     }
 
     @SuppressWarnings("unused")
@@ -314,6 +644,10 @@ class BeanParameterMethodArgumentResolverTest {
         @Nullable
         private Integer propertyTwo;
 
+        @SessionParameter("sessionValue")
+        @Nullable
+        private String sessionValue;
+
         @Nullable
         public String getPropertyOne() {
             return propertyOne;
@@ -331,6 +665,15 @@ class BeanParameterMethodArgumentResolverTest {
         public void setPropertyTwo(Integer propertyTwo) {
             this.propertyTwo = propertyTwo;
         }
+
+        @Nullable
+        public String getSessionValue() {
+            return sessionValue;
+        }
+
+        public void setSessionValue(String sessionValue) {
+            this.sessionValue = sessionValue;
+        }
     }
     
     private static class ValidationGroupOne {}
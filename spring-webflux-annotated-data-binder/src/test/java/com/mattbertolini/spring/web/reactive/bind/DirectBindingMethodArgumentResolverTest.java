@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind;
+
+import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.direct.DirectBinder;
+import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.metrics.MicrometerBindingMetrics;
+import com.mattbertolini.spring.web.reactive.bind.resolver.RequestPropertyResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.PropertyValue;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.beans.PropertyDescriptor;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DirectBindingMethodArgumentResolverTest {
+    private DirectBindingMethodArgumentResolver resolver;
+    private AnnotatedRequestBeanIntrospector introspector;
+    private ServerWebExchange exchange;
+    private MockBindingContext bindingContext;
+    private DirectBinder directBinder;
+
+    @BeforeEach
+    void setUp() {
+        introspector = mock(AnnotatedRequestBeanIntrospector.class);
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        directBinder = new DirectBinder(introspector, initializer, Collections::emptyList, false);
+        BeanParameterMethodArgumentResolver beanParameterResolver = new BeanParameterMethodArgumentResolver(new ReactiveAdapterRegistry(), introspector);
+        resolver = new DirectBindingMethodArgumentResolver(beanParameterResolver, directBinder);
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/irrelevant").build());
+        bindingContext = new MockBindingContext();
+    }
+
+    @Test
+    void supportsDirectParametersOnly() throws Exception {
+        assertThat(resolver.supportsParameter(createMethodParameter("direct"))).isTrue();
+        assertThat(resolver.supportsParameter(createMethodParameter("notDirect"))).isFalse();
+    }
+
+    @Test
+    void bindsWithoutDataBinder() throws Exception {
+        when(introspector.getResolversFor(DirectBean.class)).thenReturn(countProperty(new CountingResolver("42")));
+
+        Object actual = resolver.resolveArgument(createMethodParameter("direct"), bindingContext, exchange).block();
+
+        assertThat(actual).isInstanceOfSatisfying(DirectBean.class, bean -> assertThat(bean.getCount()).isEqualTo(42));
+        assertThat(bindingContext.getModel().asMap()).isEmpty();
+    }
+
+    @Test
+    void bindsWithDataBinderWhenValueCannotBeConverted() throws Exception {
+        CountingResolver propertyResolver = new CountingResolver("not a number");
+        when(introspector.getResolversFor(DirectBean.class)).thenReturn(countProperty(propertyResolver));
+
+        Object actual = resolver.resolveArgument(createMethodParameter("direct"), bindingContext, exchange).block();
+
+        assertThat(actual).isInstanceOf(DirectBean.class);
+        assertThat(bindingContext.getDataBinder().getPropertyValues().getPropertyValue("count"))
+            .isNotNull()
+            .extracting(PropertyValue::getValue).isEqualTo("not a number");
+        assertThat(propertyResolver.invocations).hasValue(1);
+    }
+
+    @Test
+    void recordsBindingMetrics() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BeanParameterMethodArgumentResolver beanParameterResolver = new BeanParameterMethodArgumentResolver(new ReactiveAdapterRegistry(),
+            introspector, new MicrometerBindingMetrics(meterRegistry));
+        DirectBindingMethodArgumentResolver metricsResolver = new DirectBindingMethodArgumentResolver(beanParameterResolver, directBinder);
+        when(introspector.getResolversFor(DirectBean.class)).thenReturn(countProperty(new CountingResolver("42")));
+
+        metricsResolver.resolveArgument(createMethodParameter("direct"), bindingContext, exchange).block();
+
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", ClassUtils.getShortName(DirectBean.class), "phase", "resolve", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", ClassUtils.getShortName(DirectBean.class), "phase", "direct", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.find(MicrometerBindingMetrics.BINDING_METRIC_NAME).tags("phase", "bind").timer()).isNull();
+    }
+
+    @Test
+    void recordsDirectAttemptApartFromDataBinder() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BeanParameterMethodArgumentResolver beanParameterResolver = new BeanParameterMethodArgumentResolver(new ReactiveAdapterRegistry(),
+            introspector, new MicrometerBindingMetrics(meterRegistry));
+        DirectBindingMethodArgumentResolver metricsResolver = new DirectBindingMethodArgumentResolver(beanParameterResolver, directBinder);
+        when(introspector.getResolversFor(DirectBean.class)).thenReturn(countProperty(new CountingResolver("not a number")));
+
+        metricsResolver.resolveArgument(createMethodParameter("direct"), bindingContext, exchange).block();
+
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", ClassUtils.getShortName(DirectBean.class), "phase", "direct", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", ClassUtils.getShortName(DirectBean.class), "phase", "bind", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    private static List<ResolvedPropertyData> countProperty(RequestPropertyResolver propertyResolver) throws Exception {
+        BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("count", DirectBean.class));
+        return List.of(new ResolvedPropertyData("count", bindingProperty, propertyResolver));
+    }
+
+    private static MethodParameter createMethodParameter(String methodName) throws NoSuchMethodException {
+        return new MethodParameter(FakeHandlerMethod.class.getMethod(methodName, DirectBean.class), 0);
+    }
+
+    private static class CountingResolver implements RequestPropertyResolver {
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final Object value;
+
+        private CountingResolver(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return true;
+        }
+
+        @Override
+        public Mono<Object> resolve(BindingProperty bindingProperty, ServerWebExchange request) {
+            return Mono.fromSupplier(() -> {
+                invocations.incrementAndGet();
+                return value;
+            });
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class FakeHandlerMethod {
+        public void direct(@BeanParameter(direct = true) DirectBean bean) {
+            // Do nothing
+        }
+
+        public void notDirect(@BeanParameter DirectBean bean) {
+            // Do nothing
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class DirectBean {
+        private int count;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+}
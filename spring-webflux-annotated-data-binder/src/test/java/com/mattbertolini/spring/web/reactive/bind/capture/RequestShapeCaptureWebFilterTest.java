@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind.capture;
+
+import com.mattbertolini.spring.web.bind.capture.BeanTrafficProfile;
+import com.mattbertolini.spring.web.bind.capture.CapturedBeanTypes;
+import com.mattbertolini.spring.web.bind.capture.RequestPart;
+import com.mattbertolini.spring.web.bind.capture.TrafficProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpCookie;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestShapeCaptureWebFilterTest {
+    private TrafficProfile trafficProfile;
+    private RequestShapeCaptureWebFilter filter;
+    private MockServerWebExchange exchange;
+
+    @BeforeEach
+    void setUp() {
+        trafficProfile = new TrafficProfile();
+        filter = new RequestShapeCaptureWebFilter(trafficProfile);
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/search")
+            .queryParam("q", "hello")
+            .header("X-Request-Id", "0f8fad5b-d9cb-469f-a165-70867728950e")
+            .cookie(new HttpCookie("session", "abc"))
+            .body("{\"name\":\"value\"}"));
+    }
+
+    @Test
+    void recordsShapeOfRequestsBindingRequestBeans() {
+        filter.filter(exchange, filterExchange -> {
+            CapturedBeanTypes beanTypes = filterExchange.getAttribute(CapturedBeanTypes.ATTRIBUTE_NAME);
+            Objects.requireNonNull(beanTypes).add(SearchRequest.class);
+            return Mono.empty();
+        }).block();
+
+        BeanTrafficProfile bean = Objects.requireNonNull(trafficProfile.getBean(SearchRequest.class.getName()));
+        assertThat(bean.getRequestCount()).isEqualTo(1);
+        assertThat(bean.getValueLengths(RequestPart.PARAMETER)).containsOnlyKeys("q");
+        assertThat(bean.getValueLengths(RequestPart.HEADER)).containsKey("x-request-id").doesNotContainKey("cookie");
+        assertThat(bean.getValueLengths(RequestPart.COOKIE)).containsOnlyKeys("session");
+        assertThat(exchange.getAttributes()).doesNotContainKey(CapturedBeanTypes.ATTRIBUTE_NAME);
+    }
+
+    @Test
+    void ignoresRequestsWithoutRequestBeans() {
+        filter.filter(exchange, filterExchange -> Mono.empty()).block();
+        assertThat(trafficProfile.getBeans()).isEmpty();
+    }
+
+    @Test
+    void capturesNothingWithZeroSampleRate() {
+        filter.setSampleRate(0);
+        filter.filter(exchange, filterExchange -> {
+            assertThat(filterExchange.getAttributes()).doesNotContainKey(CapturedBeanTypes.ATTRIBUTE_NAME);
+            return Mono.empty();
+        }).block();
+        assertThat(trafficProfile.getBeans()).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidSampleRate() {
+        assertThatThrownBy(() -> filter.setSampleRate(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class SearchRequest {
+    }
+}
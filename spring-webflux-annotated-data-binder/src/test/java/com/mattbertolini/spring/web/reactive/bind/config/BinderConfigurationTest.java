@@ -16,6 +16,7 @@
 package com.mattbertolini.spring.web.reactive.bind.config;
 
 import com.mattbertolini.spring.web.reactive.bind.BeanParameterMethodArgumentResolver;
+import com.mattbertolini.spring.web.reactive.bind.DirectBindingMethodArgumentResolver;
 import com.mattbertolini.spring.web.reactive.bind.PropertyResolverRegistry;
 import com.mattbertolini.spring.web.reactive.bind.resolver.RequestContextRequestPropertyResolver;
 import com.mattbertolini.spring.web.reactive.bind.resolver.RequestPropertyResolver;
@@ -69,6 +70,15 @@ class BinderConfigurationTest {
         verify(resolverConfigurer).addCustomResolver(any(BeanParameterMethodArgumentResolver.class));
     }
 
+    @Test
+    void exposesResolversAddedToConfigurer() {
+        assertThat(config.getArgumentResolvers()).isEmpty();
+        when(adapter.getArgumentResolverConfigurer()).thenReturn(mock(ArgumentResolverConfigurer.class));
+        config.postProcessBeforeInitialization(adapter, "irrelevant");
+        assertThat(config.getArgumentResolvers())
+            .hasExactlyElementsOfTypes(DirectBindingMethodArgumentResolver.class, BeanParameterMethodArgumentResolver.class);
+    }
+
     @Test
     void addsResolversViaSet() {
         PropertyResolverRegistry registry = mock(PropertyResolverRegistry.class);
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind.resolver;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingBulkRequestPropertyResolverTest {
+    private RecordingResolver delegate;
+    private CachingBulkRequestPropertyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new RecordingResolver();
+        resolver = new CachingBulkRequestPropertyResolver(delegate, exchange -> exchange.getRequest().getHeaders().getFirst("X-Api-Key"),
+            new ResolvedValueCache<>("test", 10, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void resolvesUncachedPropertiesInOneCall() throws Exception {
+        BindingProperty one = bindingProperty("one");
+        BindingProperty two = bindingProperty("two");
+        delegate.values.put(one, "one");
+        delegate.values.put(two, "two");
+
+        assertThat(resolver.resolveAll(List.of(one), exchange("key")).block()).containsEntry(one, "one");
+        assertThat(resolver.resolveAll(List.of(one, two), exchange("key")).block())
+            .containsEntry(one, "one")
+            .containsEntry(two, "two");
+        assertThat(delegate.calls).containsExactly(List.of(one), List.of(two));
+    }
+
+    @Test
+    void cachesMissingValues() throws Exception {
+        BindingProperty missing = bindingProperty("missing");
+
+        assertThat(resolver.resolveAll(List.of(missing), exchange("key")).block()).isEmpty();
+        assertThat(resolver.resolveAll(List.of(missing), exchange("key")).block()).isEmpty();
+        assertThat(delegate.calls).hasSize(1);
+    }
+
+    @Test
+    void resolvesWithContextOfCaller() throws Exception {
+        BindingProperty one = bindingProperty("one");
+
+        Map<BindingProperty, Object> values = resolver.resolveAll(List.of(one), exchange("key"))
+            .contextWrite(Context.of(one, "fromContext"))
+            .block();
+        assertThat(values).containsEntry(one, "fromContext");
+    }
+
+    @Test
+    void resolvesEveryTimeWithoutKey() throws Exception {
+        BindingProperty one = bindingProperty("one");
+        delegate.values.put(one, "one");
+
+        resolver.resolveAll(List.of(one), exchange(null)).block();
+        resolver.resolveAll(List.of(one), exchange(null)).block();
+        assertThat(delegate.calls).hasSize(2);
+    }
+
+    private static ServerWebExchange exchange(@Nullable String apiKey) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/irrelevant");
+        if (apiKey != null) {
+            request.header("X-Api-Key", apiKey);
+        }
+        return MockServerWebExchange.from(request.build());
+    }
+
+    private static BindingProperty bindingProperty(String property) throws IntrospectionException {
+        return BindingProperty.forPropertyDescriptor(new PropertyDescriptor(property, TestingBean.class));
+    }
+
+    private static class RecordingResolver implements BulkRequestPropertyResolver {
+        private final Map<BindingProperty, Object> values = new HashMap<>();
+        private final List<List<BindingProperty>> calls = new ArrayList<>();
+
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return true;
+        }
+
+        @Override
+        public Mono<Map<BindingProperty, Object>> resolveAll(List<BindingProperty> bindingProperties, ServerWebExchange exchange) {
+            return Mono.deferContextual(context -> {
+                calls.add(List.copyOf(bindingProperties));
+                Map<BindingProperty, Object> found = new HashMap<>();
+                for (BindingProperty bindingProperty : bindingProperties) {
+                    if (values.containsKey(bindingProperty)) {
+                        found.put(bindingProperty, values.get(bindingProperty));
+                    } else if (context.hasKey(bindingProperty)) {
+                        found.put(bindingProperty, context.get(bindingProperty));
+                    }
+                }
+                return Mono.just(found);
+            });
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestingBean {
+        @Nullable
+        private String one;
+        @Nullable
+        private String two;
+        @Nullable
+        private String missing;
+
+        @Nullable
+        public String getOne() {
+            return one;
+        }
+
+        public void setOne(String one) {
+            this.one = one;
+        }
+
+        @Nullable
+        public String getTwo() {
+            return two;
+        }
+
+        public void setTwo(String two) {
+            this.two = two;
+        }
+
+        @Nullable
+        public String getMissing() {
+            return missing;
+        }
+
+        public void setMissing(String missing) {
+            this.missing = missing;
+        }
+    }
+}
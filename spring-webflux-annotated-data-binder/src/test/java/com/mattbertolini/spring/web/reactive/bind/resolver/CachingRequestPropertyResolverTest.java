@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind.resolver;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.Nullable;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingRequestPropertyResolverTest {
+    private CountingResolver delegate;
+    private CachingRequestPropertyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingResolver();
+        resolver = new CachingRequestPropertyResolver(delegate, exchange -> exchange.getRequest().getHeaders().getFirst("X-Api-Key"),
+            new ResolvedValueCache<>("test", 10, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void resolvesValueOncePerKey() throws Exception {
+        BindingProperty bindingProperty = bindingProperty("property");
+
+        assertThat(resolver.resolve(bindingProperty, exchange("one")).block()).isEqualTo("value1");
+        assertThat(resolver.resolve(bindingProperty, exchange("one")).block()).isEqualTo("value1");
+        assertThat(resolver.resolve(bindingProperty, exchange("two")).block()).isEqualTo("value2");
+        assertThat(delegate.invocations).hasValue(2);
+    }
+
+    @Test
+    void resolvesValueEveryTimeWithoutKey() throws Exception {
+        BindingProperty bindingProperty = bindingProperty("property");
+
+        resolver.resolve(bindingProperty, exchange(null)).block();
+        resolver.resolve(bindingProperty, exchange(null)).block();
+        assertThat(delegate.invocations).hasValue(2);
+    }
+
+    @Test
+    void resolvesNothingUntilSubscribed() throws Exception {
+        resolver.resolve(bindingProperty("property"), exchange("one"));
+        assertThat(delegate.invocations).hasValue(0);
+    }
+
+    @Test
+    void resolvesValueWithContextOfCaller() throws Exception {
+        CachingRequestPropertyResolver contextResolver = new CachingRequestPropertyResolver(new ContextResolver(),
+            exchange -> exchange.getRequest().getHeaders().getFirst("X-Api-Key"),
+            new ResolvedValueCache<>("test", 10, Duration.ofMinutes(1)));
+
+        Object value = contextResolver.resolve(bindingProperty("property"), exchange("one"))
+            .contextWrite(Context.of("tenant", "acme"))
+            .block();
+        assertThat(value).isEqualTo("acme");
+    }
+
+    @Test
+    void keepsSupportAndOrderOfResolver() throws Exception {
+        assertThat(resolver.supports(bindingProperty("property"))).isTrue();
+        assertThat(resolver.getOrder()).isEqualTo(5);
+    }
+
+    private static ServerWebExchange exchange(@Nullable String apiKey) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/irrelevant");
+        if (apiKey != null) {
+            request.header("X-Api-Key", apiKey);
+        }
+        return MockServerWebExchange.from(request.build());
+    }
+
+    private static BindingProperty bindingProperty(String property) throws IntrospectionException {
+        return BindingProperty.forPropertyDescriptor(new PropertyDescriptor(property, TestingBean.class));
+    }
+
+    @Order(5)
+    private static class CountingResolver implements RequestPropertyResolver {
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return true;
+        }
+
+        @Override
+        public Mono<Object> resolve(BindingProperty bindingProperty, ServerWebExchange request) {
+            return Mono.fromSupplier(() -> "value" + invocations.incrementAndGet());
+        }
+    }
+
+    private static class ContextResolver implements RequestPropertyResolver {
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return true;
+        }
+
+        @Override
+        public Mono<Object> resolve(BindingProperty bindingProperty, ServerWebExchange request) {
+            return Mono.deferContextual(context -> Mono.just(context.get("tenant")));
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestingBean {
+        @Nullable
+        private String property;
+
+        @Nullable
+        public String getProperty() {
+            return property;
+        }
+
+        public void setProperty(String property) {
+            this.property = property;
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.mattbertolini.spring.web.reactive.bind.resolver;
 
+import com.mattbertolini.spring.web.bind.MapEntryLimitExceededException;
 import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +32,7 @@ import java.util.Arrays;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class RequestParameterMapRequestPropertyResolverTest {
     private RequestParameterMapRequestPropertyResolver resolver;
@@ -94,6 +96,33 @@ class RequestParameterMapRequestPropertyResolverTest {
         assertThat(map).containsEntry("request_param", "one");
     }
 
+    @Test
+    void failsWhenMoreQueryParametersThanMaximum() throws Exception {
+        resolver = new RequestParameterMapRequestPropertyResolver(1);
+        MockServerHttpRequest request = MockServerHttpRequest.get("/irrelevant")
+            .queryParam("one", "1")
+            .queryParam("two", "2")
+            .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        BindingProperty bindingProperty = bindingProperty("annotated");
+
+        assertThatThrownBy(() -> resolver.resolve(bindingProperty, exchange)).isInstanceOf(MapEntryLimitExceededException.class);
+    }
+
+    @Test
+    void resolvesUpToMaximumQueryParameters() throws Exception {
+        resolver = new RequestParameterMapRequestPropertyResolver(2);
+        MockServerHttpRequest request = MockServerHttpRequest.get("/irrelevant")
+            .queryParam("one", "1")
+            .queryParam("two", "2")
+            .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        Object actual = resolver.resolve(bindingProperty("annotated"), exchange).block();
+        assertThat(actual).isInstanceOf(Map.class);
+        assertThat((Map<?, ?>) actual).hasSize(2);
+    }
+
     private BindingProperty bindingProperty(String property) throws IntrospectionException {
         return BindingProperty.forPropertyDescriptor(new PropertyDescriptor(property, TestingBean.class));
     }
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.reactive.bind.warmup;
+
+import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.annotation.HeaderParameter;
+import com.mattbertolini.spring.web.bind.annotation.PathParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.jfr.RequestBeanBindingEvent;
+import com.mattbertolini.spring.web.bind.metrics.BindingMetrics;
+import com.mattbertolini.spring.web.bind.metrics.BindingPhase;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
+import com.mattbertolini.spring.web.reactive.bind.BeanParameterMethodArgumentResolver;
+import com.mattbertolini.spring.web.reactive.bind.PropertyResolverRegistry;
+import com.mattbertolini.spring.web.reactive.bind.resolver.HeaderParameterRequestPropertyResolver;
+import com.mattbertolini.spring.web.reactive.bind.resolver.PathParameterRequestPropertyResolver;
+import com.mattbertolini.spring.web.reactive.bind.resolver.RequestParameterRequestPropertyResolver;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Collections;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RequestBeanWarmUpTest {
+    private PropertyResolverRegistry registry;
+    private DefaultAnnotatedRequestBeanIntrospector introspector;
+    private List<HandlerMethodArgumentResolver> argumentResolvers;
+    private AtomicInteger recordedMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PropertyResolverRegistry();
+        registry.addResolver(new RequestParameterRequestPropertyResolver());
+        registry.addResolver(new HeaderParameterRequestPropertyResolver());
+        registry.addResolver(new PathParameterRequestPropertyResolver());
+        introspector = new DefaultAnnotatedRequestBeanIntrospector(registry);
+        recordedMetrics = new AtomicInteger();
+        argumentResolvers = List.of(new BeanParameterMethodArgumentResolver(ReactiveAdapterRegistry.getSharedInstance(),
+            introspector, new CountingMetrics()));
+        SyntheticBean.bindings.set(0);
+        WarmUpAdvice.initBinderCalls.set(0);
+        SyntheticController.initBinderCalls.set(0);
+    }
+
+    @Test
+    void bindsEachHandlerMethodParameterForEveryIteration() {
+        WarmUpResult result = warmUp(argumentResolvers, SyntheticController.class).setIterations(5).get();
+
+        assertThat(result.requestBeans()).isEqualTo(1);
+        assertThat(result.bindings()).isEqualTo(5);
+        assertThat(result.failures()).isZero();
+        assertThat(SyntheticBean.bindings).hasValue(5);
+    }
+
+    @Test
+    void leavesOutRequestBeansThatFailToBind() {
+        WarmUpResult result = warmUp(argumentResolvers, SyntheticController.class, FailingController.class).setIterations(5).get();
+
+        assertThat(result.requestBeans()).isEqualTo(2);
+        assertThat(result.bindings()).isEqualTo(5);
+        assertThat(result.failures()).isEqualTo(1);
+    }
+
+    @Test
+    void leavesOutRequestBeansWithoutArgumentResolver() {
+        WarmUpResult result = warmUp(Collections.emptyList(), SyntheticController.class).get();
+
+        assertThat(result.requestBeans()).isEqualTo(1);
+        assertThat(result.bindings()).isZero();
+        assertThat(result.failures()).isEqualTo(1);
+    }
+
+    @Test
+    void initializesBindersWithControllerAndControllerAdvice() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(WarmUpAdvice.class);
+        context.refresh();
+
+        warmUp(argumentResolvers, SyntheticController.class)
+            .setControllerAdvice(ControllerAdviceBean.findAnnotatedBeans(context))
+            .setIterations(5)
+            .get();
+
+        assertThat(WarmUpAdvice.initBinderCalls).hasValue(5);
+        assertThat(SyntheticController.initBinderCalls).hasValue(5);
+    }
+
+    @Test
+    void doesNotRecordMetrics() {
+        warmUp(argumentResolvers, SyntheticController.class).setIterations(5).get();
+
+        assertThat(SyntheticBean.bindings).hasValue(5);
+        assertThat(recordedMetrics).hasValue(0);
+    }
+
+    @Test
+    void doesNotRecordFlightRecorderEvents(@TempDir Path tempDir) throws Exception {
+        Path recordingFile = tempDir.resolve("warm-up.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RequestBeanBindingEvent.NAME);
+            recording.start();
+            warmUp(argumentResolvers, SyntheticController.class).setIterations(5).get();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        assertThat(SyntheticBean.bindings).hasValue(5);
+        assertThat(RecordingFile.readAllEvents(recordingFile))
+            .noneMatch(event -> event.getEventType().getName().equals(RequestBeanBindingEvent.NAME));
+    }
+
+    @Test
+    void leavesOutRequestBeansWithCustomResolvers() {
+        registry.addResolver(new CustomResolver());
+
+        WarmUpResult result = warmUp(argumentResolvers, CustomController.class).get();
+
+        assertThat(result.requestBeans()).isZero();
+        assertThat(result.bindings()).isZero();
+    }
+
+    @Test
+    void bindsRequestBeansWithCustomResolversWhenEnabled() {
+        registry.addResolver(new CustomResolver());
+
+        WarmUpResult result = warmUp(argumentResolvers, CustomController.class).setCustomResolvers(true).setIterations(5).get();
+
+        assertThat(result.requestBeans()).isEqualTo(1);
+        assertThat(result.bindings()).isEqualTo(5);
+    }
+
+    @Test
+    void nothingToWarmUpWithoutRequestBeans() {
+        WarmUpResult result = warmUp(argumentResolvers).get();
+
+        assertThat(result.requestBeans()).isZero();
+        assertThat(result.bindings()).isZero();
+    }
+
+    @Test
+    void iterationsMustBePositive() {
+        RequestBeanWarmUp warmUp = warmUp(argumentResolvers);
+        assertThatIllegalArgumentException().isThrownBy(() -> warmUp.setIterations(0));
+    }
+
+    private RequestBeanWarmUp warmUp(List<HandlerMethodArgumentResolver> resolvers, Class<?>... controllers) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        for (Class<?> controller : controllers) {
+            context.registerBean(controller);
+        }
+        context.refresh();
+        RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
+        handlerMapping.setApplicationContext(context);
+        handlerMapping.afterPropertiesSet();
+        return new RequestBeanWarmUp(introspector, handlerMapping, resolvers, null);
+    }
+
+    private class CountingMetrics implements BindingMetrics {
+        @Override
+        public void recordBinding(Class<?> beanType, BindingPhase phase, long durationNanos, @Nullable Throwable error) {
+            recordedMetrics.incrementAndGet();
+        }
+
+        @Override
+        public void recordResolver(RequestPropertyResolverBase<?, ?> resolver, long durationNanos, @Nullable Throwable error) {
+            recordedMetrics.incrementAndGet();
+        }
+    }
+
+    // Not in the package of the built-in resolvers, so it is taken for a custom resolver
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    private static class CustomResolver extends RequestParameterRequestPropertyResolver {
+    }
+
+    @Controller
+    public static class SyntheticController {
+        static final AtomicInteger initBinderCalls = new AtomicInteger();
+
+        @InitBinder
+        public void initBinder(WebDataBinder binder) {
+            initBinderCalls.incrementAndGet();
+        }
+
+        @GetMapping("/synthetic/{account}")
+        public void handle(@BeanParameter SyntheticBean bean) {
+        }
+    }
+
+    @Controller
+    public static class FailingController {
+        @GetMapping("/failing")
+        public void handle(@BeanParameter FailingBean bean) {
+        }
+    }
+
+    @Controller
+    public static class CustomController {
+        @GetMapping("/custom")
+        public void handle(@BeanParameter CustomBean bean) {
+        }
+    }
+
+    @ControllerAdvice
+    public static class WarmUpAdvice {
+        static final AtomicInteger initBinderCalls = new AtomicInteger();
+
+        @InitBinder
+        public void initBinder(WebDataBinder binder) {
+            initBinderCalls.incrementAndGet();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class SyntheticBean {
+        static final AtomicInteger bindings = new AtomicInteger();
+
+        @Nullable
+        @RequestParameter("page")
+        private Integer page;
+
+        @Nullable
+        @HeaderParameter("X-Tags")
+        private List<String> tags;
+
+        @Nullable
+        @PathParameter("account")
+        private String account;
+
+        @Nullable
+        public Integer getPage() {
+            return page;
+        }
+
+        public void setPage(Integer page) {
+            this.page = page;
+            bindings.incrementAndGet();
+        }
+
+        @Nullable
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        @Nullable
+        public String getAccount() {
+            return account;
+        }
+
+        public void setAccount(String account) {
+            this.account = account;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class CustomBean {
+        @Nullable
+        @RequestParameter("name")
+        private String name;
+
+        @Nullable
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class FailingBean {
+        @Nullable
+        @RequestParameter("name")
+        private String name;
+
+        @Nullable
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            throw new IllegalStateException("Not bindable");
+        }
+    }
+}
@@ -17,33 +17,124 @@ package com.mattbertolini.spring.web.servlet.mvc.bind;
 
 import com.mattbertolini.spring.web.bind.RequestPropertyBindingException;
 import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestBody;
+import com.mattbertolini.spring.web.bind.capture.CapturedBeanTypes;
+import com.mattbertolini.spring.web.bind.convert.PropertyValueConverters;
+import com.mattbertolini.spring.web.bind.direct.DirectBindingPlan;
 import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
 import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.jfr.RequestBeanBindingEvent;
+import com.mattbertolini.spring.web.bind.metrics.BindingMetrics;
+import com.mattbertolini.spring.web.bind.metrics.BindingPhase;
+import com.mattbertolini.spring.web.bind.observation.BeanBindingObservationContext;
+import com.mattbertolini.spring.web.bind.observation.BeanBindingObservationConvention;
+import com.mattbertolini.spring.web.bind.observation.BindingObservationDocumentation;
+import com.mattbertolini.spring.web.bind.observation.BindingObservations;
+import com.mattbertolini.spring.web.bind.observation.DefaultBeanBindingObservationConvention;
+import com.mattbertolini.spring.web.bind.observation.DefaultPropertyResolutionObservationConvention;
+import com.mattbertolini.spring.web.bind.observation.PropertyResolutionObservationContext;
+import com.mattbertolini.spring.web.bind.observation.PropertyResolutionObservationConvention;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpRequest;
 import com.mattbertolini.spring.web.bind.support.MapValueResolver;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.BulkRequestPropertyResolver;
 import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.RequestPropertyResolver;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.MutablePropertyValues;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.annotation.ModelAttributeMethodProcessor;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 public class BeanParameterMethodArgumentResolver extends ModelAttributeMethodProcessor {
     private static final String BIND_VALUES_ATTRIBUTE_KEY = BeanParameterMethodArgumentResolver.class.getName() + ".bindValues";
+    private static final BeanBindingObservationConvention DEFAULT_BEAN_BINDING_CONVENTION = new DefaultBeanBindingObservationConvention();
+    private static final PropertyResolutionObservationConvention DEFAULT_PROPERTY_RESOLUTION_CONVENTION = new DefaultPropertyResolutionObservationConvention();
     private final AnnotatedRequestBeanIntrospector introspector;
+    @Nullable
+    private final BindingMetrics bindingMetrics;
+    private final ConcurrentMap<MethodParameter, ParameterPlan> parameterPlans = new ConcurrentHashMap<>();
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+    @Nullable
+    private BeanBindingObservationConvention beanBindingObservationConvention;
+    @Nullable
+    private PropertyResolutionObservationConvention propertyResolutionObservationConvention;
 
     public BeanParameterMethodArgumentResolver(AnnotatedRequestBeanIntrospector introspector) {
+        this(introspector, null);
+    }
+
+    /**
+     * @param introspector The introspector used to look up the property resolvers of a request bean.
+     * @param bindingMetrics Receives the time spent resolving and binding each request bean. No timings are taken
+     *                       when null, nor for warm-up requests.
+     */
+    public BeanParameterMethodArgumentResolver(AnnotatedRequestBeanIntrospector introspector, @Nullable BindingMetrics bindingMetrics) {
         super(false);
         this.introspector = introspector;
+        this.bindingMetrics = bindingMetrics;
+    }
+
+    /**
+     * Observe each phase of binding a request bean, and the resolution of request body, session and multipart
+     * properties, with the given registry. Nothing is observed by default. Warm-up requests are never observed.
+     *
+     * @param observationRegistry The registry to create observations with. Required.
+     */
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * @param beanBindingObservationConvention A convention replacing {@link DefaultBeanBindingObservationConvention}.
+     */
+    public void setBeanBindingObservationConvention(BeanBindingObservationConvention beanBindingObservationConvention) {
+        this.beanBindingObservationConvention = beanBindingObservationConvention;
+    }
+
+    /**
+     * @param propertyResolutionObservationConvention A convention replacing
+     * {@link DefaultPropertyResolutionObservationConvention}.
+     */
+    public void setPropertyResolutionObservationConvention(PropertyResolutionObservationConvention propertyResolutionObservationConvention) {
+        this.propertyResolutionObservationConvention = propertyResolutionObservationConvention;
+    }
+
+    /**
+     * Drop the introspected request beans remembered for handler method parameters of the given types, so that they
+     * no longer hold on to property data the introspector has evicted. They are looked up again when next bound.
+     *
+     * @param beanTypes The request bean types evicted from the introspector. Required.
+     */
+    public void evict(Collection<Class<?>> beanTypes) {
+        parameterPlans.values().removeIf(plan -> beanTypes.contains(plan.beanType()));
     }
 
+    /**
+     * The answer is remembered for each handler method parameter by the argument resolvers of the handler adapter.
+     * The introspected request bean of each parameter is remembered here once it is first bound.
+     */
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(BeanParameter.class) && !BeanUtils.isSimpleProperty(parameter.getParameterType());
@@ -57,44 +148,297 @@ public class BeanParameterMethodArgumentResolver extends ModelAttributeMethodPro
     @Override
     protected void constructAttribute(WebDataBinder binder, NativeWebRequest request) {
         ResolvableType targetType = Objects.requireNonNull(binder.getTargetType(), "WebDataBinder must have a target type");
-        Map<String, Object> valuesToBind = memoizedGetValuesToBind(Objects.requireNonNull(targetType.getRawClass()), request);
-        binder.construct(new MapValueResolver(valuesToBind));
+        Class<?> rawClass = Objects.requireNonNull(targetType.getRawClass());
+        Map<String, Object> valuesToBind = memoizedGetValuesToBind(rawClass, binder, request);
+        observeBinding(rawClass, BindingPhase.CONSTRUCT, request, () -> {
+            binder.construct(new MapValueResolver(valuesToBind));
+            return null;
+        });
     }
 
     @Override
     protected void bindRequestParameters(WebDataBinder binder, NativeWebRequest request) {
         Object target = Objects.requireNonNull(binder.getTarget(), "WebDataBinder must have a target object");
-        Map<String, Object> valuesToBind = memoizedGetValuesToBind(target.getClass(), request);
-        binder.bind(new MutablePropertyValues(valuesToBind));
+        Map<String, Object> valuesToBind = memoizedGetValuesToBind(target.getClass(), binder, request);
+        observeBinding(target.getClass(), BindingPhase.BIND, request, () -> {
+            binder.bind(new MutablePropertyValues(valuesToBind));
+            return null;
+        });
         request.removeAttribute(BIND_VALUES_ATTRIBUTE_KEY, RequestAttributes.SCOPE_REQUEST);
     }
 
     @SuppressWarnings("unchecked")
-    private Map<String, Object> memoizedGetValuesToBind(Class<?> targetType, NativeWebRequest request) {
+    private Map<String, Object> memoizedGetValuesToBind(Class<?> targetType, WebDataBinder binder, NativeWebRequest request) {
         /* Nullable */ Map<String, Object> memoizedValues = (Map<String, Object>) request.getAttribute(BIND_VALUES_ATTRIBUTE_KEY, RequestAttributes.SCOPE_REQUEST);
         if (memoizedValues != null) {
             return memoizedValues;
         }
-        Map<String, Object> valuesToBind = getValuesToBind(targetType, request);
+        Map<String, Object> valuesToBind = getValuesToBind(targetType, getPlanFor(targetType, binder), binder, request);
         request.setAttribute(BIND_VALUES_ATTRIBUTE_KEY, valuesToBind, RequestAttributes.SCOPE_REQUEST);
         return valuesToBind;
     }
 
-    private Map<String, Object> getValuesToBind(Class<?> targetType, NativeWebRequest request) {
+    /**
+     * Bind the request bean with the given plan, without a data binder.
+     *
+     * @return The request bean or null if it has to be bound with a data binder. The resolved values are then kept for
+     * the data binder, so that they are not resolved again.
+     */
+    @Nullable
+    Object bindDirectly(DirectBindingPlan plan, NativeWebRequest request) {
+        Class<?> beanType = plan.getBeanType();
+        Map<String, Object> values = getValuesToBind(beanType, new ParameterPlan(beanType, plan.getPropertyData(), null), null, request);
+        Object bean = observeBinding(beanType, BindingPhase.DIRECT, request, () -> plan.bind(values));
+        if (bean == null) {
+            request.setAttribute(BIND_VALUES_ATTRIBUTE_KEY, values, RequestAttributes.SCOPE_REQUEST);
+        }
+        return bean;
+    }
+
+    private Map<String, Object> getValuesToBind(Class<?> targetType, ParameterPlan plan, @Nullable WebDataBinder binder,
+                                                NativeWebRequest request) {
+        Collection<ResolvedPropertyData> propertyData = plan.propertyData();
+        if (request.getAttribute(CapturedBeanTypes.ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST) instanceof CapturedBeanTypes beanTypes) {
+            beanTypes.add(targetType);
+        }
+        RequestBeanBindingEvent event = new RequestBeanBindingEvent();
+        event.begin();
+        Map<String, Object> values;
+        try {
+            values = observeBinding(targetType, BindingPhase.RESOLVE, request, () -> resolveValuesToBind(targetType, plan, binder, request));
+        } catch (RuntimeException e) {
+            commitEvent(event, targetType, propertyData, request, true);
+            throw e;
+        }
+        commitEvent(event, targetType, propertyData, request, false);
+        return values;
+    }
+
+    /**
+     * Looks up the properties of the request bean by the handler method parameter the binder was created for, when
+     * known, rather than by the bean type.
+     */
+    private ParameterPlan getPlanFor(Class<?> beanType, WebDataBinder binder) {
+        ResolvableType targetType = binder.getTargetType();
+        if (targetType != null && targetType.getSource() instanceof MethodParameter parameter) {
+            ParameterPlan plan = parameterPlans.computeIfAbsent(parameter,
+                key -> ParameterPlan.of(beanType, introspector.getResolversFor(beanType)));
+            // A bean already in the model may be a subclass of the parameter type
+            if (plan.beanType() == beanType) {
+                return plan;
+            }
+        }
+        return new ParameterPlan(beanType, introspector.getResolversFor(beanType), null);
+    }
+
+    private Map<String, Object> resolveValuesToBind(Class<?> targetType, ParameterPlan plan, @Nullable WebDataBinder binder,
+                                                    NativeWebRequest request) {
         Map<String, Object> values = new HashMap<>();
-        Collection<ResolvedPropertyData> propertyData = introspector.getResolversFor(targetType);
-        for (ResolvedPropertyData data : propertyData) {
+        Map<BulkRequestPropertyResolver, List<ResolvedPropertyData>> bulkPropertyData = null;
+        for (ResolvedPropertyData data : plan.propertyData()) {
+            if (data.resolver() instanceof BulkRequestPropertyResolver bulkResolver) {
+                if (bulkPropertyData == null) {
+                    bulkPropertyData = new LinkedHashMap<>();
+                }
+                bulkPropertyData.computeIfAbsent(bulkResolver, key -> new ArrayList<>()).add(data);
+                continue;
+            }
             RequestPropertyResolver resolver = (RequestPropertyResolver) data.resolver();
             try {
-                Object value = resolver.resolve(data.bindingProperty(), request);
-                if (value != null) {
-                    String propertyName = data.propertyName();
-                    values.put(propertyName, value);
-                }
+                putValue(values, data, observeResolve(targetType, resolver, data, plan, request), binder);
+            } catch (ResponseStatusException e) {
+                throw e;
             } catch (Exception e) {
                 throw new RequestPropertyBindingException("Unable to resolve property. " + e.getMessage(), e);
             }
         }
+        if (bulkPropertyData != null) {
+            for (Map.Entry<BulkRequestPropertyResolver, List<ResolvedPropertyData>> entry : bulkPropertyData.entrySet()) {
+                try {
+                    Map<BindingProperty, Object> resolvedValues = observeResolveAll(targetType, entry.getKey(), entry.getValue(), request);
+                    for (ResolvedPropertyData data : entry.getValue()) {
+                        putValue(values, data, resolvedValues.get(data.bindingProperty()), binder);
+                    }
+                } catch (ResponseStatusException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RequestPropertyBindingException("Unable to resolve property. " + e.getMessage(), e);
+                }
+            }
+        }
         return values;
     }
+
+    private static void putValue(Map<String, Object> values, ResolvedPropertyData data, @Nullable Object value, @Nullable WebDataBinder binder) {
+        if (value != null) {
+            // Values bound directly are converted by the plan
+            values.put(data.propertyName(), binder != null ? PropertyValueConverters.convertForBinding(data, value, binder) : value);
+        }
+    }
+
+    /**
+     * Warm-up requests are not real requests, so they are left out of binding metrics, observations and flight
+     * recorder events.
+     */
+    private static boolean isWarmUp(NativeWebRequest request) {
+        return request.getNativeRequest() instanceof WarmUpRequest;
+    }
+
+    @Nullable
+    private BindingMetrics metricsFor(NativeWebRequest request) {
+        return isWarmUp(request) ? null : bindingMetrics;
+    }
+
+    private ObservationRegistry observationRegistryFor(NativeWebRequest request) {
+        return isWarmUp(request) ? ObservationRegistry.NOOP : observationRegistry;
+    }
+
+    private <T> T observeBinding(Class<?> beanType, BindingPhase phase, NativeWebRequest request, Supplier<T> action) {
+        ObservationRegistry registry = observationRegistryFor(request);
+        BindingMetrics metrics = metricsFor(request);
+        if (registry.isNoop()) {
+            return timeBinding(metrics, beanType, phase, action);
+        }
+        return BindingObservationDocumentation.BEAN_BINDING
+            .observation(beanBindingObservationConvention, DEFAULT_BEAN_BINDING_CONVENTION,
+                () -> new BeanBindingObservationContext(beanType, phase), registry)
+            .observe(() -> timeBinding(metrics, beanType, phase, action));
+    }
+
+    private static <T> T timeBinding(@Nullable BindingMetrics bindingMetrics, Class<?> beanType, BindingPhase phase, Supplier<T> action) {
+        if (bindingMetrics == null) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            bindingMetrics.recordBinding(beanType, phase, System.nanoTime() - start, e);
+            throw e;
+        }
+        bindingMetrics.recordBinding(beanType, phase, System.nanoTime() - start, null);
+        return result;
+    }
+
+    private static void commitEvent(RequestBeanBindingEvent event, Class<?> beanType, Collection<ResolvedPropertyData> propertyData,
+                                    NativeWebRequest request, boolean failed) {
+        event.end();
+        if (!isWarmUp(request) && event.shouldCommit()) {
+            event.setBeanType(beanType);
+            event.setPropertyCount(propertyData.size());
+            event.setContentLength(contentLength(propertyData, request));
+            event.setFailed(failed);
+            event.commit();
+        }
+    }
+
+    private static long contentLength(Collection<ResolvedPropertyData> propertyData, NativeWebRequest request) {
+        for (ResolvedPropertyData data : propertyData) {
+            if (data.bindingProperty().hasAnnotation(RequestBody.class)) {
+                HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+                return servletRequest != null ? servletRequest.getContentLengthLong() : -1;
+            }
+        }
+        return -1;
+    }
+
+    @Nullable
+    private Object observeResolve(Class<?> beanType, RequestPropertyResolver resolver, ResolvedPropertyData data,
+                                  ParameterPlan plan, NativeWebRequest request) {
+        ObservationRegistry registry = observationRegistryFor(request);
+        BindingMetrics metrics = metricsFor(request);
+        if (registry.isNoop() || !plan.isObserved(data)) {
+            return resolve(metrics, resolver, data, request);
+        }
+        return BindingObservationDocumentation.PROPERTY_RESOLUTION
+            .observation(propertyResolutionObservationConvention, DEFAULT_PROPERTY_RESOLUTION_CONVENTION,
+                () -> new PropertyResolutionObservationContext(beanType, data.propertyName(), resolver), registry)
+            .observe(() -> resolve(metrics, resolver, data, request));
+    }
+
+    @Nullable
+    private static Object resolve(@Nullable BindingMetrics bindingMetrics, RequestPropertyResolver resolver,
+                                  ResolvedPropertyData data, NativeWebRequest request) {
+        if (bindingMetrics == null) {
+            return resolver.resolve(data.bindingProperty(), request);
+        }
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = resolver.resolve(data.bindingProperty(), request);
+        } catch (RuntimeException e) {
+            bindingMetrics.recordResolver(resolver, System.nanoTime() - start, e);
+            throw e;
+        }
+        bindingMetrics.recordResolver(resolver, System.nanoTime() - start, null);
+        return value;
+    }
+
+    /**
+     * Bulk resolvers exist to replace several lookups with one expensive lookup, so their calls are always observed,
+     * as one resolution of all the properties passed to them.
+     */
+    private Map<BindingProperty, Object> observeResolveAll(Class<?> beanType, BulkRequestPropertyResolver resolver,
+                                                           List<ResolvedPropertyData> propertyData, NativeWebRequest request) {
+        ObservationRegistry registry = observationRegistryFor(request);
+        BindingMetrics metrics = metricsFor(request);
+        if (registry.isNoop()) {
+            return resolveAll(metrics, resolver, propertyData, request);
+        }
+        return Objects.requireNonNull(BindingObservationDocumentation.PROPERTY_RESOLUTION
+            .observation(propertyResolutionObservationConvention, DEFAULT_PROPERTY_RESOLUTION_CONVENTION,
+                () -> new PropertyResolutionObservationContext(beanType, BindingObservations.propertyNames(propertyData), resolver), registry)
+            .observe(() -> resolveAll(metrics, resolver, propertyData, request)));
+    }
+
+    /**
+     * Resolves the properties of a bulk resolver in one call. The call is recorded as a single resolver call in the
+     * binding metrics. Nested request beans of the same type share their binding properties, so each property is only
+     * passed to the resolver once.
+     */
+    private static Map<BindingProperty, Object> resolveAll(@Nullable BindingMetrics bindingMetrics, BulkRequestPropertyResolver resolver,
+                                                           List<ResolvedPropertyData> propertyData, NativeWebRequest request) {
+        Set<BindingProperty> distinctProperties = CollectionUtils.newLinkedHashSet(propertyData.size());
+        for (ResolvedPropertyData data : propertyData) {
+            distinctProperties.add(data.bindingProperty());
+        }
+        List<BindingProperty> bindingProperties = new ArrayList<>(distinctProperties);
+        if (bindingMetrics == null) {
+            return resolver.resolveAll(bindingProperties, request);
+        }
+        long start = System.nanoTime();
+        Map<BindingProperty, Object> values;
+        try {
+            values = resolver.resolveAll(bindingProperties, request);
+        } catch (RuntimeException e) {
+            bindingMetrics.recordResolver(resolver, System.nanoTime() - start, e);
+            throw e;
+        }
+        bindingMetrics.recordResolver(resolver, System.nanoTime() - start, null);
+        return values;
+    }
+
+    /**
+     * The properties of a request bean along with those whose resolution is observed on its own, which are worked out
+     * once for the plans remembered per handler method parameter rather than on every request.
+     *
+     * @param observed The observed properties, by identity, or null to check each property when it is resolved.
+     */
+    private record ParameterPlan(Class<?> beanType, Collection<ResolvedPropertyData> propertyData,
+                                 @Nullable Set<ResolvedPropertyData> observed) {
+        static ParameterPlan of(Class<?> beanType, Collection<ResolvedPropertyData> propertyData) {
+            Set<ResolvedPropertyData> observed = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (ResolvedPropertyData data : propertyData) {
+                if (BindingObservations.isObservedProperty(data.bindingProperty())) {
+                    observed.add(data);
+                }
+            }
+            return new ParameterPlan(beanType, propertyData, observed.isEmpty() ? Collections.emptySet() : observed);
+        }
+
+        boolean isObserved(ResolvedPropertyData data) {
+            return observed != null ? observed.contains(data) : BindingObservations.isObservedProperty(data.bindingProperty());
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.servlet.mvc.bind.capture;
+
+import com.mattbertolini.spring.web.bind.capture.CapturedBeanTypes;
+import com.mattbertolini.spring.web.bind.capture.RequestShape;
+import com.mattbertolini.spring.web.bind.capture.TrafficProfile;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records the shape of requests bound to {@code @BeanParameter} request beans into a {@link TrafficProfile}: the names
+ * of parameters, headers and cookies with the lengths of their values, and the body size. Values themselves are never
+ * recorded. Requests that do not bind a request bean are ignored.
+ *
+ * <p>The shape is taken after the request has been handled so that reading form parameters does not interfere with
+ * reading the body.</p>
+ */
+public class RequestShapeCaptureFilter extends OncePerRequestFilter {
+    private final TrafficProfile trafficProfile;
+    private double sampleRate = 1.0;
+
+    /**
+     * @param trafficProfile The profile to record request shapes into. Required.
+     */
+    public RequestShapeCaptureFilter(TrafficProfile trafficProfile) {
+        this.trafficProfile = trafficProfile;
+    }
+
+    /**
+     * @param sampleRate The fraction of requests to capture, from 0 to 1. All requests are captured by default.
+     */
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public TrafficProfile getTrafficProfile() {
+        return trafficProfile;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        CapturedBeanTypes beanTypes = new CapturedBeanTypes();
+        request.setAttribute(CapturedBeanTypes.ATTRIBUTE_NAME, beanTypes);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            request.removeAttribute(CapturedBeanTypes.ATTRIBUTE_NAME);
+            if (!beanTypes.getBeanTypes().isEmpty()) {
+                RequestShape shape = shapeOf(request);
+                beanTypes.getBeanTypes().forEach(beanType -> trafficProfile.record(beanType, shape));
+            }
+        }
+    }
+
+    private static RequestShape shapeOf(HttpServletRequest request) {
+        Map<String, Integer> parameters = new HashMap<>();
+        request.getParameterMap().forEach((name, values) -> parameters.put(name, values.length > 0 ? values[0].length() : 0));
+
+        Map<String, Integer> headers = new HashMap<>();
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (!HttpHeaders.COOKIE.equalsIgnoreCase(name)) {
+                String value = request.getHeader(name);
+                headers.put(name.toLowerCase(Locale.ROOT), value != null ? value.length() : 0);
+            }
+        }
+
+        Map<String, Integer> cookies = new HashMap<>();
+        Cookie[] requestCookies = request.getCookies();
+        if (requestCookies != null) {
+            for (Cookie cookie : requestCookies) {
+                cookies.putIfAbsent(cookie.getName(), cookie.getValue() != null ? cookie.getValue().length() : 0);
+            }
+        }
+        return new RequestShape(parameters, headers, cookies, request.getContentLengthLong());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.servlet.mvc.bind.resolver;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Caches the values of a bulk property resolver like {@link CachingRequestPropertyResolver}, one value per property.
+ * The properties of a request bean that are not cached yet are resolved by the bulk resolver in one call. Values are
+ * cached under the same keys as {@link CachingRequestPropertyResolver}, so both can share a cache.
+ */
+public class CachingBulkRequestPropertyResolver extends CachingRequestPropertyResolver implements BulkRequestPropertyResolver {
+    private final BulkRequestPropertyResolver delegate;
+    private final Function<? super NativeWebRequest, ?> keyFunction;
+
+    /**
+     * @param delegate The bulk resolver to cache the values of. Required.
+     * @param keyFunction Takes the part of the request the values depend on. May return null when the request does
+     * not have it.
+     * @param cache The cache to keep the values in. Required.
+     */
+    public CachingBulkRequestPropertyResolver(BulkRequestPropertyResolver delegate, Function<? super NativeWebRequest, ?> keyFunction,
+                                              ResolvedValueCache<Object, Object> cache) {
+        super(delegate, keyFunction, cache);
+        this.delegate = delegate;
+        this.keyFunction = keyFunction;
+    }
+
+    @Override
+    public Map<BindingProperty, Object> resolveAll(List<BindingProperty> bindingProperties, NativeWebRequest request) {
+        Object requestKey = keyFunction.apply(request);
+        if (requestKey == null) {
+            return delegate.resolveAll(bindingProperties, request);
+        }
+        // The cache only invokes the loader for properties that are neither cached nor being loaded by another request
+        List<BindingProperty> missing = new ArrayList<>();
+        CompletableFuture<Map<BindingProperty, Object>> loaded = new CompletableFuture<>();
+        Map<BindingProperty, CompletableFuture<Object>> values = new LinkedHashMap<>();
+        for (BindingProperty bindingProperty : bindingProperties) {
+            values.put(bindingProperty, getCache().getAsync(new CacheKey(delegate, bindingProperty, requestKey), key -> {
+                missing.add(bindingProperty);
+                return loaded.thenApply(found -> found.get(bindingProperty));
+            }));
+        }
+        if (!missing.isEmpty()) {
+            try {
+                loaded.complete(delegate.resolveAll(missing, request));
+            } catch (RuntimeException e) {
+                loaded.completeExceptionally(e);
+            } catch (Error e) {
+                // Other requests may be waiting for these properties and would otherwise wait forever
+                loaded.completeExceptionally(e);
+                throw e;
+            }
+        }
+        Map<BindingProperty, Object> resolved = new HashMap<>();
+        for (Map.Entry<BindingProperty, CompletableFuture<Object>> entry : values.entrySet()) {
+            Object value = join(entry.getValue());
+            if (value != null) {
+                resolved.put(entry.getKey(), value);
+            }
+        }
+        return resolved;
+    }
+
+    @Nullable
+    private static Object join(CompletableFuture<Object> value) {
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
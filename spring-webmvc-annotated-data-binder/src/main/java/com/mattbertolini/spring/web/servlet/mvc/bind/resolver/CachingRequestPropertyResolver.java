@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.servlet.mvc.bind.resolver;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.function.Function;
+
+/**
+ * Caches the values of a property resolver whose values only depend on some part of the request, such as a header.
+ * Values are cached by the resolver, the property and the key taken from the request, so one cache can be shared by
+ * several resolvers. Requests without a key are always resolved by the resolver. The resolver keeps the order of the
+ * resolver it caches.
+ *
+ * <p>A {@link BulkRequestPropertyResolver} wrapped by this resolver is asked for one property at a time. Use
+ * {@link CachingBulkRequestPropertyResolver} to keep resolving the uncached properties of a request bean in one
+ * call.</p>
+ *
+ * <pre class="code">
+ * new CachingRequestPropertyResolver(new TenantRequestPropertyResolver(),
+ *     request -&gt; request.getHeader("X-Api-Key"),
+ *     new ResolvedValueCache&lt;&gt;("tenants", 1000, Duration.ofMinutes(5)));
+ * </pre>
+ */
+public class CachingRequestPropertyResolver implements RequestPropertyResolver, Ordered {
+    private final RequestPropertyResolver delegate;
+    private final Function<? super NativeWebRequest, ?> keyFunction;
+    private final ResolvedValueCache<Object, Object> cache;
+
+    /**
+     * @param delegate The resolver to cache the values of. Required.
+     * @param keyFunction Takes the part of the request the values depend on. May return null when the request does
+     * not have it.
+     * @param cache The cache to keep the values in. Required.
+     */
+    public CachingRequestPropertyResolver(RequestPropertyResolver delegate, Function<? super NativeWebRequest, ?> keyFunction,
+                                          ResolvedValueCache<Object, Object> cache) {
+        this.delegate = delegate;
+        this.keyFunction = keyFunction;
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean supports(BindingProperty bindingProperty) {
+        return delegate.supports(bindingProperty);
+    }
+
+    @Override
+    @Nullable
+    public Object resolve(BindingProperty bindingProperty, NativeWebRequest request) {
+        Object requestKey = keyFunction.apply(request);
+        if (requestKey == null) {
+            return delegate.resolve(bindingProperty, request);
+        }
+        return cache.get(new CacheKey(delegate, bindingProperty, requestKey), key -> delegate.resolve(bindingProperty, request));
+    }
+
+    @Override
+    public int getOrder() {
+        if (delegate instanceof Ordered ordered) {
+            return ordered.getOrder();
+        }
+        return OrderUtils.getOrder(delegate.getClass(), Ordered.LOWEST_PRECEDENCE);
+    }
+
+    public RequestPropertyResolver getDelegate() {
+        return delegate;
+    }
+
+    public ResolvedValueCache<Object, Object> getCache() {
+        return cache;
+    }
+
+    record CacheKey(RequestPropertyResolver resolver, BindingProperty bindingProperty, Object requestKey) {}
+}
@@ -17,12 +17,24 @@ package com.mattbertolini.spring.web.servlet.mvc.bind.resolver;
 
 import com.mattbertolini.spring.web.bind.annotation.FormParameter;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.resolver.MapEntryLimit;
 import org.springframework.lang.NonNull;
 import org.springframework.util.StringUtils;
 
 import java.util.Map;
 
 public class FormParameterMapRequestPropertyResolver extends RequestParameterMapRequestPropertyResolver {
+    public FormParameterMapRequestPropertyResolver() {
+        this(MapEntryLimit.UNLIMITED);
+    }
+
+    /**
+     * @param maxEntries The maximum number of form parameters bound to a map property, or {@link MapEntryLimit#UNLIMITED}.
+     */
+    public FormParameterMapRequestPropertyResolver(int maxEntries) {
+        super(maxEntries);
+    }
+
     @Override
     public boolean supports(@NonNull BindingProperty bindingProperty) {
         FormParameter annotation = bindingProperty.getAnnotation(FormParameter.class);
@@ -17,6 +17,7 @@ package com.mattbertolini.spring.web.servlet.mvc.bind.resolver;
 
 import com.mattbertolini.spring.web.bind.annotation.HeaderParameter;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.resolver.MapEntryLimit;
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.util.LinkedMultiValueMap;
@@ -29,6 +30,19 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class HeaderParameterMapRequestPropertyResolver implements RequestPropertyResolver {
+    private final int maxEntries;
+
+    public HeaderParameterMapRequestPropertyResolver() {
+        this(MapEntryLimit.UNLIMITED);
+    }
+
+    /**
+     * @param maxEntries The maximum number of headers bound to a map property, or {@link MapEntryLimit#UNLIMITED}.
+     */
+    public HeaderParameterMapRequestPropertyResolver(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
     @Override
     public boolean supports(@NonNull BindingProperty bindingProperty) {
         HeaderParameter annotation = bindingProperty.getAnnotation(HeaderParameter.class);
@@ -54,6 +68,7 @@ public class HeaderParameterMapRequestPropertyResolver implements RequestPropert
                     }
                 }
             }
+            MapEntryLimit.check(retMap.size(), maxEntries, "headers");
             return retMap;
         }
 
@@ -63,6 +78,7 @@ public class HeaderParameterMapRequestPropertyResolver implements RequestPropert
             String headerValue = request.getHeader(headerName);
             retMap.put(headerName, headerValue);
         }
+        MapEntryLimit.check(retMap.size(), maxEntries, "headers");
         return retMap;
     }
 }
@@ -18,6 +18,7 @@ package com.mattbertolini.spring.web.servlet.mvc.bind.resolver;
 import com.mattbertolini.spring.web.bind.PropertyResolutionException;
 import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.resolver.MapEntryLimit;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.Part;
@@ -40,6 +41,19 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class RequestParameterMapRequestPropertyResolver implements RequestPropertyResolver {
+    private final int maxEntries;
+
+    public RequestParameterMapRequestPropertyResolver() {
+        this(MapEntryLimit.UNLIMITED);
+    }
+
+    /**
+     * @param maxEntries The maximum number of request parameters bound to a map property, or {@link MapEntryLimit#UNLIMITED}.
+     */
+    public RequestParameterMapRequestPropertyResolver(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
     @Override
     public boolean supports(@NonNull BindingProperty bindingProperty) {
         RequestParameter annotation = bindingProperty.getAnnotation(RequestParameter.class);
@@ -64,6 +78,7 @@ public class RequestParameterMapRequestPropertyResolver implements RequestProper
 
             // Standard params
             Map<String, String[]> parameterMap = request.getParameterMap();
+            MapEntryLimit.check(parameterMap.size(), maxEntries, "request parameters");
             MultiValueMap<String, String> ret = new LinkedMultiValueMap<>(parameterMap.size());
             for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
                 ret.put(entry.getKey(), new ArrayList<>(Arrays.asList(entry.getValue())));
@@ -82,6 +97,7 @@ public class RequestParameterMapRequestPropertyResolver implements RequestProper
 
         // Standard params
         Map<String, String[]> parameterMap = request.getParameterMap();
+        MapEntryLimit.check(parameterMap.size(), maxEntries, "request parameters");
         Map<String, String> ret = new LinkedHashMap<>(parameterMap.size());
         for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
             ret.put(entry.getKey(), entry.getValue()[0]);
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.servlet.mvc.bind.warmup;
+
+import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.warmup.SyntheticRequest;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.CachingRequestPropertyResolver;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.RequestPropertyResolver;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.support.DefaultDataBinderFactory;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.HandlerMethodArgumentResolverComposite;
+import org.springframework.web.method.support.InvocableHandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Binds a synthetic request for every {@link BeanParameter} parameter of the handler methods of a handler mapping, a
+ * number of times over, so that the binding code is compiled and the binder caches of those parameters are filled
+ * before real requests arrive.
+ *
+ * <p>The request beans are bound by the argument resolvers of the handler adapter for the real handler method
+ * parameters, with data binders initialized by its binding initializer, the {@link InitBinder @InitBinder} methods of
+ * the controller and the controller advice applying to it, so warm-up bindings take the same path as real requests.
+ * Warm-up requests are left out of binding metrics and observations. Request beans with properties resolved by
+ * resolvers other than the built-in ones are left out unless {@linkplain #setCustomResolvers(boolean) enabled}, as
+ * custom resolvers may call other systems with the made up values. Request beans that cannot be bound from a
+ * synthetic request, e.g. because of validation or a request body that cannot be read from an empty JSON object, are
+ * left out after their first attempt.</p>
+ */
+public class RequestBeanWarmUp implements Supplier<WarmUpResult> {
+    private static final Log LOGGER = LogFactory.getLog(RequestBeanWarmUp.class);
+    private static final ReflectionUtils.MethodFilter INIT_BINDER_METHODS =
+        method -> AnnotatedElementUtils.hasAnnotation(method, InitBinder.class);
+
+    private final AnnotatedRequestBeanIntrospector introspector;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final RequestMappingHandlerAdapter handlerAdapter;
+    private int iterations = 100;
+    private boolean customResolvers = false;
+
+    /**
+     * @param introspector The introspector used to look up the properties to make up requests for.
+     * @param handlerMapping The initialized handler mapping of the application, with the handler methods whose
+     *                       request beans are bound.
+     * @param handlerAdapter The initialized handler adapter of the application, with the argument resolvers binding
+     *                       the request beans.
+     */
+    public RequestBeanWarmUp(AnnotatedRequestBeanIntrospector introspector, RequestMappingHandlerMapping handlerMapping,
+                             RequestMappingHandlerAdapter handlerAdapter) {
+        this.introspector = introspector;
+        this.handlerMapping = handlerMapping;
+        this.handlerAdapter = handlerAdapter;
+    }
+
+    /**
+     * Set the number of times each request bean is bound. Defaults to 100.
+     *
+     * @param iterations The number of bindings per request bean. Must be greater than zero.
+     * @return This instance.
+     */
+    public RequestBeanWarmUp setIterations(int iterations) {
+        Assert.isTrue(iterations > 0, "Iterations must be greater than zero");
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Also warm up request beans with properties resolved by custom resolvers. The resolvers are then called with
+     * made up values. Disabled by default.
+     *
+     * @param customResolvers Whether to warm up request beans using custom resolvers.
+     * @return This instance.
+     */
+    public RequestBeanWarmUp setCustomResolvers(boolean customResolvers) {
+        this.customResolvers = customResolvers;
+        return this;
+    }
+
+    @Override
+    public WarmUpResult get() {
+        long start = System.nanoTime();
+        List<HandlerMethodArgumentResolver> argumentResolvers = handlerAdapter.getArgumentResolvers();
+        Assert.state(argumentResolvers != null, "The handler adapter has not been initialized");
+        HandlerMethodArgumentResolverComposite resolver = new HandlerMethodArgumentResolverComposite().addResolvers(argumentResolvers);
+        List<Target> targets = findTargets();
+
+        int requestBeans = targets.size();
+        int failures = 0;
+        long bindings = 0;
+        for (int i = 0; i < iterations && !targets.isEmpty() && !Thread.currentThread().isInterrupted(); i++) {
+            Iterator<Target> iterator = targets.iterator();
+            while (iterator.hasNext()) {
+                Target target = iterator.next();
+                try {
+                    resolver.resolveArgument(target.parameter(), new ModelAndViewContainer(), target.newRequest(), target.binderFactory());
+                    bindings++;
+                } catch (Exception e) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Leaving " + target.parameter() + " out of the warm-up", e);
+                    }
+                    failures++;
+                    iterator.remove();
+                }
+            }
+        }
+        return new WarmUpResult(requestBeans, bindings, failures, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private List<Target> findTargets() {
+        Map<Class<?>, WebDataBinderFactory> binderFactories = new HashMap<>();
+        Set<Method> handled = new HashSet<>();
+        List<Target> targets = new ArrayList<>();
+        for (HandlerMethod handlerMethod : handlerMapping.getHandlerMethods().values()) {
+            if (!handled.add(handlerMethod.getMethod())) {
+                continue;
+            }
+            for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+                Class<?> beanType = parameter.nestedIfOptional().getNestedParameterType();
+                if (!parameter.hasParameterAnnotation(BeanParameter.class) || BeanUtils.isSimpleProperty(beanType)) {
+                    continue;
+                }
+                Collection<ResolvedPropertyData> propertyData;
+                try {
+                    propertyData = introspector.getResolversFor(beanType);
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Leaving " + parameter + " out of the warm-up as it cannot be introspected", e);
+                    continue;
+                }
+                if (!customResolvers && usesCustomResolvers(propertyData)) {
+                    LOGGER.debug("Leaving " + parameter + " out of the warm-up as it uses custom resolvers");
+                    continue;
+                }
+                WebDataBinderFactory binderFactory = binderFactories.computeIfAbsent(handlerMethod.getBeanType(),
+                    key -> createBinderFactory(handlerMethod.createWithResolvedBean()));
+                targets.add(new Target(parameter, binderFactory, SyntheticRequest.forProperties(propertyData)));
+            }
+        }
+        return targets;
+    }
+
+    private static boolean usesCustomResolvers(Collection<ResolvedPropertyData> propertyData) {
+        for (ResolvedPropertyData data : propertyData) {
+            Object resolver = data.resolver();
+            // The caching resolver shares the package of the built-in resolvers but wraps a custom one
+            if (!resolver.getClass().getPackageName().equals(RequestPropertyResolver.class.getPackageName()) ||
+                resolver instanceof CachingRequestPropertyResolver) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The handler adapter creates its binder factories per handler method and does not expose them. This is the one it
+    // would create for the controller.
+    private WebDataBinderFactory createBinderFactory(HandlerMethod handlerMethod) {
+        Class<?> handlerType = handlerMethod.getBeanType();
+        List<InvocableHandlerMethod> binderMethods = new ArrayList<>();
+        ApplicationContext context = handlerAdapter.getApplicationContext();
+        if (context != null) {
+            for (ControllerAdviceBean advice : ControllerAdviceBean.findAnnotatedBeans(context)) {
+                Class<?> beanType = advice.getBeanType();
+                if (beanType != null && advice.isApplicableToBeanType(handlerType)) {
+                    Object bean = advice.resolveBean();
+                    for (Method method : MethodIntrospector.selectMethods(beanType, INIT_BINDER_METHODS)) {
+                        binderMethods.add(createInitBinderMethod(bean, method));
+                    }
+                }
+            }
+        }
+        for (Method method : MethodIntrospector.selectMethods(handlerType, INIT_BINDER_METHODS)) {
+            binderMethods.add(createInitBinderMethod(handlerMethod.getBean(), method));
+        }
+        return new ServletRequestDataBinderFactory(binderMethods, handlerAdapter.getWebBindingInitializer());
+    }
+
+    private InvocableHandlerMethod createInitBinderMethod(Object bean, Method method) {
+        InvocableHandlerMethod binderMethod = new InvocableHandlerMethod(bean, method);
+        List<HandlerMethodArgumentResolver> initBinderResolvers = handlerAdapter.getInitBinderArgumentResolvers();
+        if (initBinderResolvers != null) {
+            binderMethod.setHandlerMethodArgumentResolvers(new HandlerMethodArgumentResolverComposite().addResolvers(initBinderResolvers));
+        }
+        binderMethod.setDataBinderFactory(new DefaultDataBinderFactory(handlerAdapter.getWebBindingInitializer()));
+        binderMethod.setParameterNameDiscoverer(new DefaultParameterNameDiscoverer());
+        return binderMethod;
+    }
+
+    private record Target(MethodParameter parameter, WebDataBinderFactory binderFactory, SyntheticRequest request) {
+        ServletWebRequest newRequest() {
+            WarmUpHttpServletRequest servletRequest = new WarmUpHttpServletRequest(request);
+            servletRequest.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, request.getPathVariables());
+            return new ServletWebRequest(servletRequest);
+        }
+    }
+}
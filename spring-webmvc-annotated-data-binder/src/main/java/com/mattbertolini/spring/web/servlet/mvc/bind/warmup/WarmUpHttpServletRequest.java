@@ -0,0 +1,307 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.servlet.mvc.bind.warmup;
+
+import com.mattbertolini.spring.web.bind.warmup.SyntheticRequest;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpRequest;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A servlet request built from a {@link SyntheticRequest}. Only the parts of the request that property resolvers read
+ * are implemented. Anything else answers as an empty request would, with null, false or zero. There is no session.
+ */
+final class WarmUpHttpServletRequest extends HttpServletRequestWrapper implements WarmUpRequest {
+    private static final HttpServletRequest EMPTY_REQUEST = (HttpServletRequest) Proxy.newProxyInstance(
+        WarmUpHttpServletRequest.class.getClassLoader(),
+        new Class<?>[] {HttpServletRequest.class},
+        (proxy, method, args) -> emptyValue(method.getReturnType()));
+
+    private final Map<String, String[]> parameters = new LinkedHashMap<>();
+    private final Map<String, String> headers = new LinkedCaseInsensitiveMap<>(Locale.ROOT);
+    @Nullable
+    private final Cookie[] cookies;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    @Nullable
+    private final MediaType contentType;
+    private final byte[] body;
+
+    WarmUpHttpServletRequest(SyntheticRequest request) {
+        super(EMPTY_REQUEST);
+        request.getParameters().forEach((name, value) -> parameters.put(name, new String[] {value}));
+        request.getFormParameters().forEach((name, value) -> parameters.put(name, new String[] {value}));
+        headers.putAll(request.getHeaders());
+        this.cookies = request.getCookies().isEmpty() ? null : request.getCookies().entrySet().stream()
+            .map(cookie -> new Cookie(cookie.getKey(), cookie.getValue()))
+            .toArray(Cookie[]::new);
+        this.contentType = request.getContentType();
+        byte[] requestBody = request.getBody();
+        this.body = requestBody != null ? requestBody : new byte[0];
+        if (contentType != null) {
+            headers.put(HttpHeaders.CONTENT_TYPE, contentType.toString());
+            headers.put(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.length));
+        }
+    }
+
+    @Override
+    public String getMethod() {
+        return contentType != null ? "POST" : "GET";
+    }
+
+    @Override
+    public String getRequestURI() {
+        return "/";
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        return new StringBuffer("http://localhost/");
+    }
+
+    @Override
+    public String getContextPath() {
+        return "";
+    }
+
+    @Override
+    public String getServletPath() {
+        return "";
+    }
+
+    @Override
+    public String getScheme() {
+        return "http";
+    }
+
+    @Override
+    public String getServerName() {
+        return "localhost";
+    }
+
+    @Override
+    public int getServerPort() {
+        return 80;
+    }
+
+    @Override
+    public String getProtocol() {
+        return "HTTP/1.1";
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return Locale.getDefault();
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(List.of(Locale.getDefault()));
+    }
+
+    @Override
+    @Nullable
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values != null ? values[0] : null;
+    }
+
+    @Override
+    @Nullable
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    @Nullable
+    public String getHeader(String name) {
+        return headers.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        String value = headers.get(name);
+        return Collections.enumeration(value != null ? List.of(value) : List.of());
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = headers.get(name);
+        return value != null ? Integer.parseInt(value) : -1;
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        return -1L;
+    }
+
+    @Override
+    @Nullable
+    public Cookie[] getCookies() {
+        return cookies;
+    }
+
+    @Override
+    @Nullable
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, @Nullable Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    @Nullable
+    public HttpSession getSession(boolean create) {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public HttpSession getSession() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public String getContentType() {
+        return contentType != null ? contentType.toString() : null;
+    }
+
+    @Override
+    public int getContentLength() {
+        return contentType != null ? body.length : -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return getContentLength();
+    }
+
+    @Override
+    @Nullable
+    public String getCharacterEncoding() {
+        return contentType != null ? StandardCharsets.UTF_8.name() : null;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return new BodyInputStream(body);
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+    }
+
+    @Nullable
+    private static Object emptyValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    private static final class BodyInputStream extends ServletInputStream {
+        private final ByteArrayInputStream body;
+
+        private BodyInputStream(byte[] body) {
+            this.body = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public int read() {
+            return body.read();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return body.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Asynchronous reads are not supported");
+        }
+    }
+}
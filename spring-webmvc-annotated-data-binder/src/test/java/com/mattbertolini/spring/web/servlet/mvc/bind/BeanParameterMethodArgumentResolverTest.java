@@ -17,34 +17,58 @@ package com.mattbertolini.spring.web.servlet.mvc.bind;
 
 import com.mattbertolini.spring.web.bind.RequestPropertyBindingException;
 import com.mattbertolini.spring.web.bind.annotation.BeanParameter;
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.annotation.SessionParameter;
+import com.mattbertolini.spring.web.bind.capture.CapturedBeanTypes;
 import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
 import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.bind.jfr.RequestBeanBindingEvent;
+import com.mattbertolini.spring.web.bind.metrics.MicrometerBindingMetrics;
+import com.mattbertolini.spring.web.bind.observation.DefaultBeanBindingObservationConvention;
+import com.mattbertolini.spring.web.bind.observation.DefaultPropertyResolutionObservationConvention;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.BulkRequestPropertyResolver;
 import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.RequestPropertyResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import jakarta.validation.Valid;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.PropertyValue;
 import org.springframework.beans.PropertyValues;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.ClassUtils;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import java.beans.PropertyDescriptor;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class BeanParameterMethodArgumentResolverTest {
@@ -117,6 +141,15 @@ class BeanParameterMethodArgumentResolverTest {
         assertThat(actual.getClass()).isEqualTo(ABeanClass.class);
     }
 
+    @Test
+    void addsBeanTypeToCapturedBeanTypes() throws Exception {
+        CapturedBeanTypes beanTypes = new CapturedBeanTypes();
+        request.setAttribute(CapturedBeanTypes.ATTRIBUTE_NAME, beanTypes, RequestAttributes.SCOPE_REQUEST);
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        resolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory);
+        assertThat(beanTypes.getBeanTypes()).containsExactly(ABeanClass.class);
+    }
+
     @Test
     void resolveArgumentUnwrapTheTargetObjectFromOptional() throws Exception {
         MethodParameter methodParameter = createMethodParameter("optionalTypeAnnotated", Optional.class);
@@ -136,6 +169,77 @@ class BeanParameterMethodArgumentResolverTest {
         assertThat(dataBinder.isBindInvoked()).isTrue();
     }
 
+    @Test
+    void introspectsRequestBeanOncePerParameter() throws Exception {
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), MockRequestPropertyResolver.value("expected"))
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        resolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory);
+        resolver.resolveArgument(methodParameter, new ModelAndViewContainer(), new ServletWebRequest(new MockHttpServletRequest()), webDataBinderFactory);
+
+        verify(introspector, times(1)).getResolversFor(ABeanClass.class);
+        assertThat(webDataBinderFactory.getBinder().getPropertyValues().contains("propertyOne")).isTrue();
+    }
+
+    @Test
+    void introspectsRequestBeanAgainOnceEvicted() throws Exception {
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(List.of());
+
+        resolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory);
+        resolver.evict(List.of(ABeanClass.class));
+        resolver.resolveArgument(methodParameter, new ModelAndViewContainer(), new ServletWebRequest(new MockHttpServletRequest()), webDataBinderFactory);
+
+        verify(introspector, times(2)).getResolversFor(ABeanClass.class);
+    }
+
+    @Test
+    void resolvesPropertiesOfBulkResolverInOneCall() throws Exception {
+        BindingProperty propertyOne = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class));
+        BindingProperty propertyTwo = BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyTwo", ABeanClass.class));
+        BulkRequestPropertyResolver bulkResolver = mock(BulkRequestPropertyResolver.class);
+        when(bulkResolver.resolveAll(List.of(propertyOne, propertyTwo), request)).thenReturn(Map.of(propertyOne, "expected"));
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", propertyOne, bulkResolver),
+            new ResolvedPropertyData("propertyTwo", propertyTwo, bulkResolver)
+        );
+
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+        resolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory);
+
+        verify(bulkResolver).resolveAll(List.of(propertyOne, propertyTwo), request);
+        PropertyValues propertyValues = webDataBinderFactory.getBinder().getPropertyValues();
+        assertThat(propertyValues.getPropertyValue("propertyOne"))
+            .isNotNull()
+            .extracting(PropertyValue::getValue).isEqualTo("expected");
+        assertThat(propertyValues.contains("propertyTwo")).isFalse();
+    }
+
+    @Test
+    void resolvesPropertySharedByNestedBeansOnceWithBulkResolver() throws Exception {
+        RecordingBulkResolver bulkResolver = new RecordingBulkResolver("expected");
+        PropertyResolverRegistry registry = new PropertyResolverRegistry();
+        registry.addResolver(bulkResolver);
+        BeanParameterMethodArgumentResolver nestedResolver = new BeanParameterMethodArgumentResolver(new DefaultAnnotatedRequestBeanIntrospector(registry));
+        MethodParameter methodParameter = createMethodParameter("nestedMethod", NestingBean.class);
+
+        nestedResolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory);
+
+        assertThat(bulkResolver.invocations).singleElement().satisfies(bindingProperties -> assertThat(bindingProperties).hasSize(1));
+        PropertyValues propertyValues = webDataBinderFactory.getBinder().getPropertyValues();
+        assertThat(propertyValues.getPropertyValue("nestedOne.value"))
+            .isNotNull()
+            .extracting(PropertyValue::getValue).isEqualTo("expected");
+        assertThat(propertyValues.getPropertyValue("nestedTwo.value"))
+            .isNotNull()
+            .extracting(PropertyValue::getValue).isEqualTo("expected");
+    }
+
     @Test
     void resolvesPropertyValues() throws Exception {
         List<ResolvedPropertyData> propertyData = Arrays.asList(
@@ -244,6 +348,160 @@ class BeanParameterMethodArgumentResolverTest {
         assertThat(webDataBinderFactory.getBinder().getBindingResult()).isEqualTo(bindingResult);
     }
 
+    @Test
+    void recordsBindingMetrics() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BeanParameterMethodArgumentResolver metricsResolver = new BeanParameterMethodArgumentResolver(introspector, new MicrometerBindingMetrics(meterRegistry));
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), MockRequestPropertyResolver.value("expected"))
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        metricsResolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory);
+
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", ClassUtils.getShortName(ABeanClass.class), "phase", "resolve", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("bean", ClassUtils.getShortName(ABeanClass.class), "phase", "bind", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.RESOLVER_METRIC_NAME)
+            .tags("resolver", "BeanParameterMethodArgumentResolverTest.MockRequestPropertyResolver", "outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsResolverErrorMetrics() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BeanParameterMethodArgumentResolver metricsResolver = new BeanParameterMethodArgumentResolver(introspector, new MicrometerBindingMetrics(meterRegistry));
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), MockRequestPropertyResolver.throwsException())
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        assertThatThrownBy(() -> metricsResolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory))
+            .isInstanceOf(RequestPropertyBindingException.class);
+
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.RESOLVER_ERRORS_METRIC_NAME)
+            .tags("exception", "RuntimeException")
+            .counter()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerBindingMetrics.BINDING_METRIC_NAME)
+            .tags("phase", "resolve", "outcome", "error")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsSampledFlightRecorderEvents(@TempDir Path tempDir) throws Exception {
+        List<ResolvedPropertyData> propertyData = Arrays.asList(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), MockRequestPropertyResolver.value("expected")),
+            new ResolvedPropertyData("propertyTwo", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyTwo", ABeanClass.class)), MockRequestPropertyResolver.value(42))
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        Path recordingFile = tempDir.resolve("binding.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RequestBeanBindingEvent.NAME).with("sampleInterval", "2");
+            recording.start();
+            for (int i = 0; i < 4; i++) {
+                resolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory);
+            }
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> event.getEventType().getName().equals(RequestBeanBindingEvent.NAME))
+            .toList();
+        assertThat(events).hasSize(2);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getClass("beanType").getName()).isEqualTo(ABeanClass.class.getName());
+        assertThat(event.getInt("propertyCount")).isEqualTo(2);
+        assertThat(event.getLong("contentLength")).isEqualTo(-1);
+        assertThat(event.getBoolean("failed")).isFalse();
+    }
+
+    @Test
+    void observesBindingPhasesAndExpensiveResolvers() throws Exception {
+        TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+        resolver.setObservationRegistry(observationRegistry);
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), MockRequestPropertyResolver.value("expected")),
+            new ResolvedPropertyData("sessionValue", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("sessionValue", ABeanClass.class)), MockRequestPropertyResolver.value("fromSession"))
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        resolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory);
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasAnObservationWithAKeyValue("phase", "resolve")
+            .hasAnObservationWithAKeyValue("phase", "bind")
+            .hasNumberOfObservationsWithNameEqualTo(DefaultPropertyResolutionObservationConvention.OBSERVATION_NAME, 1)
+            .hasObservationWithNameEqualTo(DefaultBeanBindingObservationConvention.OBSERVATION_NAME)
+            .that()
+            .hasLowCardinalityKeyValue("bean", ABeanClass.class.getName())
+            .hasBeenStopped();
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasObservationWithNameEqualTo(DefaultPropertyResolutionObservationConvention.OBSERVATION_NAME)
+            .that()
+            .hasLowCardinalityKeyValue("bean", ABeanClass.class.getName())
+            .hasLowCardinalityKeyValue("resolver", "BeanParameterMethodArgumentResolverTest.MockRequestPropertyResolver")
+            .hasHighCardinalityKeyValue("property", "sessionValue")
+            .hasParentObservation()
+            .hasBeenStopped();
+    }
+
+    @Test
+    void observesBulkResolverCallsAsOneResolution() throws Exception {
+        TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+        resolver.setObservationRegistry(observationRegistry);
+        RecordingBulkResolver bulkResolver = new RecordingBulkResolver("expected");
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("propertyOne", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("propertyOne", ABeanClass.class)), bulkResolver),
+            new ResolvedPropertyData("sessionValue", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("sessionValue", ABeanClass.class)), bulkResolver)
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        resolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory);
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasNumberOfObservationsWithNameEqualTo(DefaultPropertyResolutionObservationConvention.OBSERVATION_NAME, 1)
+            .hasObservationWithNameEqualTo(DefaultPropertyResolutionObservationConvention.OBSERVATION_NAME)
+            .that()
+            .hasLowCardinalityKeyValue("resolver", "BeanParameterMethodArgumentResolverTest.RecordingBulkResolver")
+            .hasHighCardinalityKeyValue("property", "propertyOne,sessionValue")
+            .hasBeenStopped();
+    }
+
+    @Test
+    void recordsErrorOnObservation() throws Exception {
+        TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+        resolver.setObservationRegistry(observationRegistry);
+        List<ResolvedPropertyData> propertyData = List.of(
+            new ResolvedPropertyData("sessionValue", BindingProperty.forPropertyDescriptor(new PropertyDescriptor("sessionValue", ABeanClass.class)), MockRequestPropertyResolver.throwsException())
+        );
+        MethodParameter methodParameter = createMethodParameter("anAnnotatedMethod", ABeanClass.class);
+        when(introspector.getResolversFor(ABeanClass.class)).thenReturn(propertyData);
+
+        assertThatThrownBy(() -> resolver.resolveArgument(methodParameter, mavContainer, request, webDataBinderFactory))
+            .isInstanceOf(RequestPropertyBindingException.class);
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasObservationWithNameEqualTo(DefaultPropertyResolutionObservationConvention.OBSERVATION_NAME)
+            .that()
+            .hasError()
+            .hasBeenStopped();
+    }
+
     private MethodParameter createMethodParameter(String anAnnotatedMethod, Class<?>... parameterTypes) throws NoSuchMethodException {
         return new MethodParameter(FakeHandlerMethod.class.getMethod(anAnnotatedMethod, parameterTypes), 0);
     }
@@ -287,6 +545,30 @@ class BeanParameterMethodArgumentResolverTest {
         }
     }
 
+    private static class RecordingBulkResolver implements BulkRequestPropertyResolver {
+        private final List<List<BindingProperty>> invocations = new ArrayList<>();
+        private final Object value;
+
+        private RecordingBulkResolver(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return bindingProperty.hasAnnotation(RequestParameter.class);
+        }
+
+        @Override
+        public Map<BindingProperty, Object> resolveAll(List<BindingProperty> bindingProperties, NativeWebRequest request) {
+            invocations.add(bindingProperties);
+            Map<BindingProperty, Object> values = new HashMap<>();
+            for (BindingProperty bindingProperty : bindingProperties) {
+                values.put(bindingProperty, value);
+            }
+            return values;
+        }
+    }
+
     @SuppressWarnings("unused")
     private static class FakeHandlerMethod {
         public void anAnnotatedMethod(@BeanParameter ABeanClass aBeanClass) {
@@ -321,6 +603,50 @@ class BeanParameterMethodArgumentResolverTest {
         public void withBindingResult(@BeanParameter @Validated ABeanClass aBeanClass, BindingResult bindingResult) {
             // Do nothing
         }
+
+        public void nestedMethod(@BeanParameter NestingBean nestingBean) {
+            // Do nothing
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class NestingBean {
+        @BeanParameter
+        private NestedBean nestedOne = new NestedBean();
+        @BeanParameter
+        private NestedBean nestedTwo = new NestedBean();
+
+        public NestedBean getNestedOne() {
+            return nestedOne;
+        }
+
+        public void setNestedOne(NestedBean nestedOne) {
+            this.nestedOne = nestedOne;
+        }
+
+        public NestedBean getNestedTwo() {
+            return nestedTwo;
+        }
+
+        public void setNestedTwo(NestedBean nestedTwo) {
+            this.nestedTwo = nestedTwo;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class NestedBean {
+        @Nullable
+        @RequestParameter("value")
+        private String value;
+
+        @Nullable
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
     }
 
     @SuppressWarnings("unused")
@@ -329,6 +655,9 @@ class BeanParameterMethodArgumentResolverTest {
         private String propertyOne;
         @Nullable
         private Integer propertyTwo;
+        @SessionParameter("sessionValue")
+        @Nullable
+        private String sessionValue;
 
         @Nullable
         public String getPropertyOne() {
@@ -347,6 +676,15 @@ class BeanParameterMethodArgumentResolverTest {
         public void setPropertyTwo(Integer propertyTwo) {
             this.propertyTwo = propertyTwo;
         }
+
+        @Nullable
+        public String getSessionValue() {
+            return sessionValue;
+        }
+
+        public void setSessionValue(String sessionValue) {
+            this.sessionValue = sessionValue;
+        }
     }
 
     private static class ValidationGroupOne {}
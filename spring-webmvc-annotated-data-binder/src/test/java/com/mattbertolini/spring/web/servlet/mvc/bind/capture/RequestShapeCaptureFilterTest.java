@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.servlet.mvc.bind.capture;
+
+import com.mattbertolini.spring.web.bind.capture.BeanTrafficProfile;
+import com.mattbertolini.spring.web.bind.capture.CapturedBeanTypes;
+import com.mattbertolini.spring.web.bind.capture.RequestPart;
+import com.mattbertolini.spring.web.bind.capture.TrafficProfile;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestShapeCaptureFilterTest {
+    private TrafficProfile trafficProfile;
+    private RequestShapeCaptureFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        trafficProfile = new TrafficProfile();
+        filter = new RequestShapeCaptureFilter(trafficProfile);
+        request = new MockHttpServletRequest("POST", "/search");
+        request.addParameter("q", "hello");
+        request.addHeader("X-Request-Id", "0f8fad5b-d9cb-469f-a165-70867728950e");
+        request.setCookies(new Cookie("session", "abc"));
+        request.setContent("{\"name\":\"value\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void recordsShapeOfRequestsBindingRequestBeans() throws Exception {
+        FilterChain chain = (req, res) -> ((CapturedBeanTypes) Objects.requireNonNull(req.getAttribute(CapturedBeanTypes.ATTRIBUTE_NAME))).add(SearchRequest.class);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        BeanTrafficProfile bean = Objects.requireNonNull(trafficProfile.getBean(SearchRequest.class.getName()));
+        assertThat(bean.getRequestCount()).isEqualTo(1);
+        assertThat(bean.getValueLengths(RequestPart.PARAMETER)).containsOnlyKeys("q");
+        assertThat(bean.getValueLengths(RequestPart.HEADER)).containsKey("x-request-id").doesNotContainKey("cookie");
+        assertThat(bean.getValueLengths(RequestPart.COOKIE)).containsOnlyKeys("session");
+        assertThat(bean.getBodySizes().getCount()).isEqualTo(1);
+        assertThat(request.getAttribute(CapturedBeanTypes.ATTRIBUTE_NAME)).isNull();
+    }
+
+    @Test
+    void ignoresRequestsWithoutRequestBeans() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {});
+        assertThat(trafficProfile.getBeans()).isEmpty();
+    }
+
+    @Test
+    void capturesNothingWithZeroSampleRate() throws Exception {
+        filter.setSampleRate(0);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> assertThat(req.getAttribute(CapturedBeanTypes.ATTRIBUTE_NAME)).isNull());
+        assertThat(trafficProfile.getBeans()).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidSampleRate() {
+        assertThatThrownBy(() -> filter.setSampleRate(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class SearchRequest {
+    }
+}
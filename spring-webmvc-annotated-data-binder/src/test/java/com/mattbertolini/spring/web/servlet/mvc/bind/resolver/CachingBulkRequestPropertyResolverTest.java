@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.servlet.mvc.bind.resolver;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingBulkRequestPropertyResolverTest {
+    private RecordingResolver delegate;
+    private CachingBulkRequestPropertyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new RecordingResolver();
+        resolver = new CachingBulkRequestPropertyResolver(delegate, request -> request.getHeader("X-Api-Key"),
+            new ResolvedValueCache<>("test", 10, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void resolvesUncachedPropertiesInOneCall() throws Exception {
+        BindingProperty one = bindingProperty("one");
+        BindingProperty two = bindingProperty("two");
+        delegate.values.put(one, "one");
+        delegate.values.put(two, "two");
+
+        assertThat(resolver.resolveAll(List.of(one), request("key"))).containsEntry(one, "one");
+        assertThat(resolver.resolveAll(List.of(one, two), request("key")))
+            .containsEntry(one, "one")
+            .containsEntry(two, "two");
+        assertThat(delegate.calls).containsExactly(List.of(one), List.of(two));
+    }
+
+    @Test
+    void cachesMissingValues() throws Exception {
+        BindingProperty missing = bindingProperty("missing");
+
+        assertThat(resolver.resolveAll(List.of(missing), request("key"))).isEmpty();
+        assertThat(resolver.resolveAll(List.of(missing), request("key"))).isEmpty();
+        assertThat(delegate.calls).hasSize(1);
+    }
+
+    @Test
+    void resolvesEveryTimeWithoutKey() throws Exception {
+        BindingProperty one = bindingProperty("one");
+        delegate.values.put(one, "one");
+
+        resolver.resolveAll(List.of(one), request(null));
+        resolver.resolveAll(List.of(one), request(null));
+        assertThat(delegate.calls).hasSize(2);
+    }
+
+    @Test
+    void resolvesAgainAfterDelegateThrowsError() throws Exception {
+        BindingProperty one = bindingProperty("one");
+        delegate.values.put(one, "one");
+        delegate.error = new AssertionError("Failed");
+
+        assertThatThrownBy(() -> resolver.resolveAll(List.of(one), request("key"))).isInstanceOf(AssertionError.class);
+        assertThat(resolver.resolveAll(List.of(one), request("key"))).containsEntry(one, "one");
+    }
+
+    private static ServletWebRequest request(@Nullable String apiKey) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        if (apiKey != null) {
+            servletRequest.addHeader("X-Api-Key", apiKey);
+        }
+        return new ServletWebRequest(servletRequest);
+    }
+
+    private static BindingProperty bindingProperty(String property) throws IntrospectionException {
+        return BindingProperty.forPropertyDescriptor(new PropertyDescriptor(property, TestingBean.class));
+    }
+
+    private static class RecordingResolver implements BulkRequestPropertyResolver {
+        private final Map<BindingProperty, Object> values = new HashMap<>();
+        private final List<List<BindingProperty>> calls = new ArrayList<>();
+        // Thrown by the next call only
+        @Nullable
+        private Error error;
+
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return true;
+        }
+
+        @Override
+        public Map<BindingProperty, Object> resolveAll(List<BindingProperty> bindingProperties, NativeWebRequest request) {
+            calls.add(List.copyOf(bindingProperties));
+            if (error != null) {
+                Error thrown = error;
+                error = null;
+                throw thrown;
+            }
+            Map<BindingProperty, Object> found = new HashMap<>();
+            for (BindingProperty bindingProperty : bindingProperties) {
+                if (values.containsKey(bindingProperty)) {
+                    found.put(bindingProperty, values.get(bindingProperty));
+                }
+            }
+            return found;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestingBean {
+        @Nullable
+        private String one;
+        @Nullable
+        private String two;
+        @Nullable
+        private String missing;
+
+        @Nullable
+        public String getOne() {
+            return one;
+        }
+
+        public void setOne(String one) {
+            this.one = one;
+        }
+
+        @Nullable
+        public String getTwo() {
+            return two;
+        }
+
+        public void setTwo(String two) {
+            this.two = two;
+        }
+
+        @Nullable
+        public String getMissing() {
+            return missing;
+        }
+
+        public void setMissing(String missing) {
+            this.missing = missing;
+        }
+    }
+}
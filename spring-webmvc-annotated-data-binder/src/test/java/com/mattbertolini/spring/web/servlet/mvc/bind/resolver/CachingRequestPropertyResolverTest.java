@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.web.servlet.mvc.bind.resolver;
+
+import com.mattbertolini.spring.web.bind.cache.ResolvedValueCache;
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.Nullable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingRequestPropertyResolverTest {
+    private CountingResolver delegate;
+    private CachingRequestPropertyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingResolver();
+        resolver = new CachingRequestPropertyResolver(delegate, request -> request.getHeader("X-Api-Key"),
+            new ResolvedValueCache<>("test", 10, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void resolvesValueOncePerKey() throws Exception {
+        BindingProperty bindingProperty = bindingProperty("property");
+
+        assertThat(resolver.resolve(bindingProperty, request("one"))).isEqualTo("value1");
+        assertThat(resolver.resolve(bindingProperty, request("one"))).isEqualTo("value1");
+        assertThat(resolver.resolve(bindingProperty, request("two"))).isEqualTo("value2");
+        assertThat(delegate.invocations).hasValue(2);
+    }
+
+    @Test
+    void resolvesValueEveryTimeWithoutKey() throws Exception {
+        BindingProperty bindingProperty = bindingProperty("property");
+
+        resolver.resolve(bindingProperty, request(null));
+        resolver.resolve(bindingProperty, request(null));
+        assertThat(delegate.invocations).hasValue(2);
+    }
+
+    @Test
+    void keepsSupportAndOrderOfResolver() throws Exception {
+        assertThat(resolver.supports(bindingProperty("property"))).isTrue();
+        assertThat(resolver.getOrder()).isEqualTo(5);
+    }
+
+    private static ServletWebRequest request(@Nullable String apiKey) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        if (apiKey != null) {
+            servletRequest.addHeader("X-Api-Key", apiKey);
+        }
+        return new ServletWebRequest(servletRequest);
+    }
+
+    private static BindingProperty bindingProperty(String property) throws IntrospectionException {
+        return BindingProperty.forPropertyDescriptor(new PropertyDescriptor(property, TestingBean.class));
+    }
+
+    @Order(5)
+    private static class CountingResolver implements RequestPropertyResolver {
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return true;
+        }
+
+        @Override
+        public Object resolve(BindingProperty bindingProperty, NativeWebRequest request) {
+            return "value" + invocations.incrementAndGet();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestingBean {
+        @Nullable
+        private String property;
+
+        @Nullable
+        public String getProperty() {
+            return property;
+        }
+
+        public void setProperty(String property) {
+            this.property = property;
+        }
+    }
+}
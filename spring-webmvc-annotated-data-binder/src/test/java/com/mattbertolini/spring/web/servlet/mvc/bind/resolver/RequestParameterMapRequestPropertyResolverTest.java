@@ -15,6 +15,7 @@
  */
 package com.mattbertolini.spring.web.servlet.mvc.bind.resolver;
 
+import com.mattbertolini.spring.web.bind.MapEntryLimitExceededException;
 import com.mattbertolini.spring.web.bind.PropertyResolutionException;
 import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
 import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
@@ -292,6 +293,25 @@ class RequestParameterMapRequestPropertyResolverTest {
             .isInstanceOf(PropertyResolutionException.class);
     }
 
+    @Test
+    void failsWhenMoreParametersThanMaximum() throws Exception {
+        resolver = new RequestParameterMapRequestPropertyResolver(1);
+        servletRequest.addParameter("one", "1");
+        servletRequest.addParameter("two", "2");
+        BindingProperty bindingProperty = bindingProperty("annotated");
+        assertThatThrownBy(() -> resolver.resolve(bindingProperty, request)).isInstanceOf(MapEntryLimitExceededException.class);
+    }
+
+    @Test
+    void resolvesUpToMaximumParameters() throws Exception {
+        resolver = new RequestParameterMapRequestPropertyResolver(2);
+        servletRequest.addParameter("one", "1");
+        servletRequest.addParameter("two", "2");
+        Object actual = resolver.resolve(bindingProperty("annotated"), request);
+        assertThat(actual).isInstanceOf(Map.class);
+        assertThat((Map<?, ?>) actual).hasSize(2);
+    }
+
     private BindingProperty bindingProperty(String property) throws IntrospectionException {
         return BindingProperty.forPropertyDescriptor(new PropertyDescriptor(property, TestingBean.class));
     }
@@ -0,0 +1,49 @@
+import com.mattbertolini.buildlogic.GenerateRequestBeanShapes
+
+plugins {
+    id("com.mattbertolini.buildlogic.java-conventions")
+}
+
+dependencies {
+    testImplementation(project(":webmvc-annotated-data-binder-spring-boot-starter"))
+    testImplementation(project(":webflux-annotated-data-binder-spring-boot-starter"))
+    testImplementation(libs.jakartaServletApi)
+    testImplementation(libs.springTest) // Mock servlet context
+    testImplementation(libs.junitJupiterApi)
+    testImplementation(libs.junitJupiterParams)
+    testImplementation(libs.assertJCore)
+    testAnnotationProcessor(project(":spring-annotated-data-binder-indexer")) // Indexes the generated request beans
+}
+
+val startupPackageSize = 1000
+
+// Request beans scanned at startup. Each group of 1000 is in its own package so a test can boot with a subset of them.
+val generateRequestBeanShapes = tasks.register<GenerateRequestBeanShapes>("generateRequestBeanShapes") {
+    packageName.set("com.mattbertolini.spring.test.startup.shapes")
+    scanBeanCount.set(providers.gradleProperty("startupBeanCount").map { it.toInt() }.orElse(10000))
+    scanPackageSize.set(startupPackageSize)
+    outputDirectory.set(layout.buildDirectory.dir("generated/sources/requestBeanShapes/java"))
+}
+
+sourceSets.named("test").configure {
+    java.srcDir(generateRequestBeanShapes)
+}
+
+tasks.named<Test>("test").configure {
+    systemProperty("startup.beanCounts", providers.gradleProperty("startupBeanCounts").getOrElse("1000,5000,10000"))
+    systemProperty("startup.packageSize", startupPackageSize)
+    systemProperty("startup.iterations", providers.gradleProperty("startupIterations").getOrElse("3"))
+    // How far over the stored baseline a phase may go before the build fails, e.g. -PstartupBudgetPercent=25
+    systemProperty("startup.budgetPercent", providers.gradleProperty("startupBudgetPercent").getOrElse("50"))
+    val resultsFile = layout.buildDirectory.file("results/startup/startup-baseline.properties")
+    systemProperty("startup.resultsFile", resultsFile.get().asFile.absolutePath)
+    outputs.file(resultsFile)
+    // Timings vary from run to run so never consider them up to date
+    outputs.upToDateWhen { false }
+}
+
+tasks.named<JacocoReport>("jacocoTestReport").configure {
+    reports {
+        html.required.set(false)
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.test.startup;
+
+import com.mattbertolini.spring.web.bind.annotation.RequestParameter;
+import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.servlet.mvc.bind.PropertyResolverRegistry;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.RequestParameterRequestPropertyResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.Property;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.beans.PropertyDescriptor;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures how much heap the introspection metadata of the first package of generated request beans retains, per
+ * 1,000 properties. The metadata as the introspector builds it is compared with the layout it had before equal
+ * property paths and annotations were shared: a map per request bean in which every property kept a type
+ * descriptor of its own, built from a {@link Property} with a method parameter of its own, next to the method parameter
+ * the data binder uses.
+ *
+ * <p>The generated request beans all have the same ten properties, as request beans sharing common parameters do, so
+ * this shows the most sharing can save. Sizes are measured from the used heap after garbage collection and are
+ * reported rather than compared with a baseline as they depend on the JVM and its settings.</p>
+ */
+class MetadataFootprintTest {
+    private static final String BEAN_NAME = "com.mattbertolini.spring.test.startup.shapes.scan.group00.ScannedRequestBean%05d";
+    private static final int BEAN_COUNT = Integer.getInteger("startup.packageSize", 1000);
+    private static final int MEASUREMENTS = 3;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private List<Class<?>> beanTypes;
+    private PropertyResolverRegistry registry;
+
+    @BeforeEach
+    void setUp() throws ClassNotFoundException {
+        beanTypes = new ArrayList<>(BEAN_COUNT);
+        for (int i = 0; i < BEAN_COUNT; i++) {
+            Class<?> beanType = Class.forName(String.format(BEAN_NAME, i));
+            // Spring caches the property descriptors of every class. Fill the cache up front so it is not measured.
+            BeanUtils.getPropertyDescriptors(beanType);
+            beanTypes.add(beanType);
+        }
+        registry = new PropertyResolverRegistry();
+        registry.addResolver(new RequestParameterRequestPropertyResolver());
+    }
+
+    @Test
+    void sharedMetadataRetainsLessThanUnsharedMetadata(TestReporter reporter) {
+        int propertyCount = introspect().stream().mapToInt(Map::size).sum();
+        assertThat(propertyCount).isPositive();
+
+        long compact = perThousandProperties(median(this::introspect), propertyCount);
+        long unshared = perThousandProperties(median(this::unsharedMetadata), propertyCount);
+        reporter.publishEntry("propertyCount", String.valueOf(propertyCount));
+        reporter.publishEntry("compactBytesPerThousandProperties", String.valueOf(compact));
+        reporter.publishEntry("unsharedBytesPerThousandProperties", String.valueOf(unshared));
+
+        assertThat(compact)
+            .as("Compact metadata retains %d bytes per 1,000 properties against %d unshared", compact, unshared)
+            .isLessThan(unshared);
+    }
+
+    private List<Map<String, ResolvedPropertyData>> introspect() {
+        DefaultAnnotatedRequestBeanIntrospector introspector = new DefaultAnnotatedRequestBeanIntrospector(registry);
+        List<Map<String, ResolvedPropertyData>> resolverMaps = new ArrayList<>(beanTypes.size());
+        for (Class<?> beanType : beanTypes) {
+            resolverMaps.add(introspector.getResolverMapFor(beanType));
+        }
+        return resolverMaps;
+    }
+
+    private List<Map<String, Object[]>> unsharedMetadata() {
+        List<Map<String, Object[]>> resolverMaps = new ArrayList<>(beanTypes.size());
+        for (Class<?> beanType : beanTypes) {
+            Map<String, Object[]> resolverMap = new HashMap<>();
+            for (PropertyDescriptor propertyDescriptor : BeanUtils.getPropertyDescriptors(beanType)) {
+                if (propertyDescriptor.getWriteMethod() == null) {
+                    continue;
+                }
+                Property property = new Property(propertyDescriptor.getPropertyType(),
+                    propertyDescriptor.getReadMethod(), propertyDescriptor.getWriteMethod());
+                TypeDescriptor typeDescriptor = new TypeDescriptor(property);
+                if (!typeDescriptor.hasAnnotation(RequestParameter.class)) {
+                    continue;
+                }
+                MethodParameter methodParameter = new MethodParameter(propertyDescriptor.getWriteMethod(), 0)
+                    .withContainingClass(property.getObjectType());
+                resolverMap.put(propertyDescriptor.getName(), new Object[] {typeDescriptor, methodParameter});
+            }
+            resolverMaps.add(Collections.unmodifiableMap(resolverMap));
+        }
+        return resolverMaps;
+    }
+
+    private long median(Supplier<?> metadata) {
+        long[] sizes = new long[MEASUREMENTS];
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            long before = usedHeapAfterGc();
+            Object retained = metadata.get();
+            long after = usedHeapAfterGc();
+            Reference.reachabilityFence(retained);
+            sizes[i] = after - before;
+        }
+        Arrays.sort(sizes);
+        return sizes[MEASUREMENTS / 2];
+    }
+
+    private long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static long perThousandProperties(long bytes, int propertyCount) {
+        return bytes * 1000 / propertyCount;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.test.startup;
+
+import com.mattbertolini.spring.test.startup.app.StartupProbe;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots both starters with thousands of generated request beans and fails when a startup phase takes longer than the
+ * stored baseline allows. Each boot happens in a fresh class loader so every run pays for loading the request bean
+ * classes, as a real application start does. Every case is booted twice, once scanning the class path for request
+ * beans and once reading them from the index written by the indexer annotation processor.
+ *
+ * <p>The baseline is {@code startup-baseline.properties}, in milliseconds. Phases without a baseline are measured but
+ * not checked. The measured times are written in the same format to {@code build/results/startup} so a new baseline
+ * can be recorded by copying that file over the stored one.</p>
+ */
+class StartupTimeTest {
+    private static final List<String> PHASES = List.of("ready", "scan", "introspection");
+
+    private static final int PACKAGE_SIZE = Integer.getInteger("startup.packageSize", 1000);
+    private static final int ITERATIONS = Integer.getInteger("startup.iterations", 3);
+    private static final int BUDGET_PERCENT = Integer.getInteger("startup.budgetPercent", 50);
+
+    private static final Properties BASELINE = new Properties();
+    private static final Map<String, Long> RESULTS = new TreeMap<>();
+
+    @BeforeAll
+    static void loadBaseline() throws IOException {
+        try (InputStream inputStream = StartupTimeTest.class.getResourceAsStream("/startup-baseline.properties")) {
+            if (inputStream != null) {
+                BASELINE.load(inputStream);
+            }
+        }
+    }
+
+    @AfterAll
+    static void writeResults() throws IOException {
+        String resultsFile = System.getProperty("startup.resultsFile");
+        if (resultsFile == null) {
+            return;
+        }
+        Path path = Path.of(resultsFile);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.ISO_8859_1)) {
+            writer.write("# Measured by StartupTimeTest, in milliseconds\n");
+            for (Map.Entry<String, Long> entry : RESULTS.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    static Stream<Arguments> startupCases() {
+        int[] beanCounts = Arrays.stream(System.getProperty("startup.beanCounts", "1000,5000,10000").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+        return Stream.of(StartupProbe.WEBMVC, StartupProbe.WEBFLUX)
+            .flatMap(stack -> Arrays.stream(beanCounts).boxed()
+                .flatMap(beanCount -> Stream.of(StartupProbe.SCAN, StartupProbe.INDEX)
+                    .map(lookup -> Arguments.of(stack, beanCount, lookup))));
+    }
+
+    @ParameterizedTest(name = "{0} with {1} request beans by {2}")
+    @MethodSource("startupCases")
+    void startsWithinBudget(String stack, int beanCount, String lookup) throws Exception {
+        assertThat(beanCount % PACKAGE_SIZE)
+            .as("Bean count must be a multiple of the generated package size %d", PACKAGE_SIZE)
+            .isZero();
+
+        List<Map<String, Long>> runs = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runs.add(bootInNewClassLoader(stack, beanCount / PACKAGE_SIZE, lookup));
+        }
+        assertThat(runs).allSatisfy(run -> {
+            assertThat(run.get("requestBeans")).isEqualTo((long) beanCount);
+            assertThat(run.get("indexed")).isEqualTo(StartupProbe.INDEX.equals(lookup) ? 1L : 0L);
+        });
+
+        SoftAssertions softly = new SoftAssertions();
+        for (String phase : PHASES) {
+            String key = stack + "." + beanCount + "." + lookup + "." + phase;
+            long millis = TimeUnit.NANOSECONDS.toMillis(median(runs, phase));
+            RESULTS.put(key, millis);
+            String baseline = BASELINE.getProperty(key);
+            if (baseline != null) {
+                long budget = Long.parseLong(baseline.trim()) * (100 + BUDGET_PERCENT) / 100;
+                softly.assertThat(millis)
+                    .as("%s took %dms against a baseline of %sms plus %d%%", key, millis, baseline.trim(), BUDGET_PERCENT)
+                    .isLessThanOrEqualTo(budget);
+            }
+        }
+        softly.assertAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> bootInNewClassLoader(String stack, int packageCount, String lookup) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(classPath(), ClassLoader.getPlatformClassLoader())) {
+            thread.setContextClassLoader(classLoader);
+            Class<?> probe = classLoader.loadClass(StartupProbe.class.getName());
+            return (Map<String, Long>) probe.getMethod("boot", String.class, int.class, String.class).invoke(null, stack, packageCount, lookup);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    private static URL[] classPath() throws IOException {
+        String[] entries = System.getProperty("java.class.path", "").split(File.pathSeparator);
+        URL[] urls = new URL[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            urls[i] = Path.of(entries[i]).toUri().toURL();
+        }
+        return urls;
+    }
+
+    private static long median(List<Map<String, Long>> runs, String phase) {
+        long[] values = runs.stream().mapToLong(run -> run.getOrDefault(phase, 0L)).sorted().toArray();
+        return values[values.length / 2];
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.test.startup.app;
+
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.metrics.BindingMetrics;
+import com.mattbertolini.spring.web.bind.metrics.BindingPhase;
+import com.mattbertolini.spring.web.bind.resolver.RequestPropertyResolverBase;
+import org.springframework.lang.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Keeps hold of the introspector the starter creates so its scan timings can be read once the application is ready.
+ */
+public class IntrospectorCapture implements BindingMetrics {
+    @Nullable
+    private volatile ClassPathScanningAnnotatedRequestBeanIntrospector introspector;
+
+    @Override
+    public void recordBinding(Class<?> beanType, BindingPhase phase, long durationNanos, @Nullable Throwable error) {
+        // No requests are made during the startup tests
+    }
+
+    @Override
+    public void recordResolver(RequestPropertyResolverBase<?, ?> resolver, long durationNanos, @Nullable Throwable error) {
+        // No requests are made during the startup tests
+    }
+
+    @Override
+    public void monitor(ClassPathScanningAnnotatedRequestBeanIntrospector introspector) {
+        this.introspector = introspector;
+    }
+
+    public ClassPathScanningAnnotatedRequestBeanIntrospector getIntrospector() {
+        return Objects.requireNonNull(introspector, "The request bean introspector was not created");
+    }
+}
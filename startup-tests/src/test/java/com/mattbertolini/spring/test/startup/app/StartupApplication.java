@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.test.startup.app;
+
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The application booted by {@link StartupProbe}. Whether the Spring MVC or the Spring WebFlux starter configures
+ * itself depends on the type of application context it is booted in.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableAutoConfiguration
+public class StartupApplication {
+    @Bean
+    public IntrospectorCapture introspectorCapture() {
+        return new IntrospectorCapture();
+    }
+}
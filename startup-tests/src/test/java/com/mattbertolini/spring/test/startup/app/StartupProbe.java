@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.test.startup.app;
+
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.RequestBeanIndex;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebApplicationContext;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebApplicationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.SpringProperties;
+import org.springframework.mock.web.MockServletContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Boots {@link StartupApplication} and reports how long it took. Timings are in nanoseconds:
+ * <ul>
+ *     <li>{@code ready} - from starting the application to the {@link ApplicationReadyEvent}.</li>
+ *     <li>{@code scan} - searching the class path, or reading the index, for request beans.</li>
+ *     <li>{@code introspection} - loading and introspecting the request beans found.</li>
+ * </ul>
+ * The number of request beans introspected is reported as {@code requestBeans}, and whether they were read from the
+ * request bean index as {@code indexed}.
+ */
+public final class StartupProbe {
+    public static final String WEBMVC = "webmvc";
+    public static final String WEBFLUX = "webflux";
+    public static final String SCAN = "scan";
+    public static final String INDEX = "index";
+
+    private static final String SCAN_PACKAGE_PREFIX = "com.mattbertolini.spring.test.startup.shapes.scan.group";
+
+    private StartupProbe() {
+        // Static methods only
+    }
+
+    /**
+     * Boot the application scanning the first {@code packageCount} generated packages of request beans.
+     *
+     * @param stack Either {@link #WEBMVC} or {@link #WEBFLUX}.
+     * @param packageCount The number of generated packages to scan.
+     * @param lookup How request beans are found, either {@link #SCAN} or {@link #INDEX}.
+     * @return The timings of the startup phases and the number of request beans introspected.
+     */
+    public static Map<String, Long> boot(String stack, int packageCount, String lookup) {
+        // Each boot has its own class loader, so this only applies to this boot
+        SpringProperties.setProperty(RequestBeanIndex.IGNORE_INDEX_PROPERTY, Boolean.toString(SCAN.equals(lookup)));
+
+        SpringApplication application = new SpringApplication(StartupApplication.class);
+        application.setBannerMode(Banner.Mode.OFF);
+        application.setLogStartupInfo(false);
+        application.setRegisterShutdownHook(false);
+        application.setDefaultProperties(Map.of(
+            "logging.level.root", "warn",
+            "logging.register-shutdown-hook", "false"
+        ));
+        configureWebApplication(application, stack);
+
+        String[] packages = IntStream.range(0, packageCount)
+            .mapToObj(i -> SCAN_PACKAGE_PREFIX + "%02d".formatted(i))
+            .toArray(String[]::new);
+        ApplicationContextInitializer<ConfigurableApplicationContext> packagesInitializer = context ->
+            AutoConfigurationPackages.register((BeanDefinitionRegistry) context, packages);
+        application.addInitializers(packagesInitializer);
+
+        AtomicLong readyAt = new AtomicLong();
+        ApplicationListener<ApplicationReadyEvent> readyListener = event -> readyAt.set(System.nanoTime());
+        application.addListeners(readyListener);
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = application.run()) {
+            ClassPathScanningAnnotatedRequestBeanIntrospector introspector = context.getBean(IntrospectorCapture.class).getIntrospector();
+            long scanNanos = sum(introspector.getScanDurations());
+            long introspectionNanos = sum(introspector.getIntrospectionDurations());
+            return Map.of(
+                "ready", readyAt.get() - start,
+                "scan", scanNanos - introspectionNanos,
+                "introspection", introspectionNanos,
+                "requestBeans", (long) introspector.getIntrospectorCache().size(),
+                "indexed", introspector.isIndexed() ? 1L : 0L
+            );
+        }
+    }
+
+    private static void configureWebApplication(SpringApplication application, String stack) {
+        switch (stack) {
+            case WEBMVC -> {
+                application.setWebApplicationType(WebApplicationType.SERVLET);
+                // A servlet application context without an embedded server. Startup stops short of serving requests.
+                application.setApplicationContextFactory(webApplicationType -> {
+                    AnnotationConfigServletWebApplicationContext context = new AnnotationConfigServletWebApplicationContext();
+                    context.setServletContext(new MockServletContext());
+                    return context;
+                });
+            }
+            case WEBFLUX -> {
+                application.setWebApplicationType(WebApplicationType.REACTIVE);
+                application.setApplicationContextFactory(webApplicationType -> new AnnotationConfigReactiveWebApplicationContext());
+            }
+            default -> throw new IllegalArgumentException("Unknown web stack " + stack);
+        }
+    }
+
+    private static long sum(Map<String, Duration> durations) {
+        return durations.values().stream().mapToLong(Duration::toNanos).sum();
+    }
+}
@@ -0,0 +1,40 @@
+import com.mattbertolini.buildlogic.GenerateRequestBeanShapes
+
+plugins {
+    id("com.mattbertolini.buildlogic.java-conventions")
+}
+
+dependencies {
+    testImplementation(project(":spring-webmvc-annotated-data-binder"))
+    testImplementation(libs.jakartaServletApi)
+    testImplementation(libs.junitJupiterApi)
+    testImplementation(libs.assertJCore)
+}
+
+// Distinct request bean types so threads can race on the first introspection of many different classes
+val generateRequestBeanShapes = tasks.register<GenerateRequestBeanShapes>("generateRequestBeanShapes") {
+    packageName.set("com.mattbertolini.spring.test.stress.shapes")
+    scanBeanCount.set(1000)
+    outputDirectory.set(layout.buildDirectory.dir("generated/sources/requestBeanShapes/java"))
+}
+
+sourceSets.named("test").configure {
+    java.srcDir(generateRequestBeanShapes)
+}
+
+tasks.named<Test>("test").configure {
+    // The number of racing threads, e.g. -PstressThreads=128
+    systemProperty("stress.threads", providers.gradleProperty("stressThreads").getOrElse("64"))
+    systemProperty("stress.rounds", providers.gradleProperty("stressRounds").getOrElse("20"))
+    val resultsFile = layout.buildDirectory.file("results/stress/introspection-stress.properties")
+    systemProperty("stress.resultsFile", resultsFile.get().asFile.absolutePath)
+    outputs.file(resultsFile)
+    // Contention is timing dependent so always run the stress tests again
+    outputs.upToDateWhen { false }
+}
+
+tasks.named<JacocoReport>("jacocoTestReport").configure {
+    reports {
+        html.required.set(false)
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.test.stress;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs a task on many threads that are all released at the same moment, so they contend on whatever the task touches
+ * first. A thread that fails or does not finish within the timeout fails the run.
+ */
+final class ContendedRun {
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private ContendedRun() {}
+
+    /**
+     * Run the task once on each thread.
+     *
+     * @return the wall clock time from releasing the threads until the last one finished, in nanoseconds.
+     */
+    static long run(int threads, ThreadTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+            return System.nanoTime() - begin;
+        } catch (ExecutionException e) {
+            throw new AssertionError("A contending thread failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new AssertionError("Contending threads did not finish within " + TIMEOUT_SECONDS + " seconds", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the value at the given percentile of the latencies, which are sorted in place.
+     */
+    static long percentile(long[] latencies, double percentile) {
+        Arrays.sort(latencies);
+        int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+    }
+
+    @FunctionalInterface
+    interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.test.stress;
+
+import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.DefaultAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import com.mattbertolini.spring.web.servlet.mvc.bind.PropertyResolverRegistry;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.RequestParameterRequestPropertyResolver;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Introspects request beans for real and counts how many times each type was introspected.
+ */
+class CountingIntrospector implements AnnotatedRequestBeanIntrospector {
+    private final AnnotatedRequestBeanIntrospector delegate;
+    private final ConcurrentMap<Class<?>, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+    CountingIntrospector() {
+        PropertyResolverRegistry registry = new PropertyResolverRegistry();
+        registry.addResolver(new RequestParameterRequestPropertyResolver());
+        this.delegate = new DefaultAnnotatedRequestBeanIntrospector(registry);
+    }
+
+    @Override
+    public Map<String, ResolvedPropertyData> getResolverMapFor(Class<?> targetType) {
+        counts.computeIfAbsent(targetType, key -> new AtomicInteger()).incrementAndGet();
+        beforeIntrospecting(targetType);
+        return delegate.getResolverMapFor(targetType);
+    }
+
+    @Override
+    public void evict(Collection<Class<?>> targetTypes) {
+        delegate.evict(targetTypes);
+    }
+
+    /**
+     * Called before each type is introspected, e.g. to hold up or fail the introspection of a type.
+     */
+    protected void beforeIntrospecting(Class<?> targetType) {
+        // Nothing by default
+    }
+
+    int getCount(Class<?> targetType) {
+        AtomicInteger count = counts.get(targetType);
+        return count != null ? count.get() : 0;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.test.stress;
+
+import com.mattbertolini.spring.web.bind.introspect.CachedAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.introspect.ResolvedPropertyData;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Races many threads on the first lookups of request bean types, as happens when traffic arrives right after a deploy
+ * with lazy introspection. Each round starts from an empty cache. Checks that every type is introspected exactly once
+ * and that every thread gets the cached result, and writes the throughput and latency percentiles of the lookups to
+ * {@code build/results/stress}.
+ */
+class IntrospectionCacheStressTest {
+    private static final int THREADS = Integer.getInteger("stress.threads", 64);
+    private static final int ROUNDS = Integer.getInteger("stress.rounds", 20);
+    private static final String SHAPES_PACKAGE = "com.mattbertolini.spring.test.stress.shapes.";
+    private static final int SCANNED_BEAN_COUNT = 1000;
+
+    private static final Map<String, Long> RESULTS = new TreeMap<>();
+    private static final List<Class<?>> SCANNED_TYPES = new ArrayList<>();
+    private static final List<Set<String>> SCANNED_PROPERTIES = new ArrayList<>();
+
+    @BeforeAll
+    static void loadTypes() throws ClassNotFoundException {
+        CountingIntrospector introspector = new CountingIntrospector();
+        for (int i = 0; i < SCANNED_BEAN_COUNT; i++) {
+            Class<?> type = shape("scan.group00.ScannedRequestBean%05d".formatted(i));
+            SCANNED_TYPES.add(type);
+            SCANNED_PROPERTIES.add(introspector.getResolverMapFor(type).keySet());
+        }
+    }
+
+    @AfterAll
+    static void writeResults() throws IOException {
+        String resultsFile = System.getProperty("stress.resultsFile");
+        if (resultsFile == null) {
+            return;
+        }
+        Path path = Path.of(resultsFile);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.ISO_8859_1)) {
+            writer.write("# Measured by IntrospectionCacheStressTest with " + THREADS + " threads. Latencies in "
+                + "microseconds, throughput in lookups per second\n");
+            for (Map.Entry<String, Long> entry : RESULTS.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    @Test
+    void sameTypeIsIntrospectedOnce() throws Exception {
+        Class<?> type = shape("WideRequestBean");
+        long[] latencies = new long[ROUNDS * THREADS];
+        long elapsed = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            CountingIntrospector delegate = new CountingIntrospector();
+            CachedAnnotatedRequestBeanIntrospector cache = new CachedAnnotatedRequestBeanIntrospector(delegate);
+            AtomicReferenceArray<Map<String, ResolvedPropertyData>> results = new AtomicReferenceArray<>(THREADS);
+            int offset = round * THREADS;
+            elapsed += ContendedRun.run(THREADS, thread -> {
+                long start = System.nanoTime();
+                results.set(thread, cache.getResolverMapFor(type));
+                latencies[offset + thread] = System.nanoTime() - start;
+            });
+
+            assertThat(delegate.getCount(type)).isOne();
+            assertThat(cache.getMissCount()).isOne();
+            assertThat(cache.getHitCount()).isEqualTo(THREADS - 1);
+            Map<String, ResolvedPropertyData> cached = Objects.requireNonNull(cache.getCachedEntries().get(type));
+            assertThat(cached).hasSize(200);
+            for (int thread = 0; thread < THREADS; thread++) {
+                assertThat(results.get(thread)).isSameAs(cached);
+            }
+        }
+        record("sameType", latencies, elapsed);
+    }
+
+    @Test
+    void distinctTypesAreEachIntrospectedOnce() throws Exception {
+        int typeCount = SCANNED_TYPES.size();
+        long[] latencies = new long[ROUNDS * THREADS * typeCount];
+        long elapsed = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            CountingIntrospector delegate = new CountingIntrospector();
+            CachedAnnotatedRequestBeanIntrospector cache = new CachedAnnotatedRequestBeanIntrospector(delegate);
+            AtomicReferenceArray<Map<String, ResolvedPropertyData>> results = new AtomicReferenceArray<>(THREADS * typeCount);
+            int roundOffset = round * THREADS * typeCount;
+            // Every thread looks up every type, each starting at a different type, so threads race on the same type
+            // and on different types at once
+            elapsed += ContendedRun.run(THREADS, thread -> {
+                for (int i = 0; i < typeCount; i++) {
+                    int typeIndex = (thread * typeCount / THREADS + i) % typeCount;
+                    long start = System.nanoTime();
+                    Map<String, ResolvedPropertyData> propertyData = cache.getResolverMapFor(SCANNED_TYPES.get(typeIndex));
+                    latencies[roundOffset + thread * typeCount + i] = System.nanoTime() - start;
+                    results.set(thread * typeCount + typeIndex, propertyData);
+                }
+            });
+
+            assertThat(cache.size()).isEqualTo(typeCount);
+            assertThat(cache.getMissCount()).isEqualTo(typeCount);
+            for (int typeIndex = 0; typeIndex < typeCount; typeIndex++) {
+                Class<?> type = SCANNED_TYPES.get(typeIndex);
+                assertThat(delegate.getCount(type)).as("Introspections of %s", type.getName()).isOne();
+                Map<String, ResolvedPropertyData> cached = Objects.requireNonNull(cache.getCachedEntries().get(type));
+                assertThat(cached.keySet()).isEqualTo(SCANNED_PROPERTIES.get(typeIndex));
+                for (int thread = 0; thread < THREADS; thread++) {
+                    assertThat(results.get(thread * typeCount + typeIndex)).isSameAs(cached);
+                }
+            }
+        }
+        record("distinctTypes", latencies, elapsed);
+    }
+
+    @Test
+    void introspectingOneTypeDoesNotHoldUpOtherTypes() throws Exception {
+        Class<?> slowType = shape("DeepRequestBean");
+        CountDownLatch introspecting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingIntrospector delegate = new CountingIntrospector() {
+            @Override
+            protected void beforeIntrospecting(Class<?> targetType) {
+                if (targetType == slowType) {
+                    introspecting.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+        CachedAnnotatedRequestBeanIntrospector cache = new CachedAnnotatedRequestBeanIntrospector(delegate);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Map<String, ResolvedPropertyData>> slow = executor.submit(() -> cache.getResolverMapFor(slowType));
+            assertThat(introspecting.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // Fails on timeout if any of these wait on the type that is still being introspected
+            ContendedRun.run(THREADS, thread -> cache.getResolverMapFor(SCANNED_TYPES.get(thread)));
+
+            assertThat(slow).isNotDone();
+            release.countDown();
+            assertThat(slow.get(10, TimeUnit.SECONDS)).isNotEmpty();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        assertThat(delegate.getCount(slowType)).isOne();
+        assertThat(cache.size()).isEqualTo(THREADS + 1);
+    }
+
+    @Test
+    void failedIntrospectionIsSeenByWaitingThreadsAndNotCached() throws Exception {
+        Class<?> type = shape("WideRequestBean");
+        CountingIntrospector delegate = new CountingIntrospector() {
+            @Override
+            protected void beforeIntrospecting(Class<?> targetType) {
+                throw new IllegalStateException("Introspection failed");
+            }
+        };
+        CachedAnnotatedRequestBeanIntrospector cache = new CachedAnnotatedRequestBeanIntrospector(delegate);
+        AtomicReferenceArray<Throwable> failures = new AtomicReferenceArray<>(THREADS);
+
+        ContendedRun.run(THREADS, thread -> {
+            try {
+                cache.getResolverMapFor(type);
+            } catch (RuntimeException e) {
+                failures.set(thread, e);
+            }
+        });
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            assertThat(failures.get(thread))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Introspection failed");
+        }
+        assertThat(cache.size()).isZero();
+        int introspections = delegate.getCount(type);
+        assertThat(introspections).isBetween(1, THREADS);
+
+        // A later lookup tries again
+        assertThatThrownBy(() -> cache.getResolverMapFor(type)).isInstanceOf(IllegalStateException.class);
+        assertThat(delegate.getCount(type)).isEqualTo(introspections + 1);
+    }
+
+    private static void record(String name, long[] latencies, long elapsedNanos) {
+        RESULTS.put(name + ".throughput", latencies.length * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos));
+        RESULTS.put(name + ".p50", TimeUnit.NANOSECONDS.toMicros(ContendedRun.percentile(latencies, 50)));
+        RESULTS.put(name + ".p99", TimeUnit.NANOSECONDS.toMicros(ContendedRun.percentile(latencies, 99)));
+        RESULTS.put(name + ".p999", TimeUnit.NANOSECONDS.toMicros(ContendedRun.percentile(latencies, 99.9)));
+        RESULTS.put(name + ".max", TimeUnit.NANOSECONDS.toMicros(ContendedRun.percentile(latencies, 100)));
+    }
+
+    private static Class<?> shape(String name) throws ClassNotFoundException {
+        return Class.forName(SHAPES_PACKAGE + name);
+    }
+}
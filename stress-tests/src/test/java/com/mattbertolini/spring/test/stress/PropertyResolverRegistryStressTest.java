@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mattbertolini.spring.test.stress;
+
+import com.mattbertolini.spring.web.bind.introspect.BindingProperty;
+import com.mattbertolini.spring.web.servlet.mvc.bind.PropertyResolverRegistry;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.RequestParameterRequestPropertyResolver;
+import com.mattbertolini.spring.web.servlet.mvc.bind.resolver.RequestPropertyResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.beans.PropertyDescriptor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Finds and adds resolvers from many threads at once, as happens when a registry is shared by introspectors that are
+ * already serving requests while configuration is still adding resolvers.
+ */
+class PropertyResolverRegistryStressTest {
+    private static final int THREADS = Integer.getInteger("stress.threads", 64);
+    private static final int RESOLVERS_PER_THREAD = 100;
+
+    @Test
+    void findsResolversWhileResolversAreAdded() throws Exception {
+        RequestParameterRequestPropertyResolver requestParameterResolver = new RequestParameterRequestPropertyResolver();
+        PropertyResolverRegistry registry = new PropertyResolverRegistry();
+        registry.addResolver(requestParameterResolver);
+        BindingProperty bindingProperty = BindingProperty.forPropertyDescriptor(
+            new PropertyDescriptor("property000", Class.forName("com.mattbertolini.spring.test.stress.shapes.WideRequestBean")));
+        AtomicBoolean adding = new AtomicBoolean(true);
+        AtomicReferenceArray<RequestPropertyResolver> unexpected = new AtomicReferenceArray<>(THREADS);
+
+        // Thread zero adds resolvers that never match while the others keep finding the one that does
+        ContendedRun.run(THREADS, thread -> {
+            if (thread == 0) {
+                for (int i = 0; i < THREADS * RESOLVERS_PER_THREAD; i++) {
+                    registry.addResolver(new UnsupportedResolver());
+                }
+                adding.set(false);
+                return;
+            }
+            do {
+                RequestPropertyResolver resolver = registry.findResolverFor(bindingProperty);
+                if (resolver != requestParameterResolver) {
+                    unexpected.set(thread, resolver);
+                }
+            } while (adding.get());
+        });
+
+        for (int thread = 1; thread < THREADS; thread++) {
+            assertThat(unexpected.get(thread)).isNull();
+        }
+        assertThat(registry.getPropertyResolvers()).hasSize(THREADS * RESOLVERS_PER_THREAD + 1);
+    }
+
+    @Test
+    void keepsResolversAddedConcurrently() throws Exception {
+        PropertyResolverRegistry registry = new PropertyResolverRegistry();
+
+        ContendedRun.run(THREADS, thread -> {
+            for (int i = 0; i < RESOLVERS_PER_THREAD; i++) {
+                registry.addResolver(new UnsupportedResolver());
+            }
+        });
+
+        assertThat(registry.getPropertyResolvers()).hasSize(THREADS * RESOLVERS_PER_THREAD);
+    }
+
+    private static class UnsupportedResolver implements RequestPropertyResolver {
+        @Override
+        public boolean supports(BindingProperty bindingProperty) {
+            return false;
+        }
+
+        @Nullable
+        @Override
+        public Object resolve(BindingProperty bindingProperty, NativeWebRequest request) {
+            return null;
+        }
+    }
+}
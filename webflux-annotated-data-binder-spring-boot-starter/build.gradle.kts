@@ -5,11 +5,16 @@ plugins {
 
 dependencies {
     api(project(":spring-webflux-annotated-data-binder"))
+    api(project(":annotated-data-binder-spring-boot-autoconfigure"))
     api(libs.springBootStarter)
+    compileOnly(libs.micrometerCore) // Optional metrics support
+    compileOnly(libs.springBootActuatorAutoconfigure) // Optional actuator endpoint
 
     testImplementation(libs.junitJupiterApi)
     testImplementation(libs.assertJCore)
     testImplementation(libs.springBootTest)
+    testImplementation(libs.micrometerCore)
+    testImplementation(libs.springBootActuatorAutoconfigure)
     testImplementation(libs.jakartaWebsocketClientApi)
     testImplementation(libs.jakartaWebsocketApi)
 }
@@ -15,41 +15,83 @@
  */
 package com.mattbertolini.spring.web.reactive.bind.autoconfigure;
 
+import com.mattbertolini.spring.web.bind.autoconfigure.AnnotatedBinderProperties;
+import com.mattbertolini.spring.web.bind.autoconfigure.BackgroundWarmUp;
+import com.mattbertolini.spring.web.bind.autoconfigure.RequestBeanWarmUpHealthIndicator;
+import com.mattbertolini.spring.web.bind.autoconfigure.RequestBeansEndpoint;
+import com.mattbertolini.spring.web.bind.introspect.AnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.metrics.BindingMetrics;
+import com.mattbertolini.spring.web.bind.metrics.BindingStatistics;
+import com.mattbertolini.spring.web.bind.metrics.CompositeBindingMetrics;
+import com.mattbertolini.spring.web.bind.metrics.MicrometerBindingMetrics;
+import com.mattbertolini.spring.web.bind.warmup.WarmUpResult;
 import com.mattbertolini.spring.web.reactive.bind.PropertyResolverRegistry;
 import com.mattbertolini.spring.web.reactive.bind.config.BinderConfiguration;
 import com.mattbertolini.spring.web.reactive.bind.resolver.RequestPropertyResolver;
+import com.mattbertolini.spring.web.reactive.bind.warmup.RequestBeanWarmUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Role;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
-@AutoConfiguration
+@AutoConfiguration(afterName = {
+    "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+    "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+})
 @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 @ConditionalOnMissingBean(BinderConfiguration.class)
+@EnableConfigurationProperties(AnnotatedBinderProperties.class)
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
 public class WebFluxBinderAutoConfiguration {
     private final List<String> packagesToScan = new ArrayList<>();
     private final Set<RequestPropertyResolver> customResolvers = new LinkedHashSet<>();
     private final Set<PropertyResolverRegistry> propertyResolverRegistries = new LinkedHashSet<>();
+    @Nullable
+    private final BindingMetrics bindingMetrics;
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+    private final AnnotatedBinderProperties properties;
     
     public WebFluxBinderAutoConfiguration(BeanFactory beanFactory,
                                           ObjectProvider<List<RequestPropertyResolver>> customResolvers,
-                                          ObjectProvider<List<PropertyResolverRegistry>> propertyResolverRegistries) {
+                                          ObjectProvider<List<PropertyResolverRegistry>> propertyResolverRegistries,
+                                          ObjectProvider<BindingMetrics> bindingMetrics,
+                                          ObjectProvider<ObservationRegistry> observationRegistry,
+                                          AnnotatedBinderProperties properties) {
         if (AutoConfigurationPackages.has(beanFactory)) {
             packagesToScan.addAll(AutoConfigurationPackages.get(beanFactory));
         }
         customResolvers.ifAvailable(this.customResolvers::addAll);
         propertyResolverRegistries.ifAvailable(this.propertyResolverRegistries::addAll);
+        this.bindingMetrics = properties.getMetrics().isEnabled() ? combine(bindingMetrics.orderedStream().toList()) : null;
+        this.observationRegistry = observationRegistry;
+        this.properties = properties;
     }
 
     @Bean
@@ -58,6 +100,116 @@ public class WebFluxBinderAutoConfiguration {
         packagesToScan.forEach(binderConfiguration::addPackageToScan);
         binderConfiguration.addResolvers(customResolvers);
         propertyResolverRegistries.forEach(binderConfiguration::addResolvers);
+        binderConfiguration.setEagerIntrospection(properties.isEagerIntrospection())
+            .setScanThreads(properties.getScanThreads())
+            .setCacheMaximumSize(properties.getCacheMaximumSize())
+            .setIntrospectionMaxDepth(properties.getIntrospectionMaxDepth())
+            .setIntrospectionMaxProperties(properties.getIntrospectionMaxProperties())
+            .setMapResolverMaxEntries(properties.getMapResolverMaxEntries())
+            .setSimpleTypeConversion(properties.isSimpleTypeConversion())
+            .setCaseInsensitiveEnums(properties.isCaseInsensitiveEnums())
+            .setDateTimeConversion(properties.isDateTimeConversion())
+            .setRfc1123HeaderDates(properties.isRfc1123HeaderDates())
+            .setDirectBinding(properties.isDirectBinding());
+        if (bindingMetrics != null) {
+            binderConfiguration.setBindingMetrics(bindingMetrics);
+        }
+        // Looked up when the handler adapter is post processed so the registry is fully configured by then
+        binderConfiguration.setObservationRegistry(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
         return binderConfiguration;
     }
+
+    @Nullable
+    private static BindingMetrics combine(List<BindingMetrics> bindingMetrics) {
+        if (bindingMetrics.isEmpty()) {
+            return null;
+        }
+        if (bindingMetrics.size() == 1) {
+            return bindingMetrics.get(0);
+        }
+        return new CompositeBindingMetrics(bindingMetrics);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "spring.web.annotated-binder.metrics", name = "enabled", matchIfMissing = true)
+    static class BindingMetricsConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(MicrometerBindingMetrics.class)
+        public MicrometerBindingMetrics binderBindingMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+            // Resolve the registry lazily so it is not created early by the binder configuration post processor
+            return new MicrometerBindingMetrics(meterRegistry::getObject);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    @ConditionalOnAvailableEndpoint(endpoint = RequestBeansEndpoint.class)
+    static class RequestBeansEndpointConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(BindingStatistics.class)
+        public BindingStatistics binderBindingStatistics() {
+            return new BindingStatistics();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(RequestBeansEndpoint.class)
+        public RequestBeansEndpoint requestBeansEndpoint(BindingStatistics bindingStatistics) {
+            return new RequestBeansEndpoint(bindingStatistics);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "spring.web.annotated-binder.warm-up", name = "enabled", havingValue = "true")
+    static class WarmUpConfiguration {
+        private static final String HANDLER_MAPPING_BEAN_NAME = "requestMappingHandlerMapping";
+
+        @Bean
+        @ConditionalOnMissingBean(BackgroundWarmUp.class)
+        public BackgroundWarmUp requestBeanWarmUp(BinderConfiguration binderConfiguration,
+                                                  ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter,
+                                                  ObjectProvider<ServerCodecConfigurer> codecConfigurer,
+                                                  ApplicationContext applicationContext,
+                                                  AnnotatedBinderProperties properties) {
+            AnnotatedBinderProperties.WarmUp warmUpProperties = properties.getWarmUp();
+            return new BackgroundWarmUp(() -> {
+                // Looked up once the application is ready, after the handler adapter has been post processed
+                AnnotatedRequestBeanIntrospector introspector = binderConfiguration.getIntrospector();
+                RequestMappingHandlerMapping mapping = findHandlerMapping(applicationContext);
+                RequestMappingHandlerAdapter adapter = handlerAdapter.getIfUnique();
+                if (introspector == null || mapping == null || adapter == null) {
+                    return new WarmUpResult(0, 0, 0, Duration.ZERO);
+                }
+                RequestBeanWarmUp warmUp = new RequestBeanWarmUp(introspector, mapping, binderConfiguration.getArgumentResolvers(), adapter.getWebBindingInitializer())
+                    .setControllerAdvice(ControllerAdviceBean.findAnnotatedBeans(applicationContext))
+                    .setIterations(warmUpProperties.getIterations())
+                    .setCustomResolvers(warmUpProperties.isCustomResolvers());
+                codecConfigurer.ifUnique(warmUp::setCodecConfigurer);
+                return warmUp.get();
+            }, binderConfiguration.getBindingMetrics());
+        }
+
+        /**
+         * The handler mapping of the application's controllers. Actuator registers handler mappings of the same type
+         * for its controller endpoints, so the one registered by the web configuration is preferred.
+         */
+        @Nullable
+        private static RequestMappingHandlerMapping findHandlerMapping(ApplicationContext applicationContext) {
+            if (applicationContext.containsBean(HANDLER_MAPPING_BEAN_NAME)) {
+                return applicationContext.getBean(HANDLER_MAPPING_BEAN_NAME, RequestMappingHandlerMapping.class);
+            }
+            return applicationContext.getBeanProvider(RequestMappingHandlerMapping.class).getIfUnique();
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(HealthIndicator.class)
+        static class WarmUpHealthConfiguration {
+            @Bean
+            @ConditionalOnMissingBean(RequestBeanWarmUpHealthIndicator.class)
+            public RequestBeanWarmUpHealthIndicator requestBeanWarmUpHealthIndicator(BackgroundWarmUp requestBeanWarmUp) {
+                return new RequestBeanWarmUpHealthIndicator(requestBeanWarmUp);
+            }
+        }
+    }
 }
@@ -5,12 +5,18 @@ plugins {
 
 dependencies {
     api(project(":spring-webmvc-annotated-data-binder"))
+    api(project(":annotated-data-binder-spring-boot-autoconfigure"))
     api(libs.springBootStarter)
+    compileOnly(libs.micrometerCore) // Optional metrics support
+    compileOnly(libs.springBootActuatorAutoconfigure) // Optional actuator endpoint
 
     testImplementation(libs.junitJupiterApi)
     testImplementation(libs.assertJCore)
     testImplementation(libs.springTest)
     testImplementation(libs.springBootTest)
+    testImplementation(libs.micrometerCore)
+    testImplementation(libs.springBootActuatorAutoconfigure)
+    testImplementation(libs.jakartaServletApi)
 }
 
 tasks.named<Jar>("jar").configure {
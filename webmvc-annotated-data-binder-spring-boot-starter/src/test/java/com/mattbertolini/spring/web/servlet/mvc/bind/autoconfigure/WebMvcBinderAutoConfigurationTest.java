@@ -15,7 +15,17 @@
  */
 package com.mattbertolini.spring.web.servlet.mvc.bind.autoconfigure;
 
+import com.mattbertolini.spring.web.bind.autoconfigure.AnnotatedBinderProperties;
+import com.mattbertolini.spring.web.bind.autoconfigure.BackgroundWarmUp;
+import com.mattbertolini.spring.web.bind.autoconfigure.RequestBeanWarmUpHealthIndicator;
+import com.mattbertolini.spring.web.bind.autoconfigure.RequestBeansEndpoint;
+import com.mattbertolini.spring.web.bind.introspect.ClassPathScanningAnnotatedRequestBeanIntrospector;
+import com.mattbertolini.spring.web.bind.metrics.BindingMetrics;
+import com.mattbertolini.spring.web.bind.metrics.BindingStatistics;
+import com.mattbertolini.spring.web.bind.metrics.CompositeBindingMetrics;
+import com.mattbertolini.spring.web.bind.metrics.MicrometerBindingMetrics;
 import com.mattbertolini.spring.web.servlet.mvc.bind.config.BinderConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -23,6 +33,7 @@ import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -61,6 +72,105 @@ class WebMvcBinderAutoConfigurationTest {
         });
     }
 
+    @Test
+    void registersBindingMetricsWhenMeterRegistryPresent() {
+        contextRunner.withBean(SimpleMeterRegistry.class).run(context -> {
+            assertThat(context).hasSingleBean(BindingMetrics.class);
+            SimpleMeterRegistry meterRegistry = context.getBean(SimpleMeterRegistry.class);
+            RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter();
+            context.getBean(BinderConfiguration.class).postProcessBeforeInitialization(adapter, "adapter");
+            assertThat(meterRegistry.find(MicrometerBindingMetrics.CACHE_SIZE_METRIC_NAME).gauge()).isNotNull();
+        });
+    }
+
+    @Test
+    void noBindingMetricsWithoutMeterRegistry() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(BindingMetrics.class));
+    }
+
+    @Test
+    void registersRequestBeansEndpointWhenExposed() {
+        contextRunner.withPropertyValues("management.endpoints.web.exposure.include=requestbeans").run(context -> {
+            assertThat(context).hasSingleBean(RequestBeansEndpoint.class);
+            assertThat(context).hasSingleBean(BindingStatistics.class);
+            assertThat(context.getBean(BinderConfiguration.class).getBindingMetrics())
+                .isSameAs(context.getBean(BindingStatistics.class));
+        });
+    }
+
+    @Test
+    void combinesBindingMetricsWhenEndpointAndMeterRegistryPresent() {
+        contextRunner.withBean(SimpleMeterRegistry.class)
+            .withPropertyValues("management.endpoints.web.exposure.include=requestbeans")
+            .run(context -> assertThat(context.getBean(BinderConfiguration.class).getBindingMetrics())
+                .isInstanceOf(CompositeBindingMetrics.class));
+    }
+
+    @Test
+    void noRequestBeansEndpointWhenNotExposed() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(RequestBeansEndpoint.class);
+            assertThat(context).doesNotHaveBean(BindingStatistics.class);
+        });
+    }
+
+    @Test
+    void appliesBinderProperties() {
+        contextRunner.withPropertyValues(
+            "spring.web.annotated-binder.eager-introspection=false",
+            "spring.web.annotated-binder.scan-threads=4",
+            "spring.web.annotated-binder.cache-maximum-size=500",
+            "spring.web.annotated-binder.map-resolver-max-entries=64",
+            "spring.web.annotated-binder.introspection-max-depth=8",
+            "spring.web.annotated-binder.introspection-max-properties=1000",
+            "spring.web.annotated-binder.direct-binding=true",
+            "spring.web.annotated-binder.warm-up.iterations=10",
+            "spring.web.annotated-binder.warm-up.custom-resolvers=true"
+        ).run(context -> {
+            AnnotatedBinderProperties properties = context.getBean(AnnotatedBinderProperties.class);
+            assertThat(properties.isEagerIntrospection()).isFalse();
+            assertThat(properties.getScanThreads()).isEqualTo(4);
+            assertThat(properties.getMapResolverMaxEntries()).isEqualTo(64);
+            assertThat(properties.getIntrospectionMaxDepth()).isEqualTo(8);
+            assertThat(properties.getIntrospectionMaxProperties()).isEqualTo(1000);
+            assertThat(properties.isDirectBinding()).isTrue();
+            assertThat(properties.getWarmUp().getIterations()).isEqualTo(10);
+            assertThat(properties.getWarmUp().isCustomResolvers()).isTrue();
+            RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter();
+            BinderConfiguration binderConfiguration = context.getBean(BinderConfiguration.class);
+            binderConfiguration.postProcessBeforeInitialization(adapter, "adapter");
+            ClassPathScanningAnnotatedRequestBeanIntrospector introspector = binderConfiguration.getIntrospector();
+            assertThat(introspector).isNotNull();
+            assertThat(introspector.getIntrospectorCache().getMaximumSize()).isEqualTo(500);
+        });
+    }
+
+    @Test
+    void noBindingMetricsWhenDisabled() {
+        contextRunner.withBean(SimpleMeterRegistry.class)
+            .withPropertyValues("spring.web.annotated-binder.metrics.enabled=false")
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(BindingMetrics.class);
+                assertThat(context.getBean(BinderConfiguration.class).getBindingMetrics()).isNull();
+            });
+    }
+
+    @Test
+    void registersWarmUpWhenEnabled() {
+        contextRunner.withPropertyValues("spring.web.annotated-binder.warm-up.enabled=true").run(context -> {
+            assertThat(context).hasSingleBean(BackgroundWarmUp.class);
+            assertThat(context).hasSingleBean(RequestBeanWarmUpHealthIndicator.class);
+        });
+    }
+
+    @Test
+    void noWarmUpByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(BackgroundWarmUp.class);
+            assertThat(context).doesNotHaveBean(RequestBeanWarmUpHealthIndicator.class);
+        });
+    }
+
     @SpringBootApplication(proxyBeanMethods = false)
     @ComponentScan(excludeFilters = {
         @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = OverrideBeanDefinition.class)